@@ -4,6 +4,10 @@
 
 package io.airbyte.analytics
 
+import com.google.common.base.Suppliers
+import com.google.common.base.Ticker
+import com.google.common.cache.Cache
+import com.google.common.cache.CacheBuilder
 import com.segment.analytics.Analytics
 import com.segment.analytics.Callback
 import com.segment.analytics.Plugin
@@ -18,9 +22,11 @@ import io.micronaut.context.annotation.Requires
 import io.micronaut.context.annotation.Value
 import io.micronaut.http.context.ServerRequestContext
 import jakarta.annotation.PreDestroy
+import jakarta.inject.Inject
 import jakarta.inject.Named
 import jakarta.inject.Singleton
 import java.lang.Thread.sleep
+import java.time.Duration
 import java.time.Instant
 import java.util.Optional
 import java.util.UUID
@@ -88,6 +94,12 @@ interface TrackingClient {
  * Consumers utilising this class must understand that the top-level userId field is subject to this
  * constraint.
  * <p>
+ * The deployment and the tracking identity of each workspace are cached for a few minutes, as they
+ * are needed for every event and fetching an identity means fetching the whole workspace. Calling
+ * [identify] always fetches the identity again, which is what happens after the email or the
+ * tracking settings of a workspace are updated. Other processes pick up the change once their cached
+ * identity expires.
+ * <p>
  * See the following document for details on tracked events. Please update this document if tracked
  * events change.
  * https://docs.google.com/spreadsheets/d/1lGLmLIhiSPt_-oaEf3CpK-IxXnCO0NRHurvmWldoA2w/edit#gid=1567609168
@@ -98,12 +110,33 @@ interface TrackingClient {
 class SegmentTrackingClient(
   private val segmentAnalyticsClient: SegmentAnalyticsClient,
   private val trackingIdentityFetcher: TrackingIdentityFetcher,
-  private val deploymentFetcher: DeploymentFetcher,
+  deploymentFetcher: DeploymentFetcher,
   @Value("\${airbyte.role}") val airbyteRole: String,
+  ticker: Ticker,
 ) : TrackingClient {
+  @Inject
+  constructor(
+    segmentAnalyticsClient: SegmentAnalyticsClient,
+    trackingIdentityFetcher: TrackingIdentityFetcher,
+    deploymentFetcher: DeploymentFetcher,
+    @Value("\${airbyte.role}") airbyteRole: String,
+  ) : this(segmentAnalyticsClient, trackingIdentityFetcher, deploymentFetcher, airbyteRole, Ticker.systemTicker())
+
+  private val cachedDeployment: Supplier<Deployment> =
+    Suppliers.memoizeWithExpiration({ deploymentFetcher.get() }, CACHE_EXPIRATION.toNanos(), TimeUnit.NANOSECONDS)
+
+  private val trackingIdentities: Cache<UUID, TrackingIdentity> =
+    CacheBuilder.newBuilder()
+      .maximumSize(MAX_CACHED_IDENTITIES)
+      .expireAfterWrite(CACHE_EXPIRATION)
+      .ticker(ticker)
+      .build()
+
   override fun identify(workspaceId: UUID) {
-    val deployment: Deployment = deploymentFetcher.get()
-    val trackingIdentity: TrackingIdentity = trackingIdentityFetcher.apply(workspaceId)
+    val deployment: Deployment = cachedDeployment.get()
+    // identify is called after the email or the tracking settings of the workspace changed, so the
+    // cached identity is replaced.
+    val trackingIdentity: TrackingIdentity = fetchTrackingIdentity(workspaceId)
     val identityMetadata: MutableMap<String, Any?> = HashMap()
 
     // deployment
@@ -137,7 +170,7 @@ class SegmentTrackingClient(
     workspaceId: UUID,
     previousCustomerId: String?,
   ) {
-    val joinKey: String = trackingIdentityFetcher.apply(workspaceId).customerId.toString()
+    val joinKey: String = getTrackingIdentity(workspaceId).customerId.toString()
     segmentAnalyticsClient.analyticsClient.enqueue(AliasMessage.builder(previousCustomerId).userId(joinKey))
   }
 
@@ -159,8 +192,8 @@ class SegmentTrackingClient(
     }
 
     val mapCopy: MutableMap<String, Any?> = java.util.HashMap(metadata)
-    val deployment: Deployment = deploymentFetcher.get()
-    val trackingIdentity: TrackingIdentity = trackingIdentityFetcher.apply(workspaceId)
+    val deployment: Deployment = cachedDeployment.get()
+    val trackingIdentity: TrackingIdentity = getTrackingIdentity(workspaceId)
 
     val airbyteSource: Optional<String> = getAirbyteSource()
     mapCopy[AIRBYTE_SOURCE] = airbyteSource.orElse(UNKNOWN)
@@ -185,6 +218,16 @@ class SegmentTrackingClient(
     )
   }
 
+  private fun getTrackingIdentity(workspaceId: UUID): TrackingIdentity {
+    return trackingIdentities.getIfPresent(workspaceId) ?: fetchTrackingIdentity(workspaceId)
+  }
+
+  private fun fetchTrackingIdentity(workspaceId: UUID): TrackingIdentity {
+    val trackingIdentity = trackingIdentityFetcher.apply(workspaceId)
+    trackingIdentities.put(workspaceId, trackingIdentity)
+    return trackingIdentity
+  }
+
   private fun getAirbyteSource(): Optional<String> {
     val currentRequest = ServerRequestContext.currentRequest<Any>()
     return if (currentRequest.isPresent) {
@@ -204,6 +247,8 @@ class SegmentTrackingClient(
     const val AIRBYTE_VERSION_KEY = "airbyte_version"
     const val CUSTOMER_ID_KEY = "user_id"
     const val UNKNOWN = "unknown"
+    private const val MAX_CACHED_IDENTITIES = 10_000L
+    private val CACHE_EXPIRATION = Duration.ofMinutes(5)
   }
 }
 
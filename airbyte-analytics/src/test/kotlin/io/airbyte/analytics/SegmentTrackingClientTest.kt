@@ -4,8 +4,10 @@
 
 package io.airbyte.analytics
 
+import com.google.common.base.Ticker
 import com.segment.analytics.Analytics
 import com.segment.analytics.messages.IdentifyMessage
+import com.segment.analytics.messages.MessageBuilder
 import com.segment.analytics.messages.TrackMessage
 import io.airbyte.api.client.model.generated.DeploymentMetadataRead
 import io.airbyte.commons.version.AirbyteVersion
@@ -21,6 +23,7 @@ import io.mockk.verify
 import org.junit.jupiter.api.Assertions
 import org.junit.jupiter.api.BeforeEach
 import org.junit.jupiter.api.Test
+import java.time.Duration
 import java.util.Objects
 import java.util.UUID
 
@@ -196,6 +199,72 @@ class SegmentTrackingClientTest {
     )
   }
 
+  @Test
+  fun testIdentitiesAreFetchedOncePerWorkspaceUnderABurstOfEvents() {
+    every { analytics.enqueue(any()) } returns Unit
+    val workspaceIds = List(3) { UUID.randomUUID() }
+
+    repeat(1000) { i ->
+      segmentTrackingClient.track(workspaceIds[i % workspaceIds.size], JUMP, mapOf("index" to i))
+    }
+
+    verify(exactly = 1000) { analytics.enqueue(any()) }
+    verify(exactly = 1) { deploymentFetcher.get() }
+    workspaceIds.forEach { verify(exactly = 1) { trackingIdentityFetcher.apply(it) } }
+  }
+
+  @Test
+  fun testIdentifyRefreshesTheCachedIdentity() {
+    val builders = mutableListOf<MessageBuilder<*, *>>()
+    every { analytics.enqueue(capture(builders)) } returns Unit
+    val updatedIdentity = identity.copy(email = "b@airbyte.io")
+    every { trackingIdentityFetcher.apply(workspaceId) } returnsMany listOf(identity, updatedIdentity)
+
+    segmentTrackingClient.track(workspaceId, JUMP, mapOf("height" to "80 meters"))
+    // called when the email or the tracking settings of the workspace are updated
+    segmentTrackingClient.identify(workspaceId)
+    segmentTrackingClient.track(workspaceId, JUMP, mapOf("height" to "80 meters"))
+
+    val emails = builders.filterIsInstance<TrackMessage.Builder>().map { it.build().properties()!![EMAIL_KEY] }
+    Assertions.assertEquals(listOf(EMAIL, "b@airbyte.io"), emails)
+    verify(exactly = 2) { trackingIdentityFetcher.apply(workspaceId) }
+  }
+
+  @Test
+  fun testCachedIdentitiesExpire() {
+    val ticker = FakeTicker()
+    segmentTrackingClient =
+      SegmentTrackingClient(
+        segmentAnalyticsClient,
+        trackingIdentityFetcher,
+        deploymentFetcher,
+        AIRBYTE_ROLE,
+        ticker,
+      )
+    every { analytics.enqueue(any()) } returns Unit
+
+    segmentTrackingClient.track(workspaceId, JUMP)
+    ticker.advance(Duration.ofMinutes(4))
+    segmentTrackingClient.track(workspaceId, JUMP)
+    verify(exactly = 1) { trackingIdentityFetcher.apply(workspaceId) }
+
+    ticker.advance(Duration.ofMinutes(2))
+    segmentTrackingClient.track(workspaceId, JUMP)
+    verify(exactly = 2) { trackingIdentityFetcher.apply(workspaceId) }
+  }
+
+  private class FakeTicker : Ticker() {
+    private var nanos = 0L
+
+    override fun read(): Long {
+      return nanos
+    }
+
+    fun advance(duration: Duration) {
+      nanos += duration.toNanos()
+    }
+  }
+
   private fun filterTrackedAtProperty(properties: Map<String, *>): MutableMap<String, Any?> {
     val trackedAtKey = "tracked_at"
     Assertions.assertTrue(properties.containsKey(trackedAtKey))
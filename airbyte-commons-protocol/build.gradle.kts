@@ -6,6 +6,7 @@ plugins {
 dependencies {
     annotationProcessor(libs.bundles.micronaut.annotation.processor)
     testAnnotationProcessor(libs.bundles.micronaut.test.annotation.processor)
+    testAnnotationProcessor(libs.jmh.annotations)
 
     implementation(libs.bundles.micronaut.annotation)
     testImplementation(libs.bundles.micronaut.test)
@@ -24,4 +25,18 @@ dependencies {
     testImplementation(libs.assertj.core)
 
     testImplementation(libs.junit.pioneer)
+    testImplementation(libs.jmh.core)
+    testImplementation(libs.jmh.annotations)
+}
+
+// Runs the protocol benchmarks and writes their results to build/jmh, to compare them from one release to the next.
+tasks.register<JavaExec>("protocolBenchmark") {
+    mainClass = "org.openjdk.jmh.Main"
+    classpath = sourceSets["test"].runtimeClasspath
+    args = listOf("io.airbyte.commons.protocol.performance", "-prof", "gc", "-rf", "json", "-rff", layout.buildDirectory.file("jmh/results.json").get().asFile.path)
+    dependsOn(tasks.named("testClasses"))
+    // JMH does not create the parent directories of the result file.
+    doFirst {
+        layout.buildDirectory.dir("jmh").get().asFile.mkdirs()
+    }
 }
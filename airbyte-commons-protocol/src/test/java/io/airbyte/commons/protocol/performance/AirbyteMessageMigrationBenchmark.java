@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.commons.protocol.performance;
+
+import io.airbyte.commons.protocol.AirbyteMessageMigrator;
+import io.airbyte.commons.protocol.migrations.v1.AirbyteMessageMigrationV1;
+import io.airbyte.commons.protocol.performance.BenchmarkRecords.Shape;
+import io.airbyte.commons.resources.MoreResources;
+import io.airbyte.commons.version.AirbyteProtocolVersion;
+import io.airbyte.protocol.models.AirbyteMessage;
+import io.airbyte.protocol.models.ConfiguredAirbyteCatalog;
+import io.airbyte.validation.json.JsonSchemaValidator;
+import java.net.URISyntaxException;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures migrating records between the V0 and V1 protocols through the
+ * {@link AirbyteMessageMigrator}, as done for every record of a connector using the V0 protocol.
+ * Downgrading walks the record along the stream's schema with
+ * {@link io.airbyte.commons.protocol.migrations.util.RecordMigrations}.
+ * <p>
+ * The migrations don't modify the messages they are given, so the same message is migrated on every
+ * invocation. Run the main method, or `./gradlew :airbyte-commons-protocol:protocolBenchmark` for
+ * the whole protocol suite.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 2, jvmArgs = {"-Xms2g", "-Xmx2g"})
+public class AirbyteMessageMigrationBenchmark {
+
+  @Param({"NARROW", "WIDE", "NESTED", "LARGE_STRINGS"})
+  public Shape shape;
+
+  private AirbyteMessageMigrator migrator;
+  private io.airbyte.protocol.models.v0.AirbyteMessage v0Message;
+  private AirbyteMessage v1Message;
+  private Optional<ConfiguredAirbyteCatalog> catalog;
+
+  @Setup(Level.Trial)
+  public void setup() throws URISyntaxException {
+    final JsonSchemaValidator validator =
+        new JsonSchemaValidator(MoreResources.readResourceAsFile("WellKnownTypes.json").getAbsoluteFile().toURI());
+    migrator = new AirbyteMessageMigrator(List.of(new AirbyteMessageMigrationV1(validator)));
+    migrator.initialize();
+
+    final BenchmarkRecords records = BenchmarkRecords.generate(shape);
+    v0Message = records.getV0Message();
+    v1Message = records.getV1Message();
+    catalog = Optional.of(records.getV1Catalog());
+  }
+
+  @Benchmark
+  public AirbyteMessage upgradeV0ToV1() {
+    return migrator.upgrade(v0Message, AirbyteProtocolVersion.V0, catalog);
+  }
+
+  @Benchmark
+  public io.airbyte.protocol.models.v0.AirbyteMessage downgradeV1ToV0() {
+    return migrator.downgrade(v1Message, AirbyteProtocolVersion.V0, catalog);
+  }
+
+  public static void main(final String[] args) throws Exception {
+    org.openjdk.jmh.Main.main(new String[] {AirbyteMessageMigrationBenchmark.class.getSimpleName(), "-prof", "gc"});
+  }
+
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.commons.protocol.performance;
+
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.commons.protocol.performance.BenchmarkRecords.Shape;
+import io.airbyte.commons.protocol.serde.AirbyteMessageV0Deserializer;
+import io.airbyte.commons.protocol.serde.AirbyteMessageV1Deserializer;
+import io.airbyte.commons.protocol.serde.AirbyteMessageV1Serializer;
+import io.airbyte.protocol.models.AirbyteMessage;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures deserializing the messages read from a connector's stdout, which goes through
+ * {@link io.airbyte.commons.protocol.serde.AirbyteMessageGenericDeserializer} and
+ * {@link Jsons#tryDeserializeExact}, and serializing the messages written to a destination's stdin.
+ * <p>
+ * Run the main method, or `./gradlew :airbyte-commons-protocol:protocolBenchmark` for the whole
+ * protocol suite.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 2, jvmArgs = {"-Xms2g", "-Xmx2g"})
+public class AirbyteMessageSerDeBenchmark {
+
+  @Param({"NARROW", "WIDE", "NESTED", "LARGE_STRINGS"})
+  public Shape shape;
+
+  private final AirbyteMessageV0Deserializer v0Deserializer = new AirbyteMessageV0Deserializer();
+  private final AirbyteMessageV1Deserializer v1Deserializer = new AirbyteMessageV1Deserializer();
+  private final AirbyteMessageV1Serializer v1Serializer = new AirbyteMessageV1Serializer();
+  private String v0Json;
+  private String v1Json;
+  private AirbyteMessage v1Message;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    final BenchmarkRecords records = BenchmarkRecords.generate(shape);
+    v0Json = Jsons.serialize(records.getV0Message());
+    v1Message = records.getV1Message();
+    v1Json = Jsons.serialize(v1Message);
+  }
+
+  @Benchmark
+  public Optional<AirbyteMessage> deserializeV0() {
+    return v0Deserializer.deserializeExact(v0Json);
+  }
+
+  @Benchmark
+  public Optional<AirbyteMessage> deserializeV1() {
+    return v1Deserializer.deserializeExact(v1Json);
+  }
+
+  @Benchmark
+  public String serializeV1() {
+    return v1Serializer.serialize(v1Message);
+  }
+
+  public static void main(final String[] args) throws Exception {
+    org.openjdk.jmh.Main.main(new String[] {AirbyteMessageSerDeBenchmark.class.getSimpleName(), "-prof", "gc"});
+  }
+
+}
@@ -0,0 +1,244 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.commons.protocol.performance;
+
+import static io.airbyte.protocol.models.JsonSchemaReferenceTypes.REF_KEY;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.protocol.models.AirbyteMessage;
+import io.airbyte.protocol.models.AirbyteMessage.Type;
+import io.airbyte.protocol.models.AirbyteRecordMessage;
+import io.airbyte.protocol.models.AirbyteStream;
+import io.airbyte.protocol.models.ConfiguredAirbyteCatalog;
+import io.airbyte.protocol.models.ConfiguredAirbyteStream;
+import io.airbyte.protocol.models.JsonSchemaReferenceTypes;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Records, and their schemas in both protocol versions, shared by the protocol benchmarks.
+ * <p>
+ * The records are generated from a fixed seed, so every run of a benchmark measures exactly the
+ * same input and results can be compared from one release to the next.
+ */
+public class BenchmarkRecords {
+
+  /**
+   * Representative record shapes.
+   */
+  public enum Shape {
+    // a handful of columns of every type
+    NARROW,
+    // hundreds of columns, as replicated from wide database tables
+    WIDE,
+    // objects and arrays nested several levels deep, as returned by APIs
+    NESTED,
+    // a few columns holding large text values
+    LARGE_STRINGS
+  }
+
+  public static final String STREAM_NAME = "benchmark_stream";
+  public static final String NAMESPACE = "benchmark_namespace";
+
+  private static final long SEED = 42;
+  private static final int STRING_LENGTH = 16;
+  private static final int WIDE_COLUMNS = 250;
+  private static final int NESTED_DEPTH = 8;
+  private static final int LARGE_STRING_LENGTH = 64 * 1024;
+  private static final Instant EMITTED_AT = Instant.parse("2023-11-01T00:00:00Z");
+
+  private enum FieldType {
+
+    STRING("{\"type\": \"string\"}", JsonSchemaReferenceTypes.STRING_REFERENCE),
+    INTEGER("{\"type\": \"number\", \"airbyte_type\": \"integer\"}", JsonSchemaReferenceTypes.INTEGER_REFERENCE),
+    NUMBER("{\"type\": \"number\"}", JsonSchemaReferenceTypes.NUMBER_REFERENCE),
+    BOOLEAN("{\"type\": \"boolean\"}", JsonSchemaReferenceTypes.BOOLEAN_REFERENCE),
+    TIMESTAMP("{\"type\": \"string\", \"format\": \"date-time\", \"airbyte_type\": \"timestamp_with_timezone\"}",
+        JsonSchemaReferenceTypes.TIMESTAMP_WITH_TIMEZONE_REFERENCE);
+
+    private final String v0Schema;
+    private final String v1Reference;
+
+    FieldType(final String v0Schema, final String v1Reference) {
+      this.v0Schema = v0Schema;
+      this.v1Reference = v1Reference;
+    }
+
+  }
+
+  private final Random random = new Random(SEED);
+  private final ObjectNode v0Data = (ObjectNode) Jsons.emptyObject();
+  private final ObjectNode v1Data = (ObjectNode) Jsons.emptyObject();
+  private final ObjectNode v0Schema = objectSchema();
+  private final ObjectNode v1Schema = objectSchema();
+
+  private BenchmarkRecords() {}
+
+  /**
+   * Generate the record of the given shape.
+   */
+  public static BenchmarkRecords generate(final Shape shape) {
+    final BenchmarkRecords records = new BenchmarkRecords();
+    final ObjectNode v0Data = records.v0Data;
+    final ObjectNode v1Data = records.v1Data;
+    final ObjectNode v0Schema = records.v0Schema;
+    final ObjectNode v1Schema = records.v1Schema;
+    switch (shape) {
+      case NARROW -> records.addPrimitiveFields(v0Data, v1Data, v0Schema, v1Schema, FieldType.values().length, STRING_LENGTH);
+      case WIDE -> records.addPrimitiveFields(v0Data, v1Data, v0Schema, v1Schema, WIDE_COLUMNS, STRING_LENGTH);
+      case NESTED -> records.addNestedFields(v0Data, v1Data, v0Schema, v1Schema, NESTED_DEPTH);
+      case LARGE_STRINGS -> records.addPrimitiveFields(v0Data, v1Data, v0Schema, v1Schema, FieldType.values().length, LARGE_STRING_LENGTH);
+      default -> throw new IllegalArgumentException("Unknown shape " + shape);
+    }
+    return records;
+  }
+
+  /**
+   * Record data as emitted by a connector using the V0 protocol, where numbers are JSON numbers.
+   */
+  public JsonNode getV0Data() {
+    return v0Data;
+  }
+
+  /**
+   * Record data as emitted by a connector using the V1 protocol, where numbers are strings.
+   */
+  public JsonNode getV1Data() {
+    return v1Data;
+  }
+
+  public JsonNode getV0Schema() {
+    return v0Schema;
+  }
+
+  public JsonNode getV1Schema() {
+    return v1Schema;
+  }
+
+  public io.airbyte.protocol.models.v0.AirbyteMessage getV0Message() {
+    return Jsons.object(Jsons.jsonNode(message(v0Data)), io.airbyte.protocol.models.v0.AirbyteMessage.class);
+  }
+
+  public AirbyteMessage getV1Message() {
+    return message(v1Data);
+  }
+
+  public ConfiguredAirbyteCatalog getV1Catalog() {
+    return new ConfiguredAirbyteCatalog().withStreams(List.of(new ConfiguredAirbyteStream()
+        .withStream(new AirbyteStream().withName(STREAM_NAME).withNamespace(NAMESPACE).withJsonSchema(v1Schema))));
+  }
+
+  private static AirbyteMessage message(final JsonNode data) {
+    return new AirbyteMessage()
+        .withType(Type.RECORD)
+        .withRecord(new AirbyteRecordMessage()
+            .withStream(STREAM_NAME)
+            .withNamespace(NAMESPACE)
+            .withEmittedAt(EMITTED_AT.toEpochMilli())
+            .withData(Jsons.clone(data)));
+  }
+
+  private void addPrimitiveFields(final ObjectNode v0Object,
+                                  final ObjectNode v1Object,
+                                  final ObjectNode v0ObjectSchema,
+                                  final ObjectNode v1ObjectSchema,
+                                  final int count,
+                                  final int stringLength) {
+    for (int i = 0; i < count; i++) {
+      final FieldType type = FieldType.values()[i % FieldType.values().length];
+      final String name = type.name().toLowerCase() + "_" + i;
+      switch (type) {
+        case STRING -> {
+          final String value = randomString(stringLength);
+          v0Object.put(name, value);
+          v1Object.put(name, value);
+        }
+        case INTEGER -> {
+          final long value = random.nextInt(1_000_000);
+          v0Object.put(name, value);
+          v1Object.put(name, String.valueOf(value));
+        }
+        case NUMBER -> {
+          final double value = Math.round(random.nextDouble() * 1_000_000) / 100.0;
+          v0Object.put(name, value);
+          v1Object.put(name, String.valueOf(value));
+        }
+        case BOOLEAN -> {
+          final boolean value = random.nextBoolean();
+          v0Object.put(name, value);
+          v1Object.put(name, value);
+        }
+        case TIMESTAMP -> {
+          final String value = EMITTED_AT.minusSeconds(random.nextInt(1_000_000)).toString();
+          v0Object.put(name, value);
+          v1Object.put(name, value);
+        }
+        default -> throw new IllegalStateException("Unknown field type " + type);
+      }
+      ((ObjectNode) v0ObjectSchema.get("properties")).set(name, Jsons.deserialize(type.v0Schema));
+      ((ObjectNode) v1ObjectSchema.get("properties")).set(name, Jsons.jsonNode(Map.of(REF_KEY, type.v1Reference)));
+    }
+  }
+
+  private void addNestedFields(final ObjectNode v0Object,
+                               final ObjectNode v1Object,
+                               final ObjectNode v0ObjectSchema,
+                               final ObjectNode v1ObjectSchema,
+                               final int depth) {
+    addPrimitiveFields(v0Object, v1Object, v0ObjectSchema, v1ObjectSchema, FieldType.values().length, STRING_LENGTH);
+    if (depth == 0) {
+      return;
+    }
+
+    // an array of objects, each of them nesting one level less
+    final ArrayNode v0Items = v0Object.putArray("items");
+    final ArrayNode v1Items = v1Object.putArray("items");
+    final ObjectNode v0ItemSchema = objectSchema();
+    final ObjectNode v1ItemSchema = objectSchema();
+    for (int i = 0; i < 2; i++) {
+      final ObjectNode v0Item = v0Items.addObject();
+      final ObjectNode v1Item = v1Items.addObject();
+      addPrimitiveFields(v0Item, v1Item, v0ItemSchema, v1ItemSchema, FieldType.values().length, STRING_LENGTH);
+    }
+    ((ObjectNode) v0ObjectSchema.get("properties")).set("items", arraySchema(v0ItemSchema));
+    ((ObjectNode) v1ObjectSchema.get("properties")).set("items", arraySchema(v1ItemSchema));
+
+    final ObjectNode v0ChildSchema = objectSchema();
+    final ObjectNode v1ChildSchema = objectSchema();
+    addNestedFields(v0Object.putObject("child"), v1Object.putObject("child"), v0ChildSchema, v1ChildSchema, depth - 1);
+    ((ObjectNode) v0ObjectSchema.get("properties")).set("child", v0ChildSchema);
+    ((ObjectNode) v1ObjectSchema.get("properties")).set("child", v1ChildSchema);
+  }
+
+  private String randomString(final int length) {
+    final StringBuilder builder = new StringBuilder(length);
+    for (int i = 0; i < length; i++) {
+      // mostly letters, with the occasional character that has to be escaped
+      final int next = random.nextInt(64);
+      builder.append(next == 0 ? '"' : next == 1 ? '\n' : (char) ('a' + next % 26));
+    }
+    return builder.toString();
+  }
+
+  private static ObjectNode objectSchema() {
+    final ObjectNode schema = (ObjectNode) Jsons.emptyObject();
+    schema.put("type", "object");
+    schema.putObject("properties");
+    return schema;
+  }
+
+  private static ObjectNode arraySchema(final JsonNode itemSchema) {
+    final ObjectNode schema = (ObjectNode) Jsons.emptyObject();
+    schema.put("type", "array");
+    schema.set("items", itemSchema);
+    return schema;
+  }
+
+}
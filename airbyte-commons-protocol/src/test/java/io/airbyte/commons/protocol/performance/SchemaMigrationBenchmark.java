@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.commons.protocol.performance;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.commons.protocol.migrations.v1.SchemaMigrationV1;
+import io.airbyte.commons.protocol.performance.BenchmarkRecords.Shape;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures migrating stream schemas between the V0 and V1 protocols with {@link SchemaMigrationV1},
+ * as done for every stream of a catalog.
+ * <p>
+ * The migrations modify the schema in place, so every invocation migrates a fresh copy. The
+ * cloneSchema benchmark measures the copy alone, to be subtracted from the others. Run the main
+ * method, or `./gradlew :airbyte-commons-protocol:protocolBenchmark` for the whole protocol suite.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 2, jvmArgs = {"-Xms2g", "-Xmx2g"})
+public class SchemaMigrationBenchmark {
+
+  @Param({"NARROW", "WIDE", "NESTED"})
+  public Shape shape;
+
+  private JsonNode v0Schema;
+  private JsonNode v1Schema;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    final BenchmarkRecords records = BenchmarkRecords.generate(shape);
+    v0Schema = records.getV0Schema();
+    v1Schema = records.getV1Schema();
+  }
+
+  @Benchmark
+  public JsonNode cloneSchema() {
+    return Jsons.clone(v0Schema);
+  }
+
+  @Benchmark
+  public JsonNode upgradeSchema() {
+    final JsonNode schema = Jsons.clone(v0Schema);
+    SchemaMigrationV1.upgradeSchema(schema);
+    return schema;
+  }
+
+  @Benchmark
+  public JsonNode downgradeSchema() {
+    final JsonNode schema = Jsons.clone(v1Schema);
+    SchemaMigrationV1.downgradeSchema(schema);
+    return schema;
+  }
+
+  public static void main(final String[] args) throws Exception {
+    org.openjdk.jmh.Main.main(new String[] {SchemaMigrationBenchmark.class.getSimpleName(), "-prof", "gc"});
+  }
+
+}
@@ -126,6 +126,9 @@ public class JobHistoryHandler {
 
     final int pageSize = (request.getPagination() != null && request.getPagination().getPageSize() != null) ? request.getPagination().getPageSize()
         : DEFAULT_PAGE_SIZE;
+    final JobStatus status = request.getStatus() == null ? null : JobStatus.valueOf(request.getStatus().toString().toUpperCase());
+    final String orderByField = request.getOrderByField() == null ? null : request.getOrderByField().name();
+    final String orderByMethod = request.getOrderByMethod() == null ? null : request.getOrderByMethod().name();
     final List<Job> jobs;
 
     if (request.getIncludingJobId() != null) {
@@ -134,16 +137,26 @@ public class JobHistoryHandler {
           configId,
           request.getIncludingJobId(),
           pageSize);
+    } else if (request.getCursor() != null) {
+      jobs = jobPersistence.listJobsAfter(configTypes, configId, pageSize,
+          request.getCursor(),
+          status,
+          request.getCreatedAtStart(),
+          request.getCreatedAtEnd(),
+          request.getUpdatedAtStart(),
+          request.getUpdatedAtEnd(),
+          orderByField,
+          orderByMethod);
     } else {
       jobs = jobPersistence.listJobs(configTypes, configId, pageSize,
           (request.getPagination() != null && request.getPagination().getRowOffset() != null) ? request.getPagination().getRowOffset() : 0,
-          request.getStatus() == null ? null : JobStatus.valueOf(request.getStatus().toString().toUpperCase()),
+          status,
           request.getCreatedAtStart(),
           request.getCreatedAtEnd(),
           request.getUpdatedAtStart(),
           request.getUpdatedAtEnd(),
-          request.getOrderByField() == null ? null : request.getOrderByField().name(),
-          request.getOrderByMethod() == null ? null : request.getOrderByMethod().name());
+          orderByField,
+          orderByMethod);
     }
 
     final List<JobWithAttemptsRead> jobReads = jobs.stream().map(JobConverter::getJobWithAttemptsRead).collect(Collectors.toList());
@@ -161,13 +174,17 @@ public class JobHistoryHandler {
       }
     }
 
-    final Long totalJobCount = jobPersistence.getJobCount(configTypes, configId,
-        request.getStatus() == null ? null : JobStatus.valueOf(request.getStatus().toString().toUpperCase()),
-        request.getCreatedAtStart(),
-        request.getCreatedAtEnd(),
-        request.getUpdatedAtStart(),
-        request.getUpdatedAtEnd());
-    return new JobReadList().jobs(jobReads).totalJobCount(totalJobCount);
+    final Long totalJobCount = Boolean.FALSE.equals(request.getIncludeTotalJobCount()) ? (long) jobs.size()
+        : jobPersistence.getJobCount(configTypes, configId,
+            status,
+            request.getCreatedAtStart(),
+            request.getCreatedAtEnd(),
+            request.getUpdatedAtStart(),
+            request.getUpdatedAtEnd());
+    // the jobs including a job can span several pages, so they can't be continued with a cursor
+    final boolean hasNextPage = request.getIncludingJobId() == null && jobs.size() == pageSize;
+    final Long nextCursor = hasNextPage ? jobPersistence.getLastJobIdOfPage(jobIds).orElse(null) : null;
+    return new JobReadList().jobs(jobReads).totalJobCount(totalJobCount).nextCursor(nextCursor);
   }
 
   @SuppressWarnings("UnstableApiUsage")
@@ -333,6 +350,10 @@ public class JobHistoryHandler {
         .collect(Collectors.toList());
   }
 
+  public List<UUID> getConnectionIdsWithRunningSyncJob(final List<UUID> connectionIds) throws IOException {
+    return jobPersistence.getConnectionIdsWithRunningSyncJob(connectionIds);
+  }
+
   private SourceRead getSourceRead(final ConnectionRead connectionRead) throws JsonValidationException, IOException, ConfigNotFoundException {
     final SourceIdRequestBody sourceIdRequestBody = new SourceIdRequestBody().sourceId(connectionRead.getSourceId());
     return sourceHandler.getSource(sourceIdRequestBody);
@@ -6,6 +6,7 @@ package io.airbyte.commons.server.handlers;
 
 import static java.util.stream.Collectors.toMap;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.Lists;
 import io.airbyte.api.model.generated.AirbyteCatalog;
@@ -52,6 +53,7 @@ import io.airbyte.commons.enums.Enums;
 import io.airbyte.commons.json.Jsons;
 import io.airbyte.commons.lang.MoreBooleans;
 import io.airbyte.commons.server.converters.ApiPojoConverters;
+import io.airbyte.commons.server.errors.BadRequestException;
 import io.airbyte.commons.server.handlers.helpers.CatalogConverter;
 import io.airbyte.commons.server.scheduler.EventRunner;
 import io.airbyte.config.ActorCatalog;
@@ -68,7 +70,9 @@ import io.airbyte.protocol.models.ConfiguredAirbyteCatalog;
 import io.airbyte.validation.json.JsonValidationException;
 import jakarta.inject.Singleton;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Base64;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
@@ -89,6 +93,9 @@ import java.util.stream.Collectors;
 @Singleton
 public class WebBackendConnectionsHandler {
 
+  private static final String CURSOR_NAME_FIELD = "name";
+  private static final String CURSOR_CONNECTION_ID_FIELD = "connectionId";
+
   private final ConnectionsHandler connectionsHandler;
   private final StateHandler stateHandler;
   private final SourceHandler sourceHandler;
@@ -151,35 +158,81 @@ public class WebBackendConnectionsHandler {
         // passing 'false' so that deleted connections are not included
         false);
 
-    final List<StandardSync> standardSyncs = configRepositoryDoNotUse.listWorkspaceStandardSyncs(query);
-    final List<UUID> sourceIds = standardSyncs.stream().map(StandardSync::getSourceId).toList();
-    final List<UUID> destinationIds = standardSyncs.stream().map(StandardSync::getDestinationId).toList();
-    final List<UUID> connectionIds = standardSyncs.stream().map(StandardSync::getConnectionId).toList();
-
-    // Fetching all the related objects we need for the final output
+    // One more connection than the page size is fetched to know whether there is a next page.
+    final Integer pageSize = webBackendConnectionListRequestBody.getPageSize();
+    if (pageSize != null && pageSize < 1) {
+      throw new BadRequestException("Page size must be at least 1, got: " + pageSize);
+    }
+    final Optional<ConnectionListCursor> cursor = Optional.ofNullable(webBackendConnectionListRequestBody.getCursor())
+        .map(WebBackendConnectionsHandler::decodeConnectionListCursor);
+    final List<StandardSync> standardSyncs = configRepositoryDoNotUse.listWorkspaceStandardSyncSummaries(
+        query,
+        cursor.map(ConnectionListCursor::name).orElse(null),
+        cursor.map(ConnectionListCursor::connectionId).orElse(null),
+        pageSize == null ? null : pageSize + 1);
+    final boolean hasNextPage = pageSize != null && standardSyncs.size() > pageSize;
+    final List<StandardSync> page = hasNextPage ? standardSyncs.subList(0, pageSize) : standardSyncs;
+
+    final List<UUID> sourceIds = page.stream().map(StandardSync::getSourceId).toList();
+    final List<UUID> destinationIds = page.stream().map(StandardSync::getDestinationId).toList();
+    final List<UUID> connectionIds = page.stream().map(StandardSync::getConnectionId).toList();
+
+    // Fetching all the related objects we need for the final output, with one query each
     final Map<UUID, SourceSnippetRead> sourceReadById = getSourceSnippetReadById(sourceIds);
     final Map<UUID, DestinationSnippetRead> destinationReadById = getDestinationSnippetReadById(destinationIds);
     final Map<UUID, JobStatusSummary> latestJobByConnectionId = getLatestJobByConnectionId(connectionIds);
-    // This call could be removed, running jobs should be a subset of latest jobs, need to expose the
-    // right status filtering for this.
-    final Map<UUID, JobRead> runningJobByConnectionId = getRunningJobByConnectionId(connectionIds);
+    final Set<UUID> connectionIdsWithRunningSyncJob = new HashSet<>(jobHistoryHandler.getConnectionIdsWithRunningSyncJob(connectionIds));
     final Map<UUID, ActorCatalogFetchEvent> newestFetchEventsByActorId =
         configRepositoryDoNotUse.getMostRecentActorCatalogFetchEventForSources(sourceIds);
 
     final List<WebBackendConnectionListItem> connectionItems = Lists.newArrayList();
 
-    for (final StandardSync standardSync : standardSyncs) {
+    for (final StandardSync standardSync : page) {
       connectionItems.add(
           buildWebBackendConnectionListItem(
               standardSync,
               sourceReadById,
               destinationReadById,
               latestJobByConnectionId,
-              runningJobByConnectionId,
+              connectionIdsWithRunningSyncJob,
               Optional.ofNullable(newestFetchEventsByActorId.get(standardSync.getSourceId()))));
     }
 
-    return new WebBackendConnectionReadList().connections(connectionItems);
+    final WebBackendConnectionReadList connectionReadList = new WebBackendConnectionReadList().connections(connectionItems);
+    if (hasNextPage) {
+      final StandardSync lastConnection = page.get(page.size() - 1);
+      connectionReadList.setNextCursor(
+          encodeConnectionListCursor(new ConnectionListCursor(lastConnection.getName(), lastConnection.getConnectionId())));
+    }
+    return connectionReadList;
+  }
+
+  /**
+   * Position of the connection list after a given connection. It is encoded into the cursors
+   * returned to clients, so a page continues from the same position even if that connection was
+   * renamed or deleted in the meantime.
+   */
+  @VisibleForTesting
+  record ConnectionListCursor(String name, UUID connectionId) {}
+
+  @VisibleForTesting
+  static String encodeConnectionListCursor(final ConnectionListCursor cursor) {
+    final String json = Jsons.serialize(Map.of(CURSOR_NAME_FIELD, cursor.name(), CURSOR_CONNECTION_ID_FIELD, cursor.connectionId()));
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(json.getBytes(StandardCharsets.UTF_8));
+  }
+
+  private static ConnectionListCursor decodeConnectionListCursor(final String cursor) {
+    try {
+      final Optional<JsonNode> json = Jsons.tryDeserialize(new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8));
+      if (json.isPresent() && json.get().hasNonNull(CURSOR_NAME_FIELD) && json.get().hasNonNull(CURSOR_CONNECTION_ID_FIELD)) {
+        return new ConnectionListCursor(json.get().get(CURSOR_NAME_FIELD).asText(),
+            UUID.fromString(json.get().get(CURSOR_CONNECTION_ID_FIELD).asText()));
+      }
+    } catch (final IllegalArgumentException e) {
+      // not base64, or not a UUID
+      throw new BadRequestException("Invalid connection list cursor: " + cursor, e);
+    }
+    throw new BadRequestException("Invalid connection list cursor: " + cursor);
   }
 
   private Map<UUID, JobStatusSummary> getLatestJobByConnectionId(final List<UUID> connectionIds) throws IOException {
@@ -187,11 +240,6 @@ public class WebBackendConnectionsHandler {
         .collect(Collectors.toMap(JobStatusSummary::connectionId, Function.identity()));
   }
 
-  private Map<UUID, JobRead> getRunningJobByConnectionId(final List<UUID> connectionIds) throws IOException {
-    return jobHistoryHandler.getRunningSyncJobForConnections(connectionIds).stream()
-        .collect(Collectors.toMap(j -> UUID.fromString(j.getConfigId()), Function.identity()));
-  }
-
   private Map<UUID, SourceSnippetRead> getSourceSnippetReadById(final List<UUID> sourceIds) throws IOException {
     return configRepositoryDoNotUse.getSourceAndDefinitionsFromSourceIds(sourceIds)
         .stream()
@@ -240,17 +288,15 @@ public class WebBackendConnectionsHandler {
                                                                                 final Map<UUID, SourceSnippetRead> sourceReadById,
                                                                                 final Map<UUID, DestinationSnippetRead> destinationReadById,
                                                                                 final Map<UUID, JobStatusSummary> latestJobByConnectionId,
-                                                                                final Map<UUID, JobRead> runningJobByConnectionId,
+                                                                                final Set<UUID> connectionIdsWithRunningSyncJob,
                                                                                 final Optional<ActorCatalogFetchEvent> latestFetchEvent) {
 
     final SourceSnippetRead source = sourceReadById.get(standardSync.getSourceId());
     final DestinationSnippetRead destination = destinationReadById.get(standardSync.getDestinationId());
     final Optional<JobStatusSummary> latestSyncJob = Optional.ofNullable(latestJobByConnectionId.get(standardSync.getConnectionId()));
-    final Optional<JobRead> latestRunningSyncJob = Optional.ofNullable(runningJobByConnectionId.get(standardSync.getConnectionId()));
-    final ConnectionRead connectionRead = ApiPojoConverters.internalToConnectionRead(standardSync);
-    final Optional<UUID> currentCatalogId = connectionRead == null ? Optional.empty() : Optional.ofNullable(connectionRead.getSourceCatalogId());
 
-    final SchemaChange schemaChange = getSchemaChange(connectionRead, currentCatalogId, latestFetchEvent);
+    final SchemaChange schemaChange =
+        getSchemaChange(standardSync.getBreakingChange(), Optional.ofNullable(standardSync.getSourceCatalogId()), latestFetchEvent);
 
     final WebBackendConnectionListItem listItem = new WebBackendConnectionListItem()
         .connectionId(standardSync.getConnectionId())
@@ -260,7 +306,7 @@ public class WebBackendConnectionsHandler {
         .scheduleData(ApiPojoConverters.toApiConnectionScheduleData(standardSync))
         .source(source)
         .destination(destination)
-        .isSyncing(latestRunningSyncJob.isPresent())
+        .isSyncing(connectionIdsWithRunningSyncJob.contains(standardSync.getConnectionId()))
         .schemaChange(schemaChange);
 
     latestSyncJob.ifPresent(job -> {
@@ -284,11 +330,22 @@ public class WebBackendConnectionsHandler {
                                       final ConnectionRead connectionRead,
                                       final Optional<UUID> currentSourceCatalogId,
                                       final Optional<ActorCatalogFetchEvent> mostRecentFetchEvent) {
-    if (connectionRead == null || currentSourceCatalogId.isEmpty()) {
+    if (connectionRead == null) {
+      return SchemaChange.NO_CHANGE;
+    }
+
+    return getSchemaChange(connectionRead.getBreakingChange(), currentSourceCatalogId, mostRecentFetchEvent);
+  }
+
+  private static SchemaChange getSchemaChange(
+                                              final Boolean breakingChange,
+                                              final Optional<UUID> currentSourceCatalogId,
+                                              final Optional<ActorCatalogFetchEvent> mostRecentFetchEvent) {
+    if (currentSourceCatalogId.isEmpty()) {
       return SchemaChange.NO_CHANGE;
     }
 
-    if (connectionRead.getBreakingChange() != null && connectionRead.getBreakingChange()) {
+    if (breakingChange != null && breakingChange) {
       return SchemaChange.BREAKING;
     }
 
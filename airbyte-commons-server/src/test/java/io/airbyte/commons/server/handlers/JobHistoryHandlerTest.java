@@ -6,9 +6,12 @@ package io.airbyte.commons.server.handlers;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.google.common.collect.ImmutableList;
@@ -332,6 +335,43 @@ class JobHistoryHandlerTest {
       assertEquals(expectedJobReadList, jobReadList);
     }
 
+    @Test
+    @DisplayName("Should return the page after the cursor without counting jobs")
+    void testListJobsAfterCursorWithoutCount() throws IOException {
+      final var firstJob = testJob;
+      final int pagesize = 2;
+
+      final var secondJobId = JOB_ID + 100;
+      final var createdAt2 = CREATED_AT + 1000;
+      final var secondJob = new Job(secondJobId, ConfigType.SYNC, JOB_CONFIG_ID, JOB_CONFIG, Collections.emptyList(), JobStatus.SUCCEEDED,
+          null, createdAt2, createdAt2);
+      final var cursorJobId = secondJobId + 100;
+      final Set<ConfigType> configTypes = Set.of(Enums.convertTo(CONFIG_TYPE_FOR_API, ConfigType.class));
+
+      when(jobPersistence.listJobsAfter(configTypes, JOB_CONFIG_ID, pagesize, cursorJobId, null, null, null, null, null, null, null))
+          .thenReturn(List.of(secondJob, firstJob));
+      when(jobPersistence.getAttemptStats(List.of(secondJobId, JOB_ID))).thenReturn(Map.of(
+          new JobAttemptPair(JOB_ID, 0), ATTEMPT_STATS));
+      when(jobPersistence.getLastJobIdOfPage(List.of(secondJobId, JOB_ID))).thenReturn(Optional.of(JOB_ID));
+
+      final var requestBody = new JobListRequestBody()
+          .configTypes(Collections.singletonList(CONFIG_TYPE_FOR_API))
+          .configId(JOB_CONFIG_ID)
+          .cursor(cursorJobId)
+          .includeTotalJobCount(false)
+          .pagination(new Pagination().pageSize(pagesize));
+      final var jobReadList = jobHistoryHandler.listJobsFor(requestBody);
+
+      final var firstJobWithAttemptRead = new JobWithAttemptsRead().job(toJobInfo(firstJob)).attempts(ImmutableList.of(toAttemptRead(
+          testJobAttempt).totalStats(ATTEMPT_STATS_API).streamStats(ATTEMPT_STREAM_STATS)));
+      final var secondJobWithAttemptRead = new JobWithAttemptsRead().job(toJobInfo(secondJob)).attempts(Collections.emptyList());
+      final JobReadList expectedJobReadList =
+          new JobReadList().jobs(List.of(secondJobWithAttemptRead, firstJobWithAttemptRead)).totalJobCount(2L).nextCursor(JOB_ID);
+
+      assertEquals(expectedJobReadList, jobReadList);
+      verify(jobPersistence, never()).getJobCount(any(), any(), any(), any(), any(), any(), any());
+    }
+
   }
 
   @Test
@@ -6,6 +6,8 @@ package io.airbyte.commons.server.handlers;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
@@ -75,6 +77,7 @@ import io.airbyte.api.model.generated.WebBackendOperationCreateOrUpdate;
 import io.airbyte.api.model.generated.WebBackendWorkspaceState;
 import io.airbyte.commons.enums.Enums;
 import io.airbyte.commons.json.Jsons;
+import io.airbyte.commons.server.errors.BadRequestException;
 import io.airbyte.commons.server.handlers.helpers.CatalogConverter;
 import io.airbyte.commons.server.helpers.ConnectionHelpers;
 import io.airbyte.commons.server.helpers.DestinationHelpers;
@@ -193,8 +196,14 @@ class WebBackendConnectionsHandlerTest {
     final StandardSync brokenStandardSync =
         ConnectionHelpers.generateSyncWithSourceAndDestinationId(source.getSourceId(), destination.getDestinationId(), true, Status.INACTIVE);
 
-    when(configRepository.listWorkspaceStandardSyncs(new StandardSyncQuery(sourceRead.getWorkspaceId(), null, null, false)))
+    when(configRepository.listWorkspaceStandardSyncSummaries(new StandardSyncQuery(sourceRead.getWorkspaceId(), null, null, false), null, null,
+        null))
         .thenReturn(Collections.singletonList(standardSync));
+    when(configRepository.listWorkspaceStandardSyncSummaries(new StandardSyncQuery(sourceRead.getWorkspaceId(), null, null, false),
+        standardSync.getName(), standardSync.getConnectionId(), 2))
+        .thenReturn(Collections.singletonList(brokenStandardSync));
+    when(configRepository.listWorkspaceStandardSyncSummaries(new StandardSyncQuery(sourceRead.getWorkspaceId(), null, null, false), null, null, 2))
+        .thenReturn(List.of(standardSync, brokenStandardSync));
     when(configRepository.getSourceAndDefinitionsFromSourceIds(Collections.singletonList(source.getSourceId())))
         .thenReturn(Collections.singletonList(new SourceAndDefinition(source, sourceDefinition)));
     when(configRepository.getDestinationAndDefinitionsFromDestinationIds(Collections.singletonList(destination.getDestinationId())))
@@ -391,6 +400,66 @@ class WebBackendConnectionsHandlerTest {
     assertTrue(expectedListItem.getDestination().getIcon().startsWith(SVG));
   }
 
+  @Test
+  void testWebBackendListConnectionsForWorkspacePaginated() throws IOException {
+    final WebBackendConnectionListRequestBody webBackendConnectionListRequestBody = new WebBackendConnectionListRequestBody()
+        .workspaceId(sourceRead.getWorkspaceId())
+        .pageSize(1);
+
+    final WebBackendConnectionReadList firstPage = wbHandler.webBackendListConnectionsForWorkspace(webBackendConnectionListRequestBody);
+
+    assertEquals(List.of(expectedListItem), firstPage.getConnections());
+    assertEquals(WebBackendConnectionsHandler.encodeConnectionListCursor(
+        new WebBackendConnectionsHandler.ConnectionListCursor(connectionRead.getName(), connectionRead.getConnectionId())),
+        firstPage.getNextCursor());
+
+    final WebBackendConnectionReadList lastPage =
+        wbHandler.webBackendListConnectionsForWorkspace(webBackendConnectionListRequestBody.cursor(firstPage.getNextCursor()));
+
+    assertEquals(1, lastPage.getConnections().size());
+    assertEquals(brokenConnectionRead.getConnectionId(), lastPage.getConnections().get(0).getConnectionId());
+    assertNull(lastPage.getNextCursor());
+  }
+
+  @Test
+  void testWebBackendListConnectionsForWorkspaceInvalidCursor() throws IOException {
+    final WebBackendConnectionListRequestBody webBackendConnectionListRequestBody = new WebBackendConnectionListRequestBody()
+        .workspaceId(sourceRead.getWorkspaceId())
+        .pageSize(1);
+
+    // a bare connection id, base64 that isn't JSON, and JSON without the connection id
+    for (final String cursor : List.of(connectionRead.getConnectionId().toString(), "bm90IGpzb24", "eyJuYW1lIjoiYSJ9")) {
+      assertThrows(BadRequestException.class,
+          () -> wbHandler.webBackendListConnectionsForWorkspace(webBackendConnectionListRequestBody.cursor(cursor)));
+    }
+    verify(configRepository, never()).listWorkspaceStandardSyncSummaries(any(), any(), any(), eq(2));
+  }
+
+  @Test
+  void testWebBackendListConnectionsForWorkspaceInvalidPageSize() throws IOException {
+    final WebBackendConnectionListRequestBody webBackendConnectionListRequestBody = new WebBackendConnectionListRequestBody()
+        .workspaceId(sourceRead.getWorkspaceId());
+
+    for (final int pageSize : List.of(0, -1, Integer.MIN_VALUE)) {
+      assertThrows(BadRequestException.class,
+          () -> wbHandler.webBackendListConnectionsForWorkspace(webBackendConnectionListRequestBody.pageSize(pageSize)));
+    }
+    verify(configRepository, never()).listWorkspaceStandardSyncSummaries(any(), any(), any(), any());
+  }
+
+  @Test
+  void testWebBackendListConnectionsForWorkspaceWithRunningSync() throws IOException {
+    when(jobHistoryHandler.getConnectionIdsWithRunningSyncJob(List.of(connectionRead.getConnectionId())))
+        .thenReturn(List.of(connectionRead.getConnectionId()));
+
+    final WebBackendConnectionReadList webBackendConnectionReadList =
+        wbHandler.webBackendListConnectionsForWorkspace(new WebBackendConnectionListRequestBody().workspaceId(sourceRead.getWorkspaceId()));
+
+    assertEquals(1, webBackendConnectionReadList.getConnections().size());
+    assertTrue(webBackendConnectionReadList.getConnections().get(0).getIsSyncing());
+    verify(jobHistoryHandler, never()).getRunningSyncJobForConnections(any());
+  }
+
   @Test
   void testWebBackendGetConnection() throws ConfigNotFoundException, IOException, JsonValidationException {
     final ConnectionIdRequestBody connectionIdRequestBody = new ConnectionIdRequestBody();
@@ -8,6 +8,7 @@ import static io.airbyte.commons.temporal.scheduling.ConnectionManagerWorkflow.N
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.protobuf.ByteString;
+import com.google.protobuf.Timestamp;
 import io.airbyte.commons.temporal.exception.DeletedWorkflowException;
 import io.airbyte.commons.temporal.exception.UnreachableWorkflowException;
 import io.airbyte.commons.temporal.scheduling.CheckConnectionWorkflow;
@@ -30,8 +31,9 @@ import io.airbyte.metrics.lib.OssMetricsRegistry;
 import io.airbyte.persistence.job.models.IntegrationLauncherConfig;
 import io.airbyte.persistence.job.models.JobRunConfig;
 import io.airbyte.protocol.models.StreamDescriptor;
-import io.temporal.api.common.v1.WorkflowType;
 import io.temporal.api.enums.v1.WorkflowExecutionStatus;
+import io.temporal.api.filter.v1.StartTimeFilter;
+import io.temporal.api.filter.v1.StatusFilter;
 import io.temporal.api.workflowservice.v1.ListClosedWorkflowExecutionsRequest;
 import io.temporal.api.workflowservice.v1.ListClosedWorkflowExecutionsResponse;
 import io.temporal.api.workflowservice.v1.ListOpenWorkflowExecutionsRequest;
@@ -40,13 +42,17 @@ import jakarta.inject.Named;
 import jakarta.inject.Singleton;
 import java.io.IOException;
 import java.nio.file.Path;
+import java.time.Instant;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.function.Supplier;
@@ -72,6 +78,12 @@ public class TemporalClient {
    */
   private static final int DELAY_BETWEEN_QUERY_MS = 10;
 
+  /**
+   * Maximum number of connection manager workflows restarted at the same time when healing closed
+   * workflows.
+   */
+  private static final int MAX_CONCURRENT_RESTARTS = 10;
+
   private final Path workspaceRoot;
   private final WorkflowClientWrapped workflowClientWrapped;
   private final WorkflowServiceStubsWrapped serviceStubsWrapped;
@@ -108,42 +120,88 @@ public class TemporalClient {
    * @return set of connection ids that were restarted, primarily used for tracking purposes
    */
   public int restartClosedWorkflowByStatus(final WorkflowExecutionStatus executionStatus) {
-    final Set<UUID> workflowExecutionInfos = fetchClosedWorkflowsByStatus(executionStatus);
+    return restartClosedWorkflowByStatus(executionStatus, null);
+  }
+
+  /**
+   * Restart the connection manager workflows that closed in a certain status since a given time.
+   * Restarts are done concurrently, at most {@link #MAX_CONCURRENT_RESTARTS} at a time.
+   *
+   * @param executionStatus execution status
+   * @param closedAfter only restart workflows that closed after this time, or every closed workflow
+   *        if null
+   * @return number of connections whose workflow was restarted, primarily used for tracking purposes
+   * @throws RuntimeException if any workflow could not be restarted, once the others were
+   */
+  public int restartClosedWorkflowByStatus(final WorkflowExecutionStatus executionStatus, @Nullable final Instant closedAfter) {
+    final Set<UUID> workflowExecutionInfos = fetchClosedWorkflowsByStatus(executionStatus, closedAfter);
+    if (workflowExecutionInfos.isEmpty()) {
+      return 0;
+    }
 
     final Set<UUID> nonRunningWorkflow = filterOutRunningWorkspaceId(workflowExecutionInfos);
-    nonRunningWorkflow.forEach(connectionId -> {
-      connectionManagerUtils.safeTerminateWorkflow(connectionId,
-          "Terminating workflow in unreachable state before starting a new workflow for this connection");
-      connectionManagerUtils.startConnectionManagerNoSignal(connectionId);
-    });
+    if (nonRunningWorkflow.isEmpty()) {
+      return 0;
+    }
+
+    final ExecutorService executor = Executors.newFixedThreadPool(Math.min(nonRunningWorkflow.size(), MAX_CONCURRENT_RESTARTS));
+    try {
+      final List<CompletableFuture<Void>> restarts = nonRunningWorkflow.stream()
+          .map(connectionId -> CompletableFuture.runAsync(() -> {
+            connectionManagerUtils.safeTerminateWorkflow(connectionId,
+                "Terminating workflow in unreachable state before starting a new workflow for this connection");
+            connectionManagerUtils.startConnectionManagerNoSignal(connectionId);
+          }, executor))
+          .toList();
+      CompletableFuture.allOf(restarts.toArray(new CompletableFuture[0])).join();
+    } catch (final CompletionException e) {
+      throw new RuntimeException(
+          String.format("Failed to restart some of the %d closed connection manager workflows", nonRunningWorkflow.size()), e.getCause());
+    } finally {
+      executor.shutdown();
+    }
 
     return nonRunningWorkflow.size();
   }
 
-  Set<UUID> fetchClosedWorkflowsByStatus(final WorkflowExecutionStatus executionStatus) {
-    ByteString token;
-    ListClosedWorkflowExecutionsRequest workflowExecutionsRequest =
+  /**
+   * Connection ids of the connection manager workflows that closed in a certain status.
+   * <p>
+   * The status and close time are filtered on by the visibility query, for closed workflows its start
+   * time filter applies to their close time. They are checked again on the returned executions, as
+   * not every visibility store applies the filters.
+   */
+  @VisibleForTesting
+  Set<UUID> fetchClosedWorkflowsByStatus(final WorkflowExecutionStatus executionStatus, @Nullable final Instant closedAfter) {
+    final ListClosedWorkflowExecutionsRequest.Builder workflowExecutionsRequestBuilder =
         ListClosedWorkflowExecutionsRequest.newBuilder()
             .setNamespace(workflowClientWrapped.getNamespace())
-            .build();
+            .setStatusFilter(StatusFilter.newBuilder().setStatus(executionStatus));
+    if (closedAfter != null) {
+      // the latest time defaults to now
+      workflowExecutionsRequestBuilder.setStartTimeFilter(StartTimeFilter.newBuilder()
+          .setEarliestTime(Timestamp.newBuilder().setSeconds(closedAfter.getEpochSecond()).setNanos(closedAfter.getNano())));
+    }
 
+    ByteString token;
+    ListClosedWorkflowExecutionsRequest workflowExecutionsRequest = workflowExecutionsRequestBuilder.build();
+    final String connectionManagerWorkflowType = ConnectionManagerWorkflow.class.getSimpleName();
     final Set<UUID> workflowExecutionInfos = new HashSet<>();
     do {
-      final ListClosedWorkflowExecutionsResponse listOpenWorkflowExecutionsRequest =
+      final ListClosedWorkflowExecutionsResponse listClosedWorkflowExecutionsResponse =
           serviceStubsWrapped.blockingStubListClosedWorkflowExecutions(workflowExecutionsRequest);
-      final WorkflowType connectionManagerWorkflowType = WorkflowType.newBuilder().setName(ConnectionManagerWorkflow.class.getSimpleName()).build();
-      workflowExecutionInfos.addAll(listOpenWorkflowExecutionsRequest.getExecutionsList().stream()
-          .filter(workflowExecutionInfo -> workflowExecutionInfo.getType() == connectionManagerWorkflowType
-              || workflowExecutionInfo.getStatus() == executionStatus)
+      workflowExecutionInfos.addAll(listClosedWorkflowExecutionsResponse.getExecutionsList().stream()
+          .filter(workflowExecutionInfo -> workflowExecutionInfo.getType().getName().equals(connectionManagerWorkflowType)
+              && workflowExecutionInfo.getStatus() == executionStatus
+              && (closedAfter == null || !workflowExecutionInfo.hasCloseTime()
+                  || workflowExecutionInfo.getCloseTime().getSeconds() >= closedAfter.getEpochSecond()))
           .flatMap((workflowExecutionInfo -> extractConnectionIdFromWorkflowId(workflowExecutionInfo.getExecution().getWorkflowId()).stream()))
           .collect(Collectors.toSet()));
-      token = listOpenWorkflowExecutionsRequest.getNextPageToken();
+      token = listClosedWorkflowExecutionsResponse.getNextPageToken();
 
-      workflowExecutionsRequest =
-          ListClosedWorkflowExecutionsRequest.newBuilder()
-              .setNamespace(workflowClientWrapped.getNamespace())
-              .setNextPageToken(token)
-              .build();
+      workflowExecutionsRequest = workflowExecutionsRequestBuilder
+          .setNextPageToken(token)
+          .build();
 
     } while (token != null && token.size() > 0);
 
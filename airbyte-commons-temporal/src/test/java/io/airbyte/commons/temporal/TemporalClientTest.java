@@ -8,6 +8,7 @@ import static io.airbyte.commons.temporal.scheduling.ConnectionManagerWorkflow.N
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
@@ -15,9 +16,11 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
@@ -51,17 +54,28 @@ import io.temporal.api.workflowservice.v1.WorkflowServiceGrpc.WorkflowServiceBlo
 import io.temporal.client.BatchRequest;
 import io.temporal.client.WorkflowClient;
 import io.temporal.client.WorkflowClientOptions;
+import io.temporal.client.WorkflowFailedException;
 import io.temporal.client.WorkflowOptions;
 import io.temporal.client.WorkflowStub;
+import io.temporal.failure.ApplicationFailure;
 import io.temporal.serviceclient.WorkflowServiceStubs;
+import io.temporal.testing.TestWorkflowEnvironment;
+import io.temporal.worker.Worker;
 import io.temporal.workflow.Functions.Proc;
+import io.temporal.workflow.WorkflowInterface;
+import io.temporal.workflow.WorkflowMethod;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.List;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -100,6 +114,7 @@ public class TemporalClientTest {
   private static final StreamDescriptor STREAM_DESCRIPTOR = new StreamDescriptor().withName("name");
   private static final String UNCHECKED = "unchecked";
   private static final String EXCEPTION_MESSAGE = "Force state exception to simulate workflow not running";
+  private static final String TEST_TASK_QUEUE = "TEST_TASK_QUEUE";
 
   private WorkflowClient workflowClient;
   private TemporalClient temporalClient;
@@ -162,7 +177,7 @@ public class TemporalClientTest {
       final Set<UUID> workflowIds = Set.of(connectionId);
 
       doReturn(workflowIds)
-          .when(temporalClient).fetchClosedWorkflowsByStatus(WorkflowExecutionStatus.WORKFLOW_EXECUTION_STATUS_FAILED);
+          .when(temporalClient).fetchClosedWorkflowsByStatus(WorkflowExecutionStatus.WORKFLOW_EXECUTION_STATUS_FAILED, null);
       doReturn(workflowIds)
           .when(temporalClient).filterOutRunningWorkspaceId(workflowIds);
       mockWorkflowStatus(WorkflowExecutionStatus.WORKFLOW_EXECUTION_STATUS_FAILED);
@@ -171,6 +186,92 @@ public class TemporalClientTest {
       verify(mConnectionManagerUtils).startConnectionManagerNoSignal(eq(connectionId));
     }
 
+    @Test
+    void testNothingToRestart() {
+      final Instant closedAfter = Instant.now();
+      doReturn(Set.of())
+          .when(temporalClient).fetchClosedWorkflowsByStatus(WorkflowExecutionStatus.WORKFLOW_EXECUTION_STATUS_FAILED, closedAfter);
+
+      assertEquals(0, temporalClient.restartClosedWorkflowByStatus(WorkflowExecutionStatus.WORKFLOW_EXECUTION_STATUS_FAILED, closedAfter));
+      // the open workflows are only listed when there are workflows to restart
+      verify(temporalClient, never()).filterOutRunningWorkspaceId(any());
+      verifyNoInteractions(mConnectionManagerUtils);
+    }
+
+    @Test
+    void testRestartFailedConcurrently() {
+      final Set<UUID> workflowIds = IntStream.range(0, 25).mapToObj(i -> UUID.randomUUID()).collect(Collectors.toSet());
+      doReturn(workflowIds)
+          .when(temporalClient).fetchClosedWorkflowsByStatus(WorkflowExecutionStatus.WORKFLOW_EXECUTION_STATUS_FAILED, null);
+      doReturn(workflowIds)
+          .when(temporalClient).filterOutRunningWorkspaceId(workflowIds);
+
+      final AtomicInteger restarting = new AtomicInteger();
+      final AtomicInteger maxRestarting = new AtomicInteger();
+      final UUID failingId = workflowIds.iterator().next();
+      when(mConnectionManagerUtils.startConnectionManagerNoSignal(any())).thenAnswer(invocation -> {
+        maxRestarting.accumulateAndGet(restarting.incrementAndGet(), Math::max);
+        Thread.sleep(20);
+        restarting.decrementAndGet();
+        if (failingId.equals(invocation.getArgument(0))) {
+          throw new IllegalStateException("Unable to start the workflow");
+        }
+        return mock(ConnectionManagerWorkflow.class);
+      });
+
+      assertThrows(RuntimeException.class,
+          () -> temporalClient.restartClosedWorkflowByStatus(WorkflowExecutionStatus.WORKFLOW_EXECUTION_STATUS_FAILED, null));
+
+      // every workflow is restarted, even though one of them failed
+      workflowIds.forEach(workflowId -> verify(mConnectionManagerUtils).startConnectionManagerNoSignal(workflowId));
+      assertTrue(maxRestarting.get() > 1);
+      assertTrue(maxRestarting.get() <= 10);
+    }
+
+    @Test
+    void testFetchClosedWorkflowsFromTemporalServer() {
+      final TestWorkflowEnvironment testEnv = TestWorkflowEnvironment.newInstance();
+      try {
+        final Worker worker = testEnv.newWorker(TEST_TASK_QUEUE);
+        worker.registerWorkflowImplementationTypes(TestConnectionManagerWorkflow.WorkflowImpl.class, TestOtherWorkflow.WorkflowImpl.class);
+        testEnv.start();
+        final WorkflowClient testClient = testEnv.getWorkflowClient();
+        final MetricClient metricClient = mock(MetricClient.class);
+        final TemporalClient testTemporalClient = new TemporalClient(workspaceRoot, new WorkflowClientWrapped(testClient, metricClient),
+            new WorkflowServiceStubsWrapped(testEnv.getWorkflowServiceStubs(), metricClient), streamResetPersistence,
+            mConnectionManagerUtils, mNotificationClient, streamResetRecordsHelper, metricClient);
+
+        final UUID failedEarlier = UUID.randomUUID();
+        runConnectionManagerWorkflow(testClient, failedEarlier, true);
+        testEnv.sleep(Duration.ofMinutes(10));
+        final Instant closedAfter = Instant.ofEpochMilli(testEnv.currentTimeMillis());
+
+        final UUID failed = UUID.randomUUID();
+        runConnectionManagerWorkflow(testClient, failed, true);
+        runConnectionManagerWorkflow(testClient, UUID.randomUUID(), false);
+        final TestOtherWorkflow otherWorkflow = testClient.newWorkflowStub(TestOtherWorkflow.class,
+            WorkflowOptions.newBuilder().setTaskQueue(TEST_TASK_QUEUE).setWorkflowId("connection_manager_" + UUID.randomUUID()).build());
+        assertThrows(WorkflowFailedException.class, otherWorkflow::run);
+
+        assertEquals(Set.of(failedEarlier, failed),
+            testTemporalClient.fetchClosedWorkflowsByStatus(WorkflowExecutionStatus.WORKFLOW_EXECUTION_STATUS_FAILED, null));
+        assertEquals(Set.of(failed),
+            testTemporalClient.fetchClosedWorkflowsByStatus(WorkflowExecutionStatus.WORKFLOW_EXECUTION_STATUS_FAILED, closedAfter));
+      } finally {
+        testEnv.close();
+      }
+    }
+
+    private void runConnectionManagerWorkflow(final WorkflowClient client, final UUID connectionId, final boolean fail) {
+      final TestConnectionManagerWorkflow workflow = client.newWorkflowStub(TestConnectionManagerWorkflow.class,
+          WorkflowOptions.newBuilder().setTaskQueue(TEST_TASK_QUEUE).setWorkflowId("connection_manager_" + connectionId).build());
+      if (fail) {
+        assertThrows(WorkflowFailedException.class, () -> workflow.run(true));
+      } else {
+        workflow.run(false);
+      }
+    }
+
   }
 
   @Nested
@@ -749,4 +850,43 @@ public class TemporalClientTest {
             WorkflowExecutionInfo.newBuilder().setStatus(status).buildPartial()).build());
   }
 
+  /**
+   * Stands in for the connection manager workflow, under the same workflow type.
+   */
+  @WorkflowInterface
+  public interface TestConnectionManagerWorkflow {
+
+    @WorkflowMethod(name = "ConnectionManagerWorkflow")
+    void run(boolean fail);
+
+    class WorkflowImpl implements TestConnectionManagerWorkflow {
+
+      @Override
+      public void run(final boolean fail) {
+        if (fail) {
+          throw ApplicationFailure.newFailure("Connection manager workflow failure", "test");
+        }
+      }
+
+    }
+
+  }
+
+  @WorkflowInterface
+  public interface TestOtherWorkflow {
+
+    @WorkflowMethod
+    void run();
+
+    class WorkflowImpl implements TestOtherWorkflow {
+
+      @Override
+      public void run() {
+        throw ApplicationFailure.newFailure("Other workflow failure", "test");
+      }
+
+    }
+
+  }
+
 }
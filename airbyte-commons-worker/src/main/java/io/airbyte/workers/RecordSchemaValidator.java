@@ -12,25 +12,40 @@ import io.airbyte.protocol.models.AirbyteStreamNameNamespacePair;
 import io.airbyte.validation.json.JsonSchemaValidator;
 import java.io.Closeable;
 import java.io.IOException;
-import java.util.HashSet;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
-import org.apache.commons.lang3.tuple.ImmutablePair;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Validates that AirbyteRecordMessage data conforms to the JSON schema defined by the source's
  * configured catalog.
+ * <p>
+ * Validation runs off the calling thread. Streams are spread across a small number of
+ * single-threaded executors so that different streams are validated in parallel while a given
+ * stream is always validated by the same thread. Each executor has a bounded queue; when it is full
+ * the caller blocks until there is room, so a slow validation cannot buffer an unbounded number of
+ * records.
  */
 public class RecordSchemaValidator implements Closeable {
 
+  private static final int MAX_VALIDATION_THREADS = 4;
+  private static final int VALIDATION_QUEUE_SIZE = 1000;
+
   private final JsonSchemaValidator validator;
-  private final ExecutorService validationExecutor;
+  private final List<ExecutorService> validationExecutors;
   private final Map<AirbyteStreamNameNamespacePair, JsonNode> streams;
+  // Name under which each stream's compiled validator is registered, computed once per stream.
+  private final Map<AirbyteStreamNameNamespacePair, String> streamSchemaNames;
 
   /**
    * Creates a RecordSchemaValidator.
@@ -38,30 +53,48 @@ public class RecordSchemaValidator implements Closeable {
    * @param streamNamesToSchemas Name of streams.
    */
   public RecordSchemaValidator(final Map<AirbyteStreamNameNamespacePair, JsonNode> streamNamesToSchemas) {
-    this(streamNamesToSchemas, Executors.newFixedThreadPool(1));
+    this(streamNamesToSchemas, createValidationExecutors(getValidationThreads(streamNamesToSchemas.size()), VALIDATION_QUEUE_SIZE),
+        new JsonSchemaValidator());
+  }
+
+  @VisibleForTesting
+  RecordSchemaValidator(final Map<AirbyteStreamNameNamespacePair, JsonNode> streamNamesToSchemas,
+                        final int validationThreads,
+                        final int validationQueueSize,
+                        final JsonSchemaValidator jsonSchemaValidator) {
+    this(streamNamesToSchemas, createValidationExecutors(validationThreads, validationQueueSize), jsonSchemaValidator);
   }
 
   @VisibleForTesting
   public RecordSchemaValidator(final Map<AirbyteStreamNameNamespacePair, JsonNode> streamNamesToSchemas, final ExecutorService validationExecutor) {
-    this(streamNamesToSchemas, validationExecutor, new JsonSchemaValidator());
+    this(streamNamesToSchemas, List.of(validationExecutor), new JsonSchemaValidator());
   }
 
   @VisibleForTesting
   public RecordSchemaValidator(final Map<AirbyteStreamNameNamespacePair, JsonNode> streamNamesToSchemas,
                                final ExecutorService validationExecutor,
                                final JsonSchemaValidator jsonSchemaValidator) {
+    this(streamNamesToSchemas, List.of(validationExecutor), jsonSchemaValidator);
+  }
+
+  private RecordSchemaValidator(final Map<AirbyteStreamNameNamespacePair, JsonNode> streamNamesToSchemas,
+                                final List<ExecutorService> validationExecutors,
+                                final JsonSchemaValidator jsonSchemaValidator) {
     // streams is Map of a stream source namespace + name mapped to the stream schema
     // for easy access when we check each record's schema
     this.streams = streamNamesToSchemas;
-    this.validationExecutor = validationExecutor;
+    this.validationExecutors = validationExecutors;
     this.validator = jsonSchemaValidator;
+    this.streamSchemaNames = new HashMap<>();
     // initialize schema validator to avoid creating validators each time.
     for (final AirbyteStreamNameNamespacePair stream : streamNamesToSchemas.keySet()) {
       // We must choose a JSON validator version for validating the schema
       // Rather than allowing connectors to use any version, we enforce validation using V7
       final var schema = streams.get(stream);
       ((ObjectNode) schema).put("$schema", "http://json-schema.org/draft-07/schema#");
-      validator.initializeSchemaValidator(stream.toString(), schema);
+      final String schemaName = stream.toString();
+      validator.initializeSchemaValidator(schemaName, schema);
+      streamSchemaNames.put(stream, schemaName);
     }
   }
 
@@ -72,11 +105,11 @@ public class RecordSchemaValidator implements Closeable {
   public void validateSchema(
                              final AirbyteRecordMessage message,
                              final AirbyteStreamNameNamespacePair airbyteStream,
-                             final ConcurrentHashMap<AirbyteStreamNameNamespacePair, ImmutablePair<Set<String>, Integer>> validationErrors) {
-    validationExecutor.execute(() -> {
-      Set<String> errorMessages = validator.validateInitializedSchema(airbyteStream.toString(), message.getData());
+                             final ConcurrentHashMap<AirbyteStreamNameNamespacePair, StreamValidationErrors> validationErrors) {
+    executorFor(airbyteStream).execute(() -> {
+      final Set<String> errorMessages = validator.validateInitializedSchema(getSchemaName(airbyteStream), message.getData());
       if (!errorMessages.isEmpty()) {
-        updateValidationErrors(errorMessages, airbyteStream, validationErrors);
+        validationErrors.computeIfAbsent(airbyteStream, k -> new StreamValidationErrors()).add(errorMessages);
       }
     });
   }
@@ -89,34 +122,87 @@ public class RecordSchemaValidator implements Closeable {
                                             final AirbyteRecordMessage message,
                                             final AirbyteStreamNameNamespacePair airbyteStream,
                                             final ConcurrentHashMap<AirbyteStreamNameNamespacePair, Set<String>> validationErrors) {
-    validationExecutor.execute(() -> {
-      final Set<String> errorMessages = validator.validateInitializedSchema(airbyteStream.toString(), message.getData());
+    executorFor(airbyteStream).execute(() -> {
+      final Set<String> errorMessages = validator.validateInitializedSchema(getSchemaName(airbyteStream), message.getData());
       if (!errorMessages.isEmpty()) {
-        validationErrors.computeIfAbsent(airbyteStream, k -> new HashSet<>()).addAll(errorMessages);
+        validationErrors.computeIfAbsent(airbyteStream, k -> ConcurrentHashMap.newKeySet()).addAll(errorMessages);
       }
     });
   }
 
-  private void updateValidationErrors(final Set<String> errorMessages,
-                                      final AirbyteStreamNameNamespacePair airbyteStream,
-                                      final ConcurrentHashMap<AirbyteStreamNameNamespacePair, ImmutablePair<Set<String>, Integer>> validationErrors) {
-    validationErrors.compute(airbyteStream, (k, v) -> {
-      if (v == null) {
-        return new ImmutablePair<>(errorMessages, 1);
-      } else {
-        final var updatedErrorMessages = Stream.concat(v.getLeft().stream(), errorMessages.stream()).collect(Collectors.toSet());
-        final var updatedCount = v.getRight() + 1;
-        return new ImmutablePair<>(updatedErrorMessages, updatedCount);
-      }
-    });
+  private ExecutorService executorFor(final AirbyteStreamNameNamespacePair airbyteStream) {
+    return validationExecutors.get(Math.floorMod(airbyteStream.hashCode(), validationExecutors.size()));
+  }
+
+  private String getSchemaName(final AirbyteStreamNameNamespacePair airbyteStream) {
+    final String schemaName = streamSchemaNames.get(airbyteStream);
+    // Unknown streams fall through to the validator, which reports them as not initialized.
+    return schemaName != null ? schemaName : airbyteStream.toString();
   }
 
   /**
-   * Shuts down the ExecutorService used by this validator.
+   * Shuts down the ExecutorServices used by this validator.
    */
   @Override
   public void close() throws IOException {
-    validationExecutor.shutdownNow();
+    validationExecutors.forEach(ExecutorService::shutdownNow);
+  }
+
+  private static int getValidationThreads(final int streamCount) {
+    return Math.max(1, Math.min(Math.min(streamCount, MAX_VALIDATION_THREADS), Runtime.getRuntime().availableProcessors()));
+  }
+
+  private static List<ExecutorService> createValidationExecutors(final int threads, final int queueSize) {
+    final List<ExecutorService> executors = new ArrayList<>(threads);
+    for (int i = 0; i < threads; i++) {
+      executors.add(new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(queueSize), new BlockWhenFull()));
+    }
+    return executors;
+  }
+
+  /**
+   * Applies backpressure to the caller by waiting for room in the queue instead of rejecting the task.
+   */
+  private static class BlockWhenFull implements RejectedExecutionHandler {
+
+    @Override
+    public void rejectedExecution(final Runnable r, final ThreadPoolExecutor executor) {
+      if (executor.isShutdown()) {
+        throw new RejectedExecutionException("Validation executor has been shut down");
+      }
+      try {
+        executor.getQueue().put(r);
+      } catch (final InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new RejectedExecutionException(e);
+      }
+    }
+
+  }
+
+  /**
+   * Validation errors collected for a stream: the distinct error messages and the number of records
+   * that failed validation. Updates are lock-free so that they can be recorded from the validation
+   * threads while being read by the caller.
+   */
+  public static class StreamValidationErrors {
+
+    private final Set<String> messages = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger count = new AtomicInteger();
+
+    void add(final Set<String> errorMessages) {
+      messages.addAll(errorMessages);
+      count.incrementAndGet();
+    }
+
+    public Set<String> getMessages() {
+      return messages;
+    }
+
+    public int getCount() {
+      return count.get();
+    }
+
   }
 
 }
@@ -7,7 +7,7 @@ package io.airbyte.workers.general;
 import static io.airbyte.metrics.lib.ApmTraceConstants.WORKER_OPERATION_NAME;
 
 import datadog.trace.api.Trace;
-import io.airbyte.commons.concurrency.BoundedConcurrentLinkedQueue;
+import io.airbyte.commons.concurrency.BoundedSpscQueue;
 import io.airbyte.commons.io.LineGobbler;
 import io.airbyte.commons.timer.Stopwatch;
 import io.airbyte.config.PerformanceMetrics;
@@ -66,8 +66,8 @@ public class BufferedReplicationWorker implements ReplicationWorker {
   private final RecordSchemaValidator recordSchemaValidator;
   private final SyncPersistence syncPersistence;
   private final HeartbeatTimeoutChaperone srcHeartbeatTimeoutChaperone;
-  private final BoundedConcurrentLinkedQueue<AirbyteMessage> messagesFromSourceQueue;
-  private final BoundedConcurrentLinkedQueue<AirbyteMessage> messagesForDestinationQueue;
+  private final BoundedSpscQueue<AirbyteMessage> messagesFromSourceQueue;
+  private final BoundedSpscQueue<AirbyteMessage> messagesForDestinationQueue;
   private final ExecutorService executors;
   private final ScheduledExecutorService scheduledExecutors;
   private final DestinationTimeoutMonitor destinationTimeoutMonitor;
@@ -87,6 +87,9 @@ public class BufferedReplicationWorker implements ReplicationWorker {
 
   private static final int sourceMaxBufferSize = 1000;
   private static final int destinationMaxBufferSize = 1000;
+  // Upper bound on how long a stage stays parked on a buffer before re-checking whether it should
+  // abort. Stages are woken up as soon as the other side makes progress.
+  private static final long bufferWaitTimeoutInMillis = 100;
   private static final int observabilityMetricsPeriodInSeconds = 1;
   private static final int executorShutdownGracePeriodInSeconds = 10;
 
@@ -110,8 +113,8 @@ public class BufferedReplicationWorker implements ReplicationWorker {
     this.recordSchemaValidator = recordSchemaValidator;
     this.syncPersistence = syncPersistence;
     this.srcHeartbeatTimeoutChaperone = srcHeartbeatTimeoutChaperone;
-    this.messagesFromSourceQueue = new BoundedConcurrentLinkedQueue<>(sourceMaxBufferSize);
-    this.messagesForDestinationQueue = new BoundedConcurrentLinkedQueue<>(destinationMaxBufferSize);
+    this.messagesFromSourceQueue = new BoundedSpscQueue<>(sourceMaxBufferSize);
+    this.messagesForDestinationQueue = new BoundedSpscQueue<>(destinationMaxBufferSize);
     // readFromSource + processMessage + writeToDestination + readFromDestination +
     // source heartbeat + dest timeout monitor + workload heartbeat = 7 threads
     this.executors = Executors.newFixedThreadPool(7);
@@ -348,9 +351,10 @@ public class BufferedReplicationWorker implements ReplicationWorker {
         final Optional<AirbyteMessage> messageOptional = source.attemptRead();
         if (messageOptional.isPresent()) {
           sourceMessagesRead.incrementAndGet();
-          while (!replicationWorkerHelper.getShouldAbort() && !messagesFromSourceQueue.add(messageOptional.get())
+          while (!replicationWorkerHelper.getShouldAbort()
+              && !messagesFromSourceQueue.offer(messageOptional.get(), bufferWaitTimeoutInMillis, TimeUnit.MILLISECONDS)
               && !messagesFromSourceQueue.isClosed()) {
-            Thread.sleep(100);
+            // retry until the processor catches up, the buffer is closed or we abort
           }
         }
       }
@@ -369,7 +373,7 @@ public class BufferedReplicationWorker implements ReplicationWorker {
       throw e;
     } catch (final InterruptedException e) {
       LOGGER.info("readFromSource: interrupted", e);
-      // Getting interrupted during sleep, rethrowing to fail fast
+      // Getting interrupted while waiting on the buffer, rethrowing to fail fast
       throw new RuntimeException(e);
     } catch (final Exception e) {
       LOGGER.info("readFromSource: exception caught", e);
@@ -387,7 +391,7 @@ public class BufferedReplicationWorker implements ReplicationWorker {
 
       while (!replicationWorkerHelper.getShouldAbort() && !messagesFromSourceQueue.isDone() && !messagesForDestinationQueue.isClosed()) {
         final AirbyteMessage message;
-        message = messagesFromSourceQueue.poll();
+        message = messagesFromSourceQueue.poll(bufferWaitTimeoutInMillis, TimeUnit.MILLISECONDS);
         if (message == null) {
           continue;
         }
@@ -400,15 +404,16 @@ public class BufferedReplicationWorker implements ReplicationWorker {
           final AirbyteMessage m = processedMessageOpt.get();
           // TODO this check should move to the processMessageFromSource
           if (m.getType() == Type.RECORD || m.getType() == Type.STATE) {
-            while (!messagesForDestinationQueue.add(m) && !messagesForDestinationQueue.isClosed()) {
-              Thread.sleep(100);
+            while (!messagesForDestinationQueue.offer(m, bufferWaitTimeoutInMillis, TimeUnit.MILLISECONDS)
+                && !messagesForDestinationQueue.isClosed()) {
+              // retry until the destination writer catches up or the buffer is closed
             }
           }
         }
       }
 
     } catch (final InterruptedException e) {
-      // Getting interrupted during sleep, rethrowing to fail fast
+      // Getting interrupted while waiting on a buffer, rethrowing to fail fast
       LOGGER.info("processMessage: interrupted", e);
       throw new RuntimeException(e);
     } catch (final Exception e) {
@@ -428,7 +433,7 @@ public class BufferedReplicationWorker implements ReplicationWorker {
       try {
         while (!replicationWorkerHelper.getShouldAbort() && !messagesForDestinationQueue.isDone() && isReadFromDestRunning) {
           final AirbyteMessage message;
-          message = messagesForDestinationQueue.poll();
+          message = messagesForDestinationQueue.poll(bufferWaitTimeoutInMillis, TimeUnit.MILLISECONDS);
           if (message == null) {
             continue;
           }
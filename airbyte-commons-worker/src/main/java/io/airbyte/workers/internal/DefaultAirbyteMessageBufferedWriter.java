@@ -4,6 +4,7 @@
 
 package io.airbyte.workers.internal;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import io.airbyte.commons.json.Jsons;
 import io.airbyte.protocol.models.AirbyteMessage;
 import java.io.BufferedWriter;
@@ -11,29 +12,43 @@ import java.io.IOException;
 
 /**
  * Default writer that serializes airbyte messages to JSON.
+ * <p>
+ * Messages are streamed through a single Jackson generator on top of the writer rather than being
+ * serialized to an intermediate String first. The output is the same as writing
+ * {@link Jsons#serialize(Object)} followed by a new line.
  */
 public class DefaultAirbyteMessageBufferedWriter implements AirbyteMessageBufferedWriter {
 
-  protected final BufferedWriter writer;
+  private static final String LINE_SEPARATOR = System.lineSeparator();
+
+  protected final JsonGenerator generator;
 
   public DefaultAirbyteMessageBufferedWriter(final BufferedWriter writer) {
-    this.writer = writer;
+    this.generator = Jsons.createGenerator(writer);
   }
 
   @Override
   public void write(final AirbyteMessage message) throws IOException {
-    writer.write(Jsons.serialize(message));
-    writer.newLine();
+    Jsons.serialize(message, generator);
+    newLine();
+  }
+
+  /**
+   * Terminates the current message. This goes through the generator since it buffers output ahead of
+   * the underlying writer.
+   */
+  protected void newLine() throws IOException {
+    generator.writeRaw(LINE_SEPARATOR);
   }
 
   @Override
   public void flush() throws IOException {
-    writer.flush();
+    generator.flush();
   }
 
   @Override
   public void close() throws IOException {
-    writer.close();
+    generator.close();
   }
 
 }
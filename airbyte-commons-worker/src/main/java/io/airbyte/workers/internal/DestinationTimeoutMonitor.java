@@ -7,6 +7,7 @@ package io.airbyte.workers.internal;
 import static java.lang.Thread.sleep;
 
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Ticker;
 import io.airbyte.featureflag.ShouldFailSyncOnDestinationTimeout;
 import io.airbyte.metrics.lib.MetricAttribute;
 import io.airbyte.metrics.lib.MetricClient;
@@ -19,7 +20,7 @@ import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicLong;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -38,14 +39,21 @@ import org.slf4j.LoggerFactory;
  * Timed out when either timer goes over {@link #timeout}.
  *
  * The monitor checks for a timeout every {@link #pollInterval}.
+ *
+ * The timers are started and reset for every message sent to the destination, so they are kept on
+ * a monotonic clock in primitive fields, without allocating. They are updated with ordered writes,
+ * which are cheaper than volatile ones and still become visible to the monitor well within a poll
+ * interval.
  */
 public class DestinationTimeoutMonitor implements AutoCloseable {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(DestinationTimeoutMonitor.class);
   private static final Duration POLL_INTERVAL = Duration.ofMinutes(1);
+  // System.nanoTime() can be any value, this one is as good as impossible.
+  private static final long NOT_STARTED = Long.MIN_VALUE;
 
-  private final AtomicReference<Long> currentAcceptCallStartTime = new AtomicReference<>(null);
-  private final AtomicReference<Long> currentNotifyEndOfInputCallStartTime = new AtomicReference<>(null);
+  private final AtomicLong currentAcceptCallStartTime = new AtomicLong(NOT_STARTED);
+  private final AtomicLong currentNotifyEndOfInputCallStartTime = new AtomicLong(NOT_STARTED);
   private final UUID workspaceId;
   private ExecutorService lazyExecutorService;
   private final UUID connectionId;
@@ -53,20 +61,33 @@ public class DestinationTimeoutMonitor implements AutoCloseable {
   private final Duration pollInterval;
   private final Duration timeout;
   private final boolean throwExceptionOnTimeout;
+  private final Ticker ticker;
 
   @VisibleForTesting
-  public DestinationTimeoutMonitor(final UUID workspaceId,
-                                   final UUID connectionId,
-                                   final MetricClient metricClient,
-                                   final Duration timeout,
-                                   final boolean throwExceptionOnTimeout,
-                                   final Duration pollInterval) {
+  DestinationTimeoutMonitor(final UUID workspaceId,
+                            final UUID connectionId,
+                            final MetricClient metricClient,
+                            final Duration timeout,
+                            final boolean throwExceptionOnTimeout,
+                            final Duration pollInterval,
+                            final Ticker ticker) {
     this.workspaceId = workspaceId;
     this.connectionId = connectionId;
     this.metricClient = metricClient;
     this.timeout = timeout;
     this.throwExceptionOnTimeout = throwExceptionOnTimeout;
     this.pollInterval = pollInterval;
+    this.ticker = ticker;
+  }
+
+  @VisibleForTesting
+  public DestinationTimeoutMonitor(final UUID workspaceId,
+                                   final UUID connectionId,
+                                   final MetricClient metricClient,
+                                   final Duration timeout,
+                                   final boolean throwExceptionOnTimeout,
+                                   final Duration pollInterval) {
+    this(workspaceId, connectionId, metricClient, timeout, throwExceptionOnTimeout, pollInterval, Ticker.systemTicker());
   }
 
   public DestinationTimeoutMonitor(final UUID workspaceId,
@@ -146,7 +167,7 @@ public class DestinationTimeoutMonitor implements AutoCloseable {
    * {@link io.airbyte.workers.internal.AirbyteDestination#accept} call.
    */
   public void startAcceptTimer() {
-    currentAcceptCallStartTime.set(System.currentTimeMillis());
+    currentAcceptCallStartTime.lazySet(ticker.read());
   }
 
   /**
@@ -155,7 +176,7 @@ public class DestinationTimeoutMonitor implements AutoCloseable {
    * sense if there's a previous call to {@link #startAcceptTimer}.
    */
   public void resetAcceptTimer() {
-    currentAcceptCallStartTime.set(null);
+    currentAcceptCallStartTime.lazySet(NOT_STARTED);
   }
 
   /**
@@ -172,7 +193,7 @@ public class DestinationTimeoutMonitor implements AutoCloseable {
    * first {@link io.airbyte.workers.internal.AirbyteDestination#notifyEndOfInput} call.
    */
   public void startNotifyEndOfInputTimer() {
-    currentNotifyEndOfInputCallStartTime.set(System.currentTimeMillis());
+    currentNotifyEndOfInputCallStartTime.lazySet(ticker.read());
   }
 
   /**
@@ -181,7 +202,7 @@ public class DestinationTimeoutMonitor implements AutoCloseable {
    * makes sense if there's a previous call to {@link #startNotifyEndOfInputTimer}.
    */
   public void resetNotifyEndOfInputTimer() {
-    currentNotifyEndOfInputCallStartTime.set(null);
+    currentNotifyEndOfInputCallStartTime.lazySet(NOT_STARTED);
   }
 
   private void onTimeout(final CompletableFuture<Void> runnableFuture) {
@@ -210,7 +231,8 @@ public class DestinationTimeoutMonitor implements AutoCloseable {
     }
   }
 
-  private boolean hasTimedOut() {
+  @VisibleForTesting
+  boolean hasTimedOut() {
     if (hasTimedOutOnAccept()) {
       return true;
     }
@@ -222,13 +244,13 @@ public class DestinationTimeoutMonitor implements AutoCloseable {
   }
 
   private boolean hasTimedOutOnAccept() {
-    final Long startTime = currentAcceptCallStartTime.get();
+    final long startTime = currentAcceptCallStartTime.get();
 
-    if (startTime != null) {
+    if (startTime != NOT_STARTED) {
       // by the time we get here, currentAcceptCallStartTime might have already been reset.
       // this won't be a problem since we are not getting the start time from currentAcceptCallStartTime
       // but from startTime
-      if (System.currentTimeMillis() - startTime > timeout.toMillis()) {
+      if (ticker.read() - startTime > timeout.toNanos()) {
         LOGGER.error("Destination has timed out on accept call");
         metricClient.count(OssMetricsRegistry.WORKER_DESTINATION_ACCEPT_TIMEOUT, 1,
             new MetricAttribute(MetricTags.CONNECTION_ID, connectionId.toString()));
@@ -239,13 +261,13 @@ public class DestinationTimeoutMonitor implements AutoCloseable {
   }
 
   private boolean hasTimedOutOnNotifyEndOfInput() {
-    final Long startTime = currentNotifyEndOfInputCallStartTime.get();
+    final long startTime = currentNotifyEndOfInputCallStartTime.get();
 
-    if (startTime != null) {
+    if (startTime != NOT_STARTED) {
       // by the time we get here, currentNotifyEndOfInputCallStartTime might have already been reset.
       // this won't be a problem since we are not getting the start time from
       // currentNotifyEndOfInputCallStartTime but from startTime
-      if (System.currentTimeMillis() - startTime > timeout.toMillis()) {
+      if (ticker.read() - startTime > timeout.toNanos()) {
         LOGGER.error("Destination has timed out on notifyEndOfInput call");
         metricClient.count(OssMetricsRegistry.WORKER_DESTINATION_NOTIFY_END_OF_INPUT_TIMEOUT, 1,
             new MetricAttribute(MetricTags.CONNECTION_ID, connectionId.toString()));
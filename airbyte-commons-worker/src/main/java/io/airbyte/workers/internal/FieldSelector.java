@@ -11,6 +11,7 @@ import io.airbyte.protocol.models.AirbyteRecordMessage;
 import io.airbyte.protocol.models.AirbyteStreamNameNamespacePair;
 import io.airbyte.protocol.models.ConfiguredAirbyteCatalog;
 import io.airbyte.workers.RecordSchemaValidator;
+import io.airbyte.workers.RecordSchemaValidator.StreamValidationErrors;
 import io.airbyte.workers.WorkerMetricReporter;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -23,7 +24,6 @@ import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.commons.lang3.tuple.ImmutablePair;
 
 /**
  * Handles FieldSelection.
@@ -35,7 +35,7 @@ public class FieldSelector {
    * validationErrors must be a ConcurrentHashMap as they are updated and read in different threads
    * concurrently for performance.
    */
-  private final ConcurrentHashMap<AirbyteStreamNameNamespacePair, ImmutablePair<Set<String>, Integer>> validationErrors = new ConcurrentHashMap<>();
+  private final ConcurrentHashMap<AirbyteStreamNameNamespacePair, StreamValidationErrors> validationErrors = new ConcurrentHashMap<>();
   private final ConcurrentHashMap<AirbyteStreamNameNamespacePair, Set<String>> uncountedValidationErrors = new ConcurrentHashMap<>();
   private final Map<AirbyteStreamNameNamespacePair, List<String>> streamToSelectedFields = new HashMap<>();
   private final Map<AirbyteStreamNameNamespacePair, Set<String>> streamToAllFields = new HashMap<>();
@@ -120,9 +120,9 @@ public class FieldSelector {
       });
     } else {
       log.info("Schema validation was performed to a max of 10 records with errors per stream.");
-      validationErrors.forEach((stream, errorPair) -> {
-        log.warn("Schema validation errors found for stream {}. Error messages: {}", stream, errorPair.getLeft());
-        metricReporter.trackSchemaValidationErrors(stream, errorPair.getLeft());
+      validationErrors.forEach((stream, errors) -> {
+        log.warn("Schema validation errors found for stream {}. Error messages: {}", stream, errors.getMessages());
+        metricReporter.trackSchemaValidationErrors(stream, errors.getMessages());
       });
     }
     unexpectedFields.forEach((stream, unexpectedFieldNames) -> {
@@ -195,7 +195,8 @@ public class FieldSelector {
     final AirbyteRecordMessage record = message.getRecord();
     final AirbyteStreamNameNamespacePair messageStream = AirbyteStreamNameNamespacePair.fromRecordMessage(record);
     // avoid noise by validating only if the stream has less than 10 records with validation errors
-    final boolean streamHasLessThenTenErrs = validationErrors.get(messageStream) == null || validationErrors.get(messageStream).getRight() < 10;
+    final StreamValidationErrors streamErrors = validationErrors.get(messageStream);
+    final boolean streamHasLessThenTenErrs = streamErrors == null || streamErrors.getCount() < 10;
     if (streamHasLessThenTenErrs) {
       recordSchemaValidator.validateSchema(record, messageStream, validationErrors);
       final Set<String> unexpectedFieldNames = getUnexpectedFieldNames(record, streamToAllFields.get(messageStream));
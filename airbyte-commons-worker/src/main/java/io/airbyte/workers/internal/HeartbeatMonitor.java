@@ -5,11 +5,9 @@
 package io.airbyte.workers.internal;
 
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Ticker;
 import java.time.Duration;
-import java.time.Instant;
 import java.util.Optional;
-import java.util.concurrent.atomic.AtomicReference;
-import java.util.function.Supplier;
 import lombok.Getter;
 
 /**
@@ -17,31 +15,45 @@ import lombok.Getter;
  * dead Jim!
  *
  * It is ThreadSafe.
+ *
+ * A heartbeat is registered for every message read from the source, so beats are tracked on a
+ * monotonic clock without allocating, and the last beat is only updated once per
+ * {@link #beatResolutionNanos}. The time since the last beat may thus be overestimated by that
+ * resolution, which is kept to a small fraction of the freshness threshold.
  */
 public class HeartbeatMonitor {
 
+  private static final Duration MAX_BEAT_RESOLUTION = Duration.ofSeconds(1);
+  private static final int BEAT_RESOLUTIONS_PER_THRESHOLD = 100;
+
   @Getter
   private final Duration heartbeatFreshnessThreshold;
-  private final Supplier<Instant> nowSupplier;
-  private final AtomicReference<Instant> lastBeat;
+  private final Ticker ticker;
+  private final long beatResolutionNanos;
+  private volatile long lastBeatNanos;
 
   public HeartbeatMonitor(final Duration heartbeatFreshnessThreshold) {
-    this(heartbeatFreshnessThreshold, Instant::now);
+    this(heartbeatFreshnessThreshold, Ticker.systemTicker());
   }
 
   @VisibleForTesting
-  public HeartbeatMonitor(final Duration heartbeatFreshnessThreshold, final Supplier<Instant> nowSupplier) {
+  public HeartbeatMonitor(final Duration heartbeatFreshnessThreshold, final Ticker ticker) {
     this.heartbeatFreshnessThreshold = heartbeatFreshnessThreshold;
-    this.nowSupplier = nowSupplier;
-    this.lastBeat = new AtomicReference<>(null);
-    lastBeat.set(nowSupplier.get());
+    this.ticker = ticker;
+    this.beatResolutionNanos =
+        Math.min(MAX_BEAT_RESOLUTION.toNanos(), heartbeatFreshnessThreshold.toNanos() / BEAT_RESOLUTIONS_PER_THRESHOLD);
+    this.lastBeatNanos = ticker.read();
   }
 
   /**
    * Register a heartbeat.
    */
   public void beat() {
-    lastBeat.set(nowSupplier.get());
+    final long now = ticker.read();
+    // skip the volatile write for beats that wouldn't change the answer of isBeating
+    if (now - lastBeatNanos >= beatResolutionNanos) {
+      lastBeatNanos = now;
+    }
   }
 
   /**
@@ -55,16 +67,11 @@ public class HeartbeatMonitor {
   }
 
   /**
-   * Return the time since the last beat. It returns empty is no beat has been performed.
+   * Return the time since the last beat. The monitor counts as a beat when it is created, so it is
+   * always present.
    */
   public Optional<Duration> getTimeSinceLastBeat() {
-    final Instant instantFetched = lastBeat.get();
-
-    if (instantFetched == null) {
-      return Optional.empty();
-    } else {
-      return Optional.ofNullable(Duration.between(lastBeat.get(), nowSupplier.get()));
-    }
+    return Optional.of(Duration.ofNanos(ticker.read() - lastBeatNanos));
   }
 
 }
@@ -36,8 +36,8 @@ public class VersionedAirbyteMessageBufferedWriter<T> extends DefaultAirbyteMess
   @Override
   public void write(final AirbyteMessage message) throws IOException {
     final T downgradedMessage = migrator.downgrade(message, configuredAirbyteCatalog);
-    writer.write(serializer.serialize(downgradedMessage));
-    writer.newLine();
+    serializer.serialize(downgradedMessage, generator);
+    newLine();
   }
 
 }
@@ -224,10 +224,10 @@ public class VersionedAirbyteStreamFactory<T> implements AirbyteStreamFactory {
     return bufferedReader
         .lines()
         .peek(str -> {
-          metricClient.distribution(OssMetricsRegistry.JSON_STRING_LENGTH, str.getBytes(StandardCharsets.UTF_8).length);
+          final long messageSize = str.getBytes(StandardCharsets.UTF_8).length;
+          metricClient.distribution(OssMetricsRegistry.JSON_STRING_LENGTH, messageSize);
 
           if (exceptionClass.isPresent()) {
-            final long messageSize = str.getBytes(StandardCharsets.UTF_8).length;
             if (messageSize > maxMemory * MAX_SIZE_RATIO) {
               final String errorMessage = String.format(
                   "Airbyte has received a message at %s UTC which is larger than %s (size: %s). "
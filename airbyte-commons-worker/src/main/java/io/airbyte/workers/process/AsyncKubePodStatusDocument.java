@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers.process;
+
+import io.airbyte.commons.json.Jsons;
+import java.util.Optional;
+
+/**
+ * Current status of an async orchestrator pod, stored as a single document next to the per-status
+ * documents so that checking the status of a pod takes a single read.
+ * <p>
+ * IMPORTANT: Changing the shape or the location of this document will orphan already existing
+ * kube pods when the new version is deployed.
+ *
+ * @param status latest status reported by the pod
+ * @param outputKey key of the document holding the output of the pod, only set once it succeeded
+ */
+public record AsyncKubePodStatusDocument(AsyncKubePodStatus status, String outputKey) {
+
+  public static final String DOCUMENT_NAME = "STATUS";
+
+  /**
+   * Key of the document holding the given per-status marker, or the output for
+   * {@link AsyncKubePodStatus#SUCCEEDED}. Pods started by older versions only write these.
+   */
+  public static String getDocumentStoreKey(final KubePodInfo kubePodInfo, final AsyncKubePodStatus status) {
+    return getDocumentStoreKey(kubePodInfo, status.name());
+  }
+
+  /**
+   * Key of the consolidated status document.
+   */
+  public static String getDocumentStoreKey(final KubePodInfo kubePodInfo) {
+    return getDocumentStoreKey(kubePodInfo, DOCUMENT_NAME);
+  }
+
+  /**
+   * Parse a consolidated status document.
+   *
+   * @return the status document, or empty if the document can't be parsed.
+   */
+  public static Optional<AsyncKubePodStatusDocument> parse(final String document) {
+    try {
+      return Optional.ofNullable(Jsons.deserialize(document, AsyncKubePodStatusDocument.class))
+          .filter(statusDocument -> statusDocument.status() != null);
+    } catch (final RuntimeException e) {
+      return Optional.empty();
+    }
+  }
+
+  private static String getDocumentStoreKey(final KubePodInfo kubePodInfo, final String name) {
+    return kubePodInfo.namespace() + "/" + kubePodInfo.name() + "/" + name;
+  }
+
+}
@@ -80,6 +80,7 @@ public class AsyncOrchestratorPodProcess implements KubePod {
   private final String dataPlaneCredsSecretName;
   private final String dataPlaneCredsSecretMountPath;
   private final AtomicReference<Optional<Integer>> cachedExitValue;
+  private final AtomicReference<Optional<AsyncKubePodStatusDocument>> lastStatusDocument;
   private final Map<String, String> environmentVariables;
   private final Map<String, String> annotations;
   private final Integer serverPort;
@@ -117,6 +118,7 @@ public class AsyncOrchestratorPodProcess implements KubePod {
     this.dataPlaneCredsSecretMountPath = dataPlaneCredsSecretMountPath;
     this.googleApplicationCredentials = googleApplicationCredentials;
     this.cachedExitValue = new AtomicReference<>(Optional.empty());
+    this.lastStatusDocument = new AtomicReference<>(Optional.empty());
     this.environmentVariables = environmentVariables;
     this.annotations = annotations;
     this.serverPort = serverPort;
@@ -134,7 +136,10 @@ public class AsyncOrchestratorPodProcess implements KubePod {
    * @return output, if exists.
    */
   public Optional<String> getOutput() {
-    final var possibleOutput = getDocument(AsyncKubePodStatus.SUCCEEDED.name());
+    final String outputKey = lastStatusDocument.get()
+        .map(AsyncKubePodStatusDocument::outputKey)
+        .orElseGet(() -> AsyncKubePodStatusDocument.getDocumentStoreKey(getInfo(), AsyncKubePodStatus.SUCCEEDED));
+    final var possibleOutput = documentStoreClient.read(outputKey);
     if (possibleOutput.isPresent() && !possibleOutput.get().isBlank()) {
       return possibleOutput;
     }
@@ -391,20 +396,26 @@ public class AsyncOrchestratorPodProcess implements KubePod {
     };
   }
 
-  private Optional<String> getDocument(final String key) {
-    return documentStoreClient.read(getInfo().namespace() + "/" + getInfo().name() + "/" + key);
-  }
-
   private boolean checkStatus(final AsyncKubePodStatus status) {
-    return getDocument(status.name()).isPresent();
+    return documentStoreClient.read(AsyncKubePodStatusDocument.getDocumentStoreKey(getInfo(), status)).isPresent();
   }
 
   /**
-   * Checks terminal states first, then running, then initialized. Defaults to not started.
+   * Reads the status document written by the pod, which takes a single read.
+   * <p>
+   * Pods started by older versions don't write a status document. For those, checks terminal states
+   * first, then running, then initialized. Defaults to not started.
    * <p>
    * The order matters here!
    */
   public AsyncKubePodStatus getDocStoreStatus() {
+    final Optional<AsyncKubePodStatusDocument> statusDocument =
+        documentStoreClient.read(AsyncKubePodStatusDocument.getDocumentStoreKey(getInfo())).flatMap(AsyncKubePodStatusDocument::parse);
+    if (statusDocument.isPresent()) {
+      lastStatusDocument.set(statusDocument);
+      return statusDocument.get().status();
+    }
+
     if (checkStatus(AsyncKubePodStatus.FAILED)) {
       return AsyncKubePodStatus.FAILED;
     } else if (checkStatus(AsyncKubePodStatus.SUCCEEDED)) {
@@ -38,6 +38,7 @@ import io.airbyte.workload.api.client.model.generated.Workload;
 import io.airbyte.workload.api.client.model.generated.WorkloadCancelRequest;
 import io.airbyte.workload.api.client.model.generated.WorkloadCreateRequest;
 import io.airbyte.workload.api.client.model.generated.WorkloadLabel;
+import io.airbyte.workload.api.client.model.generated.WorkloadPollRequest;
 import io.airbyte.workload.api.client.model.generated.WorkloadStatus;
 import io.airbyte.workload.api.client.model.generated.WorkloadType;
 import io.micronaut.http.HttpStatus;
@@ -138,26 +139,28 @@ public class WorkloadApiWorker implements Worker<ReplicationInput, ReplicationOu
       }
     }
 
-    // Wait until workload reaches a terminal status
-    int i = 0;
-    final Duration sleepInterval = Duration.ofSeconds(featureFlagClient.intVariation(WorkloadPollingInterval.INSTANCE, getFeatureFlagContext()));
+    // Wait until workload reaches a terminal status. The workload API answers as soon as the status
+    // changes, the polling interval only bounds how long a single request is held.
+    final int pollTimeoutSeconds = featureFlagClient.intVariation(WorkloadPollingInterval.INSTANCE, getFeatureFlagContext());
+    WorkloadStatus lastStatus = null;
     Workload workload;
     while (true) {
-      workload = getWorkload(workloadId);
+      workload = pollWorkload(workloadId, lastStatus, pollTimeoutSeconds);
 
-      if (workload.getStatus() != null) {
-        if (TERMINAL_STATUSES.contains(workload.getStatus())) {
-          log.info("Workload {} has returned a terminal status of {}.  Fetching output...", workloadId, workload.getStatus());
-          break;
-        }
+      if (workload.getStatus() == null) {
+        sleep(Duration.ofSeconds(pollTimeoutSeconds).toMillis());
+        continue;
+      }
 
-        if (i % 5 == 0) {
-          i++;
-          log.info("Workload {} is {}", workloadId, workload.getStatus());
-        }
-        i++;
+      if (TERMINAL_STATUSES.contains(workload.getStatus())) {
+        log.info("Workload {} has returned a terminal status of {}.  Fetching output...", workloadId, workload.getStatus());
+        break;
+      }
+
+      if (workload.getStatus() != lastStatus) {
+        log.info("Workload {} is {}", workloadId, workload.getStatus());
+        lastStatus = workload.getStatus();
       }
-      sleep(sleepInterval.toMillis());
     }
 
     if (workload.getStatus() == WorkloadStatus.CANCELLED) {
@@ -275,9 +278,9 @@ public class WorkloadApiWorker implements Worker<ReplicationInput, ReplicationOu
     }
   }
 
-  private Workload getWorkload(final String workloadId) {
+  private Workload pollWorkload(final String workloadId, final WorkloadStatus lastStatus, final int timeoutSeconds) {
     try {
-      return workloadApi.workloadGet(workloadId);
+      return workloadApi.workloadPoll(new WorkloadPollRequest(workloadId, timeoutSeconds, lastStatus));
     } catch (final IOException e) {
       throw new RuntimeException(e);
     }
@@ -27,6 +27,14 @@ private data class SyncStatsCounters(
 class ParallelStreamStatsTracker(private val metricClient: MetricClient) : SyncStatsTracker {
   private val streamTrackers: MutableMap<AirbyteStreamNameNamespacePair, StreamStatsTracker> = ConcurrentHashMap()
   private val syncStatsCounters = SyncStatsCounters()
+
+  // Running totals of the stats of all the named streams, kept up to date by the stream trackers
+  // so that reading the totals doesn't have to go through every stream.
+  private val streamTotals = StreamStatsCounters()
+
+  @Volatile
+  private var hasStreamStats = false
+
   private var expectedEstimateType: Type? = null
 
   @Volatile
@@ -116,34 +124,24 @@ class ParallelStreamStatsTracker(private val metricClient: MetricClient) : SyncS
    */
   fun getTotalStats(hasReplicationCompleted: Boolean = false): SyncStats {
     // For backwards compatibility with existing code which treats null and 0 differently,
-    // if [getAllStreamSyncStats] is empty then treat it as a null itself.
-    // [sumOf] methods handle null values as 0, which is a change that we don't want to make at this time.
-    val streamSyncStats = getAllStreamSyncStats(hasReplicationCompleted).takeIf { it.isNotEmpty() }
-    val bytesCommitted = streamSyncStats?.sumOf { it.stats.bytesCommitted }
-    val recordsCommitted = streamSyncStats?.sumOf { it.stats.recordsCommitted }
-    val bytesEmitted = streamSyncStats?.sumOf { it.stats.bytesEmitted }
-    val recordsEmitted = streamSyncStats?.sumOf { it.stats.recordsEmitted }
+    // if there are no stream stats then report null rather than 0.
+    val totals = streamTotals.takeIf { hasStreamStats }
+    val bytesEmitted = totals?.emittedBytesCount?.get()
+    val recordsEmitted = totals?.emittedRecordsCount?.get()
+    // If the replication has completed, emitted counts/bytes are used as committed counts/bytes.
+    val bytesCommitted = if (hasReplicationCompleted) bytesEmitted else totals?.committedBytesCount?.get()
+    val recordsCommitted = if (hasReplicationCompleted) recordsEmitted else totals?.committedRecordsCount?.get()
     val estimatedBytes =
-      if (!hasEstimatesErrors && expectedEstimateType == Type.SYNC) {
-        syncStatsCounters.estimatedBytesCount.get()
-      } else {
-        streamSyncStats?.mapNotNull { it.stats.estimatedBytes }
-          // mapNotNull with return an empty list if there are no non-null results
-          // we want to treat an empty list as null for backwards compatability reasons,
-          // specifically around treating a 0 and null differently
-          ?.takeIf { it.isNotEmpty() }
-          ?.sumOf { it }
+      when {
+        hasEstimatesErrors -> null
+        expectedEstimateType == Type.SYNC -> syncStatsCounters.estimatedBytesCount.get()
+        else -> totals?.estimatedBytesCount?.get()
       }
     val estimatedRecords =
-      if (!hasEstimatesErrors && expectedEstimateType == Type.SYNC) {
-        syncStatsCounters.estimatedRecordCount.get()
-      } else {
-        streamSyncStats?.mapNotNull { it.stats.estimatedRecords }
-          // mapNotNull with return an empty list if there are no non-null results
-          // we want to treat an empty list as null for backwards compatability reasons,
-          // specifically around treating a 0 and null differently
-          ?.takeIf { it.isNotEmpty() }
-          ?.sumOf { it }
+      when {
+        hasEstimatesErrors -> null
+        expectedEstimateType == Type.SYNC -> syncStatsCounters.estimatedRecordCount.get()
+        else -> totals?.estimatedRecordsCount?.get()
       }
 
     return SyncStats()
@@ -306,7 +304,16 @@ class ParallelStreamStatsTracker(private val metricClient: MetricClient) : SyncS
       // Making sure the stream hasn't been created since the previous check.
       streamTrackers[pair]?.let { return it }
       // if no existing tracker exists, create a new one and also place it into the trackers map
-      return StreamStatsTracker(pair, metricClient).also { streamTrackers[pair] = it }
+      // null name means that those are stats from global states or legacy states, they are not
+      // included in the totals, see [getAllStreamSyncStats].
+      val isNamedStream = pair.name != null
+      return StreamStatsTracker(pair, metricClient, streamTotals.takeIf { isNamedStream })
+        .also {
+          streamTrackers[pair] = it
+          if (isNamedStream) {
+            hasStreamStats = true
+          }
+        }
     }
   }
 
@@ -90,10 +90,14 @@ private val logger = KotlinLogging.logger { }
  * add the current (State, EmittedStatsCounters) to a list. When we see a state message back from
  * the destination, we pop the corresponding EmittedStatsCounters and update the global committed
  * records count.
+ * <p>
+ * If syncTotals is set, the emitted, committed and estimated counts are also added to it so that
+ * the totals across streams can be read without going through every stream.
  */
 class StreamStatsTracker(
   val nameNamespacePair: AirbyteStreamNameNamespacePair,
   private val metricClient: MetricClient,
+  private val syncTotals: StreamStatsCounters? = null,
 ) {
   val streamStats = StreamStatsCounters()
   private val hashFunction = Hashing.murmur3_32_fixed()
@@ -129,6 +133,11 @@ class StreamStatsTracker(
       emittedRecordsCount.incrementAndGet()
       emittedBytesCount.addAndGet(estimatedBytesSize)
     }
+
+    syncTotals?.run {
+      emittedRecordsCount.incrementAndGet()
+      emittedBytesCount.addAndGet(estimatedBytesSize)
+    }
   }
 
   /**
@@ -226,8 +235,14 @@ class StreamStatsTracker(
       stateHashes.remove(stagedStats.stateHash)
 
       // Increment committed stats as we are un-staging stats
-      streamStats.committedBytesCount.addAndGet(stagedStats.emittedStatsCounters.emittedBytesCount.get())
-      streamStats.committedRecordsCount.addAndGet(stagedStats.emittedStatsCounters.remittedRecordsCount.get())
+      val committedBytes = stagedStats.emittedStatsCounters.emittedBytesCount.get()
+      val committedRecords = stagedStats.emittedStatsCounters.remittedRecordsCount.get()
+      streamStats.committedBytesCount.addAndGet(committedBytes)
+      streamStats.committedRecordsCount.addAndGet(committedRecords)
+      syncTotals?.run {
+        committedBytesCount.addAndGet(committedBytes)
+        committedRecordsCount.addAndGet(committedRecords)
+      }
 
       if (stagedStats.stateHash == stateHash) {
         break
@@ -250,11 +265,15 @@ class StreamStatsTracker(
   /**
    * Bookkeeping for when we see an estimate message.
    */
-  fun trackEstimates(msg: AirbyteEstimateTraceMessage): Unit =
-    with(streamStats) {
-      estimatedBytesCount.set(msg.byteEstimate)
-      estimatedRecordsCount.set(msg.rowEstimate)
+  fun trackEstimates(msg: AirbyteEstimateTraceMessage) {
+    // Estimates replace the previous ones, the totals are adjusted by the difference.
+    val previousBytes = streamStats.estimatedBytesCount.getAndSet(msg.byteEstimate)
+    val previousRecords = streamStats.estimatedRecordsCount.getAndSet(msg.rowEstimate)
+    syncTotals?.run {
+      estimatedBytesCount.addAndGet(msg.byteEstimate - previousBytes)
+      estimatedRecordsCount.addAndGet(msg.rowEstimate - previousRecords)
     }
+  }
 }
 
 private fun AirbyteStateMessage.getStateHashCode(hashFunction: HashFunction): Int =
@@ -1,5 +1,6 @@
 package io.airbyte.workers.internal.syncpersistence
 
+import com.fasterxml.jackson.databind.JsonNode
 import datadog.trace.api.Trace
 import io.airbyte.api.client.AirbyteApiClient
 import io.airbyte.api.client.generated.AttemptApi
@@ -23,10 +24,13 @@ import io.airbyte.metrics.lib.MetricClientFactory
 import io.airbyte.metrics.lib.MetricTags
 import io.airbyte.metrics.lib.OssMetricsRegistry
 import io.airbyte.protocol.models.AirbyteEstimateTraceMessage
+import io.airbyte.protocol.models.AirbyteGlobalState
 import io.airbyte.protocol.models.AirbyteRecordMessage
 import io.airbyte.protocol.models.AirbyteStateMessage
+import io.airbyte.protocol.models.AirbyteStreamState
 import io.airbyte.protocol.models.CatalogHelpers
 import io.airbyte.protocol.models.ConfiguredAirbyteCatalog
+import io.airbyte.protocol.models.StreamDescriptor
 import io.airbyte.workers.internal.bookkeeping.SyncStatsTracker
 import io.airbyte.workers.internal.bookkeeping.getPerStreamStats
 import io.airbyte.workers.internal.bookkeeping.getTotalStats
@@ -88,6 +92,12 @@ class SyncPersistenceImpl
     private var statsToPersist: SaveStatsRequestBody? = null
     private var retryWithJitterConfig: RetryWithJitterConfig? = null
 
+    // Stream states as of the last successful state flush, used to only send the streams that changed since then.
+    // Only accessed from the flush paths, which never run concurrently.
+    private val persistedStreamStates = mutableMapOf<StreamDescriptor, JsonNode?>()
+    private var persistedSharedState: JsonNode? = null
+    private var hasPersistedSharedState = false
+
     protected constructor(
       stateApi: StateApi,
       attemptApi: AttemptApi,
@@ -311,12 +321,19 @@ class SyncPersistenceImpl
       val state = stateToFlush?.getAggregated() ?: return
       val maybeStateWrapper = StateMessageHelper.getTypedState(state.state).getOrNull() ?: return
 
+      val stateDelta = getChangedStates(maybeStateWrapper)
+      if (stateDelta == null) {
+        // Everything in the buffer matches what has already been persisted, there is nothing to send.
+        stateToFlush = null
+        return
+      }
+
       metricClient.count(OssMetricsRegistry.STATE_COMMIT_ATTEMPT, 1)
 
       val stateApiRequest =
         ConnectionStateCreateOrUpdate()
           .connectionId(connectionId)
-          .connectionState(StateConverter.toClient(connectionId, maybeStateWrapper))
+          .connectionState(StateConverter.toClient(connectionId, stateDelta))
 
       try {
         stateApi.createOrUpdateState(stateApiRequest)
@@ -327,9 +344,59 @@ class SyncPersistenceImpl
 
       // Only reset stateToFlush if the API call was successful
       stateToFlush = null
+      recordPersistedStates(stateDelta)
       metricClient.count(OssMetricsRegistry.STATE_COMMIT_ATTEMPT_SUCCESSFUL, 1)
     }
 
+    /**
+     * Strip the stream states that are unchanged since the last successful flush.
+     *
+     * The server upserts the streams it receives and leaves the other ones untouched, so omitting unchanged streams
+     * persists the same state while writing fewer rows. The GLOBAL shared state is always sent along with the changed
+     * streams since a missing shared state would be deleted. LEGACY states are a single blob and are sent as is.
+     *
+     * @return the state to send, or null if nothing changed
+     */
+    private fun getChangedStates(stateWrapper: StateWrapper): StateWrapper? =
+      when (stateWrapper.stateType) {
+        StateType.STREAM -> {
+          val changedMessages = stateWrapper.stateMessages.filter { it.stream.hasChanged() }
+          if (changedMessages.isEmpty()) null else StateWrapper().withStateType(StateType.STREAM).withStateMessages(changedMessages)
+        }
+        StateType.GLOBAL -> {
+          val global = stateWrapper.global.global
+          val changedStreams = global.streamStates.filter { it.hasChanged() }
+          if (changedStreams.isEmpty() && hasPersistedSharedState && persistedSharedState == global.sharedState) {
+            null
+          } else {
+            StateWrapper()
+              .withStateType(StateType.GLOBAL)
+              .withGlobal(
+                AirbyteStateMessage()
+                  .withType(AirbyteStateMessage.AirbyteStateType.GLOBAL)
+                  .withGlobal(AirbyteGlobalState().withSharedState(global.sharedState).withStreamStates(changedStreams)),
+              )
+          }
+        }
+        else -> stateWrapper
+      }
+
+    private fun AirbyteStreamState.hasChanged(): Boolean =
+      !persistedStreamStates.containsKey(streamDescriptor) || persistedStreamStates[streamDescriptor] != streamState
+
+    private fun recordPersistedStates(stateWrapper: StateWrapper) {
+      when (stateWrapper.stateType) {
+        StateType.STREAM -> stateWrapper.stateMessages.forEach { persistedStreamStates[it.stream.streamDescriptor] = it.stream.streamState }
+        StateType.GLOBAL -> {
+          val global = stateWrapper.global.global
+          persistedSharedState = global.sharedState
+          hasPersistedSharedState = true
+          global.streamStates.forEach { persistedStreamStates[it.streamDescriptor] = it.streamState }
+        }
+        else -> {}
+      }
+    }
+
     private fun isMigration(
       currentPersistedState: ConnectionState?,
       stateMessage: AirbyteStateMessage,
@@ -5,21 +5,40 @@
 package io.airbyte.workers;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.google.common.collect.ImmutableMap;
+import io.airbyte.commons.json.Jsons;
 import io.airbyte.config.StandardSync;
 import io.airbyte.persistence.job.models.ReplicationInput;
 import io.airbyte.protocol.models.AirbyteMessage;
+import io.airbyte.protocol.models.AirbyteRecordMessage;
 import io.airbyte.protocol.models.AirbyteStreamNameNamespacePair;
+import io.airbyte.validation.json.JsonSchemaValidator;
+import io.airbyte.workers.RecordSchemaValidator.StreamValidationErrors;
 import io.airbyte.workers.test_utils.AirbyteMessageUtils;
 import io.airbyte.workers.test_utils.TestConfigHelpers;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.stream.IntStream;
 import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -34,8 +53,10 @@ class RecordSchemaValidatorTest {
   private static final AirbyteMessage VALID_RECORD = AirbyteMessageUtils.createRecordMessage(STREAM_NAME, FIELD_NAME, "blue");
   private static final AirbyteMessage INVALID_RECORD_1 = AirbyteMessageUtils.createRecordMessage(STREAM_NAME, FIELD_NAME, 3);
   private static final AirbyteMessage INVALID_RECORD_2 = AirbyteMessageUtils.createRecordMessage(STREAM_NAME, ImmutableMap.of(FIELD_NAME, true));
+  private static final int VALIDATION_THREADS = 2;
+  private static final String INDEX_FIELD = "index";
 
-  private ConcurrentHashMap<AirbyteStreamNameNamespacePair, ImmutablePair<Set<String>, Integer>> validationErrors;
+  private ConcurrentHashMap<AirbyteStreamNameNamespacePair, StreamValidationErrors> validationErrors;
   private ConcurrentHashMap<AirbyteStreamNameNamespacePair, Set<String>> uncountedValidationErrors;
 
   @BeforeEach
@@ -77,7 +98,7 @@ class RecordSchemaValidatorTest {
         validationErrors));
     executorService.awaitTermination(3, TimeUnit.SECONDS);
     assertEquals(1, validationErrors.size());
-    assertEquals(2, (int) validationErrors.get(AIRBYTE_STREAM_NAME_NAMESPACE_PAIR).getRight());
+    assertEquals(2, validationErrors.get(AIRBYTE_STREAM_NAME_NAMESPACE_PAIR).getCount());
   }
 
   @Test
@@ -96,4 +117,144 @@ class RecordSchemaValidatorTest {
     assertEquals(2, uncountedValidationErrors.get(AIRBYTE_STREAM_NAME_NAMESPACE_PAIR).size());
   }
 
+  @Test
+  void testStreamsAreValidatedInParallelAndInOrder() throws InterruptedException, IOException {
+    final List<AirbyteStreamNameNamespacePair> streams = getStreamsCoveringAllValidationThreads(2);
+    final int recordsPerStream = 500;
+    final Map<String, List<Integer>> validatedIndexes = new ConcurrentHashMap<>();
+    final Map<String, Set<String>> validationThreads = new ConcurrentHashMap<>();
+    final CountDownLatch allValidated = new CountDownLatch(streams.size() * recordsPerStream);
+    final JsonSchemaValidator jsonSchemaValidator = mock(JsonSchemaValidator.class);
+    when(jsonSchemaValidator.validateInitializedSchema(anyString(), any())).thenAnswer(invocation -> {
+      final String schemaName = invocation.getArgument(0);
+      validatedIndexes.computeIfAbsent(schemaName, k -> Collections.synchronizedList(new ArrayList<>()))
+          .add(invocation.<JsonNode>getArgument(1).get(INDEX_FIELD).asInt());
+      validationThreads.computeIfAbsent(schemaName, k -> ConcurrentHashMap.newKeySet()).add(Thread.currentThread().getName());
+      allValidated.countDown();
+      return Set.of();
+    });
+
+    // A small queue, so that the caller is also blocked by backpressure along the way.
+    try (final var recordSchemaValidator = new RecordSchemaValidator(toSchemas(streams), VALIDATION_THREADS, 10, jsonSchemaValidator)) {
+      for (int i = 0; i < recordsPerStream; i++) {
+        for (final AirbyteStreamNameNamespacePair stream : streams) {
+          recordSchemaValidator.validateSchema(createRecord(stream, i), stream, validationErrors);
+        }
+      }
+
+      assertTrue(allValidated.await(30, TimeUnit.SECONDS));
+    }
+
+    final Set<String> allThreads = new HashSet<>();
+    for (final AirbyteStreamNameNamespacePair stream : streams) {
+      assertEquals(IntStream.range(0, recordsPerStream).boxed().toList(), validatedIndexes.get(stream.toString()));
+      // A stream is always validated by the same thread.
+      assertEquals(1, validationThreads.get(stream.toString()).size());
+      allThreads.addAll(validationThreads.get(stream.toString()));
+    }
+    assertEquals(VALIDATION_THREADS, allThreads.size());
+    assertEquals(0, validationErrors.size());
+  }
+
+  @Test
+  void testCallerBlocksWhenTheValidationQueueIsFull() throws InterruptedException, IOException {
+    final List<AirbyteStreamNameNamespacePair> streams = getStreamsCoveringAllValidationThreads(1);
+    final AirbyteStreamNameNamespacePair blockedStream = streams.get(0);
+    final AirbyteStreamNameNamespacePair otherStream = streams.get(1);
+    final int queueSize = 3;
+    final int recordsPerStream = 20;
+    final Map<String, List<Integer>> validatedIndexes = new ConcurrentHashMap<>();
+    final CountDownLatch blockedStreamStarted = new CountDownLatch(1);
+    final CountDownLatch releaseBlockedStream = new CountDownLatch(1);
+    final CountDownLatch otherStreamValidated = new CountDownLatch(recordsPerStream);
+    final CountDownLatch blockedStreamValidated = new CountDownLatch(recordsPerStream);
+    final JsonSchemaValidator jsonSchemaValidator = mock(JsonSchemaValidator.class);
+    when(jsonSchemaValidator.validateInitializedSchema(anyString(), any())).thenAnswer(invocation -> {
+      final String schemaName = invocation.getArgument(0);
+      if (schemaName.equals(blockedStream.toString())) {
+        blockedStreamStarted.countDown();
+        releaseBlockedStream.await();
+      }
+      validatedIndexes.computeIfAbsent(schemaName, k -> Collections.synchronizedList(new ArrayList<>()))
+          .add(invocation.<JsonNode>getArgument(1).get(INDEX_FIELD).asInt());
+      (schemaName.equals(blockedStream.toString()) ? blockedStreamValidated : otherStreamValidated).countDown();
+      return Set.of();
+    });
+
+    try (final var recordSchemaValidator = new RecordSchemaValidator(toSchemas(streams), VALIDATION_THREADS, queueSize, jsonSchemaValidator)) {
+      final AtomicInteger submitted = new AtomicInteger();
+      final Thread blockedSubmitter = new Thread(() -> {
+        for (int i = 0; i < recordsPerStream; i++) {
+          recordSchemaValidator.validateSchema(createRecord(blockedStream, i), blockedStream, validationErrors);
+          submitted.incrementAndGet();
+        }
+      });
+      blockedSubmitter.setDaemon(true);
+      blockedSubmitter.start();
+
+      // Once the validation thread holds the first record, only queueSize more records are accepted
+      // before the caller blocks.
+      assertTrue(blockedStreamStarted.await(10, TimeUnit.SECONDS));
+      assertTrue(waitFor(() -> blockedSubmitter.getState() == Thread.State.WAITING));
+      assertEquals(1 + queueSize, submitted.get());
+
+      // The other validation thread keeps going while the first one is stuck.
+      for (int i = 0; i < recordsPerStream; i++) {
+        recordSchemaValidator.validateSchema(createRecord(otherStream, i), otherStream, validationErrors);
+      }
+      assertTrue(otherStreamValidated.await(10, TimeUnit.SECONDS));
+      assertEquals(1 + queueSize, submitted.get());
+
+      releaseBlockedStream.countDown();
+      blockedSubmitter.join(TimeUnit.SECONDS.toMillis(10));
+      assertEquals(recordsPerStream, submitted.get());
+      assertTrue(blockedStreamValidated.await(10, TimeUnit.SECONDS));
+    }
+
+    for (final AirbyteStreamNameNamespacePair stream : streams) {
+      assertEquals(IntStream.range(0, recordsPerStream).boxed().toList(), validatedIndexes.get(stream.toString()));
+    }
+  }
+
+  /**
+   * Picks streams so that each validation thread gets the given number of them, since streams are
+   * assigned to threads by hash.
+   */
+  private static List<AirbyteStreamNameNamespacePair> getStreamsCoveringAllValidationThreads(final int streamsPerThread) {
+    final Map<Integer, List<AirbyteStreamNameNamespacePair>> streamsByThread = new HashMap<>();
+    for (int i = 0; streamsByThread.values().stream().mapToInt(List::size).sum() < VALIDATION_THREADS * streamsPerThread; i++) {
+      final var stream = new AirbyteStreamNameNamespacePair("stream_" + i, "namespace");
+      final List<AirbyteStreamNameNamespacePair> threadStreams =
+          streamsByThread.computeIfAbsent(Math.floorMod(stream.hashCode(), VALIDATION_THREADS), k -> new ArrayList<>());
+      if (threadStreams.size() < streamsPerThread) {
+        threadStreams.add(stream);
+      }
+    }
+    return streamsByThread.values().stream().flatMap(List::stream).toList();
+  }
+
+  private static Map<AirbyteStreamNameNamespacePair, JsonNode> toSchemas(final List<AirbyteStreamNameNamespacePair> streams) {
+    final Map<AirbyteStreamNameNamespacePair, JsonNode> schemas = new HashMap<>();
+    streams.forEach(stream -> schemas.put(stream, Jsons.jsonNode(Map.of("type", "object"))));
+    return schemas;
+  }
+
+  private static AirbyteRecordMessage createRecord(final AirbyteStreamNameNamespacePair stream, final int index) {
+    return new AirbyteRecordMessage()
+        .withStream(stream.getName())
+        .withNamespace(stream.getNamespace())
+        .withData(Jsons.jsonNode(Map.of(INDEX_FIELD, index)));
+  }
+
+  private static boolean waitFor(final BooleanSupplier condition) throws InterruptedException {
+    final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+    while (!condition.getAsBoolean()) {
+      if (System.nanoTime() > deadline) {
+        return false;
+      }
+      Thread.sleep(10);
+    }
+    return true;
+  }
+
 }
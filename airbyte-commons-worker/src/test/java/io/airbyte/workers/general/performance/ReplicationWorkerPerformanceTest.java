@@ -60,6 +60,7 @@ import io.airbyte.workers.process.IntegrationLauncher;
 import io.airbyte.workers.workload.WorkloadIdGenerator;
 import io.airbyte.workload.api.client.generated.WorkloadApi;
 import io.micronaut.context.event.ApplicationEventListener;
+import java.lang.management.ManagementFactory;
 import java.nio.file.Path;
 import java.time.Duration;
 import java.util.List;
@@ -101,6 +102,8 @@ public abstract class ReplicationWorkerPerformanceTest {
    * <p>
    * Because the reported time does not explicitly include throughput numbers, throughput logging has
    * been added. This class is intended to help devs understand the impact of changes on throughput.
+   * Process CPU time is logged as well, to catch changes that keep throughput flat but burn more CPU
+   * (e.g. busy waiting between pipeline stages).
    * <p>
    * To use this, simply run the main method, make yourself a cup of coffee for 5 mins, then look the
    * logs.
@@ -211,14 +214,18 @@ public abstract class ReplicationWorkerPerformanceTest {
       }
     });
 
+    final var osBean = (com.sun.management.OperatingSystemMXBean) ManagementFactory.getOperatingSystemMXBean();
+    final long cpuTimeStartNs = osBean.getProcessCpuTime();
     workerThread.start();
     workerThread.join();
+    final long cpuTimeNs = osBean.getProcessCpuTime() - cpuTimeStartNs;
     final var summary = output.get().getReplicationAttemptSummary();
     final var mbRead = summary.getBytesSynced() / 1_000_000;
     final var timeTakenMs = (summary.getEndTime() - summary.getStartTime());
     final var timeTakenSec = timeTakenMs / 1000.0;
     final var recReadSec = summary.getRecordsSynced() / timeTakenSec;
     log.info("MBs read: {}, Time taken sec: {}, MB/s: {}, records/s: {}", mbRead, timeTakenSec, mbRead / timeTakenSec, recReadSec);
+    log.info("CPU time sec: {}, CPU ns/record: {}", cpuTimeNs / 1_000_000_000.0, cpuTimeNs / Math.max(1, summary.getRecordsSynced()));
   }
 
 }
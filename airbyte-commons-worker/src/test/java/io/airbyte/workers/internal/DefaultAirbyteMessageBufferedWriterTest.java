@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers.internal;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.protocol.models.AirbyteMessage;
+import io.airbyte.workers.test_utils.AirbyteMessageUtils;
+import java.io.BufferedWriter;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class DefaultAirbyteMessageBufferedWriterTest {
+
+  private static final String STREAM_NAME = "user_preferences";
+
+  private static final List<AirbyteMessage> MESSAGES = List.of(
+      AirbyteMessageUtils.createRecordMessage(STREAM_NAME, "favorite_color", "blue"),
+      AirbyteMessageUtils.createRecordMessage(STREAM_NAME, Map.of("quote", "a\"b", "control", "a\n\tb", "unicode", "\u00e9\u4e2d")),
+      AirbyteMessageUtils.createStateMessage(STREAM_NAME, "checkpoint", "1"),
+      AirbyteMessageUtils.createRecordMessage(STREAM_NAME, 42));
+
+  @Test
+  void testWritesTheSameBytesAsSerializingEachMessage() throws IOException {
+    final ByteArrayOutputStream expected = new ByteArrayOutputStream();
+    try (final BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(expected, StandardCharsets.UTF_8))) {
+      for (final AirbyteMessage message : MESSAGES) {
+        writer.write(Jsons.serialize(message));
+        writer.newLine();
+      }
+    }
+
+    final ByteArrayOutputStream actual = new ByteArrayOutputStream();
+    final AirbyteMessageBufferedWriter messageWriter =
+        new DefaultAirbyteMessageBufferedWriter(new BufferedWriter(new OutputStreamWriter(actual, StandardCharsets.UTF_8)));
+    for (final AirbyteMessage message : MESSAGES) {
+      messageWriter.write(message);
+    }
+    messageWriter.close();
+
+    assertArrayEquals(expected.toByteArray(), actual.toByteArray());
+  }
+
+  @Test
+  void testFlushMakesMessagesVisible() throws IOException {
+    final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    final AirbyteMessageBufferedWriter messageWriter =
+        new DefaultAirbyteMessageBufferedWriter(new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8)));
+
+    messageWriter.write(MESSAGES.get(0));
+    messageWriter.flush();
+
+    assertEquals(Jsons.serialize(MESSAGES.get(0)) + System.lineSeparator(), output.toString(StandardCharsets.UTF_8));
+  }
+
+}
@@ -7,7 +7,9 @@ package io.airbyte.workers.internal;
 import static io.airbyte.metrics.lib.OssMetricsRegistry.WORKER_DESTINATION_ACCEPT_TIMEOUT;
 import static io.airbyte.metrics.lib.OssMetricsRegistry.WORKER_DESTINATION_NOTIFY_END_OF_INPUT_TIMEOUT;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
@@ -128,4 +130,86 @@ class DestinationTimeoutMonitorTest {
     verify(metricClient, never()).count(eq(WORKER_DESTINATION_NOTIFY_END_OF_INPUT_TIMEOUT), anyLong(), any(MetricAttribute.class));
   }
 
+  @Test
+  void testAcceptTimesOutOnlyAfterTimeout() {
+    final FakeTicker ticker = new FakeTicker();
+    final DestinationTimeoutMonitor destinationTimeoutMonitor = new DestinationTimeoutMonitor(
+        UUID.randomUUID(),
+        UUID.randomUUID(),
+        metricClient,
+        Duration.ofMinutes(5),
+        true,
+        Duration.ofMinutes(1),
+        ticker);
+
+    destinationTimeoutMonitor.startAcceptTimer();
+    ticker.advance(Duration.ofMinutes(5));
+    assertFalse(destinationTimeoutMonitor.hasTimedOut());
+
+    ticker.advance(Duration.ofNanos(1));
+    assertTrue(destinationTimeoutMonitor.hasTimedOut());
+
+    verify(metricClient).count(eq(WORKER_DESTINATION_ACCEPT_TIMEOUT), eq(1L), any(MetricAttribute.class));
+    verify(metricClient, never()).count(eq(WORKER_DESTINATION_NOTIFY_END_OF_INPUT_TIMEOUT), anyLong(), any(MetricAttribute.class));
+  }
+
+  @Test
+  void testAcceptTimerRestartsOnEveryCall() {
+    final FakeTicker ticker = new FakeTicker();
+    final DestinationTimeoutMonitor destinationTimeoutMonitor = new DestinationTimeoutMonitor(
+        UUID.randomUUID(),
+        UUID.randomUUID(),
+        metricClient,
+        Duration.ofMinutes(5),
+        true,
+        Duration.ofMinutes(1),
+        ticker);
+
+    // many quick calls add up to more than the timeout, without any of them timing out
+    for (int i = 0; i < 1000; i++) {
+      destinationTimeoutMonitor.startAcceptTimer();
+      ticker.advance(Duration.ofSeconds(1));
+      destinationTimeoutMonitor.resetAcceptTimer();
+      assertFalse(destinationTimeoutMonitor.hasTimedOut());
+    }
+
+    // no call in progress
+    ticker.advance(Duration.ofHours(1));
+    assertFalse(destinationTimeoutMonitor.hasTimedOut());
+
+    destinationTimeoutMonitor.startAcceptTimer();
+    ticker.advance(Duration.ofMinutes(4));
+    assertFalse(destinationTimeoutMonitor.hasTimedOut());
+
+    verify(metricClient, never()).count(eq(WORKER_DESTINATION_ACCEPT_TIMEOUT), anyLong(), any(MetricAttribute.class));
+  }
+
+  @Test
+  void testNotifyEndOfInputTimesOutOnlyAfterTimeout() {
+    final FakeTicker ticker = new FakeTicker();
+    final DestinationTimeoutMonitor destinationTimeoutMonitor = new DestinationTimeoutMonitor(
+        UUID.randomUUID(),
+        UUID.randomUUID(),
+        metricClient,
+        Duration.ofMinutes(5),
+        true,
+        Duration.ofMinutes(1),
+        ticker);
+
+    destinationTimeoutMonitor.startNotifyEndOfInputTimer();
+    ticker.advance(Duration.ofMinutes(5));
+    assertFalse(destinationTimeoutMonitor.hasTimedOut());
+
+    destinationTimeoutMonitor.resetNotifyEndOfInputTimer();
+    ticker.advance(Duration.ofMinutes(5));
+    assertFalse(destinationTimeoutMonitor.hasTimedOut());
+
+    destinationTimeoutMonitor.startNotifyEndOfInputTimer();
+    ticker.advance(Duration.ofMinutes(6));
+    assertTrue(destinationTimeoutMonitor.hasTimedOut());
+
+    verify(metricClient, never()).count(eq(WORKER_DESTINATION_ACCEPT_TIMEOUT), anyLong(), any(MetricAttribute.class));
+    verify(metricClient).count(eq(WORKER_DESTINATION_NOTIFY_END_OF_INPUT_TIMEOUT), eq(1L), any(MetricAttribute.class));
+  }
+
 }
@@ -0,0 +1,27 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers.internal;
+
+import com.google.common.base.Ticker;
+import java.time.Duration;
+
+/**
+ * Ticker only moving forward when told to, for deterministic tests of time based monitors.
+ */
+class FakeTicker extends Ticker {
+
+  // start away from zero, like System.nanoTime() would
+  private long nanos = Duration.ofDays(1).toNanos();
+
+  @Override
+  public long read() {
+    return nanos;
+  }
+
+  void advance(final Duration duration) {
+    nanos += duration.toNanos();
+  }
+
+}
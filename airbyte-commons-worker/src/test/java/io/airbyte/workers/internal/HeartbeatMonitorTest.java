@@ -4,12 +4,7 @@
 
 package io.airbyte.workers.internal;
 
-import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.when;
-
 import java.time.Duration;
-import java.time.Instant;
-import java.util.function.Supplier;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -18,41 +13,60 @@ class HeartbeatMonitorTest {
 
   private static final Duration HEART_BEAT_FRESH_DURATION = Duration.ofSeconds(30);
 
-  private static final Instant NOW = Instant.now();
-  private static final Instant FIVE_SECONDS_BEFORE = NOW.minusSeconds(5);
-  private static final Instant THIRTY_SECONDS_BEFORE = NOW.minusSeconds(30);
-
-  private Supplier<Instant> nowSupplier;
+  private FakeTicker ticker;
   private HeartbeatMonitor heartbeatMonitor;
 
-  @SuppressWarnings("unchecked")
   @BeforeEach
   void setup() {
-    nowSupplier = mock(Supplier.class);
-    heartbeatMonitor = new HeartbeatMonitor(HEART_BEAT_FRESH_DURATION, nowSupplier);
+    ticker = new FakeTicker();
+    heartbeatMonitor = new HeartbeatMonitor(HEART_BEAT_FRESH_DURATION, ticker);
   }
 
   @Test
   void testNeverBeat() {
-    when(nowSupplier.get()).thenReturn(THIRTY_SECONDS_BEFORE).thenReturn(NOW);
-    heartbeatMonitor = new HeartbeatMonitor(HEART_BEAT_FRESH_DURATION, nowSupplier);
+    ticker.advance(Duration.ofSeconds(30));
+    Assertions.assertThat(heartbeatMonitor.getTimeSinceLastBeat()).hasValue(Duration.ofSeconds(30));
     Assertions.assertThat(heartbeatMonitor.isBeating()).hasValue(false);
   }
 
   @Test
   void testFreshBeat() {
-    when(nowSupplier.get()).thenReturn(FIVE_SECONDS_BEFORE).thenReturn(NOW);
+    ticker.advance(Duration.ofMinutes(1));
     heartbeatMonitor.beat();
+    ticker.advance(Duration.ofSeconds(5));
     Assertions.assertThat(heartbeatMonitor.getTimeSinceLastBeat()).hasValue(Duration.ofSeconds(5));
     Assertions.assertThat(heartbeatMonitor.isBeating()).hasValue(true);
   }
 
   @Test
   void testStaleBeat() {
-    when(nowSupplier.get()).thenReturn(THIRTY_SECONDS_BEFORE).thenReturn(NOW);
+    ticker.advance(Duration.ofMinutes(1));
     heartbeatMonitor.beat();
+    ticker.advance(Duration.ofSeconds(30));
     Assertions.assertThat(heartbeatMonitor.getTimeSinceLastBeat()).hasValue(Duration.ofSeconds(30));
     Assertions.assertThat(heartbeatMonitor.isBeating()).hasValue(false);
   }
 
+  @Test
+  void testBeatsWithinResolutionAreSampled() {
+    // the resolution is 300ms for a 30s threshold
+    ticker.advance(Duration.ofMillis(200));
+    heartbeatMonitor.beat();
+    Assertions.assertThat(heartbeatMonitor.getTimeSinceLastBeat()).hasValue(Duration.ofMillis(200));
+
+    ticker.advance(Duration.ofMillis(100));
+    heartbeatMonitor.beat();
+    Assertions.assertThat(heartbeatMonitor.getTimeSinceLastBeat()).hasValue(Duration.ZERO);
+  }
+
+  @Test
+  void testStaysFreshWhenBeatingFasterThanResolution() {
+    for (int i = 0; i < 1000; i++) {
+      ticker.advance(Duration.ofMillis(100));
+      heartbeatMonitor.beat();
+      Assertions.assertThat(heartbeatMonitor.getTimeSinceLastBeat().orElseThrow()).isLessThan(Duration.ofMillis(300));
+    }
+    Assertions.assertThat(heartbeatMonitor.isBeating()).hasValue(true);
+  }
+
 }
@@ -386,6 +386,37 @@ class ParallelStreamStatsTrackerTest {
     assertEquals(0L, statsTracker.getTotalRecordsEstimated());
   }
 
+  @Test
+  void testTotalsMatchTheSumOfStreamStats() {
+    for (int i = 0; i < 50; i++) {
+      final String streamName = "stream_" + i;
+      for (int j = 0; j <= i % 7; j++) {
+        statsTracker.updateStats(createRecord(streamName, "value" + j));
+      }
+      final var state = createStreamState(streamName, i);
+      statsTracker.updateSourceStatesStats(state, false);
+      statsTracker.updateStats(createRecord(streamName, "uncommitted"));
+      if (i % 3 == 0) {
+        statsTracker.updateDestinationStateStats(state, false);
+      }
+      statsTracker.updateEstimates(createEstimate(streamName, 100L, 10L));
+      statsTracker.updateEstimates(createEstimate(streamName, (long) i, 1L));
+    }
+
+    for (final boolean hasReplicationCompleted : List.of(false, true)) {
+      final List<StreamSyncStats> streamSyncStats = statsTracker.getAllStreamSyncStats(hasReplicationCompleted);
+      final SyncStats expected = new SyncStats()
+          .withRecordsEmitted(streamSyncStats.stream().mapToLong(s -> s.getStats().getRecordsEmitted()).sum())
+          .withBytesEmitted(streamSyncStats.stream().mapToLong(s -> s.getStats().getBytesEmitted()).sum())
+          .withRecordsCommitted(streamSyncStats.stream().mapToLong(s -> s.getStats().getRecordsCommitted()).sum())
+          .withBytesCommitted(streamSyncStats.stream().mapToLong(s -> s.getStats().getBytesCommitted()).sum())
+          .withEstimatedRecords(streamSyncStats.stream().mapToLong(s -> s.getStats().getEstimatedRecords()).sum())
+          .withEstimatedBytes(streamSyncStats.stream().mapToLong(s -> s.getStats().getEstimatedBytes()).sum());
+      assertEquals(expected, statsTracker.getTotalStats(hasReplicationCompleted));
+    }
+    assertEquals(50L, statsTracker.getTotalRecordsEstimated());
+  }
+
   @Test
   void testStreamEstimates() {
     final var estimateStream1Message1 = createEstimate(STREAM1_NAME, 1L, 1L);
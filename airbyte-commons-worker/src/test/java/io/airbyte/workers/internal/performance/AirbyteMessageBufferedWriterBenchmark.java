@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers.internal.performance;
+
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.protocol.models.AirbyteMessage;
+import io.airbyte.workers.internal.AirbyteMessageBufferedWriter;
+import io.airbyte.workers.internal.DefaultAirbyteMessageBufferedWriter;
+import io.airbyte.workers.test_utils.AirbyteMessageUtils;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares writing records to a destination by serializing each message to a String first (the
+ * previous behavior of {@link DefaultAirbyteMessageBufferedWriter}) against streaming them through
+ * the writer's Jackson generator.
+ * <p>
+ * Run the main method. It enables the GC profiler so that the allocation rate per operation
+ * (gc.alloc.rate.norm) is reported alongside the throughput.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class AirbyteMessageBufferedWriterBenchmark {
+
+  @Param({"10", "500"})
+  public int columns;
+
+  private AirbyteMessage message;
+  private BufferedWriter stringWriter;
+  private AirbyteMessageBufferedWriter streamingWriter;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    final Map<String, String> record = new HashMap<>();
+    for (int i = 0; i < columns; i++) {
+      record.put("column_" + i, "some value of a reasonable length for column " + i);
+    }
+    message = AirbyteMessageUtils.createRecordMessage("benchmark_stream", record);
+    stringWriter = new BufferedWriter(new OutputStreamWriter(OutputStream.nullOutputStream(), StandardCharsets.UTF_8));
+    streamingWriter = new DefaultAirbyteMessageBufferedWriter(
+        new BufferedWriter(new OutputStreamWriter(OutputStream.nullOutputStream(), StandardCharsets.UTF_8)));
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws IOException {
+    stringWriter.close();
+    streamingWriter.close();
+  }
+
+  @Benchmark
+  public void serializeToString() throws IOException {
+    stringWriter.write(Jsons.serialize(message));
+    stringWriter.newLine();
+  }
+
+  @Benchmark
+  public void streamThroughGenerator() throws IOException {
+    streamingWriter.write(message);
+  }
+
+  public static void main(final String[] args) throws Exception {
+    org.openjdk.jmh.Main.main(new String[] {AirbyteMessageBufferedWriterBenchmark.class.getSimpleName(), "-prof", "gc"});
+  }
+
+}
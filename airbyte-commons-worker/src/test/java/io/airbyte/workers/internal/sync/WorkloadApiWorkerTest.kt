@@ -23,9 +23,11 @@ import io.airbyte.workers.workload.JobOutputDocStore
 import io.airbyte.workers.workload.WorkloadIdGenerator
 import io.airbyte.workload.api.client.generated.WorkloadApi
 import io.airbyte.workload.api.client.model.generated.Workload
+import io.airbyte.workload.api.client.model.generated.WorkloadPollRequest
 import io.airbyte.workload.api.client.model.generated.WorkloadStatus
 import io.mockk.every
 import io.mockk.mockk
+import io.mockk.verifyOrder
 import org.junit.jupiter.api.Assertions.assertEquals
 import org.junit.jupiter.api.BeforeEach
 import org.junit.jupiter.api.Test
@@ -85,7 +87,7 @@ internal class WorkloadApiWorkerTest {
 
     every { connectionApi.getConnection(any()) } returns ConnectionRead().geography(Geography.US)
     every { workloadApi.workloadCreate(any()) } returns Unit
-    every { workloadApi.workloadGet(workloadId) } returns mockWorkload(WorkloadStatus.SUCCESS)
+    every { workloadApi.workloadPoll(any()) } returns mockWorkload(WorkloadStatus.SUCCESS)
 
     every { documentStoreClient.read("$expectedDocPrefix/SUCCEEDED") } returns Optional.of(Jsons.serialize(expectedOutput))
 
@@ -93,6 +95,41 @@ internal class WorkloadApiWorkerTest {
     assertEquals(expectedOutput, output)
   }
 
+  @Test
+  fun testReplicationPollsWithLastKnownStatus() {
+    val jobId = 13L
+    val attemptNumber = 37
+    val workloadId = "my-workload"
+    val expectedDocPrefix = "testNs/orchestrator-repl-job-$jobId-attempt-$attemptNumber"
+    val expectedOutput =
+      ReplicationOutput()
+        .withReplicationAttemptSummary(ReplicationAttemptSummary().withStatus(StandardSyncSummary.ReplicationStatus.COMPLETED))
+    initializeReplicationInput(jobId, attemptNumber)
+
+    every { workloadIdGenerator.generateSyncWorkloadId(replicationInput.connectionId, jobId, attemptNumber) } returns workloadId
+
+    every { connectionApi.getConnection(any()) } returns ConnectionRead().geography(Geography.US)
+    every { workloadApi.workloadCreate(any()) } returns Unit
+    every { workloadApi.workloadPoll(any()) } returnsMany
+      listOf(
+        mockWorkload(WorkloadStatus.PENDING),
+        mockWorkload(WorkloadStatus.RUNNING),
+        mockWorkload(WorkloadStatus.RUNNING),
+        mockWorkload(WorkloadStatus.SUCCESS),
+      )
+
+    every { documentStoreClient.read("$expectedDocPrefix/SUCCEEDED") } returns Optional.of(Jsons.serialize(expectedOutput))
+
+    val output = workloadApiWorker.run(replicationInput, jobRoot)
+    assertEquals(expectedOutput, output)
+    verifyOrder {
+      workloadApi.workloadPoll(WorkloadPollRequest(workloadId, 30, null))
+      workloadApi.workloadPoll(WorkloadPollRequest(workloadId, 30, WorkloadStatus.PENDING))
+      workloadApi.workloadPoll(WorkloadPollRequest(workloadId, 30, WorkloadStatus.RUNNING))
+      workloadApi.workloadPoll(WorkloadPollRequest(workloadId, 30, WorkloadStatus.RUNNING))
+    }
+  }
+
   @Test
   fun testFailedReplicationWithOutput() {
     val jobId = 13L
@@ -108,7 +145,7 @@ internal class WorkloadApiWorkerTest {
 
     every { connectionApi.getConnection(any()) } returns ConnectionRead().geography(Geography.US)
     every { workloadApi.workloadCreate(any()) } returns Unit
-    every { workloadApi.workloadGet(workloadId) } returns mockWorkload(WorkloadStatus.FAILURE)
+    every { workloadApi.workloadPoll(any()) } returns mockWorkload(WorkloadStatus.FAILURE)
 
     every { documentStoreClient.read("$expectedDocPrefix/SUCCEEDED") } returns Optional.of(Jsons.serialize(expectedOutput))
 
@@ -143,7 +180,7 @@ internal class WorkloadApiWorkerTest {
 
     every { connectionApi.getConnection(any()) } returns ConnectionRead().geography(Geography.US)
     every { workloadApi.workloadCreate(any()) } returns Unit
-    every { workloadApi.workloadGet(workloadId) } returns mockWorkload(WorkloadStatus.SUCCESS)
+    every { workloadApi.workloadPoll(any()) } returns mockWorkload(WorkloadStatus.SUCCESS)
 
     every { jobOutputDocStore.readSyncOutput(workloadId) } returns Optional.of(expectedOutput)
 
@@ -166,7 +203,7 @@ internal class WorkloadApiWorkerTest {
 
     every { connectionApi.getConnection(any()) } returns ConnectionRead().geography(Geography.US)
     every { workloadApi.workloadCreate(any()) } throws ServerException(statusCode = 409)
-    every { workloadApi.workloadGet(workloadId) } returns mockWorkload(WorkloadStatus.SUCCESS)
+    every { workloadApi.workloadPoll(any()) } returns mockWorkload(WorkloadStatus.SUCCESS)
 
     every { documentStoreClient.read("$expectedDocPrefix/SUCCEEDED") } returns Optional.of(Jsons.serialize(expectedOutput))
 
@@ -186,7 +223,7 @@ internal class WorkloadApiWorkerTest {
 
     every { connectionApi.getConnection(any()) } returns ConnectionRead().geography(Geography.US)
     every { workloadApi.workloadCreate(any()) } returns Unit
-    every { workloadApi.workloadGet(workloadId) } returns mockWorkload(WorkloadStatus.SUCCESS)
+    every { workloadApi.workloadPoll(any()) } returns mockWorkload(WorkloadStatus.SUCCESS)
     every { documentStoreClient.read("$expectedDocPrefix/SUCCEEDED") } returns Optional.empty()
 
     assertThrows<WorkerException> { workloadApiWorker.run(replicationInput, jobRoot) }
@@ -203,7 +240,7 @@ internal class WorkloadApiWorkerTest {
 
     every { connectionApi.getConnection(any()) } returns ConnectionRead().geography(Geography.US)
     every { workloadApi.workloadCreate(any()) } returns Unit
-    every { workloadApi.workloadGet(workloadId) } returns
+    every { workloadApi.workloadPoll(any()) } returns
       mockWorkload(
         WorkloadStatus.CANCELLED,
         terminationSource = "user",
@@ -224,7 +261,7 @@ internal class WorkloadApiWorkerTest {
 
     every { connectionApi.getConnection(any()) } returns ConnectionRead().geography(Geography.US)
     every { workloadApi.workloadCreate(any()) } returns Unit
-    every { workloadApi.workloadGet(workloadId) } returns
+    every { workloadApi.workloadPoll(any()) } returns
       mockWorkload(
         WorkloadStatus.FAILURE,
         terminationSource = "airbyte_platform",
@@ -245,7 +282,7 @@ internal class WorkloadApiWorkerTest {
 
     every { connectionApi.getConnection(any()) } returns ConnectionRead().geography(Geography.US)
     every { workloadApi.workloadCreate(any()) } returns Unit
-    every { workloadApi.workloadGet(workloadId) } returns
+    every { workloadApi.workloadPoll(any()) } returns
       mockWorkload(
         WorkloadStatus.FAILURE,
         terminationSource = "source",
@@ -266,7 +303,7 @@ internal class WorkloadApiWorkerTest {
 
     every { connectionApi.getConnection(any()) } returns ConnectionRead().geography(Geography.US)
     every { workloadApi.workloadCreate(any()) } returns Unit
-    every { workloadApi.workloadGet(workloadId) } returns
+    every { workloadApi.workloadPoll(any()) } returns
       mockWorkload(
         WorkloadStatus.FAILURE,
         terminationSource = "destination",
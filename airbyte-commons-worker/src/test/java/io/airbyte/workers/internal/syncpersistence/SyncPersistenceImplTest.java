@@ -181,6 +181,53 @@ class SyncPersistenceImplTest {
     verify(stateApi, never()).createOrUpdateState(any());
   }
 
+  @Test
+  void testOnlyStreamsChangedSinceLastFlushAreSent() throws ApiException {
+    final AirbyteStateMessage stateA1 = getStreamState("A", 1);
+    final AirbyteStateMessage stateB1 = getStreamState("B", 1);
+    syncPersistence.persist(connectionId, stateA1);
+    syncPersistence.persist(connectionId, stateB1);
+    actualFlushMethod.getValue().run();
+    verifyStateUpdateApiCall(List.of(stateA1, stateB1));
+    clearInvocations(stateApi);
+
+    // A is re-emitted with the same value, only B changed
+    final AirbyteStateMessage stateB2 = getStreamState("B", 2);
+    syncPersistence.persist(connectionId, getStreamState("A", 1));
+    syncPersistence.persist(connectionId, stateB2);
+    actualFlushMethod.getValue().run();
+    verifyStateUpdateApiCall(List.of(stateB2));
+    clearInvocations(stateApi);
+
+    // Nothing changed, the API should not be called
+    syncPersistence.persist(connectionId, getStreamState("B", 2));
+    actualFlushMethod.getValue().run();
+    verify(stateApi, never()).createOrUpdateState(any());
+  }
+
+  @Test
+  void testGlobalStateAlwaysSendsTheSharedStateWithChangedStreams() throws ApiException {
+    final ArgumentCaptor<ConnectionStateCreateOrUpdate> captor = ArgumentCaptor.forClass(ConnectionStateCreateOrUpdate.class);
+
+    syncPersistence.persist(connectionId, getGlobalState(1, List.of(getStreamState("A", 1), getStreamState("B", 1))));
+    actualFlushMethod.getValue().run();
+    verify(stateApi).createOrUpdateState(captor.capture());
+    assertEquals(2, captor.getValue().getConnectionState().getGlobalState().getStreamStates().size());
+    clearInvocations(stateApi);
+
+    syncPersistence.persist(connectionId, getGlobalState(1, List.of(getStreamState("A", 1), getStreamState("B", 2))));
+    actualFlushMethod.getValue().run();
+    verify(stateApi).createOrUpdateState(captor.capture());
+    assertEquals(Jsons.deserialize("{\"globalState\":1}"), captor.getValue().getConnectionState().getGlobalState().getSharedState());
+    assertEquals(List.of("B"), captor.getValue().getConnectionState().getGlobalState().getStreamStates().stream()
+        .map(s -> s.getStreamDescriptor().getName()).toList());
+    clearInvocations(stateApi);
+
+    syncPersistence.persist(connectionId, getGlobalState(1, List.of(getStreamState("A", 1), getStreamState("B", 2))));
+    actualFlushMethod.getValue().run();
+    verify(stateApi, never()).createOrUpdateState(any());
+  }
+
   @Test
   void testStatsFlushBasicEmissions() throws ApiException {
     syncPersistence.updateStats(new AirbyteRecordMessage());
@@ -602,6 +649,12 @@ class SyncPersistenceImplTest {
         .withGlobal(new AirbyteGlobalState().withSharedState(Jsons.deserialize("{\"globalState\":" + stateValue + "}")));
   }
 
+  private AirbyteStateMessage getGlobalState(final int stateValue, final List<AirbyteStateMessage> streamStates) {
+    final AirbyteStateMessage message = getGlobalState(stateValue);
+    message.getGlobal().setStreamStates(streamStates.stream().map(AirbyteStateMessage::getStream).toList());
+    return message;
+  }
+
   private AirbyteStateMessage getLegacyState(final String stateValue) {
     return new AirbyteStateMessage().withType(LEGACY)
         .withData(Jsons.deserialize("{\"state\":\"" + stateValue + "\"}"));
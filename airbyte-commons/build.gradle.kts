@@ -22,9 +22,13 @@ dependencies {
     // this dependency is an exception to the above rule because it is only used INTERNALLY to the commons library.
     implementation("com.jayway.jsonpath:json-path:2.7.0")
 
+    testAnnotationProcessor(libs.jmh.annotations)
+
     testRuntimeOnly(libs.junit.jupiter.engine)
     testImplementation(libs.bundles.junit)
     testImplementation(libs.assertj.core)
+    testImplementation(libs.jmh.core)
+    testImplementation(libs.jmh.annotations)
 
     testImplementation(libs.junit.pioneer)
 }
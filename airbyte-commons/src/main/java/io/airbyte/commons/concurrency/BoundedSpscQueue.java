@@ -0,0 +1,225 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.commons.concurrency;
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A bounded, lock-free, single-producer/single-consumer ring buffer that can be closed.
+ * <p>
+ * This is meant for hand-offs between exactly two threads, such as the stages of the
+ * BufferedReplicationWorker pipeline. Unlike {@link BoundedConcurrentLinkedQueue}, adding an
+ * element does not take a lock, and a thread that has to wait (consumer on an empty buffer,
+ * producer on a full one) parks until the other side makes progress instead of spinning or sleeping
+ * for a fixed interval.
+ * <p>
+ * Only one thread may call the offer methods and only one thread may call the poll methods. Any
+ * thread may call {@link #close()}, {@link #isClosed()}, {@link #isDone()} and {@link #size()}.
+ * Closing the buffer from a thread other than the producer may drop an element that was being
+ * offered concurrently; this only happens on failure paths where the pipeline is being torn down.
+ */
+public class BoundedSpscQueue<T> {
+
+  private final Object[] buffer;
+  private final int mask;
+  private final int capacity;
+
+  // Index of the next slot to read. Only written by the consumer.
+  private final AtomicLong head;
+  // Index of the next slot to write. Only written by the producer.
+  private final AtomicLong tail;
+
+  // Each side keeps a stale copy of the other side's index to avoid reading the shared counter on
+  // every operation. They are only accessed by their owning thread.
+  private long cachedHead;
+  private long cachedTail;
+
+  private volatile boolean closed;
+  private volatile Thread parkedConsumer;
+  private volatile Thread parkedProducer;
+
+  public BoundedSpscQueue(final int maxSize) {
+    if (maxSize <= 0) {
+      throw new IllegalArgumentException("maxSize must be positive, was " + maxSize);
+    }
+    this.capacity = maxSize;
+    // The backing array is rounded up to a power of two so that slots can be computed with a mask.
+    this.buffer = new Object[Integer.highestOneBit(Math.max(1, maxSize - 1)) << 1];
+    this.mask = buffer.length - 1;
+    this.head = new AtomicLong();
+    this.tail = new AtomicLong();
+  }
+
+  /**
+   * Inserts the element if the buffer is open and not full. Never blocks.
+   *
+   * @param e the element to add
+   * @return true if the element was added
+   */
+  public boolean offer(final T e) {
+    Objects.requireNonNull(e);
+    if (closed) {
+      return false;
+    }
+    final long t = tail.get();
+    if (t - cachedHead >= capacity) {
+      cachedHead = head.get();
+      if (t - cachedHead >= capacity) {
+        return false;
+      }
+    }
+    buffer[(int) (t & mask)] = e;
+    // Volatile write so that it is ordered before the read of parkedConsumer below.
+    tail.set(t + 1);
+    final Thread consumer = parkedConsumer;
+    if (consumer != null) {
+      LockSupport.unpark(consumer);
+    }
+    return true;
+  }
+
+  /**
+   * Inserts the element, parking the calling thread while the buffer is full, up to the given
+   * timeout.
+   *
+   * @param e the element to add
+   * @param timeout how long to wait for free space
+   * @param unit unit of the timeout
+   * @return true if the element was added, false if the buffer was closed or the timeout elapsed
+   * @throws InterruptedException if interrupted while waiting
+   */
+  public boolean offer(final T e, final long timeout, final TimeUnit unit) throws InterruptedException {
+    if (offer(e)) {
+      return true;
+    }
+    final long deadline = System.nanoTime() + unit.toNanos(timeout);
+    parkedProducer = Thread.currentThread();
+    try {
+      while (true) {
+        if (offer(e)) {
+          return true;
+        }
+        if (closed) {
+          return false;
+        }
+        final long remaining = deadline - System.nanoTime();
+        if (remaining <= 0) {
+          return false;
+        }
+        LockSupport.parkNanos(this, remaining);
+        if (Thread.interrupted()) {
+          throw new InterruptedException();
+        }
+      }
+    } finally {
+      parkedProducer = null;
+    }
+  }
+
+  /**
+   * Retrieves and removes the head of this buffer. Never blocks.
+   *
+   * @return the head of this buffer, or null if it is empty
+   */
+  @SuppressWarnings("unchecked")
+  public T poll() {
+    final long h = head.get();
+    if (h >= cachedTail) {
+      cachedTail = tail.get();
+      if (h >= cachedTail) {
+        return null;
+      }
+    }
+    final int index = (int) (h & mask);
+    final T e = (T) buffer[index];
+    buffer[index] = null;
+    // Volatile write so that it is ordered before the read of parkedProducer below.
+    head.set(h + 1);
+    final Thread producer = parkedProducer;
+    if (producer != null) {
+      LockSupport.unpark(producer);
+    }
+    return e;
+  }
+
+  /**
+   * Retrieves and removes the head of this buffer, parking the calling thread while it is empty, up
+   * to the given timeout.
+   *
+   * @param timeout how long to wait for an element
+   * @param unit unit of the timeout
+   * @return the head of this buffer, or null if the buffer is done or the timeout elapsed
+   * @throws InterruptedException if interrupted while waiting
+   */
+  public T poll(final long timeout, final TimeUnit unit) throws InterruptedException {
+    T e = poll();
+    if (e != null) {
+      return e;
+    }
+    final long deadline = System.nanoTime() + unit.toNanos(timeout);
+    parkedConsumer = Thread.currentThread();
+    try {
+      while (true) {
+        e = poll();
+        if (e != null) {
+          return e;
+        }
+        if (isDone()) {
+          return null;
+        }
+        final long remaining = deadline - System.nanoTime();
+        if (remaining <= 0) {
+          return null;
+        }
+        LockSupport.parkNanos(this, remaining);
+        if (Thread.interrupted()) {
+          throw new InterruptedException();
+        }
+      }
+    } finally {
+      parkedConsumer = null;
+    }
+  }
+
+  public int size() {
+    // Read head first: it can only grow, so the difference can never be negative.
+    final long h = head.get();
+    return (int) (tail.get() - h);
+  }
+
+  /**
+   * Returns true if the buffer is done. A buffer is done when closed and empty.
+   */
+  public boolean isDone() {
+    // closed must be read before the size so that elements added before close are not missed.
+    return closed && size() == 0;
+  }
+
+  /**
+   * Close the buffer. Waiting threads are woken up.
+   */
+  public void close() {
+    closed = true;
+    final Thread consumer = parkedConsumer;
+    if (consumer != null) {
+      LockSupport.unpark(consumer);
+    }
+    final Thread producer = parkedProducer;
+    if (producer != null) {
+      LockSupport.unpark(producer);
+    }
+  }
+
+  /**
+   * Returns true if the buffer is closed.
+   */
+  public boolean isClosed() {
+    return closed;
+  }
+
+}
@@ -7,6 +7,7 @@ package io.airbyte.commons.json;
 import static java.util.Collections.singletonMap;
 import static java.util.stream.Collectors.toMap;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.core.util.DefaultPrettyPrinter;
@@ -15,6 +16,7 @@ import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.JsonNodeFactory;
 import com.fasterxml.jackson.databind.node.ObjectNode;
@@ -23,6 +25,7 @@ import com.google.common.base.Preconditions;
 import io.airbyte.commons.jackson.MoreMappers;
 import java.io.File;
 import java.io.IOException;
+import java.io.Writer;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
@@ -57,6 +60,11 @@ public class Jsons {
   }
 
   private static final ObjectWriter OBJECT_WRITER = OBJECT_MAPPER.writer(new JsonPrettyPrinter());
+  /**
+   * Writer used to stream many values onto the same generator. Flushing is left to the caller so the
+   * underlying writer can buffer across values.
+   */
+  private static final ObjectWriter STREAMING_OBJECT_WRITER = OBJECT_MAPPER.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
 
   /**
    * Serialize an object to a JSON string.
@@ -73,6 +81,37 @@ public class Jsons {
     }
   }
 
+  /**
+   * Create a generator to stream values to a writer with {@link #serialize(Object, JsonGenerator)}.
+   * Values are written back to back without any separator, so each value produces the same output
+   * as {@link #serialize(Object)}. Closing the generator closes the writer.
+   *
+   * @param writer to write to
+   * @return generator backed by the writer
+   */
+  public static JsonGenerator createGenerator(final Writer writer) {
+    try {
+      final JsonGenerator generator = OBJECT_MAPPER.getFactory().createGenerator(writer);
+      generator.setRootValueSeparator(null);
+      return generator;
+    } catch (final IOException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  /**
+   * Serialize an object to a JSON generator without building an intermediate String. The generator
+   * is not flushed.
+   *
+   * @param object to serialize
+   * @param generator to write to, see {@link #createGenerator(Writer)}
+   * @param <T> type of object
+   * @throws IOException if writing to the generator fails
+   */
+  public static <T> void serialize(final T object, final JsonGenerator generator) throws IOException {
+    STREAMING_OBJECT_WRITER.writeValue(generator, object);
+  }
+
   /**
    * Deserialize a JSON string to an object with a type.
    *
@@ -307,9 +346,78 @@ public class Jsons {
    * the string to byte[] and use the length of the byte[]. However, this conversion is expensive in
    * memory consumption. Given that the byte size of the serialized JSON is already an estimation of
    * the actual size of the JSON object, using a cheap operation seems an acceptable compromise.
+   * <p>
+   * The length is computed by walking the tree rather than serializing it, and matches the length of
+   * {@link #serialize(Object)} for the node.
    */
   public static int getEstimatedByteSize(final JsonNode jsonNode) {
-    return serialize(jsonNode).length();
+    return (int) getSerializedLength(jsonNode);
+  }
+
+  private static long getSerializedLength(final JsonNode jsonNode) {
+    switch (jsonNode.getNodeType()) {
+      case OBJECT -> {
+        // opening and closing braces
+        long length = 2;
+        final Iterator<Entry<String, JsonNode>> fields = jsonNode.fields();
+        boolean first = true;
+        while (fields.hasNext()) {
+          final Entry<String, JsonNode> field = fields.next();
+          // separating comma and the colon between key and value
+          length += (first ? 0 : 1) + getQuotedLength(field.getKey()) + 1 + getSerializedLength(field.getValue());
+          first = false;
+        }
+        return length;
+      }
+      case ARRAY -> {
+        // opening and closing brackets, plus the separating commas
+        long length = 2 + Math.max(0, jsonNode.size() - 1);
+        for (final JsonNode element : jsonNode) {
+          length += getSerializedLength(element);
+        }
+        return length;
+      }
+      case STRING -> {
+        return getQuotedLength(jsonNode.textValue());
+      }
+      case NUMBER -> {
+        if (jsonNode.isBigDecimal()) {
+          // BigDecimals are written as plain strings, see MoreMappers.
+          return jsonNode.decimalValue().toPlainString().length();
+        }
+        final long length = jsonNode.asText().length();
+        // NaN and infinities are written as quoted strings.
+        return jsonNode.isFloatingPointNumber() && !Double.isFinite(jsonNode.doubleValue()) ? length + 2 : length;
+      }
+      case BOOLEAN -> {
+        return jsonNode.booleanValue() ? 4 : 5;
+      }
+      case NULL -> {
+        return 4;
+      }
+      default -> {
+        // binary, pojo and missing nodes are rare enough that we do not special case them.
+        return serialize(jsonNode).length();
+      }
+    }
+  }
+
+  /**
+   * Length of a string once quoted and escaped the way Jackson does by default: quotes, backslashes
+   * and control characters are escaped, everything else is written as is.
+   */
+  private static long getQuotedLength(final String value) {
+    long length = value.length() + 2;
+    for (int i = 0; i < value.length(); i++) {
+      final char c = value.charAt(i);
+      if (c == '"' || c == '\\' || c == '\b' || c == '\t' || c == '\n' || c == '\f' || c == '\r') {
+        length += 1;
+      } else if (c < 0x20) {
+        // written as a six character unicode escape
+        length += 5;
+      }
+    }
+    return length;
   }
 
   /**
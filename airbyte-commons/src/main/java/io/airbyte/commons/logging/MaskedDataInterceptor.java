@@ -7,13 +7,18 @@ package io.airbyte.commons.logging;
 import static io.airbyte.commons.constants.AirbyteCatalogConstants.LOCAL_SECRETS_MASKS_PATH;
 
 import com.fasterxml.jackson.core.type.TypeReference;
+import com.google.common.annotations.VisibleForTesting;
 import io.airbyte.commons.constants.AirbyteSecretConstants;
 import io.airbyte.commons.json.Jsons;
 import io.airbyte.commons.yaml.Yamls;
 import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import org.apache.commons.io.IOUtils;
 import org.apache.logging.log4j.Logger;
@@ -33,6 +38,10 @@ import org.apache.logging.log4j.status.StatusLogger;
  * The maskable properties file is generated by a Gradle task in the {@code :airbyte-config:specs}
  * project. The file is named {@code specs_secrets_mask.yaml} and is located in the
  * {@code src/main/resources/seed} directory of the {@code :airbyte-config:init} project.
+ * <p>
+ * Most log messages contain none of the maskable properties. Before running the regular expression,
+ * messages are scanned for a quoted string equal to one of the properties, and messages without one
+ * are passed through as is.
  */
 @Plugin(name = "MaskedDataInterceptor",
         category = "Core",
@@ -42,10 +51,21 @@ public class MaskedDataInterceptor implements RewritePolicy {
 
   protected static final Logger logger = StatusLogger.getLogger();
 
+  /**
+   * Characters that give a property a special meaning in the generated regular expression.
+   */
+  private static final String REGEX_METACHARACTERS = "\\.[]{}()*+?^$|";
+
   /**
    * The pattern used to determine if a message contains sensitive data.
    */
-  private final Optional<String> pattern;
+  private final Optional<Pattern> pattern;
+
+  /**
+   * The maskable properties indexed by their length, or null if a message can't be pre-filtered and
+   * must always be checked against the pattern.
+   */
+  private final List<String>[] propertiesByLength;
 
   @PluginFactory
   public static MaskedDataInterceptor createPolicy(
@@ -55,17 +75,30 @@ public class MaskedDataInterceptor implements RewritePolicy {
   }
 
   private MaskedDataInterceptor(final String specMaskFile) {
-    this.pattern = buildPattern(specMaskFile);
+    final Set<String> maskableProperties = getMaskableProperties(specMaskFile);
+    this.pattern = buildPattern(maskableProperties);
+    this.propertiesByLength = indexByLength(maskableProperties);
   }
 
   @Override
   public LogEvent rewrite(final LogEvent source) {
+    if (pattern.isEmpty()) {
+      return source;
+    }
+    final String message = source.getMessage().getFormattedMessage();
+    if (!mayContainMaskableProperty(message)) {
+      return source;
+    }
+    final Matcher matcher = pattern.get().matcher(message);
+    if (!matcher.find()) {
+      return source;
+    }
     return Log4jLogEvent.newBuilder()
         .setLoggerName(source.getLoggerName())
         .setMarker(source.getMarker())
         .setLoggerFqcn(source.getLoggerFqcn())
         .setLevel(source.getLevel())
-        .setMessage(new SimpleMessage(applyMask(source.getMessage().getFormattedMessage())))
+        .setMessage(new SimpleMessage(applyMask(matcher)))
         .setThrown(source.getThrown())
         .setContextMap(source.getContextMap())
         .setContextStack(source.getContextStack())
@@ -76,17 +109,45 @@ public class MaskedDataInterceptor implements RewritePolicy {
   }
 
   /**
-   * Applies the mask to the message, if necessary.
+   * Applies the mask to the message.
+   *
+   * @param matcher The matcher of the pattern over the log message.
+   * @return The masked log message.
+   */
+  private String applyMask(final Matcher matcher) {
+    return matcher.replaceAll("\"$1\":\"" + AirbyteSecretConstants.SECRETS_MASK + "\"");
+  }
+
+  /**
+   * Cheaply checks whether the message could match the pattern. The pattern only matches a maskable
+   * property between double quotes, so every string between two consecutive double quotes is compared
+   * to the properties of the same length, ignoring case.
    *
    * @param message The log message.
-   * @return The possibly masked log message.
+   * @return False if the message can't contain a maskable property, true otherwise.
    */
-  private String applyMask(final String message) {
-    if (pattern.isPresent()) {
-      return message.replaceAll(pattern.get(), "\"$1\":\"" + AirbyteSecretConstants.SECRETS_MASK + "\"");
-    } else {
-      return message;
+  @VisibleForTesting
+  boolean mayContainMaskableProperty(final String message) {
+    if (propertiesByLength == null) {
+      return true;
+    }
+    int open = message.indexOf('"');
+    while (open >= 0) {
+      final int close = message.indexOf('"', open + 1);
+      if (close < 0) {
+        return false;
+      }
+      final int length = close - open - 1;
+      if (length < propertiesByLength.length && propertiesByLength[length] != null) {
+        for (final String property : propertiesByLength[length]) {
+          if (message.regionMatches(true, open + 1, property, 0, length)) {
+            return true;
+          }
+        }
+      }
+      open = close;
     }
+    return false;
   }
 
   /**
@@ -110,12 +171,37 @@ public class MaskedDataInterceptor implements RewritePolicy {
   /**
    * Builds the maskable property matching pattern.
    *
-   * @param specMaskFile The spec mask file.
+   * @param maskableProperties The maskable properties.
    * @return The regular expression pattern used to find maskable properties.
    */
-  private Optional<String> buildPattern(final String specMaskFile) {
-    final Set<String> maskableProperties = getMaskableProperties(specMaskFile);
-    return !maskableProperties.isEmpty() ? Optional.of(generatePattern(maskableProperties)) : Optional.empty();
+  private Optional<Pattern> buildPattern(final Set<String> maskableProperties) {
+    return !maskableProperties.isEmpty() ? Optional.of(Pattern.compile(generatePattern(maskableProperties))) : Optional.empty();
+  }
+
+  /**
+   * Indexes the maskable properties by length for {@link #mayContainMaskableProperty(String)}.
+   *
+   * @param maskableProperties The maskable properties.
+   * @return The properties indexed by length, or null if a property is not a plain string and can
+   *         only be matched by the pattern.
+   */
+  @SuppressWarnings("unchecked")
+  private static List<String>[] indexByLength(final Set<String> maskableProperties) {
+    int maxLength = 0;
+    for (final String property : maskableProperties) {
+      if (property.isEmpty() || property.chars().anyMatch(c -> c == '"' || REGEX_METACHARACTERS.indexOf(c) >= 0)) {
+        return null;
+      }
+      maxLength = Math.max(maxLength, property.length());
+    }
+    final List<String>[] propertiesByLength = new List[maxLength + 1];
+    for (final String property : maskableProperties) {
+      if (propertiesByLength[property.length()] == null) {
+        propertiesByLength[property.length()] = new ArrayList<>();
+      }
+      propertiesByLength[property.length()].add(property);
+    }
+    return propertiesByLength;
   }
 
   /**
@@ -0,0 +1,189 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.commons.concurrency;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class BoundedSpscQueueTest {
+
+  private static final int defaultMaxSize = 3;
+
+  private record Record(int value) {}
+
+  private final Record record1 = new Record(1);
+  private final Record record2 = new Record(2);
+  private final Record record3 = new Record(3);
+
+  private BoundedSpscQueue<Record> getQueue(final int maxSize) {
+    return new BoundedSpscQueue<>(maxSize);
+  }
+
+  @Test
+  void testBasicOfferPollBehavior() {
+    final BoundedSpscQueue<Record> queue = getQueue(defaultMaxSize);
+
+    final List<Record> records = List.of(
+        new Record(1),
+        new Record(2),
+        new Record(3),
+        new Record(4));
+
+    final List<Boolean> insertionResults = records.stream().map(queue::offer).toList();
+
+    // The last item is false because defaultMax size is 3 so the last insert should fail
+    assertEquals(List.of(true, true, true, false), insertionResults);
+
+    queue.close();
+
+    final List<Record> readRecords = new ArrayList<>();
+    while (!queue.isDone()) {
+      readRecords.add(queue.poll());
+    }
+    assertEquals(records.subList(0, 3), readRecords);
+  }
+
+  @Test
+  void testBasicOfferPoll() {
+    final BoundedSpscQueue<Record> queue = getQueue(2);
+
+    assertEquals(0, queue.size());
+    queue.offer(record1);
+    assertEquals(1, queue.size());
+    queue.offer(record2);
+    assertEquals(2, queue.size());
+
+    assertEquals(record1, queue.poll());
+    assertEquals(1, queue.size());
+    assertEquals(record2, queue.poll());
+    assertEquals(0, queue.size());
+
+    assertNull(queue.poll());
+    // Extra poll shouldn't decrement the size
+    assertEquals(0, queue.size());
+  }
+
+  @Test
+  void testOfferReturnsFalseIfQueueIsFull() {
+    final BoundedSpscQueue<Record> queue = getQueue(1);
+
+    assertTrue(queue.offer(new Record(42)));
+    assertFalse(queue.offer(new Record(43)));
+
+    // Extra offer shouldn't increment the size
+    assertEquals(1, queue.size());
+  }
+
+  @Test
+  void testAQueueIsDoneIfItIsEmptyAndClosed() {
+    final BoundedSpscQueue<Record> queue = getQueue(2);
+
+    queue.offer(record3);
+    assertFalse(queue.isDone());
+    queue.offer(record1);
+    assertFalse(queue.isDone());
+
+    queue.poll();
+    queue.poll();
+    assertFalse(queue.isDone());
+
+    queue.offer(record2);
+    assertFalse(queue.isDone());
+
+    assertFalse(queue.isClosed());
+    queue.close();
+    assertTrue(queue.isClosed());
+    assertFalse(queue.isDone());
+
+    queue.poll();
+    assertTrue(queue.isDone());
+  }
+
+  @Test
+  void testOfferToClosedQueueFails() {
+    final BoundedSpscQueue<Record> queue = getQueue(defaultMaxSize);
+
+    assertTrue(queue.offer(record1));
+    queue.close();
+    assertFalse(queue.offer(record2));
+    assertEquals(1, queue.size());
+  }
+
+  @Test
+  void testOfferingNullIsRejected() {
+    final BoundedSpscQueue<Record> queue = getQueue(defaultMaxSize);
+
+    queue.offer(record3);
+    assertThrows(NullPointerException.class, () -> queue.offer(null));
+    queue.offer(record2);
+    assertEquals(2, queue.size());
+  }
+
+  @Test
+  void testTimedPollAndOfferExpire() throws InterruptedException {
+    final BoundedSpscQueue<Record> queue = getQueue(1);
+
+    assertNull(queue.poll(10, TimeUnit.MILLISECONDS));
+    assertTrue(queue.offer(record1, 10, TimeUnit.MILLISECONDS));
+    assertFalse(queue.offer(record2, 10, TimeUnit.MILLISECONDS));
+    assertEquals(record1, queue.poll(10, TimeUnit.MILLISECONDS));
+  }
+
+  @Test
+  void testCloseWakesUpParkedConsumer() throws Exception {
+    final BoundedSpscQueue<Record> queue = getQueue(defaultMaxSize);
+
+    final CompletableFuture<Record> polled = CompletableFuture.supplyAsync(() -> {
+      try {
+        return queue.poll(1, TimeUnit.MINUTES);
+      } catch (final InterruptedException e) {
+        throw new RuntimeException(e);
+      }
+    });
+    queue.close();
+
+    assertNull(polled.get(10, TimeUnit.SECONDS));
+  }
+
+  @Test
+  void testHandOffPreservesOrderAcrossThreads() throws Exception {
+    final BoundedSpscQueue<Record> queue = getQueue(16);
+    final int count = 100_000;
+
+    final CompletableFuture<Void> producer = CompletableFuture.runAsync(() -> {
+      try {
+        for (int i = 0; i < count; i++) {
+          while (!queue.offer(new Record(i), 100, TimeUnit.MILLISECONDS)) {
+            // retry until there is room
+          }
+        }
+      } catch (final InterruptedException e) {
+        throw new RuntimeException(e);
+      } finally {
+        queue.close();
+      }
+    });
+
+    int expected = 0;
+    while (!queue.isDone()) {
+      final Record record = queue.poll(100, TimeUnit.MILLISECONDS);
+      if (record != null) {
+        assertEquals(expected++, record.value());
+      }
+    }
+    producer.get(10, TimeUnit.SECONDS);
+    assertEquals(count, expected);
+  }
+
+}
@@ -266,6 +266,22 @@ class JsonsTest {
     assertEquals(Jsons.toBytes(json).length, Jsons.getEstimatedByteSize(json));
   }
 
+  @Test
+  void testGetEstimatedByteSizeMatchesSerializedLength() {
+    final List<String> inputs = List.of(
+        "{\"quote\":\"a\\\"b\",\"backslash\":\"a\\\\b\",\"control\":\"a\\n\\t\\u0001b\",\"unicode\":\"\u00e9\u4e2d\"}",
+        "{\"numbers\":[1,-2,2.5,1.0E-7,-3e10,12345678901234567890],\"booleans\":[true,false],\"nothing\":null}",
+        "{\"nested\":{\"empty_object\":{},\"empty_array\":[],\"deep\":{\"deeper\":[{\"a\":1},{\"b\":\"c\"}]}}}",
+        "[]",
+        "\"\"");
+    for (final String input : inputs) {
+      final JsonNode json = Jsons.deserialize(input);
+      assertEquals(Jsons.serialize(json).length(), Jsons.getEstimatedByteSize(json), input);
+      final JsonNode exactJson = Jsons.tryDeserializeExact(input, JsonNode.class).orElseThrow();
+      assertEquals(Jsons.serialize(exactJson).length(), Jsons.getEstimatedByteSize(exactJson), input);
+    }
+  }
+
   @Test
   void testFlatten__noArrays() {
     final JsonNode json = Jsons.deserialize("{ \"abc\": { \"def\": \"ghi\" }, \"jkl\": true, \"pqr\": 1 }");
@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.commons.logging;
+
+import static io.airbyte.commons.constants.AirbyteCatalogConstants.LOCAL_SECRETS_MASKS_PATH;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import io.airbyte.commons.constants.AirbyteSecretConstants;
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.commons.yaml.Yamls;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.apache.commons.io.IOUtils;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.impl.Log4jLogEvent;
+import org.apache.logging.log4j.message.SimpleMessage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares masking a corpus of connector log messages by running the regular expression over every
+ * message and rebuilding every event (the previous behavior of {@link MaskedDataInterceptor})
+ * against the interceptor, which skips messages that can't contain a maskable property.
+ * <p>
+ * The mask file is the one used in production, downloaded into the seed resources by the build.
+ * Run the main method. It enables the GC profiler so that the allocation rate per operation
+ * (gc.alloc.rate.norm) is reported alongside the average time.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class MaskedDataInterceptorBenchmark {
+
+  /**
+   * Messages typically logged by the platform and by connectors during a sync. Only a few of them
+   * contain a configuration with secrets.
+   */
+  private static final List<String> CONNECTOR_LOGS = List.of(
+      "Starting source: io.airbyte.integrations.source.postgres.PostgresSource",
+      "integration args: {read=null, catalog=source_catalog.json, state=input_state.json, config=source_config.json}",
+      "Command: READ",
+      "Running integration: io.airbyte.integrations.base.ssh.SshWrappedSource",
+      "Set initial fetch size: 10 rows",
+      "Max memory limit: 8589934592, JDBC buffer size: 1073741824",
+      "Table users column id (type int4[10], nullable false) -> JsonSchemaType({\"type\":\"number\",\"airbyte_type\":\"integer\"})",
+      "Queueing query for table: users",
+      "Reading stream users. Records read: 10000",
+      "Reading stream users. Records read: 20000",
+      "Records read: 25000 (12 MB)",
+      "Stream users: cursor field updated_at, cursor value 2023-08-01T00:00:00Z",
+      "{\"type\":\"STATE\",\"state\":{\"type\":\"STREAM\",\"stream\":{\"stream_descriptor\":{\"name\":\"users\",\"namespace\":\"public\"},"
+          + "\"stream_state\":{\"cursor\":\"2023-08-01T00:00:00Z\",\"cursor_field\":[\"updated_at\"]}}}}",
+      "Completed integration: io.airbyte.integrations.source.postgres.PostgresSource",
+      "Backing off _send(...) for 5.0s (requests.exceptions.HTTPError: 429 Client Error: Too Many Requests for url: https://api.example.com/v1/users)",
+      "Syncing stream: users ",
+      "Read 1520 records from users stream",
+      "Finished syncing users",
+      "SourceShopify runtimes:\nSyncing stream users 0:00:04.512038",
+      "Checking connection with config: {\"host\":\"db.example.com\",\"port\":5432,\"database\":\"app\",\"username\":\"airbyte\","
+          + "\"password\":\"hunter2\",\"ssl\":true,\"tunnel_method\":{\"tunnel_method\":\"SSH_KEY_AUTH\",\"ssh_key\":\"-----BEGIN KEY-----\"}}",
+      "Writing to S3 with config {\"s3_bucket_name\":\"my-bucket\",\"access_key_id\":\"AKIA0000\",\"secret_access_key\":\"abcd\"}");
+
+  private static final List<String> LOGS_WITHOUT_SECRETS = CONNECTOR_LOGS.stream()
+      .filter(message -> !message.contains("password") && !message.contains("secret"))
+      .toList();
+
+  @Param({"withoutSecrets", "mixed"})
+  public String corpus;
+
+  private List<LogEvent> events;
+  private MaskedDataInterceptor interceptor;
+  private String pattern;
+
+  @Setup(org.openjdk.jmh.annotations.Level.Trial)
+  public void setup() throws IOException {
+    events = ("mixed".equals(corpus) ? CONNECTOR_LOGS : LOGS_WITHOUT_SECRETS).stream()
+        .map(message -> (LogEvent) Log4jLogEvent.newBuilder()
+            .setLoggerName("io.airbyte.workers.general.DefaultReplicationWorker")
+            .setLevel(Level.INFO)
+            .setMessage(new SimpleMessage(message))
+            .setThreadName("replication-worker")
+            .setTimeMillis(System.currentTimeMillis())
+            .build())
+        .toList();
+    interceptor = MaskedDataInterceptor.createPolicy(LOCAL_SECRETS_MASKS_PATH);
+
+    final String maskFileContents = IOUtils.toString(getClass().getResourceAsStream(LOCAL_SECRETS_MASKS_PATH), StandardCharsets.UTF_8);
+    final Map<String, Set<String>> properties = Jsons.object(Yamls.deserialize(maskFileContents), new TypeReference<>() {});
+    pattern = "(?i)\"(" + String.join("|", properties.get("properties")) + ")\"\\s*:\\s*(\"(?:[^\"\\\\]|\\\\.)*\"|\\[[^]\\[]*]|\\d+)";
+  }
+
+  @Benchmark
+  public void regexOnEveryMessage(final Blackhole blackhole) {
+    for (final LogEvent source : events) {
+      blackhole.consume(Log4jLogEvent.newBuilder()
+          .setLoggerName(source.getLoggerName())
+          .setMarker(source.getMarker())
+          .setLoggerFqcn(source.getLoggerFqcn())
+          .setLevel(source.getLevel())
+          .setMessage(new SimpleMessage(source.getMessage().getFormattedMessage()
+              .replaceAll(pattern, "\"$1\":\"" + AirbyteSecretConstants.SECRETS_MASK + "\"")))
+          .setThrown(source.getThrown())
+          .setContextMap(source.getContextMap())
+          .setContextStack(source.getContextStack())
+          .setThreadName(source.getThreadName())
+          .setSource(source.getSource())
+          .setTimeMillis(source.getTimeMillis())
+          .build());
+    }
+  }
+
+  @Benchmark
+  public void interceptor(final Blackhole blackhole) {
+    for (final LogEvent source : events) {
+      blackhole.consume(interceptor.rewrite(source));
+    }
+  }
+
+  public static void main(final String[] args) throws Exception {
+    org.openjdk.jmh.Main.main(new String[] {MaskedDataInterceptorBenchmark.class.getSimpleName(), "-prof", "gc"});
+  }
+
+}
@@ -8,6 +8,8 @@ import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -111,6 +113,47 @@ class MaskedDataInterceptorTest {
     assertEquals(actualMessage, result.getMessage().getFormattedMessage());
   }
 
+  @Test
+  void testMaskingMessageWithSecretInDifferentCase() {
+    final Message message = mock(Message.class);
+    final LogEvent logEvent = mock(LogEvent.class);
+    when(message.getFormattedMessage()).thenReturn("{\"FOO\":\"test\",\"" + OTHER + "\":{\"Bar\":1234}}");
+    when(logEvent.getMessage()).thenReturn(message);
+
+    final MaskedDataInterceptor interceptor = MaskedDataInterceptor.createPolicy(TEST_SPEC_SECRET_MASK_YAML);
+
+    final LogEvent result = interceptor.rewrite(logEvent);
+
+    final JsonNode json = Jsons.deserialize(result.getMessage().getFormattedMessage());
+    assertEquals(AirbyteSecretConstants.SECRETS_MASK, json.get("FOO").asText());
+    assertEquals(AirbyteSecretConstants.SECRETS_MASK, json.get(OTHER).get("Bar").asText());
+  }
+
+  @Test
+  void testMessageWithoutSecretIsNotRewritten() {
+    final Message message = mock(Message.class);
+    final LogEvent logEvent = mock(LogEvent.class);
+    when(message.getFormattedMessage()).thenReturn(JSON_WITHOUT_SECRETS);
+    when(logEvent.getMessage()).thenReturn(message);
+
+    final MaskedDataInterceptor interceptor = MaskedDataInterceptor.createPolicy(TEST_SPEC_SECRET_MASK_YAML);
+
+    assertSame(logEvent, interceptor.rewrite(logEvent));
+  }
+
+  @Test
+  void testMayContainMaskableProperty() {
+    final MaskedDataInterceptor interceptor = MaskedDataInterceptor.createPolicy(TEST_SPEC_SECRET_MASK_YAML);
+
+    assertTrue(interceptor.mayContainMaskableProperty(JSON_WITH_STRING_SECRETS));
+    assertTrue(interceptor.mayContainMaskableProperty("{\"" + OTHER + "\":\"value\",\"BAZ\":1}"));
+    // A property that is also a value is enough, the pattern decides whether to mask it.
+    assertTrue(interceptor.mayContainMaskableProperty("{\"" + OTHER + "\":\"" + FOO + "\"}"));
+    assertFalse(interceptor.mayContainMaskableProperty(JSON_WITHOUT_SECRETS));
+    assertFalse(interceptor.mayContainMaskableProperty("Reading stream " + FOO + " with cursor bar"));
+    assertFalse(interceptor.mayContainMaskableProperty("{\"" + FOO + "_id\":1,\"my" + FOO + "\":2,\"unterminated " + FOO));
+  }
+
   @Test
   void testMissingMaskingFileDoesNotPreventLogging() {
     final Message message = mock(Message.class);
@@ -39,6 +39,7 @@ dependencies {
     testImplementation(libs.bundles.junit)
     testImplementation(libs.assertj.core)
     testImplementation(libs.junit.pioneer)
+    testImplementation(libs.platform.testcontainers)
 }
 
 jsonSchema2Pojo {
@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.config.helpers;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Returns the last lines of a log split across several cloud storage objects.
+ * <p>
+ * Objects are read from the newest to the oldest, and each object is read from its end in chunks
+ * using byte-range requests. Reading stops as soon as enough lines have been collected, so tailing
+ * a large log only transfers the bytes of the lines that are returned.
+ */
+final class CloudLogTailer {
+
+  static final int DEFAULT_CHUNK_SIZE = 256 * 1024;
+
+  private static final byte LF = '\n';
+  private static final byte CR = '\r';
+
+  private CloudLogTailer() {}
+
+  /**
+   * Reads the bytes of an object between start (inclusive) and end (exclusive).
+   */
+  @FunctionalInterface
+  interface RangeReader {
+
+    byte[] read(long start, long end) throws IOException;
+
+  }
+
+  /**
+   * A log object and how to read ranges of it.
+   */
+  record LogObject(long size, RangeReader reader) {}
+
+  /**
+   * How the content of an object is split into lines.
+   */
+  enum LineSplitting {
+    /**
+     * Same lines as {@link java.io.BufferedReader#readLine()}: lines end with \n, \r or \r\n and the
+     * terminator of the last line is optional.
+     */
+    READ_LINE,
+    /**
+     * Same lines as {@code String.split("\n")}: lines end with \n, and trailing empty lines are
+     * dropped.
+     */
+    SPLIT_ON_LF
+  }
+
+  /**
+   * Return the last numLines lines of the given objects, in order.
+   *
+   * @param ascendingObjects the objects that make up the log, oldest first
+   * @param numLines maximum number of lines to return
+   * @param lineSplitting how the objects are split into lines
+   * @param chunkSize number of bytes to request at a time
+   * @return the last lines of the log, oldest first
+   * @throws IOException if an object can't be read
+   */
+  static List<String> tail(final List<LogObject> ascendingObjects, final int numLines, final LineSplitting lineSplitting, final int chunkSize)
+      throws IOException {
+    final Deque<String> lines = new ArrayDeque<>();
+    for (int i = ascendingObjects.size() - 1; i >= 0 && lines.size() < numLines; i--) {
+      tailObject(ascendingObjects.get(i), numLines, lineSplitting, chunkSize, lines);
+    }
+    return new ArrayList<>(lines);
+  }
+
+  /**
+   * Prepend the last lines of an object to lines until it holds numLines lines.
+   */
+  private static void tailObject(final LogObject object,
+                                 final int numLines,
+                                 final LineSplitting lineSplitting,
+                                 final int chunkSize,
+                                 final Deque<String> lines)
+      throws IOException {
+    final boolean crIsTerminator = lineSplitting == LineSplitting.READ_LINE;
+    // Trailing empty lines are dropped until the first non-empty one: only the empty line after the
+    // final terminator for READ_LINE, all of them for SPLIT_ON_LF.
+    boolean isTrailing = true;
+    boolean sawTerminator = false;
+
+    // Bytes at the beginning of the chunks read so far that don't form a complete line yet.
+    byte[] carry = new byte[0];
+    long start = object.size();
+    while (start > 0 && lines.size() < numLines) {
+      final long chunkStart = Math.max(0, start - chunkSize);
+      final byte[] chunk = object.reader().read(chunkStart, start);
+      start = chunkStart;
+
+      final byte[] buffer = concat(chunk, carry);
+      int end = buffer.length;
+      for (int i = buffer.length - 1; i >= 0 && lines.size() < numLines; i--) {
+        final byte b = buffer[i];
+        if (b != LF && !(crIsTerminator && b == CR)) {
+          continue;
+        }
+        if (i == 0 && start > 0) {
+          // The terminator could be the \n of a \r\n split across chunks, keep it for the next chunk.
+          break;
+        }
+        sawTerminator = true;
+        final int terminatorStart = crIsTerminator && b == LF && i > 0 && buffer[i - 1] == CR ? i - 1 : i;
+        isTrailing = addLine(lines, buffer, i + 1, end, isTrailing, lineSplitting);
+        end = terminatorStart;
+        i = terminatorStart;
+      }
+      carry = Arrays.copyOfRange(buffer, 0, end);
+    }
+
+    if (start == 0 && lines.size() < numLines) {
+      // What is left is the first line of the object.
+      if (lineSplitting == LineSplitting.SPLIT_ON_LF && !sawTerminator) {
+        // String.split returns the whole string, even if empty, when there is no separator.
+        lines.addFirst(new String(carry, StandardCharsets.UTF_8));
+      } else {
+        addLine(lines, carry, 0, carry.length, isTrailing, lineSplitting);
+      }
+    }
+  }
+
+  /**
+   * Prepend buffer[from, to) to lines unless it is a trailing empty line that should be dropped.
+   *
+   * @return whether the following lines are still trailing lines
+   */
+  private static boolean addLine(final Deque<String> lines,
+                                 final byte[] buffer,
+                                 final int from,
+                                 final int to,
+                                 final boolean isTrailing,
+                                 final LineSplitting lineSplitting) {
+    if (isTrailing && from == to) {
+      // For READ_LINE, only the segment after the last terminator is dropped.
+      return lineSplitting == LineSplitting.SPLIT_ON_LF;
+    }
+    lines.addFirst(new String(buffer, from, to - from, StandardCharsets.UTF_8));
+    return false;
+  }
+
+  private static byte[] concat(final byte[] first, final byte[] second) {
+    if (second.length == 0) {
+      return first;
+    }
+    final byte[] result = Arrays.copyOf(first, first.length + second.length);
+    System.arraycopy(second, 0, result, first.length, second.length);
+    return result;
+  }
+
+}
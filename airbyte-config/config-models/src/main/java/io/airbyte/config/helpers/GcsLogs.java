@@ -5,18 +5,18 @@
 package io.airbyte.config.helpers;
 
 import com.google.api.gax.paging.Page;
+import com.google.cloud.ReadChannel;
 import com.google.cloud.storage.Blob;
 import com.google.cloud.storage.Blob.BlobSourceOption;
 import com.google.cloud.storage.Storage;
 import com.google.common.annotations.VisibleForTesting;
-import com.google.common.collect.Lists;
 import io.airbyte.commons.string.Strings;
-import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.function.Supplier;
 import org.slf4j.Logger;
@@ -74,42 +74,33 @@ public class GcsLogs implements CloudLogs {
 
     LOGGER.debug("Start GCS list request.");
 
-    final var ascendingTimestampBlobs = new ArrayList<Blob>();
+    final List<CloudLogTailer.LogObject> ascendingTimestampBlobs = new ArrayList<>();
     gcsClient.list(
         configs.getStorageConfigs().getGcsConfig().getBucketName(),
         Storage.BlobListOption.prefix(logPath))
         .iterateAll()
-        .forEach(ascendingTimestampBlobs::add);
-
-    final var lines = new ArrayList<String>();
+        .forEach(blob -> ascendingTimestampBlobs.add(new CloudLogTailer.LogObject(blob.getSize(), (start, end) -> getRange(blob, start, end))));
 
     LOGGER.debug("Start getting GCS objects.");
-    final var inMemoryData = new ByteArrayOutputStream();
-    // iterate through blobs in descending order (oldest first)
-    for (var i = ascendingTimestampBlobs.size() - 1; i >= 0; i--) {
-      inMemoryData.reset();
-
-      final var blob = ascendingTimestampBlobs.get(i);
-      blob.downloadTo(inMemoryData);
-
-      final String[] currFileLines = inMemoryData.toString(StandardCharsets.UTF_8).split("\n");
-      // Iterate through the lines in reverse order. This ensures we keep the newer messages over the
-      // older messages if we hit the numLines limit.
-      for (var j = currFileLines.length - 1; j >= 0; j--) {
-        lines.add(currFileLines[j]);
-        if (lines.size() >= numLines) {
-          break;
-        }
-      }
+    final List<String> lines =
+        CloudLogTailer.tail(ascendingTimestampBlobs, numLines, CloudLogTailer.LineSplitting.SPLIT_ON_LF, CloudLogTailer.DEFAULT_CHUNK_SIZE);
 
-      if (lines.size() >= numLines) {
-        break;
+    LOGGER.debug("Done retrieving GCS logs: {}.", logPath);
+    return lines;
+  }
+
+  private static byte[] getRange(final Blob blob, final long start, final long end) throws IOException {
+    try (final ReadChannel reader = blob.reader()) {
+      reader.seek(start);
+      reader.limit(end);
+      final ByteBuffer buffer = ByteBuffer.allocate(Math.toIntExact(end - start));
+      int read = 0;
+      // keep reading until the range is complete or the blob ends
+      while (buffer.hasRemaining() && read >= 0) {
+        read = reader.read(buffer);
       }
+      return Arrays.copyOf(buffer.array(), buffer.position());
     }
-
-    LOGGER.debug("Done retrieving GCS logs: {}.", logPath);
-    // finally reverse the lines so they're returned in ascending order
-    return Lists.reverse(lines);
   }
 
   @Override
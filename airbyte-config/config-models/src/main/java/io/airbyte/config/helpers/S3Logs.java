@@ -5,18 +5,13 @@
 package io.airbyte.config.helpers;
 
 import com.google.common.annotations.VisibleForTesting;
-import com.google.common.collect.Lists;
 import io.airbyte.commons.string.Strings;
 import io.airbyte.config.storage.CloudStorageConfigs;
 import io.airbyte.config.storage.CloudStorageConfigs.S3ApiWorkerStorageConfig;
 import io.airbyte.config.storage.CloudStorageConfigs.WorkerStorageType;
-import java.io.BufferedReader;
-import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
-import java.io.InputStreamReader;
-import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Supplier;
@@ -104,25 +99,19 @@ public class S3Logs implements CloudLogs {
 
     final var s3Bucket = getBucketName(configs.getStorageConfigs());
     LOGGER.debug("Start making S3 list request.");
-    final List<String> ascendingTimestampKeys = getAscendingObjectKeys(s3Client, logPath, s3Bucket);
-    final var descendingTimestampKeys = Lists.reverse(ascendingTimestampKeys);
-
-    final var lines = new ArrayList<String>();
-    int linesRead = 0;
-
-    LOGGER.debug("Start getting S3 objects.");
-    while (linesRead <= numLines && !descendingTimestampKeys.isEmpty()) {
-      final var poppedKey = descendingTimestampKeys.remove(0);
-      final List<String> currFileLinesReversed = Lists.reverse(getCurrFile(s3Client, s3Bucket, poppedKey));
-      for (final var line : currFileLinesReversed) {
-        if (linesRead == numLines) {
-          break;
-        }
-        lines.add(0, line);
-        linesRead++;
+    final List<CloudLogTailer.LogObject> ascendingTimestampObjects = new ArrayList<>();
+    // Objects are returned in lexicographical order.
+    for (final var page : s3Client.listObjectsV2Paginator(ListObjectsV2Request.builder().bucket(s3Bucket).prefix(logPath).build())) {
+      for (final var objMetadata : page.contents()) {
+        ascendingTimestampObjects.add(new CloudLogTailer.LogObject(objMetadata.size(),
+            (start, end) -> getRange(s3Client, s3Bucket, objMetadata.key(), start, end)));
       }
     }
 
+    LOGGER.debug("Start getting S3 objects.");
+    final List<String> lines =
+        CloudLogTailer.tail(ascendingTimestampObjects, numLines, CloudLogTailer.LineSplitting.READ_LINE, CloudLogTailer.DEFAULT_CHUNK_SIZE);
+
     LOGGER.debug("Done retrieving S3 logs: {}.", logPath);
     return lines;
   }
@@ -155,6 +144,14 @@ public class S3Logs implements CloudLogs {
     return s3;
   }
 
+  /**
+   * This method exists only for unit testing purposes.
+   */
+  @VisibleForTesting
+  static void resetS3() {
+    s3 = null;
+  }
+
   private static List<String> getAscendingObjectKeys(final S3Client s3Client, final String logPath, final String s3Bucket) {
     final var listObjReq = ListObjectsV2Request.builder().bucket(s3Bucket).prefix(logPath).build();
     final var ascendingTimestampObjs = new ArrayList<String>();
@@ -168,23 +165,14 @@ public class S3Logs implements CloudLogs {
     return ascendingTimestampObjs;
   }
 
-  private static List<String> getCurrFile(final S3Client s3Client, final String s3Bucket, final String poppedKey) throws IOException {
+  private static byte[] getRange(final S3Client s3Client, final String s3Bucket, final String key, final long start, final long end) {
     final var getObjReq = GetObjectRequest.builder()
-        .key(poppedKey)
+        .key(key)
         .bucket(s3Bucket)
+        // HTTP ranges are inclusive
+        .range("bytes=" + start + "-" + (end - 1))
         .build();
-
-    final var data = s3Client.getObjectAsBytes(getObjReq).asByteArray();
-    final var is = new ByteArrayInputStream(data);
-    final var currentFileLines = new ArrayList<String>();
-    try (final var reader = new BufferedReader(new InputStreamReader(is, StandardCharsets.UTF_8))) {
-      String temp = reader.readLine();
-      while (temp != null) {
-        currentFileLines.add(temp);
-        temp = reader.readLine();
-      }
-    }
-    return currentFileLines;
+    return s3Client.getObjectAsBytes(getObjReq).asByteArray();
   }
 
 }
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.config.helpers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import io.airbyte.config.helpers.CloudLogTailer.LineSplitting;
+import io.airbyte.config.helpers.CloudLogTailer.LogObject;
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class CloudLogTailerTest {
+
+  // Covers \r\n split across chunks, empty lines, missing final terminators, empty objects and multi
+  // byte characters split across chunks.
+  private static final List<List<String>> LOGS = List.of(
+      List.of("line 1\nline 2\nline 3\n", "line 4\nline 5\nline 6\n", "line 7\nline 8\nline 9\n"),
+      List.of("line 1\r\nline 2\r\n", "\r\n\nline \u00e9\u4e2d\rline 4", "", "line 5\n\n\n"),
+      List.of("\n", "no terminator", "\r", "\u00e9\u00e9\u00e9\n\u00e9"),
+      List.of(""));
+
+  @Test
+  void testTailMatchesReadingTheWholeLog() throws IOException {
+    for (final List<String> log : LOGS) {
+      for (final LineSplitting lineSplitting : LineSplitting.values()) {
+        final List<String> allLines = new ArrayList<>();
+        for (final String content : log) {
+          allLines.addAll(readAllLines(content, lineSplitting));
+        }
+        for (int numLines = 1; numLines <= allLines.size() + 1; numLines++) {
+          final List<String> expected = allLines.subList(Math.max(0, allLines.size() - numLines), allLines.size());
+          for (final int chunkSize : List.of(1, 2, 3, 7, CloudLogTailer.DEFAULT_CHUNK_SIZE)) {
+            assertEquals(expected, CloudLogTailer.tail(toLogObjects(log, new AtomicLong()), numLines, lineSplitting, chunkSize),
+                String.format("log=%s, lineSplitting=%s, numLines=%d, chunkSize=%d", log, lineSplitting, numLines, chunkSize));
+          }
+        }
+      }
+    }
+  }
+
+  @Test
+  void testOnlyTheEndOfTheLogIsRead() throws IOException {
+    final StringBuilder content = new StringBuilder();
+    for (int i = 0; i < 10_000; i++) {
+      content.append("line ").append(i).append('\n');
+    }
+    final AtomicLong bytesRead = new AtomicLong();
+
+    final List<String> lines = CloudLogTailer.tail(toLogObjects(List.of(content.toString(), "last line\n"), bytesRead), 2, LineSplitting.READ_LINE, 64);
+
+    assertEquals(List.of("line 9999", "last line"), lines);
+    assertEquals(64 + "last line\n".length(), bytesRead.get());
+  }
+
+  private static List<LogObject> toLogObjects(final List<String> log, final AtomicLong bytesRead) {
+    return log.stream()
+        .map(content -> content.getBytes(StandardCharsets.UTF_8))
+        .map(data -> new LogObject(data.length, (start, end) -> {
+          bytesRead.addAndGet(end - start);
+          return Arrays.copyOfRange(data, (int) start, (int) end);
+        }))
+        .toList();
+  }
+
+  static List<String> readAllLines(final String content, final LineSplitting lineSplitting) throws IOException {
+    if (lineSplitting == LineSplitting.SPLIT_ON_LF) {
+      return List.of(content.split("\n"));
+    }
+    final List<String> lines = new ArrayList<>();
+    try (final var reader = new BufferedReader(new InputStreamReader(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)),
+        StandardCharsets.UTF_8))) {
+      String line = reader.readLine();
+      while (line != null) {
+        lines.add(line);
+        line = reader.readLine();
+      }
+    }
+    return lines;
+  }
+
+}
@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.config.helpers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.google.cloud.NoCredentials;
+import com.google.cloud.storage.BlobInfo;
+import com.google.cloud.storage.BucketInfo;
+import com.google.cloud.storage.Storage;
+import com.google.cloud.storage.StorageOptions;
+import io.airbyte.config.helpers.CloudLogTailer.LineSplitting;
+import io.airbyte.config.storage.CloudStorageConfigs;
+import io.airbyte.config.storage.CloudStorageConfigs.GcsConfig;
+import io.airbyte.config.storage.CloudStorageConfigs.MinioConfig;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.wait.strategy.Wait;
+import org.testcontainers.utility.DockerImageName;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3Configuration;
+import software.amazon.awssdk.services.s3.model.CreateBucketRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+
+/**
+ * Tails logs from MinIO and fake-gcs-server and checks the result against reading the whole log,
+ * so the ranged reads of {@link S3Logs} and {@link GcsLogs} are exercised against real object
+ * stores rather than mocks.
+ */
+@SuppressWarnings("PMD.AvoidDuplicateLiterals")
+class CloudLogsTailEmulatorTest {
+
+  private static final String MINIO_IMAGE = "minio/minio:RELEASE.2023-11-15T20-43-25Z";
+  private static final String FAKE_GCS_SERVER_IMAGE = "fsouza/fake-gcs-server:1.47.6";
+  private static final String BUCKET = "airbyte-logs";
+  private static final String MINIO_USER = "minio";
+  private static final String MINIO_PASSWORD = "minio123";
+  private static final String LOG_PATH = "job-logging/workspace/1/0";
+
+  // Spans several tail chunks, and covers \r\n, empty lines, missing final terminators, empty objects
+  // and multi byte characters.
+  private static final List<String> LOG = List.of(
+      generateLines("first object", 20_000),
+      "line 1\r\nline 2\r\n\r\n\nline \u00e9\u4e2d\rline 4",
+      "",
+      generateLines("\u00e9\u00e9\u00e9 last object", 30_000) + "no terminator");
+
+  private static GenericContainer<?> minio;
+  private static GenericContainer<?> fakeGcsServer;
+  private static S3Client s3Client;
+  private static Storage gcsClient;
+
+  @BeforeAll
+  static void setup() {
+    minio = new GenericContainer<>(DockerImageName.parse(MINIO_IMAGE))
+        .withCommand("server", "/data")
+        .withEnv("MINIO_ROOT_USER", MINIO_USER)
+        .withEnv("MINIO_ROOT_PASSWORD", MINIO_PASSWORD)
+        .withExposedPorts(9000)
+        .waitingFor(Wait.forHttp("/minio/health/ready").forPort(9000));
+    minio.start();
+    fakeGcsServer = new GenericContainer<>(DockerImageName.parse(FAKE_GCS_SERVER_IMAGE))
+        .withCommand("-scheme", "http", "-port", "4443")
+        .withExposedPorts(4443)
+        .waitingFor(Wait.forHttp("/storage/v1/b").forPort(4443));
+    fakeGcsServer.start();
+
+    // Path style access, so the bucket does not have to resolve as a subdomain of the container host.
+    s3Client = S3Client.builder()
+        .endpointOverride(URI.create(getEndpoint(minio, 9000)))
+        .region(Region.US_EAST_1)
+        .credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create(MINIO_USER, MINIO_PASSWORD)))
+        .serviceConfiguration(S3Configuration.builder().pathStyleAccessEnabled(true).build())
+        .build();
+    s3Client.createBucket(CreateBucketRequest.builder().bucket(BUCKET).build());
+
+    gcsClient = StorageOptions.newBuilder()
+        .setHost(getEndpoint(fakeGcsServer, 4443))
+        .setProjectId("test-project")
+        .setCredentials(NoCredentials.getInstance())
+        .build()
+        .getService();
+    gcsClient.create(BucketInfo.of(BUCKET));
+
+    for (int i = 0; i < LOG.size(); i++) {
+      // Objects are listed in lexicographical order, which is the order the log was written in.
+      final String key = String.format("%s/%04d", LOG_PATH, i);
+      final byte[] content = LOG.get(i).getBytes(StandardCharsets.UTF_8);
+      s3Client.putObject(PutObjectRequest.builder().bucket(BUCKET).key(key).build(), RequestBody.fromBytes(content));
+      gcsClient.create(BlobInfo.newBuilder(BUCKET, key).build(), content);
+    }
+  }
+
+  @AfterAll
+  static void tearDown() throws Exception {
+    S3Logs.resetS3();
+    GcsLogs.resetGcs();
+    if (gcsClient != null) {
+      gcsClient.close();
+    }
+    if (s3Client != null) {
+      s3Client.close();
+    }
+    if (fakeGcsServer != null) {
+      fakeGcsServer.stop();
+    }
+    if (minio != null) {
+      minio.stop();
+    }
+  }
+
+  @Test
+  void testTailS3LogMatchesReadingTheWholeLog() throws IOException {
+    S3Logs.resetS3();
+    final var s3Logs = new S3Logs(() -> s3Client);
+    final var logConfigs = new LogConfigs(Optional.of(CloudStorageConfigs.minio(
+        new MinioConfig(BUCKET, MINIO_USER, MINIO_PASSWORD, getEndpoint(minio, 9000)))));
+
+    assertTailMatchesReadingTheWholeLog(s3Logs, logConfigs, LineSplitting.READ_LINE);
+  }
+
+  @Test
+  void testTailGcsLogMatchesReadingTheWholeLog() throws IOException {
+    GcsLogs.resetGcs();
+    final var gcsLogs = new GcsLogs(() -> gcsClient);
+    final var logConfigs = new LogConfigs(Optional.of(CloudStorageConfigs.gcs(new GcsConfig(BUCKET, "unused"))));
+
+    assertTailMatchesReadingTheWholeLog(gcsLogs, logConfigs, LineSplitting.SPLIT_ON_LF);
+  }
+
+  private static void assertTailMatchesReadingTheWholeLog(final CloudLogs cloudLogs, final LogConfigs logConfigs, final LineSplitting lineSplitting)
+      throws IOException {
+    final List<String> allLines = new ArrayList<>();
+    for (final String content : LOG) {
+      allLines.addAll(CloudLogTailerTest.readAllLines(content, lineSplitting));
+    }
+    for (final int numLines : List.of(1, 2, 5, 1_000, 30_001, 40_000, allLines.size(), allLines.size() + 1)) {
+      final List<String> expected = allLines.subList(Math.max(0, allLines.size() - numLines), allLines.size());
+      assertEquals(expected, cloudLogs.tailCloudLog(logConfigs, LOG_PATH, numLines), "numLines=" + numLines);
+    }
+  }
+
+  private static String generateLines(final String prefix, final int numLines) {
+    final StringBuilder lines = new StringBuilder();
+    for (int i = 0; i < numLines; i++) {
+      lines.append(prefix).append(" line ").append(i).append('\n');
+    }
+    return lines.toString();
+  }
+
+  private static String getEndpoint(final GenericContainer<?> container, final int port) {
+    return String.format("http://%s:%d", container.getHost(), container.getMappedPort(port));
+  }
+
+}
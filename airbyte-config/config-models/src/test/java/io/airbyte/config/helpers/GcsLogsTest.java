@@ -11,6 +11,8 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.google.api.gax.paging.Page;
+import com.google.cloud.ReadChannel;
+import com.google.cloud.RestorableState;
 import com.google.cloud.storage.Blob;
 import com.google.cloud.storage.Blob.BlobSourceOption;
 import com.google.cloud.storage.Storage;
@@ -19,6 +21,7 @@ import io.airbyte.config.storage.CloudStorageConfigs;
 import io.airbyte.config.storage.CloudStorageConfigs.GcsConfig;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.function.Consumer;
@@ -75,7 +78,7 @@ class GcsLogsTest {
     final var blob2 = mock(Blob.class);
     final var blob3 = mock(Blob.class);
 
-    // Ensure the Blob mocks write to the outputstream that is passed to their downloadTo method.
+    // Ensure the Blob mocks can be read by range.
     // The first blob will contain the file contents:
     // line 1
     // line 2
@@ -88,20 +91,9 @@ class GcsLogsTest {
     // line 7
     // line 8
     // line 9
-    doAnswer(i -> {
-      ((OutputStream) i.getArgument(0)).write("line 1\nline 2\nline 3\n".getBytes(StandardCharsets.UTF_8));
-      return null;
-    }).when(blob1).downloadTo(Mockito.any(OutputStream.class));
-
-    doAnswer(i -> {
-      ((OutputStream) i.getArgument(0)).write("line 4\nline 5\nline 6\n".getBytes(StandardCharsets.UTF_8));
-      return null;
-    }).when(blob2).downloadTo(Mockito.any(OutputStream.class));
-
-    doAnswer(i -> {
-      ((OutputStream) i.getArgument(0)).write("line 7\nline 8\nline 9\n".getBytes(StandardCharsets.UTF_8));
-      return null;
-    }).when(blob3).downloadTo(Mockito.any(OutputStream.class));
+    mockBlobContent(blob1, "line 1\nline 2\nline 3\n");
+    mockBlobContent(blob2, "line 4\nline 5\nline 6\n");
+    mockBlobContent(blob3, "line 7\nline 8\nline 9\n");
 
     when(storage.list(bucketName, Storage.BlobListOption.prefix(logPath))).thenReturn(page);
     when(page.iterateAll()).thenReturn(iterable);
@@ -208,4 +200,74 @@ class GcsLogsTest {
     assertEquals(expected, Files.readLines(logs, StandardCharsets.UTF_8));
   }
 
+  private static void mockBlobContent(final Blob blob, final String content) {
+    final byte[] data = content.getBytes(StandardCharsets.UTF_8);
+    when(blob.getSize()).thenReturn((long) data.length);
+    when(blob.reader()).thenAnswer(i -> new ByteArrayReadChannel(data));
+  }
+
+  /**
+   * ReadChannel over an in-memory blob, honoring seek and limit like the GCS client does.
+   */
+  private static class ByteArrayReadChannel implements ReadChannel {
+
+    private final byte[] data;
+    private long position;
+    private long limit = Long.MAX_VALUE;
+    private boolean open = true;
+
+    ByteArrayReadChannel(final byte[] data) {
+      this.data = data;
+    }
+
+    @Override
+    public int read(final ByteBuffer dst) {
+      final long end = Math.min(limit, data.length);
+      if (position >= end) {
+        return -1;
+      }
+      final int length = (int) Math.min(dst.remaining(), end - position);
+      dst.put(data, (int) position, length);
+      position += length;
+      return length;
+    }
+
+    @Override
+    public void seek(final long position) {
+      this.position = position;
+    }
+
+    @Override
+    public ReadChannel limit(final long limit) {
+      this.limit = limit;
+      return this;
+    }
+
+    @Override
+    public long limit() {
+      return limit;
+    }
+
+    @Override
+    public void setChunkSize(final int chunkSize) {
+      // not used
+    }
+
+    @Override
+    public RestorableState<ReadChannel> capture() {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean isOpen() {
+      return open;
+    }
+
+    @Override
+    public void close() {
+      open = false;
+    }
+
+  }
+
 }
@@ -46,6 +46,7 @@ import io.airbyte.protocol.models.ConnectorSpecification;
 import io.airbyte.protocol.models.StreamDescriptor;
 import io.airbyte.validation.json.JsonValidationException;
 import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
 import java.io.IOException;
 import java.util.List;
 import java.util.Map;
@@ -1184,6 +1185,32 @@ public class ConfigRepository {
     return connectionService.listWorkspaceStandardSyncs(query);
   }
 
+  /**
+   * List a page of connections for workspace via a query, ordered by name. Only the columns shown in
+   * the connection list are read.
+   *
+   * @param standardSyncQuery query
+   * @param afterName name of the last connection of the previous page, if any
+   * @param afterConnectionId if set, only the connections ordered after (afterName,
+   *        afterConnectionId) are returned
+   * @param pageSize if set, maximum number of connections to return
+   * @return list of connections
+   * @throws IOException if there is an issue while interacting with db.
+   */
+  @Deprecated
+  public List<StandardSync> listWorkspaceStandardSyncSummaries(final StandardSyncQuery standardSyncQuery,
+                                                               @Nullable final String afterName,
+                                                               @Nullable final UUID afterConnectionId,
+                                                               @Nullable final Integer pageSize)
+      throws IOException {
+    final var query = new io.airbyte.data.services.shared.StandardSyncQuery(
+        standardSyncQuery.workspaceId(),
+        standardSyncQuery.sourceId(),
+        standardSyncQuery.destinationId(),
+        standardSyncQuery.includeDeleted());
+    return connectionService.listWorkspaceStandardSyncSummaries(query, afterName, afterConnectionId, pageSize);
+  }
+
   /**
    * List connection IDs for active syncs based on the given query.
    *
@@ -2123,6 +2150,18 @@ public class ConfigRepository {
     return actorDefinitionService.listActorDefinitionVersionsForDefinition(actorDefinitionId);
   }
 
+  /**
+   * List all actor definition versions for the given actor definitions, in a single query.
+   *
+   * @param actorDefinitionIds - actor definition ids
+   * @return list of actor definition versions
+   * @throws IOException - you never know when you io
+   */
+  @Deprecated
+  public List<ActorDefinitionVersion> listActorDefinitionVersionsForDefinitions(final List<UUID> actorDefinitionIds) throws IOException {
+    return actorDefinitionService.listActorDefinitionVersionsForDefinitions(actorDefinitionIds);
+  }
+
   /**
    * Get actor definition versions by ID.
    *
@@ -64,7 +64,7 @@ public class StatePersistence {
       return Optional.empty();
     }
 
-    return switch (getStateType(connectionId, records)) {
+    return switch (getStateType(connectionId, records.stream().map(r -> r.type).collect(Collectors.toSet()))) {
       case GLOBAL -> Optional.of(buildGlobalState(records));
       case STREAM -> Optional.of(buildStreamState(records));
       default -> Optional.of(buildLegacyState(records));
@@ -84,25 +84,32 @@ public class StatePersistence {
    */
   public void updateOrCreateState(final UUID connectionId, final StateWrapper state)
       throws IOException {
-    final Optional<StateWrapper> previousState = getCurrentState(connectionId);
     final StateType currentStateType = state.getStateType();
-    final boolean isMigration = StateMessageHelper.isMigration(currentStateType, previousState);
-
-    // The only case where we allow a state migration is moving from LEGACY.
-    // We expect any other migration to go through an explicit reset.
-    if (!isMigration && previousState.isPresent() && previousState.get().getStateType() != currentStateType) {
-      throw new IllegalStateException("Unexpected type migration from '" + previousState.get().getStateType() + "' to '" + currentStateType
-          + "'. Migration of StateType need to go through an explicit reset.");
-    }
 
     this.database.transaction(ctx -> {
+      // Only the keys and types of the stored states are needed here, not the states themselves.
+      final List<StateKeyRecord> existingRecords = getStateKeyRecords(ctx, connectionId);
+      final Set<StateKey> existingStates = existingRecords.stream().map(StateKeyRecord::key).collect(Collectors.toSet());
+      final StateType previousStateType = existingRecords.isEmpty()
+          ? null
+          : Enums.convertTo(getStateType(connectionId, existingRecords.stream().map(StateKeyRecord::type).collect(Collectors.toSet())),
+              StateType.class);
+      final boolean isMigration = StateMessageHelper.isMigration(currentStateType, previousStateType);
+
+      // The only case where we allow a state migration is moving from LEGACY.
+      // We expect any other migration to go through an explicit reset.
+      if (!isMigration && previousStateType != null && previousStateType != currentStateType) {
+        throw new IllegalStateException("Unexpected type migration from '" + previousStateType + "' to '" + currentStateType
+            + "'. Migration of StateType need to go through an explicit reset.");
+      }
+
       if (isMigration) {
-        clearLegacyState(ctx, connectionId);
+        clearLegacyState(ctx, connectionId, existingStates);
       }
       switch (state.getStateType()) {
-        case GLOBAL -> saveGlobalState(ctx, connectionId, state.getGlobal().getGlobal());
-        case STREAM -> saveStreamState(ctx, connectionId, state.getStateMessages());
-        case LEGACY -> saveLegacyState(ctx, connectionId, state.getLegacyState());
+        case GLOBAL -> saveGlobalState(ctx, connectionId, state.getGlobal().getGlobal(), existingStates);
+        case STREAM -> saveStreamState(ctx, connectionId, state.getStateMessages(), existingStates);
+        case LEGACY -> saveLegacyState(ctx, connectionId, state.getLegacyState(), existingStates);
         default -> {
           // no op
         }
@@ -111,15 +118,32 @@ public class StatePersistence {
     });
   }
 
-  private static void clearLegacyState(final DSLContext ctx, final UUID connectionId) {
+  /**
+   * Get the stream descriptors and types of the states currently stored for a connection. Fetching
+   * them once lets a whole state update be turned into a batch of inserts, updates and deletes
+   * without checking each stream separately.
+   */
+  private static List<StateKeyRecord> getStateKeyRecords(final DSLContext ctx, final UUID connectionId) {
+    return ctx.select(STATE.STREAM_NAME, STATE.NAMESPACE, STATE.TYPE)
+        .from(STATE)
+        .where(STATE.CONNECTION_ID.eq(connectionId))
+        .fetch(record -> new StateKeyRecord(new StateKey(record.get(STATE.STREAM_NAME), record.get(STATE.NAMESPACE)), record.get(STATE.TYPE)));
+  }
+
+  private static void clearLegacyState(final DSLContext ctx, final UUID connectionId, final Set<StateKey> existingStates) {
     final StateUpdateBatch stateUpdateBatch = new StateUpdateBatch();
-    writeStateToDb(ctx, connectionId, null, null, StateType.LEGACY, null, stateUpdateBatch);
+    writeStateToDb(ctx, connectionId, null, null, StateType.LEGACY, null, existingStates, stateUpdateBatch);
     stateUpdateBatch.save(ctx);
+    // The legacy row is gone, the new state has to be inserted rather than updated in its place.
+    existingStates.remove(new StateKey(null, null));
   }
 
-  private static void saveGlobalState(final DSLContext ctx, final UUID connectionId, final AirbyteGlobalState globalState) {
+  private static void saveGlobalState(final DSLContext ctx,
+                                      final UUID connectionId,
+                                      final AirbyteGlobalState globalState,
+                                      final Set<StateKey> existingStates) {
     final StateUpdateBatch stateUpdateBatch = new StateUpdateBatch();
-    writeStateToDb(ctx, connectionId, null, null, StateType.GLOBAL, globalState.getSharedState(), stateUpdateBatch);
+    writeStateToDb(ctx, connectionId, null, null, StateType.GLOBAL, globalState.getSharedState(), existingStates, stateUpdateBatch);
     for (final AirbyteStreamState streamState : globalState.getStreamStates()) {
       writeStateToDb(ctx,
           connectionId,
@@ -127,12 +151,16 @@ public class StatePersistence {
           streamState.getStreamDescriptor().getNamespace(),
           StateType.GLOBAL,
           streamState.getStreamState(),
+          existingStates,
           stateUpdateBatch);
     }
     stateUpdateBatch.save(ctx);
   }
 
-  private static void saveStreamState(final DSLContext ctx, final UUID connectionId, final List<AirbyteStateMessage> stateMessages) {
+  private static void saveStreamState(final DSLContext ctx,
+                                      final UUID connectionId,
+                                      final List<AirbyteStateMessage> stateMessages,
+                                      final Set<StateKey> existingStates) {
     final StateUpdateBatch stateUpdateBatch = new StateUpdateBatch();
     for (final AirbyteStateMessage stateMessage : stateMessages) {
       final AirbyteStreamState streamState = stateMessage.getStream();
@@ -142,21 +170,24 @@ public class StatePersistence {
           streamState.getStreamDescriptor().getNamespace(),
           StateType.STREAM,
           streamState.getStreamState(),
+          existingStates,
           stateUpdateBatch);
     }
     stateUpdateBatch.save(ctx);
   }
 
-  private static void saveLegacyState(final DSLContext ctx, final UUID connectionId, final JsonNode state) {
+  private static void saveLegacyState(final DSLContext ctx, final UUID connectionId, final JsonNode state, final Set<StateKey> existingStates) {
     final StateUpdateBatch stateUpdateBatch = new StateUpdateBatch();
-    writeStateToDb(ctx, connectionId, null, null, StateType.LEGACY, state, stateUpdateBatch);
+    writeStateToDb(ctx, connectionId, null, null, StateType.LEGACY, state, existingStates, stateUpdateBatch);
     stateUpdateBatch.save(ctx);
   }
 
   /**
    * Performs the actual SQL operation depending on the state.
    *
-   * If the state is null, it will delete the row, otherwise do an insert or update on conflict
+   * If the state is null, it will delete the row, otherwise do an insert or update depending on
+   * whether the row is part of existingStates. The queries are only added to the batch, they are
+   * executed when the batch is saved.
    */
   static void writeStateToDb(final DSLContext ctx,
                              final UUID connectionId,
@@ -164,12 +195,10 @@ public class StatePersistence {
                              final String namespace,
                              final StateType stateType,
                              final JsonNode state,
+                             final Set<StateKey> existingStates,
                              final StateUpdateBatch stateUpdateBatch) {
+    final boolean hasState = existingStates.contains(new StateKey(streamName, namespace));
     if (state != null) {
-      final boolean hasState = ctx.fetchExists(STATE,
-          STATE.CONNECTION_ID.eq(connectionId),
-          PersistenceHelpers.isNullOrEquals(STATE.STREAM_NAME, streamName),
-          PersistenceHelpers.isNullOrEquals(STATE.NAMESPACE, namespace));
 
       // NOTE: the legacy code was storing a State object instead of just the State data field. We kept
       // the same behavior for consistency.
@@ -209,7 +238,7 @@ public class StatePersistence {
                     PersistenceHelpers.isNullOrEquals(STATE.NAMESPACE, namespace)));
       }
 
-    } else {
+    } else if (hasState) {
       // If the state is null, we remove the state instead of keeping a null row
       stateUpdateBatch.getDeletedStreamStates().add(
           ctx.deleteFrom(STATE)
@@ -221,20 +250,18 @@ public class StatePersistence {
   }
 
   /**
-   * Get the StateType for a given list of StateRecords.
+   * Get the StateType for the types of a given list of StateRecords.
    *
    * @param connectionId The connectionId of the records, used to add more debugging context if an
    *        error is detected
-   * @param records The list of StateRecords to process, must not be empty
+   * @param types The types of the StateRecords to process, must not be empty
    * @return the StateType of the records
    * @throws IllegalStateException If StateRecords have inconsistent types
    */
   @SuppressWarnings("PMD.AvoidLiteralsInIfCondition")
   private static io.airbyte.db.instance.configs.jooq.generated.enums.StateType getStateType(
-                                                                                            final UUID connectionId,
-                                                                                            final List<StateRecord> records) {
-    final Set<io.airbyte.db.instance.configs.jooq.generated.enums.StateType> types =
-        records.stream().map(r -> r.type).collect(Collectors.toSet());
+      final UUID connectionId,
+      final Set<io.airbyte.db.instance.configs.jooq.generated.enums.StateType> types) {
     if (types.size() == 1) {
       return types.stream().findFirst().get();
     }
@@ -327,6 +354,10 @@ public class StatePersistence {
         Jsons.deserialize(record.get(STATE.STATE_).data()));
   }
 
+  private record StateKey(String streamName, String namespace) {}
+
+  private record StateKeyRecord(StateKey key, io.airbyte.db.instance.configs.jooq.generated.enums.StateType type) {}
+
   private record StateRecord(
                              io.airbyte.db.instance.configs.jooq.generated.enums.StateType type,
                              String streamName,
@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.config.persistence;
+
+import static io.airbyte.db.instance.configs.jooq.generated.Tables.ACTOR_CATALOG;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.mockito.Mockito.mock;
+
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.config.Geography;
+import io.airbyte.config.SourceConnection;
+import io.airbyte.config.StandardSourceDefinition;
+import io.airbyte.config.StandardWorkspace;
+import io.airbyte.config.secrets.SecretsRepositoryReader;
+import io.airbyte.config.secrets.SecretsRepositoryWriter;
+import io.airbyte.data.services.SecretPersistenceConfigService;
+import io.airbyte.data.services.impls.jooq.ActorDefinitionServiceJooqImpl;
+import io.airbyte.data.services.impls.jooq.CatalogServiceJooqImpl;
+import io.airbyte.data.services.impls.jooq.ConnectionServiceJooqImpl;
+import io.airbyte.data.services.impls.jooq.ConnectorBuilderServiceJooqImpl;
+import io.airbyte.data.services.impls.jooq.DestinationServiceJooqImpl;
+import io.airbyte.data.services.impls.jooq.HealthCheckServiceJooqImpl;
+import io.airbyte.data.services.impls.jooq.OAuthServiceJooqImpl;
+import io.airbyte.data.services.impls.jooq.OperationServiceJooqImpl;
+import io.airbyte.data.services.impls.jooq.OrganizationServiceJooqImpl;
+import io.airbyte.data.services.impls.jooq.SourceServiceJooqImpl;
+import io.airbyte.data.services.impls.jooq.WorkspaceServiceJooqImpl;
+import io.airbyte.db.instance.configs.migrations.V0_50_33_015__AddCatalogDigestToActorCatalog;
+import io.airbyte.featureflag.FeatureFlagClient;
+import io.airbyte.featureflag.TestClient;
+import io.airbyte.protocol.models.AirbyteCatalog;
+import io.airbyte.protocol.models.CatalogHelpers;
+import io.airbyte.protocol.models.Field;
+import io.airbyte.protocol.models.JsonSchemaType;
+import io.airbyte.validation.json.JsonValidationException;
+import java.io.IOException;
+import java.sql.SQLException;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ActorCatalogPersistenceTest extends BaseConfigDatabaseTest {
+
+  private static final UUID WORKSPACE_ID = UUID.randomUUID();
+  private static final String DOCKER_IMAGE_TAG = "1.2.0";
+  private static final String CONFIG_HASH = "ConfigHash";
+
+  private ConfigRepository configRepository;
+  private UUID sourceId;
+
+  @BeforeEach
+  void setup() throws SQLException, IOException, JsonValidationException {
+    truncateAllTables();
+
+    final FeatureFlagClient featureFlagClient = mock(TestClient.class);
+    final SecretsRepositoryReader secretsRepositoryReader = mock(SecretsRepositoryReader.class);
+    final SecretsRepositoryWriter secretsRepositoryWriter = mock(SecretsRepositoryWriter.class);
+    final SecretPersistenceConfigService secretPersistenceConfigService = mock(SecretPersistenceConfigService.class);
+
+    configRepository = new ConfigRepository(
+        new ActorDefinitionServiceJooqImpl(database),
+        new CatalogServiceJooqImpl(database),
+        new ConnectionServiceJooqImpl(database),
+        new ConnectorBuilderServiceJooqImpl(database),
+        new DestinationServiceJooqImpl(database,
+            featureFlagClient,
+            secretsRepositoryReader,
+            secretsRepositoryWriter,
+            secretPersistenceConfigService),
+        new HealthCheckServiceJooqImpl(database),
+        new OAuthServiceJooqImpl(database,
+            featureFlagClient,
+            secretsRepositoryReader,
+            secretPersistenceConfigService),
+        new OperationServiceJooqImpl(database),
+        new OrganizationServiceJooqImpl(database),
+        new SourceServiceJooqImpl(database,
+            featureFlagClient,
+            secretsRepositoryReader,
+            secretsRepositoryWriter,
+            secretPersistenceConfigService),
+        new WorkspaceServiceJooqImpl(database,
+            featureFlagClient,
+            secretsRepositoryReader,
+            secretsRepositoryWriter,
+            secretPersistenceConfigService));
+
+    final StandardSourceDefinition sourceDefinition = MockData.publicSourceDefinition();
+    configRepository.writeConnectorMetadata(sourceDefinition, MockData.actorDefinitionVersion()
+        .withActorDefinitionId(sourceDefinition.getSourceDefinitionId())
+        .withVersionId(sourceDefinition.getDefaultVersionId()));
+    configRepository.writeStandardWorkspaceNoSecrets(new StandardWorkspace()
+        .withWorkspaceId(WORKSPACE_ID)
+        .withName("default")
+        .withSlug("workspace-slug")
+        .withInitialSetupComplete(false)
+        .withTombstone(false)
+        .withDefaultGeography(Geography.US));
+
+    sourceId = UUID.randomUUID();
+    configRepository.writeSourceConnectionNoSecrets(new SourceConnection()
+        .withSourceId(sourceId)
+        .withSourceDefinitionId(sourceDefinition.getSourceDefinitionId())
+        .withWorkspaceId(WORKSPACE_ID)
+        .withName("source")
+        .withConfiguration(Jsons.deserialize("{}")));
+  }
+
+  @Test
+  void testSameCatalogIsDeduplicatedByDigest() throws IOException, SQLException {
+    final UUID catalogId = configRepository.writeActorCatalogFetchEvent(catalog("product"), sourceId, DOCKER_IMAGE_TAG, CONFIG_HASH);
+    final UUID sameCatalogId = configRepository.writeActorCatalogFetchEvent(catalog("product"), sourceId, "1.3.0", CONFIG_HASH);
+    final UUID otherCatalogId = configRepository.writeActorCatalogFetchEvent(catalog("order"), sourceId, "1.3.0", CONFIG_HASH);
+
+    assertEquals(catalogId, sameCatalogId);
+    assertNotEquals(catalogId, otherCatalogId);
+    assertNotNull(getCatalogDigest(catalogId));
+    assertNotEquals(getCatalogDigest(catalogId), getCatalogDigest(otherCatalogId));
+  }
+
+  @Test
+  void testCatalogWithoutDigestIsDeduplicatedByContent() throws IOException, SQLException {
+    final UUID catalogId = configRepository.writeActorCatalogFetchEvent(catalog("product"), sourceId, DOCKER_IMAGE_TAG, CONFIG_HASH);
+    // catalogs written by an older version don't have a digest
+    database.query(ctx -> ctx.update(ACTOR_CATALOG).setNull(ACTOR_CATALOG.CATALOG_DIGEST).where(ACTOR_CATALOG.ID.eq(catalogId)).execute());
+
+    final UUID sameCatalogId = configRepository.writeActorCatalogFetchEvent(catalog("product"), sourceId, "1.3.0", CONFIG_HASH);
+
+    assertEquals(catalogId, sameCatalogId);
+    assertEquals(1, database.query(ctx -> ctx.fetchCount(ACTOR_CATALOG)));
+  }
+
+  @Test
+  void testCatalogBackfilledByTheMigrationIsDeduplicatedByDigest() throws IOException, SQLException {
+    final UUID catalogId = configRepository.writeActorCatalogFetchEvent(catalog("product"), sourceId, DOCKER_IMAGE_TAG, CONFIG_HASH);
+    final String writtenDigest = getCatalogDigest(catalogId);
+    // catalogs stored before the digest column was added are backfilled by the migration
+    database.query(ctx -> ctx.update(ACTOR_CATALOG).setNull(ACTOR_CATALOG.CATALOG_DIGEST).where(ACTOR_CATALOG.ID.eq(catalogId)).execute());
+    database.query(ctx -> {
+      V0_50_33_015__AddCatalogDigestToActorCatalog.backfillCatalogDigest(ctx);
+      return null;
+    });
+
+    final UUID sameCatalogId = configRepository.writeActorCatalogFetchEvent(catalog("product"), sourceId, "1.3.0", CONFIG_HASH);
+
+    assertEquals(writtenDigest, getCatalogDigest(catalogId));
+    // catalogs with a digest are only matched by digest
+    assertEquals(catalogId, sameCatalogId);
+    assertEquals(1, database.query(ctx -> ctx.fetchCount(ACTOR_CATALOG)));
+  }
+
+  private static AirbyteCatalog catalog(final String streamName) {
+    return CatalogHelpers.createAirbyteCatalog(streamName, Field.of("name", JsonSchemaType.STRING), Field.of("price", JsonSchemaType.NUMBER));
+  }
+
+  private String getCatalogDigest(final UUID catalogId) throws SQLException {
+    return database.query(ctx -> ctx.select(ACTOR_CATALOG.CATALOG_DIGEST)
+        .from(ACTOR_CATALOG)
+        .where(ACTOR_CATALOG.ID.eq(catalogId))
+        .fetchOne(ACTOR_CATALOG.CATALOG_DIGEST));
+  }
+
+}
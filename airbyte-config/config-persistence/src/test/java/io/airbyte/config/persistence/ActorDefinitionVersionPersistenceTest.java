@@ -348,6 +348,33 @@ class ActorDefinitionVersionPersistenceTest extends BaseConfigDatabaseTest {
         actorDefinitionVersionsForDefinition.stream().anyMatch(actorDefVersion -> actorDefVersion.getVersionId().equals(otherActorDefVersionId)));
   }
 
+  @Test
+  void testListActorDefinitionVersionsForDefinitions() throws IOException, JsonValidationException, ConfigNotFoundException {
+    final UUID defId = sourceDefinition.getSourceDefinitionId();
+    final StandardSourceDefinition otherSourceDef = new StandardSourceDefinition()
+        .withName("Some other source")
+        .withSourceDefinitionId(UUID.randomUUID());
+    configRepository.writeConnectorMetadata(otherSourceDef,
+        baseActorDefinitionVersion(defId).withActorDefinitionId(otherSourceDef.getSourceDefinitionId()));
+    final StandardSourceDefinition unrequestedSourceDef = new StandardSourceDefinition()
+        .withName("Yet another source")
+        .withSourceDefinitionId(UUID.randomUUID());
+    configRepository.writeConnectorMetadata(unrequestedSourceDef,
+        baseActorDefinitionVersion(defId).withActorDefinitionId(unrequestedSourceDef.getSourceDefinitionId()));
+
+    final UUID newVersionId =
+        configRepository.writeActorDefinitionVersion(baseActorDefinitionVersion(defId).withDockerImageTag("1.0.0")).getVersionId();
+    final List<UUID> expectedVersionIds = List.of(
+        configRepository.getStandardSourceDefinition(defId).getDefaultVersionId(),
+        newVersionId,
+        configRepository.getStandardSourceDefinition(otherSourceDef.getSourceDefinitionId()).getDefaultVersionId());
+
+    final List<ActorDefinitionVersion> actorDefinitionVersions =
+        configRepository.listActorDefinitionVersionsForDefinitions(List.of(defId, otherSourceDef.getSourceDefinitionId()));
+    assertThat(actorDefinitionVersions.stream().map(ActorDefinitionVersion::getVersionId).toList())
+        .containsExactlyInAnyOrderElementsOf(expectedVersionIds);
+  }
+
   @ParameterizedTest
   @CsvSource({
     "SUPPORTED, DEPRECATED",
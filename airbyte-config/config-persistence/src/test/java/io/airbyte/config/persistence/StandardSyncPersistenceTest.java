@@ -11,6 +11,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
@@ -63,6 +64,8 @@ import io.airbyte.protocol.models.StreamDescriptor;
 import io.airbyte.validation.json.JsonValidationException;
 import java.io.IOException;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
@@ -163,6 +166,64 @@ class StandardSyncPersistenceTest extends BaseConfigDatabaseTest {
     assertEquals(expected, standardSyncPersistence.listStandardSync());
   }
 
+  @Test
+  void testListWorkspaceStandardSyncSummariesPaginated() throws IOException, JsonValidationException {
+    createBaseObjects();
+    final List<StandardSync> syncs = new ArrayList<>();
+    for (final String name : List.of("c", "a", "b", "a", "d")) {
+      final StandardSync sync = createStandardSync(source1, destination1).withName(name);
+      standardSyncPersistence.writeStandardSync(sync);
+      syncs.add(sync);
+    }
+    // ties on the name are broken by the connection id
+    final List<UUID> expected = syncs.stream()
+        .sorted(Comparator.comparing(StandardSync::getName).thenComparing(sync -> sync.getConnectionId().toString()))
+        .map(StandardSync::getConnectionId)
+        .toList();
+    final StandardSyncQuery query = new StandardSyncQuery(workspaceId, null, null, false);
+
+    final List<UUID> actual = new ArrayList<>();
+    List<StandardSync> page = configRepository.listWorkspaceStandardSyncSummaries(query, null, null, 2);
+    while (!page.isEmpty()) {
+      assertTrue(page.size() <= 2);
+      for (final StandardSync sync : page) {
+        assertNull(sync.getCatalog());
+        actual.add(sync.getConnectionId());
+      }
+      final StandardSync last = page.get(page.size() - 1);
+      page = configRepository.listWorkspaceStandardSyncSummaries(query, last.getName(), last.getConnectionId(), 2);
+    }
+
+    assertEquals(expected, actual);
+    assertEquals(expected,
+        configRepository.listWorkspaceStandardSyncSummaries(query, null, null, null).stream().map(StandardSync::getConnectionId).toList());
+  }
+
+  @Test
+  void testListWorkspaceStandardSyncSummariesAfterCursorConnectionChanged() throws IOException, JsonValidationException {
+    createBaseObjects();
+    final StandardSync syncA = createStandardSync(source1, destination1).withName("a");
+    final StandardSync syncB = createStandardSync(source1, destination1).withName("b");
+    final StandardSync syncC = createStandardSync(source1, destination1).withName("c");
+    for (final StandardSync sync : List.of(syncA, syncB, syncC)) {
+      standardSyncPersistence.writeStandardSync(sync);
+    }
+    final StandardSyncQuery query = new StandardSyncQuery(workspaceId, null, null, false);
+
+    // the page continues from the position of the cursor, not from where its connection is now
+    standardSyncPersistence.writeStandardSync(syncB.withName("z"));
+    assertEquals(List.of(syncC.getConnectionId(), syncB.getConnectionId()),
+        configRepository.listWorkspaceStandardSyncSummaries(query, "b", syncB.getConnectionId(), 2).stream()
+            .map(StandardSync::getConnectionId)
+            .toList());
+
+    standardSyncPersistence.deleteStandardSync(syncA.getConnectionId());
+    assertEquals(List.of(syncC.getConnectionId()),
+        configRepository.listWorkspaceStandardSyncSummaries(query, "a", syncA.getConnectionId(), 1).stream()
+            .map(StandardSync::getConnectionId)
+            .toList());
+  }
+
   @Test
   void testDelete() throws IOException, ConfigNotFoundException, JsonValidationException {
     createBaseObjects();
@@ -48,7 +48,9 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 import org.jooq.JSONB;
 import org.jooq.impl.DSL;
 import org.junit.jupiter.api.Assertions;
@@ -193,6 +195,32 @@ class StatePersistenceTest extends BaseConfigDatabaseTest {
     assertEquals(newGlobalState, storedGlobalState);
   }
 
+  @Test
+  void testLegacyMigrationToGlobalKeepsSharedState() throws IOException, SQLException {
+    statePersistence.updateOrCreateState(connectionId, new StateWrapper()
+        .withStateType(StateType.LEGACY)
+        .withLegacyState(Jsons.deserialize("{\"woot\": \"legacy states is passthrough\"}")));
+
+    // The shared state is stored under the same (null, null) key as the legacy state it replaces
+    final StateWrapper newGlobalState = new StateWrapper()
+        .withStateType(StateType.GLOBAL)
+        .withGlobal(new AirbyteStateMessage()
+            .withType(AirbyteStateType.GLOBAL)
+            .withGlobal(new AirbyteGlobalState()
+                .withSharedState(Jsons.deserialize(GLOBAL_STATE))
+                .withStreamStates(Collections.emptyList())));
+    statePersistence.updateOrCreateState(connectionId, newGlobalState);
+
+    final StateWrapper storedGlobalState = statePersistence.getCurrentState(connectionId).orElseThrow();
+    assertEquals(newGlobalState, storedGlobalState);
+    Assertions.assertEquals(Jsons.deserialize(GLOBAL_STATE), storedGlobalState.getGlobal().getGlobal().getSharedState());
+    final List<String> storedTypes = database.query(ctx -> ctx.select(DSL.field("type", String.class))
+        .from(DSL.table(STATE))
+        .where(DSL.field("connection_id").eq(connectionId))
+        .fetch(DSL.field("type", String.class)));
+    Assertions.assertEquals(List.of(StateType.GLOBAL.value()), storedTypes);
+  }
+
   @Test
   void testLegacyMigrationToStream() throws IOException {
     final StateWrapper state0 = new StateWrapper()
@@ -483,6 +511,62 @@ class StatePersistenceTest extends BaseConfigDatabaseTest {
         partialResetResult);
   }
 
+  @Test
+  void testStreamMixedInsertUpdateAndDeleteInOneUpdate() throws IOException {
+    final StateWrapper state0 = new StateWrapper()
+        .withStateType(StateType.STREAM)
+        .withStateMessages(List.of(
+            new AirbyteStateMessage()
+                .withType(AirbyteStateType.STREAM)
+                .withStream(new AirbyteStreamState()
+                    .withStreamDescriptor(new StreamDescriptor().withName("s1").withNamespace("n1"))
+                    .withStreamState(Jsons.deserialize(STATE_WITH_NAMESPACE))),
+            new AirbyteStateMessage()
+                .withType(AirbyteStateType.STREAM)
+                .withStream(new AirbyteStreamState()
+                    .withStreamDescriptor(new StreamDescriptor().withName("s2"))
+                    .withStreamState(Jsons.deserialize(STREAM_STATE_2)))));
+    statePersistence.updateOrCreateState(connectionId, state0);
+
+    // Update s1, reset s2, add s3 and reset s4 which was never persisted
+    final StateWrapper update = new StateWrapper()
+        .withStateType(StateType.STREAM)
+        .withStateMessages(List.of(
+            new AirbyteStateMessage()
+                .withType(AirbyteStateType.STREAM)
+                .withStream(new AirbyteStreamState()
+                    .withStreamDescriptor(new StreamDescriptor().withName("s1").withNamespace("n1"))
+                    .withStreamState(Jsons.deserialize("\"updated\""))),
+            new AirbyteStateMessage()
+                .withType(AirbyteStateType.STREAM)
+                .withStream(new AirbyteStreamState()
+                    .withStreamDescriptor(new StreamDescriptor().withName("s2"))
+                    .withStreamState(null)),
+            new AirbyteStateMessage()
+                .withType(AirbyteStateType.STREAM)
+                .withStream(new AirbyteStreamState()
+                    .withStreamDescriptor(new StreamDescriptor().withName("s3"))
+                    .withStreamState(Jsons.deserialize(STATE_ONE))),
+            new AirbyteStateMessage()
+                .withType(AirbyteStateType.STREAM)
+                .withStream(new AirbyteStreamState()
+                    .withStreamDescriptor(new StreamDescriptor().withName("s4"))
+                    .withStreamState(null))));
+    statePersistence.updateOrCreateState(connectionId, update);
+
+    final StateWrapper result = statePersistence.getCurrentState(connectionId).orElseThrow();
+    Assertions.assertEquals(StateType.STREAM, result.getStateType());
+    Assertions.assertEquals(
+        Set.of(
+            new AirbyteStreamState()
+                .withStreamDescriptor(new StreamDescriptor().withName("s1").withNamespace("n1"))
+                .withStreamState(Jsons.deserialize("\"updated\"")),
+            new AirbyteStreamState()
+                .withStreamDescriptor(new StreamDescriptor().withName("s3"))
+                .withStreamState(Jsons.deserialize(STATE_ONE))),
+        result.getStateMessages().stream().map(AirbyteStateMessage::getStream).collect(Collectors.toSet()));
+  }
+
   @Test
   void testStreamFullReset() throws IOException {
     final StateWrapper state0 = new StateWrapper()
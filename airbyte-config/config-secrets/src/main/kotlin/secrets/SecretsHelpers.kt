@@ -175,6 +175,9 @@ object SecretsHelpers {
    * Replaces {"_secret": "full_coordinate"} objects in the partial config with the string secret
    * payloads loaded from the secret persistence at those coordinates.
    *
+   * All the coordinates of the config are read with a single [ReadOnlySecretPersistence.readAll]
+   * call, so each distinct coordinate is only fetched once.
+   *
    * @param partialConfig configuration containing secret coordinates (references to secrets)
    * @param secretPersistence secret storage mechanism
    * @return full config including actual secret values
@@ -184,34 +187,66 @@ object SecretsHelpers {
     secretPersistence: ReadOnlySecretPersistence,
   ): JsonNode {
     return if (partialConfig != null) {
-      val config = partialConfig.deepCopy<JsonNode>()
+      val coordinates = LinkedHashSet<SecretCoordinate>()
+      collectCoordinates(partialConfig, coordinates)
+      val secrets = if (coordinates.isEmpty()) emptyMap() else secretPersistence.readAll(coordinates)
+      replaceCoordinates(partialConfig.deepCopy(), secrets)
+    } else {
+      JsonNodeFactory.instance.objectNode()
+    }
+  }
+
+  /**
+   * Collects the coordinates of the secrets that [replaceCoordinates] will replace, in the order in
+   * which they are replaced.
+   */
+  private fun collectCoordinates(
+    config: JsonNode,
+    coordinates: MutableSet<SecretCoordinate>,
+  ) {
+    // if the entire config is a secret coordinate object
+    if (config.has(COORDINATE_FIELD)) {
+      coordinates.add(getCoordinateFromTextNode(config[COORDINATE_FIELD]))
+      return
+    }
 
-      // if the entire config is a secret coordinate object
-      if (config.has(COORDINATE_FIELD)) {
-        val coordinateNode = config[COORDINATE_FIELD]
-        val coordinate: SecretCoordinate =
-          getCoordinateFromTextNode(coordinateNode)
-        return TextNode(getOrThrowSecretValue(secretPersistence, coordinate))
+    // otherwise iterate through all object fields
+    config.fields().forEachRemaining { (_, fieldNode): Map.Entry<String, JsonNode> ->
+      if (fieldNode is ArrayNode) {
+        fieldNode.forEach { collectCoordinates(it, coordinates) }
+      } else if (fieldNode is ObjectNode) {
+        collectCoordinates(fieldNode, coordinates)
       }
+    }
+  }
 
-      // otherwise iterate through all object fields
-      config.fields().forEachRemaining { (fieldName, fieldNode): Map.Entry<String, JsonNode> ->
-        if (fieldNode is ArrayNode) {
-          for (i in 0 until fieldNode.size()) {
-            fieldNode[i] =
-              combineConfig(fieldNode[i], secretPersistence)
-          }
-        } else if (fieldNode is ObjectNode) {
-          (config as ObjectNode).replace(
-            fieldName,
-            combineConfig(fieldNode, secretPersistence),
-          )
+  /**
+   * Replaces the secret coordinate objects of the config, in place, with their payloads.
+   */
+  private fun replaceCoordinates(
+    config: JsonNode,
+    secrets: Map<SecretCoordinate, String>,
+  ): JsonNode {
+    // if the entire config is a secret coordinate object
+    if (config.has(COORDINATE_FIELD)) {
+      val coordinate: SecretCoordinate = getCoordinateFromTextNode(config[COORDINATE_FIELD])
+      return TextNode(getOrThrowSecretValue(secrets[coordinate], coordinate))
+    }
+
+    // otherwise iterate through all object fields
+    config.fields().forEachRemaining { (fieldName, fieldNode): Map.Entry<String, JsonNode> ->
+      if (fieldNode is ArrayNode) {
+        for (i in 0 until fieldNode.size()) {
+          fieldNode[i] = replaceCoordinates(fieldNode[i], secrets)
         }
+      } else if (fieldNode is ObjectNode) {
+        (config as ObjectNode).replace(
+          fieldName,
+          replaceCoordinates(fieldNode, secrets),
+        )
       }
-      config
-    } else {
-      JsonNodeFactory.instance.objectNode()
     }
+    return config
   }
 
   /**
@@ -397,8 +432,15 @@ object SecretsHelpers {
     secretPersistence: ReadOnlySecretPersistence,
     coordinate: SecretCoordinate,
   ): String {
-    val secret: String = secretPersistence.read(coordinate)
-    if (secret.isNotBlank()) {
+    return getOrThrowSecretValue(secretPersistence.read(coordinate), coordinate)
+  }
+
+  @Throws(RuntimeException::class)
+  private fun getOrThrowSecretValue(
+    secret: String?,
+    coordinate: SecretCoordinate,
+  ): String {
+    if (!secret.isNullOrBlank()) {
       return secret
     } else {
       throw RuntimeException(
@@ -6,17 +6,22 @@ package io.airbyte.config.secrets.hydration
 
 import com.fasterxml.jackson.databind.JsonNode
 import io.airbyte.config.secrets.SecretsHelpers
+import io.airbyte.config.secrets.persistence.CachedReadOnlySecretPersistence
 import io.airbyte.config.secrets.persistence.RuntimeSecretPersistence
 import io.airbyte.config.secrets.persistence.SecretPersistence
 import io.micronaut.context.annotation.Requires
 import jakarta.inject.Singleton
 
 /**
- * Adds secrets to a partial config based off a persistence.
+ * Adds secrets to a partial config based off a persistence. Secrets read from the default
+ * persistence are cached for a short time, so that configs hydrated repeatedly, like the ones of a
+ * connection for each job, don't fetch them every time.
  */
 @Requires(bean = SecretPersistence::class)
 @Singleton
-class RealSecretsHydrator(private val secretPersistence: SecretPersistence) : SecretsHydrator {
+class RealSecretsHydrator(secretPersistence: SecretPersistence) : SecretsHydrator {
+  private val secretPersistence = CachedReadOnlySecretPersistence(secretPersistence)
+
   override fun hydrateFromDefaultSecretPersistence(partialConfig: JsonNode): JsonNode {
     return SecretsHelpers.combineConfig(partialConfig, secretPersistence)
   }
@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.config.secrets.persistence
+
+import com.google.common.base.Ticker
+import com.google.common.cache.Cache
+import com.google.common.cache.CacheBuilder
+import io.airbyte.config.secrets.SecretCoordinate
+import java.time.Duration
+
+/**
+ * Bounded, time limited cache in front of any [ReadOnlySecretPersistence].
+ *
+ * A full coordinate includes the version of the secret and a new version is written whenever a
+ * secret changes, so the payload at a coordinate does not change while it is cached. Missing
+ * secrets are not cached, as they may be written later.
+ */
+class CachedReadOnlySecretPersistence(
+  private val delegate: ReadOnlySecretPersistence,
+  maximumSize: Long = DEFAULT_MAXIMUM_SIZE,
+  expireAfterWrite: Duration = DEFAULT_EXPIRE_AFTER_WRITE,
+  ticker: Ticker = Ticker.systemTicker(),
+) : ReadOnlySecretPersistence {
+  private val cache: Cache<SecretCoordinate, String> =
+    CacheBuilder.newBuilder()
+      .maximumSize(maximumSize)
+      .expireAfterWrite(expireAfterWrite)
+      .ticker(ticker)
+      .build()
+
+  override fun read(coordinate: SecretCoordinate): String {
+    return readAll(listOf(coordinate)).getValue(coordinate)
+  }
+
+  override fun readAll(coordinates: Collection<SecretCoordinate>): Map<SecretCoordinate, String> {
+    val cached = cache.getAllPresent(coordinates)
+    val missing = coordinates.filterNot { cached.containsKey(it) }.distinct()
+    if (missing.isEmpty()) {
+      return coordinates.associateWith { cached.getValue(it) }
+    }
+
+    val fetched = delegate.readAll(missing)
+    fetched.forEach { (coordinate, payload) ->
+      if (payload.isNotBlank()) {
+        cache.put(coordinate, payload)
+      }
+    }
+    return coordinates.associateWith { cached[it] ?: fetched[it] ?: "" }
+  }
+
+  companion object {
+    const val DEFAULT_MAXIMUM_SIZE = 1000L
+    val DEFAULT_EXPIRE_AFTER_WRITE: Duration = Duration.ofMinutes(5)
+  }
+}
@@ -45,6 +45,27 @@ open class LocalTestingSecretPersistence(
     }
   }
 
+  @Throws(DataAccessException::class)
+  @Transactional
+  @TransactionalAdvice("local-secrets")
+  override fun readAll(coordinates: Collection<SecretCoordinate>): Map<SecretCoordinate, String> {
+    if (coordinates.isEmpty()) {
+      return emptyMap()
+    }
+    initialize()
+    val fullCoordinates = coordinates.map { it.fullCoordinate }.distinct()
+    val result =
+      dslContext.fetch(
+        "SELECT coordinate, payload FROM secrets WHERE coordinate IN (${fullCoordinates.joinToString(",") { "?" }});",
+        *fullCoordinates.toTypedArray(),
+      )
+    val payloads = HashMap<String, String>()
+    for (i in 0 until result.size) {
+      payloads[result[i].getValue(0, String::class.java)] = result[i].getValue(1, String::class.java) ?: ""
+    }
+    return coordinates.associateWith { payloads[it.fullCoordinate] ?: "" }
+  }
+
   @Transactional
   @TransactionalAdvice("local-secrets")
   override fun write(
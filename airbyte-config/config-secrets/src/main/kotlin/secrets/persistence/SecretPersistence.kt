@@ -12,6 +12,17 @@ import io.airbyte.config.secrets.SecretCoordinate
  */
 fun interface ReadOnlySecretPersistence {
   fun read(coordinate: SecretCoordinate): String
+
+  /**
+   * Reads several secrets at once. Persistences that can fetch several secrets in a single round
+   * trip should override this, the default reads each coordinate one at a time.
+   *
+   * @param coordinates the coordinates to read
+   * @return the payload of each coordinate, or an empty string if the secret doesn't exist
+   */
+  fun readAll(coordinates: Collection<SecretCoordinate>): Map<SecretCoordinate, String> {
+    return coordinates.associateWith { read(it) }
+  }
 }
 
 /**
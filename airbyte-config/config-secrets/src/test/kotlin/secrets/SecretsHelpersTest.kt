@@ -6,6 +6,7 @@ package io.airbyte.config.secrets
 
 import com.fasterxml.jackson.databind.JsonNode
 import com.fasterxml.jackson.databind.node.JsonNodeFactory
+import io.airbyte.commons.json.Jsons
 import io.airbyte.config.secrets.persistence.ReadOnlySecretPersistence
 import io.airbyte.config.secrets.persistence.SecretPersistence
 import io.airbyte.config.secrets.test.cases.ArrayOneOfTestCase
@@ -159,6 +160,7 @@ internal class SecretsHelpersTest {
     val testCase = SimpleTestCase()
     val secretPersistence: ReadOnlySecretPersistence = mockk()
     every { secretPersistence.read(any()) } returns ""
+    every { secretPersistence.readAll(any()) } answers { firstArg<Collection<SecretCoordinate>>().associateWith { "" } }
 
     Assertions.assertThrows(
       RuntimeException::class.java,
@@ -170,6 +172,37 @@ internal class SecretsHelpersTest {
     }
   }
 
+  @Test
+  fun testCombineConfigReadsEachCoordinateOnce() {
+    val secretPersistence = CountingSecretPersistence()
+    val password = SecretCoordinate("airbyte_workspace_password", 1)
+    val sshKey = SecretCoordinate("airbyte_workspace_ssh_key", 2)
+    secretPersistence.write(password, "hunter2")
+    secretPersistence.write(sshKey, "-----BEGIN KEY-----")
+    val partialConfig =
+      Jsons.jsonNode(
+        mapOf(
+          "password" to mapOf("_secret" to password.fullCoordinate),
+          "tunnel_method" to mapOf("ssh_key" to mapOf("_secret" to sshKey.fullCoordinate)),
+          "replicas" to listOf(mapOf("password" to mapOf("_secret" to password.fullCoordinate)), "not a secret"),
+        ),
+      )
+
+    val actualCombinedConfig = SecretsHelpers.combineConfig(partialConfig, secretPersistence)
+
+    val expectedConfig =
+      Jsons.jsonNode(
+        mapOf(
+          "password" to "hunter2",
+          "tunnel_method" to mapOf("ssh_key" to "-----BEGIN KEY-----"),
+          "replicas" to listOf(mapOf("password" to "hunter2"), "not a secret"),
+        ),
+      )
+    Assertions.assertEquals(expectedConfig, actualCombinedConfig)
+    Assertions.assertEquals(listOf(setOf(password, sshKey)), secretPersistence.readAllCalls)
+    Assertions.assertEquals(0, secretPersistence.readCalls)
+  }
+
   @Test
   fun testUpdatingSecretsOneAtATime() {
     val uuidIterator = SecretsTestCase.UUIDS.iterator()
@@ -271,6 +304,32 @@ internal class SecretsHelpersTest {
       .containsExactlyElementsOf(testCase.expectedSecretsPaths)
   }
 
+  /**
+   * Secret persistence that records how it is read.
+   */
+  private class CountingSecretPersistence : SecretPersistence {
+    private val delegate = MemorySecretPersistence()
+    var readCalls = 0
+    val readAllCalls = mutableListOf<Set<SecretCoordinate>>()
+
+    override fun read(coordinate: SecretCoordinate): String {
+      readCalls++
+      return delegate.read(coordinate)
+    }
+
+    override fun readAll(coordinates: Collection<SecretCoordinate>): Map<SecretCoordinate, String> {
+      readAllCalls.add(coordinates.toSet())
+      return coordinates.associateWith { delegate.read(it) }
+    }
+
+    override fun write(
+      coordinate: SecretCoordinate,
+      payload: String,
+    ) {
+      delegate.write(coordinate, payload)
+    }
+  }
+
   companion object {
     /**
      * This is a bit of a non-standard way of specifying test case parameterization for Junit, but it's
@@ -5,9 +5,11 @@
 package io.airbyte.config.secrets.hydration
 
 import io.airbyte.commons.json.Jsons
+import io.airbyte.config.secrets.SecretCoordinate
 import io.airbyte.config.secrets.persistence.SecretPersistence
 import io.mockk.every
 import io.mockk.mockk
+import io.mockk.verify
 import org.junit.jupiter.api.Assertions
 import org.junit.jupiter.api.Test
 
@@ -17,7 +19,7 @@ class RealSecretsHydratorTest {
     val coordinate = "secret_coordinate_v1"
     val secretValue = "secret_value"
     val secretPersistence: SecretPersistence = mockk()
-    every { secretPersistence.read(any()) } returns secretValue
+    every { secretPersistence.readAll(any()) } answers { firstArg<Collection<SecretCoordinate>>().associateWith { secretValue } }
     val hydrator = RealSecretsHydrator(secretPersistence)
     val partialConfig = Jsons.jsonNode(mapOf("_secret" to coordinate))
     val hydratedConfig = hydrator.hydrateFromDefaultSecretPersistence(partialConfig)
@@ -30,10 +32,27 @@ class RealSecretsHydratorTest {
     val secretValue = "secret_value"
     val secret = mapOf("config" to secretValue)
     val secretPersistence: SecretPersistence = mockk()
-    every { secretPersistence.read(any()) } returns Jsons.serialize(secret)
+    every { secretPersistence.readAll(any()) } answers {
+      firstArg<Collection<SecretCoordinate>>().associateWith { Jsons.serialize(secret) }
+    }
     val hydrator = RealSecretsHydrator(secretPersistence)
     val secretCoordinate = Jsons.jsonNode(mapOf("_secret" to coordinate))
     val hydratedCoordinate = hydrator.hydrateSecretCoordinateFromDefaultSecretPersistence(secretCoordinate)
     Assertions.assertEquals(secret["config"], hydratedCoordinate.get("config").asText())
   }
+
+  @Test
+  fun `test secrets from the default persistence are cached`() {
+    val coordinate = "secret_coordinate_v1"
+    val secretValue = "secret_value"
+    val secretPersistence: SecretPersistence = mockk()
+    every { secretPersistence.readAll(any()) } answers { firstArg<Collection<SecretCoordinate>>().associateWith { secretValue } }
+    val hydrator = RealSecretsHydrator(secretPersistence)
+    val partialConfig = Jsons.jsonNode(mapOf("password" to mapOf("_secret" to coordinate)))
+
+    repeat(3) {
+      Assertions.assertEquals(secretValue, hydrator.hydrateFromDefaultSecretPersistence(partialConfig).get("password").asText())
+    }
+    verify(exactly = 1) { secretPersistence.readAll(any()) }
+  }
 }
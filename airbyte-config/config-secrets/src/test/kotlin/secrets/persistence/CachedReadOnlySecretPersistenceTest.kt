@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.config.secrets.persistence
+
+import com.google.common.base.Ticker
+import io.airbyte.config.secrets.SecretCoordinate
+import org.junit.jupiter.api.Assertions
+import org.junit.jupiter.api.Test
+import java.time.Duration
+
+class CachedReadOnlySecretPersistenceTest {
+  private val first = SecretCoordinate("airbyte_workspace_first", 1)
+  private val second = SecretCoordinate("airbyte_workspace_second", 1)
+  private val missing = SecretCoordinate("airbyte_workspace_missing", 1)
+
+  @Test
+  fun `test only coordinates missing from the cache are fetched`() {
+    val backend = CountingReader(mapOf(first to "first secret", second to "second secret"))
+    val persistence = CachedReadOnlySecretPersistence(backend)
+
+    Assertions.assertEquals(mapOf(first to "first secret"), persistence.readAll(listOf(first, first)))
+    Assertions.assertEquals(mapOf(first to "first secret", second to "second secret"), persistence.readAll(listOf(first, second)))
+    Assertions.assertEquals("second secret", persistence.read(second))
+
+    Assertions.assertEquals(listOf(listOf(first), listOf(second)), backend.calls)
+  }
+
+  @Test
+  fun `test missing secrets are not cached`() {
+    val backend = CountingReader(mapOf(first to "first secret"))
+    val persistence = CachedReadOnlySecretPersistence(backend)
+
+    Assertions.assertEquals("", persistence.read(missing))
+    Assertions.assertEquals("", persistence.read(missing))
+
+    Assertions.assertEquals(listOf(listOf(missing), listOf(missing)), backend.calls)
+  }
+
+  @Test
+  fun `test secrets are fetched again once expired`() {
+    val backend = CountingReader(mapOf(first to "first secret"))
+    val ticker = FakeTicker()
+    val persistence = CachedReadOnlySecretPersistence(backend, 10, Duration.ofMinutes(5), ticker)
+
+    persistence.read(first)
+    ticker.advance(Duration.ofMinutes(4))
+    persistence.read(first)
+    Assertions.assertEquals(1, backend.calls.size)
+
+    ticker.advance(Duration.ofMinutes(2))
+    persistence.read(first)
+    Assertions.assertEquals(2, backend.calls.size)
+  }
+
+  @Test
+  fun `test the cache is bounded`() {
+    val backend = CountingReader(mapOf(first to "first secret", second to "second secret"))
+    val persistence = CachedReadOnlySecretPersistence(backend, 1, Duration.ofMinutes(5), FakeTicker())
+
+    persistence.read(first)
+    persistence.read(second)
+    persistence.read(first)
+
+    Assertions.assertEquals(listOf(listOf(first), listOf(second), listOf(first)), backend.calls)
+  }
+
+  private class CountingReader(private val secrets: Map<SecretCoordinate, String>) : ReadOnlySecretPersistence {
+    val calls = mutableListOf<List<SecretCoordinate>>()
+
+    override fun read(coordinate: SecretCoordinate): String {
+      return readAll(listOf(coordinate)).getValue(coordinate)
+    }
+
+    override fun readAll(coordinates: Collection<SecretCoordinate>): Map<SecretCoordinate, String> {
+      calls.add(coordinates.toList())
+      return coordinates.associateWith { secrets[it] ?: "" }
+    }
+  }
+
+  private class FakeTicker : Ticker() {
+    private var nanos = 0L
+
+    override fun read(): Long {
+      return nanos
+    }
+
+    fun advance(duration: Duration) {
+      nanos += duration.toNanos()
+    }
+  }
+}
@@ -72,6 +72,40 @@ class LocalTestingSecretPersistenceTest {
     Assertions.assertEquals("", result)
   }
 
+  @Test
+  fun `test reading several secrets from database in one query`() {
+    val first = SecretCoordinate.fromFullCoordinate("first_coordinate_v1")
+    val second = SecretCoordinate.fromFullCoordinate("second_coordinate_v2")
+    val missing = SecretCoordinate.fromFullCoordinate("missing_coordinate_v1")
+    val mockDslContext: DSLContext = mockk()
+    val mockResult: org.jooq.Result<Record> = mockk()
+    val firstRecord: Record = mockk()
+    val secondRecord: Record = mockk()
+
+    every { firstRecord.getValue(0, String::class.java) } returns first.fullCoordinate
+    every { firstRecord.getValue(1, String::class.java) } returns "first secret"
+    every { secondRecord.getValue(0, String::class.java) } returns second.fullCoordinate
+    every { secondRecord.getValue(1, String::class.java) } returns "second secret"
+    every { mockResult.size } returns 2
+    every { mockResult[0] } returns firstRecord
+    every { mockResult[1] } returns secondRecord
+    every { mockDslContext.execute(any<String>()) } returns 1
+    every { mockDslContext.fetch(any<String>(), *anyVararg<Any>()) } returns mockResult
+
+    val persistence = LocalTestingSecretPersistence(mockDslContext)
+    val result = persistence.readAll(listOf(first, second, missing))
+
+    Assertions.assertEquals(mapOf(first to "first secret", second to "second secret", missing to ""), result)
+    verify(exactly = 1) {
+      mockDslContext.fetch(
+        "SELECT coordinate, payload FROM secrets WHERE coordinate IN (?,?,?);",
+        first.fullCoordinate,
+        second.fullCoordinate,
+        missing.fullCoordinate,
+      )
+    }
+  }
+
   @Test
   fun `test writing a secret to the database`() {
     val secret = "a secret value"
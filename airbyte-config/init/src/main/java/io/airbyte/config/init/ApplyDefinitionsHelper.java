@@ -6,6 +6,10 @@ package io.airbyte.config.init;
 
 import static io.airbyte.featureflag.ContextKt.ANONYMOUS;
 
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Charsets;
+import com.google.common.hash.Hashing;
+import io.airbyte.commons.json.Jsons;
 import io.airbyte.commons.version.AirbyteProtocolVersion;
 import io.airbyte.commons.version.AirbyteProtocolVersionRange;
 import io.airbyte.config.ActorDefinitionBreakingChange;
@@ -27,6 +31,8 @@ import io.micronaut.context.annotation.Requires;
 import jakarta.inject.Named;
 import jakarta.inject.Singleton;
 import java.io.IOException;
+import java.time.LocalDate;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -53,6 +59,10 @@ public class ApplyDefinitionsHelper {
   private final SupportStateUpdater supportStateUpdater;
   private int newConnectorCount;
   private int changedConnectorCount;
+  // Registry entries applied by the last call to applyChanges, by actor definition id.
+  private Map<UUID, String> appliedDefinitionDigests = Map.of();
+  private LocalDate lastFullApplyDate;
+  private boolean lastAppliedUpdateAll;
   private static final Logger LOGGER = LoggerFactory.getLogger(ApplyDefinitionsHelper.class);
 
   public ApplyDefinitionsHelper(@Named("seedDefinitionsProvider") final DefinitionsProvider definitionsProvider,
@@ -88,16 +98,77 @@ public class ApplyDefinitionsHelper {
     final List<ConnectorRegistryDestinationDefinition> protocolCompatibleDestinationDefinitions =
         filterOutIncompatibleDestDefs(currentProtocolRange, latestDestinationDefinitions);
 
+    applyDefinitions(protocolCompatibleSourceDefinitions, protocolCompatibleDestinationDefinitions, updateAll);
+  }
+
+  /**
+   * Apply the definitions that changed in the provider since the last time this was called. This is
+   * meant for callers that poll the provider, like the definitions updater cron.
+   * <p>
+   * Every definition is applied on the first call of the day, as support states depend on the
+   * current date and whether a definition is in use can change without it changing in the provider.
+   * Later calls only apply the definitions whose registry entry changed, and don't touch the
+   * database at all if none did.
+   *
+   * @param updateAll - Whether we should overwrite all stored definitions. See {@link #apply(boolean)}.
+   * @return whether any definition was applied
+   */
+  public boolean applyChanges(final boolean updateAll) throws JsonValidationException, IOException, ConfigNotFoundException {
+    return applyChanges(updateAll, LocalDate.now());
+  }
+
+  @VisibleForTesting
+  synchronized boolean applyChanges(final boolean updateAll, final LocalDate referenceDate)
+      throws JsonValidationException, IOException, ConfigNotFoundException {
+    final Optional<AirbyteProtocolVersionRange> currentProtocolRange = jobPersistence.getCurrentProtocolVersionRange();
+    final List<ConnectorRegistrySourceDefinition> protocolCompatibleSourceDefinitions =
+        filterOutIncompatibleSourceDefs(currentProtocolRange, definitionsProvider.getSourceDefinitions());
+    final List<ConnectorRegistryDestinationDefinition> protocolCompatibleDestinationDefinitions =
+        filterOutIncompatibleDestDefs(currentProtocolRange, definitionsProvider.getDestinationDefinitions());
+
+    final Map<UUID, String> definitionDigests = new HashMap<>();
+    protocolCompatibleSourceDefinitions.forEach(def -> definitionDigests.put(def.getSourceDefinitionId(), getDigest(def)));
+    protocolCompatibleDestinationDefinitions.forEach(def -> definitionDigests.put(def.getDestinationDefinitionId(), getDigest(def)));
+
+    final boolean applyAll = !referenceDate.equals(lastFullApplyDate) || updateAll != lastAppliedUpdateAll;
+    final List<ConnectorRegistrySourceDefinition> sourceDefinitionsToApply = protocolCompatibleSourceDefinitions.stream()
+        .filter(def -> applyAll || hasChanged(def.getSourceDefinitionId(), definitionDigests))
+        .toList();
+    final List<ConnectorRegistryDestinationDefinition> destinationDefinitionsToApply = protocolCompatibleDestinationDefinitions.stream()
+        .filter(def -> applyAll || hasChanged(def.getDestinationDefinitionId(), definitionDigests))
+        .toList();
+
+    if (sourceDefinitionsToApply.isEmpty() && destinationDefinitionsToApply.isEmpty()) {
+      LOGGER.info("No definition changed since the last update, skipping");
+      return false;
+    }
+
+    LOGGER.info("Applying {} source and {} destination definitions", sourceDefinitionsToApply.size(), destinationDefinitionsToApply.size());
+    applyDefinitions(sourceDefinitionsToApply, destinationDefinitionsToApply, updateAll);
+
+    // only remember what was applied once it succeeded, so failed definitions are retried
+    appliedDefinitionDigests = definitionDigests;
+    lastAppliedUpdateAll = updateAll;
+    if (applyAll) {
+      lastFullApplyDate = referenceDate;
+    }
+    return true;
+  }
+
+  private void applyDefinitions(final List<ConnectorRegistrySourceDefinition> sourceDefinitions,
+                                final List<ConnectorRegistryDestinationDefinition> destinationDefinitions,
+                                final boolean updateAll)
+      throws JsonValidationException, IOException, ConfigNotFoundException {
     final Map<UUID, ActorDefinitionVersion> actorDefinitionIdsToDefaultVersionsMap = configRepository.getActorDefinitionIdsToDefaultVersionsMap();
     final Set<UUID> actorDefinitionIdsInUse = configRepository.getActorDefinitionIdsInUse();
 
     newConnectorCount = 0;
     changedConnectorCount = 0;
 
-    for (final ConnectorRegistrySourceDefinition def : protocolCompatibleSourceDefinitions) {
+    for (final ConnectorRegistrySourceDefinition def : sourceDefinitions) {
       applySourceDefinition(actorDefinitionIdsToDefaultVersionsMap, def, actorDefinitionIdsInUse, updateAll);
     }
-    for (final ConnectorRegistryDestinationDefinition def : protocolCompatibleDestinationDefinitions) {
+    for (final ConnectorRegistryDestinationDefinition def : destinationDefinitions) {
       applyDestinationDefinition(actorDefinitionIdsToDefaultVersionsMap, def, actorDefinitionIdsInUse, updateAll);
     }
     if (featureFlagClient.boolVariation(RunSupportStateUpdater.INSTANCE, new Workspace(ANONYMOUS))) {
@@ -108,6 +179,24 @@ public class ApplyDefinitionsHelper {
     LOGGER.info("Version changes applied: {}", changedConnectorCount);
   }
 
+  private boolean hasChanged(final UUID actorDefinitionId, final Map<UUID, String> definitionDigests) {
+    final String digest = definitionDigests.get(actorDefinitionId);
+    return digest == null || !digest.equals(appliedDefinitionDigests.get(actorDefinitionId));
+  }
+
+  /**
+   * SHA-256 of the canonical JSON of a registry entry, or null if it can't be serialized, in which
+   * case the entry is always considered changed.
+   */
+  private static String getDigest(final Object registryDefinition) {
+    try {
+      return Hashing.sha256().hashString(Jsons.canonicalJsonSerialize(Jsons.jsonNode(registryDefinition)), Charsets.UTF_8).toString();
+    } catch (final IOException e) {
+      LOGGER.warn("Failed to serialize registry definition to canonical JSON", e);
+      return null;
+    }
+  }
+
   private void applySourceDefinition(final Map<UUID, ActorDefinitionVersion> actorDefinitionIdsAndDefaultVersions,
                                      final ConnectorRegistrySourceDefinition newDef,
                                      final Set<UUID> actorDefinitionIdsInUse,
@@ -157,13 +157,19 @@ public class SupportStateUpdater {
     final List<ActorDefinitionBreakingChange> allBreakingChanges = configRepository.listBreakingChanges();
     final Map<UUID, List<ActorDefinitionBreakingChange>> breakingChangesMap = allBreakingChanges.stream()
         .collect(Collectors.groupingBy(ActorDefinitionBreakingChange::getActorDefinitionId));
+    final List<UUID> actorDefinitionIds = Stream.concat(
+        sourceDefinitions.stream().map(StandardSourceDefinition::getSourceDefinitionId),
+        destinationDefinitions.stream().map(StandardDestinationDefinition::getDestinationDefinitionId)).toList();
+    final Map<UUID, List<ActorDefinitionVersion>> actorDefinitionVersionsMap = configRepository
+        .listActorDefinitionVersionsForDefinitions(actorDefinitionIds).stream()
+        .collect(Collectors.groupingBy(ActorDefinitionVersion::getActorDefinitionId));
 
     SupportStateUpdate comboSupportStateUpdate = new SupportStateUpdate(List.of(), List.of(), List.of());
     final List<BreakingChangeNotificationData> notificationData = new ArrayList<>();
 
     for (final StandardSourceDefinition sourceDefinition : sourceDefinitions) {
       final List<ActorDefinitionVersion> actorDefinitionVersions =
-          configRepository.listActorDefinitionVersionsForDefinition(sourceDefinition.getSourceDefinitionId());
+          actorDefinitionVersionsMap.getOrDefault(sourceDefinition.getSourceDefinitionId(), List.of());
       final Version currentDefaultVersion = getVersionTag(actorDefinitionVersions, sourceDefinition.getDefaultVersionId());
       final List<ActorDefinitionBreakingChange> breakingChangesForDef =
           breakingChangesMap.getOrDefault(sourceDefinition.getSourceDefinitionId(), List.of());
@@ -185,7 +191,7 @@ public class SupportStateUpdater {
 
     for (final StandardDestinationDefinition destinationDefinition : destinationDefinitions) {
       final List<ActorDefinitionVersion> actorDefinitionVersions =
-          configRepository.listActorDefinitionVersionsForDefinition(destinationDefinition.getDestinationDefinitionId());
+          actorDefinitionVersionsMap.getOrDefault(destinationDefinition.getDestinationDefinitionId(), List.of());
       final Version currentDefaultVersion = getVersionTag(actorDefinitionVersions, destinationDefinition.getDefaultVersionId());
       final List<ActorDefinitionBreakingChange> breakingChangesForDef =
           breakingChangesMap.getOrDefault(destinationDefinition.getDestinationDefinitionId(), List.of());
@@ -5,8 +5,16 @@
 package io.airbyte.config.init;
 
 import static io.airbyte.featureflag.ContextKt.ANONYMOUS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.clearInvocations;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockingDetails;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -23,6 +31,7 @@ import io.airbyte.config.helpers.ConnectorRegistryConverters;
 import io.airbyte.config.persistence.ConfigNotFoundException;
 import io.airbyte.config.persistence.ConfigRepository;
 import io.airbyte.config.specs.DefinitionsProvider;
+import io.airbyte.config.specs.LocalDefinitionsProvider;
 import io.airbyte.featureflag.FeatureFlagClient;
 import io.airbyte.featureflag.RunSupportStateUpdater;
 import io.airbyte.featureflag.TestClient;
@@ -31,6 +40,7 @@ import io.airbyte.persistence.job.JobPersistence;
 import io.airbyte.protocol.models.ConnectorSpecification;
 import io.airbyte.validation.json.JsonValidationException;
 import java.io.IOException;
+import java.time.LocalDate;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -56,6 +66,7 @@ class ApplyDefinitionsHelperTest {
   private ApplyDefinitionsHelper applyDefinitionsHelper;
 
   private static final String PROTOCOL_VERSION = "2.0.0";
+  private static final LocalDate TODAY = LocalDate.parse("2023-11-01");
 
   protected static final UUID POSTGRES_ID = UUID.fromString("decd338e-5647-4c0b-adf4-da0e75f5a750");
   private static final BreakingChanges registryBreakingChanges = new BreakingChanges().withAdditionalProperty("1.0.0", new VersionBreakingChange()
@@ -267,4 +278,91 @@ class ApplyDefinitionsHelperTest {
     verifyNoMoreInteractions(configRepository, supportStateUpdater);
   }
 
+  @Test
+  void testApplyChangesSkipsUnchangedRegistry() throws JsonValidationException, ConfigNotFoundException, IOException {
+    final DefinitionsProvider localDefinitionsProvider = new LocalDefinitionsProvider();
+    final int registrySize = localDefinitionsProvider.getSourceDefinitions().size() + localDefinitionsProvider.getDestinationDefinitions().size();
+    applyDefinitionsHelper =
+        new ApplyDefinitionsHelper(localDefinitionsProvider, jobPersistence, configRepository, featureFlagClient, supportStateUpdater);
+
+    assertTrue(applyDefinitionsHelper.applyChanges(false, TODAY));
+    final int configRepositoryCalls = mockingDetails(configRepository).getInvocations().size();
+    // the stored definitions are read in bulk, and every definition of the registry is written once
+    assertTrue(configRepositoryCalls > 2);
+    assertTrue(configRepositoryCalls <= registrySize + 2);
+
+    // the registry is read again, but nothing changed in it
+    assertFalse(applyDefinitionsHelper.applyChanges(false, TODAY));
+    assertFalse(applyDefinitionsHelper.applyChanges(false, TODAY));
+    assertEquals(configRepositoryCalls, mockingDetails(configRepository).getInvocations().size());
+    verify(supportStateUpdater, times(1)).updateSupportStates();
+  }
+
+  @Test
+  void testApplyChangesOnlyAppliesChangedDefinitions() throws JsonValidationException, ConfigNotFoundException, IOException {
+    when(definitionsProvider.getSourceDefinitions()).thenReturn(List.of(SOURCE_POSTGRES));
+    when(definitionsProvider.getDestinationDefinitions()).thenReturn(List.of(DESTINATION_S3));
+    assertTrue(applyDefinitionsHelper.applyChanges(false, TODAY));
+
+    mockSeedInitialDefinitions();
+    when(configRepository.getActorDefinitionIdsInUse()).thenReturn(Set.of());
+    clearInvocations(configRepository, supportStateUpdater);
+
+    when(definitionsProvider.getSourceDefinitions()).thenReturn(List.of(SOURCE_POSTGRES_2));
+    assertTrue(applyDefinitionsHelper.applyChanges(false, TODAY));
+    verifyConfigRepositoryGetInteractions();
+
+    verify(configRepository).writeConnectorMetadata(
+        ConnectorRegistryConverters.toStandardSourceDefinition(SOURCE_POSTGRES_2),
+        ConnectorRegistryConverters.toActorDefinitionVersion(SOURCE_POSTGRES_2),
+        ConnectorRegistryConverters.toActorDefinitionBreakingChanges(SOURCE_POSTGRES_2));
+    verify(supportStateUpdater).updateSupportStates();
+
+    verifyNoMoreInteractions(configRepository, supportStateUpdater);
+  }
+
+  @Test
+  void testApplyChangesAppliesAllDefinitionsOnceADay() throws JsonValidationException, ConfigNotFoundException, IOException {
+    mockSeedInitialDefinitions();
+    when(configRepository.getActorDefinitionIdsInUse()).thenReturn(Set.of(POSTGRES_ID, S3_ID));
+    when(definitionsProvider.getSourceDefinitions()).thenReturn(List.of(SOURCE_POSTGRES_2));
+    when(definitionsProvider.getDestinationDefinitions()).thenReturn(List.of(DESTINATION_S3_2));
+
+    assertTrue(applyDefinitionsHelper.applyChanges(false, TODAY));
+    assertFalse(applyDefinitionsHelper.applyChanges(false, TODAY));
+    clearInvocations(configRepository, supportStateUpdater);
+
+    // the connectors aren't in use anymore, which is only picked up by the daily update
+    when(configRepository.getActorDefinitionIdsInUse()).thenReturn(Set.of());
+    assertTrue(applyDefinitionsHelper.applyChanges(false, TODAY.plusDays(1)));
+    verifyConfigRepositoryGetInteractions();
+
+    verify(configRepository).writeConnectorMetadata(
+        ConnectorRegistryConverters.toStandardSourceDefinition(SOURCE_POSTGRES_2),
+        ConnectorRegistryConverters.toActorDefinitionVersion(SOURCE_POSTGRES_2),
+        ConnectorRegistryConverters.toActorDefinitionBreakingChanges(SOURCE_POSTGRES_2));
+    verify(configRepository).writeConnectorMetadata(
+        ConnectorRegistryConverters.toStandardDestinationDefinition(DESTINATION_S3_2),
+        ConnectorRegistryConverters.toActorDefinitionVersion(DESTINATION_S3_2),
+        ConnectorRegistryConverters.toActorDefinitionBreakingChanges(DESTINATION_S3_2));
+    verify(supportStateUpdater).updateSupportStates();
+
+    verifyNoMoreInteractions(configRepository, supportStateUpdater);
+  }
+
+  @Test
+  void testApplyChangesRetriesFailedApply() throws JsonValidationException, ConfigNotFoundException, IOException {
+    when(definitionsProvider.getSourceDefinitions()).thenReturn(List.of(SOURCE_POSTGRES));
+    when(configRepository.getActorDefinitionIdsToDefaultVersionsMap()).thenThrow(new IOException("database unavailable"));
+
+    assertThrows(IOException.class, () -> applyDefinitionsHelper.applyChanges(false, TODAY));
+
+    reset(configRepository);
+    assertTrue(applyDefinitionsHelper.applyChanges(false, TODAY));
+    verify(configRepository).writeConnectorMetadata(
+        ConnectorRegistryConverters.toStandardSourceDefinition(SOURCE_POSTGRES),
+        ConnectorRegistryConverters.toActorDefinitionVersion(SOURCE_POSTGRES),
+        ConnectorRegistryConverters.toActorDefinitionBreakingChanges(SOURCE_POSTGRES));
+  }
+
 }
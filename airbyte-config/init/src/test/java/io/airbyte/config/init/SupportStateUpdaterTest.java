@@ -177,10 +177,8 @@ class SupportStateUpdaterTest {
     when(mConfigRepository.listPublicSourceDefinitions(false)).thenReturn(List.of(sourceDefinition));
     when(mConfigRepository.listPublicDestinationDefinitions(false)).thenReturn(List.of(destinationDefinition));
     when(mConfigRepository.listBreakingChanges()).thenReturn(List.of(SRC_BC_1_0_0, DEST_BC_1_0_0));
-    when(mConfigRepository.listActorDefinitionVersionsForDefinition(ACTOR_DEFINITION_ID))
-        .thenReturn(List.of(SRC_V0_1_0, SRC_V1_0_0));
-    when(mConfigRepository.listActorDefinitionVersionsForDefinition(destinationDefinitionId))
-        .thenReturn(List.of(DEST_V0_1_0, DEST_V1_0_0));
+    when(mConfigRepository.listActorDefinitionVersionsForDefinitions(List.of(ACTOR_DEFINITION_ID, destinationDefinitionId)))
+        .thenReturn(List.of(SRC_V0_1_0, SRC_V1_0_0, DEST_V0_1_0, DEST_V1_0_0));
     when(mConfigRepository.getActorDefinitionVersion(DEST_V1_0_0.getVersionId())).thenReturn(DEST_V1_0_0);
 
     final List<UUID> workspaceIdsToNotify = List.of(UUID.randomUUID(), UUID.randomUUID());
@@ -200,8 +198,7 @@ class SupportStateUpdaterTest {
     verify(mConfigRepository).listPublicSourceDefinitions(false);
     verify(mConfigRepository).listPublicDestinationDefinitions(false);
     verify(mConfigRepository).listBreakingChanges();
-    verify(mConfigRepository).listActorDefinitionVersionsForDefinition(ACTOR_DEFINITION_ID);
-    verify(mConfigRepository).listActorDefinitionVersionsForDefinition(destinationDefinitionId);
+    verify(mConfigRepository).listActorDefinitionVersionsForDefinitions(List.of(ACTOR_DEFINITION_ID, destinationDefinitionId));
     verify(mConfigRepository).getActorDefinitionVersion(DEST_V1_0_0.getVersionId());
     verify(mActorDefinitionVersionHelper).getActiveWorkspaceSyncsWithDestinationVersionIds(destinationDefinition,
         List.of(DEST_V0_1_0.getVersionId()));
@@ -69,6 +69,8 @@ airbyte {
         "CDK_PYTHON"     to (System.getenv("CDK_PYTHON") ?: ""),
         // path to CDK connector builder"s main.py)
         "CDK_ENTRYPOINT" to (System.getenv("CDK_ENTRYPOINT") ?: ""),
+        // path to the long-lived CDK worker, run with the CDK virtual environment)
+        "CDK_WORKER_ENTRYPOINT" to (System.getenv("CDK_WORKER_ENTRYPOINT") ?: "$projectDir/cdk_worker.py"),
         ))
     }
     docker {
@@ -125,7 +127,7 @@ sourceSets {
 }
 
 val copyPythonDeps = tasks.register<Copy>("copyPythonDependencies") {
-    from("$projectDir/requirements.txt")
+    from("$projectDir/requirements.txt", "$projectDir/cdk_worker.py")
     into("$buildDir/airbyte/docker/")
 }
 //
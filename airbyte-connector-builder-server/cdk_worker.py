@@ -0,0 +1,101 @@
+#
+# Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+#
+
+"""
+Long-lived worker handling requests for the CDK's Connector Builder handler.
+
+The CDK is imported once when the worker starts, which is what dominates the latency of launching
+a Python process per request. Each request is then handled in a forked child process, so that no
+state leaks from one request to the next and a request running over its timeout can be killed
+without losing the warm interpreter.
+
+The worker reads one JSON document per line from stdin and writes one per line to stdout:
+
+  worker -> server  {"__cdk_worker__": "ready"}                     once the CDK is imported
+  server -> worker  {"ping": true}
+  worker -> server  {"__cdk_worker__": "pong"}
+  server -> worker  {"config": "<config file contents>", "catalog": "<catalog file contents>", "timeout_seconds": 300}
+  worker -> server  the Airbyte messages printed for the request, followed by
+                    {"__cdk_worker__": "done", "exit_code": 0, "timed_out": false}
+
+The worker exits once its stdin is closed.
+"""
+
+import json
+import os
+import signal
+import sys
+import tempfile
+import time
+
+from airbyte_cdk.connector_builder import main as connector_builder_main
+from airbyte_cdk.utils.traced_exception import AirbyteTracedException
+
+CONTROL_KEY = "__cdk_worker__"
+CHILD_POLL_INTERVAL_SECONDS = 0.01
+
+
+def write_control_message(message, **fields):
+    sys.stdout.write(json.dumps({CONTROL_KEY: message, **fields}) + "\n")
+    sys.stdout.flush()
+
+
+def handle_request(request):
+    # Same arguments as the one-shot `main.py read --config <path> --catalog <path>` invocation.
+    with tempfile.TemporaryDirectory() as directory:
+        config_path = os.path.join(directory, "config.json")
+        catalog_path = os.path.join(directory, "catalog.json")
+        with open(config_path, "w") as config_file:
+            config_file.write(request["config"])
+        with open(catalog_path, "w") as catalog_file:
+            catalog_file.write(request["catalog"])
+
+        try:
+            print(connector_builder_main.handle_request(["read", "--config", config_path, "--catalog", catalog_path]))
+        except Exception as exc:
+            error = AirbyteTracedException.from_exception(exc, message=f"Error handling request: {str(exc)}")
+            print(error.as_airbyte_message().json(exclude_unset=True))
+    sys.stdout.flush()
+
+
+def fork_and_handle_request(request):
+    """Returns the exit code of the child that handled the request, and whether it timed out."""
+    timeout_seconds = request.get("timeout_seconds")
+    pid = os.fork()
+    if pid == 0:
+        exit_code = 1
+        try:
+            handle_request(request)
+            exit_code = 0
+        finally:
+            # skip the interpreter shutdown, which would run the parent's exit handlers
+            os._exit(exit_code)
+
+    deadline = time.monotonic() + timeout_seconds if timeout_seconds else None
+    while True:
+        waited_pid, status = os.waitpid(pid, os.WNOHANG)
+        if waited_pid != 0:
+            return os.waitstatus_to_exitcode(status), False
+        if deadline is not None and time.monotonic() >= deadline:
+            os.kill(pid, signal.SIGKILL)
+            _, status = os.waitpid(pid, 0)
+            return os.waitstatus_to_exitcode(status), True
+        time.sleep(CHILD_POLL_INTERVAL_SECONDS)
+
+
+def main():
+    write_control_message("ready")
+    for line in sys.stdin:
+        if not line.strip():
+            continue
+        request = json.loads(line)
+        if request.get("ping"):
+            write_control_message("pong")
+            continue
+        exit_code, timed_out = fork_and_handle_request(request)
+        write_control_message("done", exit_code=exit_code, timed_out=timed_out)
+
+
+if __name__ == "__main__":
+    main()
@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.connector_builder.command_runner;
+
+import io.airbyte.connector_builder.exceptions.ConnectorBuilderException;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Bounded pool of warm {@link CdkWorkerProcess}es.
+ * <p>
+ * Workers are health checked before handing them a request, and replaced in the background once
+ * they've handled their maximum number of requests or a request failed or timed out on them, so a
+ * warm worker is ready for the next request.
+ */
+public class CdkWorkerPool implements AutoCloseable {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(CdkWorkerPool.class);
+  private static final Duration HEALTH_CHECK_TIMEOUT = Duration.ofSeconds(5);
+
+  private final List<String> command;
+  private final int maxRequestsPerWorker;
+  private final Duration startupTimeout;
+  private final Semaphore permits;
+  private final BlockingQueue<CdkWorkerProcess> idleWorkers;
+  private final ExecutorService warmUpExecutor;
+  private volatile boolean closed;
+
+  public CdkWorkerPool(final List<String> command, final int size, final int maxRequestsPerWorker, final Duration startupTimeout) {
+    this.command = command;
+    this.maxRequestsPerWorker = maxRequestsPerWorker;
+    this.startupTimeout = startupTimeout;
+    this.permits = new Semaphore(size);
+    this.idleWorkers = new LinkedBlockingQueue<>(size);
+    this.warmUpExecutor = Executors.newSingleThreadExecutor(runnable -> {
+      final Thread thread = new Thread(runnable, "cdk-worker-pool-warm-up");
+      thread.setDaemon(true);
+      return thread;
+    });
+    for (int i = 0; i < size; i++) {
+      warmUpExecutor.submit(this::addIdleWorker);
+    }
+  }
+
+  /**
+   * Handle a request on a pooled worker.
+   *
+   * @return the response of the worker, or empty if every worker is busy or the request couldn't be
+   *         handled by a worker, in which case it should be handled by a one-shot process instead.
+   */
+  Optional<CdkWorkerProcess.Response> handle(final String configContents, final String catalogContents, final Duration timeout) {
+    if (closed || !permits.tryAcquire()) {
+      return Optional.empty();
+    }
+
+    CdkWorkerProcess worker = null;
+    boolean reusable = false;
+    try {
+      worker = borrow();
+      final CdkWorkerProcess.Response response = worker.handle(configContents, catalogContents, timeout);
+      reusable = response.exitCode() == 0 && !response.timedOut() && worker.getHandledRequests() < maxRequestsPerWorker;
+      return Optional.of(response);
+    } catch (final IOException e) {
+      LOGGER.warn("CDK worker was unable to handle the request.", e);
+      return Optional.empty();
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new ConnectorBuilderException("Interrupted while waiting for a CDK worker.", e);
+    } finally {
+      if (worker != null) {
+        release(worker, reusable);
+      }
+      permits.release();
+    }
+  }
+
+  /**
+   * Stop all idle workers. Busy workers are stopped once their request completes.
+   */
+  @Override
+  public void close() {
+    closed = true;
+    warmUpExecutor.shutdownNow();
+    CdkWorkerProcess worker;
+    while ((worker = idleWorkers.poll()) != null) {
+      worker.close();
+    }
+  }
+
+  private CdkWorkerProcess borrow() throws IOException, InterruptedException {
+    CdkWorkerProcess worker;
+    while ((worker = idleWorkers.poll()) != null) {
+      if (worker.isHealthy(HEALTH_CHECK_TIMEOUT)) {
+        return worker;
+      }
+      LOGGER.warn("Discarding unhealthy CDK worker {}", worker.pid());
+      worker.close();
+    }
+    // no warm worker is available yet
+    return CdkWorkerProcess.start(command, startupTimeout);
+  }
+
+  private void release(final CdkWorkerProcess worker, final boolean reusable) {
+    if (reusable && !closed && idleWorkers.offer(worker)) {
+      return;
+    }
+    worker.close();
+    if (!closed) {
+      warmUpExecutor.submit(this::addIdleWorker);
+    }
+  }
+
+  private void addIdleWorker() {
+    if (closed || idleWorkers.remainingCapacity() == 0) {
+      return;
+    }
+    try {
+      final CdkWorkerProcess worker = CdkWorkerProcess.start(command, startupTimeout);
+      if (closed || !idleWorkers.offer(worker)) {
+        worker.close();
+      }
+    } catch (final IOException e) {
+      LOGGER.warn("Unable to start a CDK worker.", e);
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+}
@@ -0,0 +1,206 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.connector_builder.command_runner;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.airbyte.commons.io.IOs;
+import io.airbyte.commons.json.Jsons;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Wrapper for a long-lived Python process running `cdk_worker.py`, which handles requests for the
+ * CDK connector builder handler one at a time over its stdin and stdout.
+ */
+class CdkWorkerProcess implements AutoCloseable {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(CdkWorkerProcess.class);
+  private static final String CONTROL_KEY = "__cdk_worker__";
+  private static final String CONTROL_MESSAGE_PREFIX = "{\"" + CONTROL_KEY + "\"";
+  // How long to wait for the worker to report a request it timed out itself.
+  private static final Duration TIMEOUT_GRACE_PERIOD = Duration.ofSeconds(10);
+  private static final Duration CLOSE_TIMEOUT = Duration.ofSeconds(5);
+
+  /**
+   * Output of a request handled by a worker.
+   *
+   * @param output lines printed for the request, without the worker's control messages
+   * @param exitCode exit code of the child process that handled the request
+   * @param timedOut whether the request was killed for running over its timeout
+   */
+  record Response(List<String> output, int exitCode, boolean timedOut) {}
+
+  private final Process process;
+  private final BufferedWriter stdin;
+  // An empty element marks the end of the worker's stdout.
+  private final BlockingQueue<Optional<String>> stdout = new LinkedBlockingQueue<>();
+  private int handledRequests;
+
+  private CdkWorkerProcess(final Process process) {
+    this.process = process;
+    this.stdin = new BufferedWriter(new OutputStreamWriter(process.getOutputStream(), StandardCharsets.UTF_8));
+    readLines("cdk-worker-stdout-" + process.pid(), process.getInputStream(),
+        line -> stdout.add(Optional.of(line)),
+        () -> stdout.add(Optional.empty()));
+    readLines("cdk-worker-stderr-" + process.pid(), process.getErrorStream(),
+        line -> LOGGER.debug("[CDK worker {}] {}", process.pid(), line),
+        () -> {});
+  }
+
+  /**
+   * Start a worker and wait until it is ready to handle requests.
+   */
+  static CdkWorkerProcess start(final List<String> command, final Duration startupTimeout) throws IOException, InterruptedException {
+    final CdkWorkerProcess worker = new CdkWorkerProcess(new ProcessBuilder(command).start());
+    final Optional<JsonNode> ready = worker.readUntilControlMessage(startupTimeout, line -> {});
+    if (ready.isEmpty() || !"ready".equals(ready.get().get(CONTROL_KEY).asText())) {
+      worker.close();
+      throw new IOException(String.format("CDK worker did not become ready within %s.", startupTimeout));
+    }
+    LOGGER.debug("Started CDK worker {}", worker.pid());
+    return worker;
+  }
+
+  /**
+   * Handle a request, with the same config and catalog contents as the files given to a one-shot
+   * CDK process.
+   *
+   * @throws IOException if the worker can't be used anymore
+   */
+  Response handle(final String configContents, final String catalogContents, final Duration timeout)
+      throws IOException, InterruptedException {
+    handledRequests++;
+    write(Map.of("config", configContents, "catalog", catalogContents, "timeout_seconds", timeout.toSeconds()));
+
+    final List<String> output = new ArrayList<>();
+    final Optional<JsonNode> done = readUntilControlMessage(timeout.plus(TIMEOUT_GRACE_PERIOD), output::add);
+    if (done.isEmpty()) {
+      throw new IOException(String.format("CDK worker %d did not complete the request within %s.", pid(), timeout));
+    }
+    return new Response(output, done.get().get("exit_code").asInt(), done.get().get("timed_out").asBoolean());
+  }
+
+  /**
+   * Whether the worker is still running and answering requests.
+   */
+  boolean isHealthy(final Duration timeout) {
+    if (!process.isAlive()) {
+      return false;
+    }
+    try {
+      write(Map.of("ping", true));
+      return readUntilControlMessage(timeout, line -> {}).map(message -> "pong".equals(message.get(CONTROL_KEY).asText())).orElse(false);
+    } catch (final IOException e) {
+      return false;
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+
+  int getHandledRequests() {
+    return handledRequests;
+  }
+
+  long pid() {
+    return process.pid();
+  }
+
+  /**
+   * Stop the worker. Closing its stdin lets it exit on its own, the process is only killed if it
+   * doesn't.
+   */
+  @Override
+  public void close() {
+    try {
+      stdin.close();
+      if (!process.waitFor(CLOSE_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)) {
+        destroyProcessTree();
+      }
+    } catch (final IOException e) {
+      destroyProcessTree();
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      destroyProcessTree();
+    }
+  }
+
+  /**
+   * Kill the worker along with the child it forked for the request in flight, if any, which would
+   * otherwise keep running on its own.
+   */
+  private void destroyProcessTree() {
+    // The descendants have to be listed before the worker is killed, they can't be found anymore once
+    // they are reparented.
+    process.descendants().forEach(ProcessHandle::destroyForcibly);
+    process.destroyForcibly();
+  }
+
+  private void write(final Map<String, Object> message) throws IOException {
+    stdin.write(Jsons.serialize(message));
+    stdin.newLine();
+    stdin.flush();
+  }
+
+  /**
+   * Pass the lines printed by the worker to the consumer until it prints a control message.
+   *
+   * @return the control message, or empty if the worker stopped or didn't print one in time
+   */
+  private Optional<JsonNode> readUntilControlMessage(final Duration timeout, final Consumer<String> consumer) throws InterruptedException {
+    final long deadline = System.nanoTime() + timeout.toNanos();
+    while (true) {
+      final Optional<String> line = stdout.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+      if (line == null) {
+        return Optional.empty();
+      }
+      if (line.isEmpty()) {
+        // keep the end marker for the next read
+        stdout.add(line);
+        return Optional.empty();
+      }
+      if (line.get().startsWith(CONTROL_MESSAGE_PREFIX)) {
+        final Optional<JsonNode> message = Jsons.tryDeserialize(line.get());
+        if (message.isPresent() && message.get().has(CONTROL_KEY)) {
+          return message;
+        }
+      }
+      consumer.accept(line.get());
+    }
+  }
+
+  private void readLines(final String threadName, final InputStream inputStream, final Consumer<String> consumer, final Runnable onEnd) {
+    final Thread thread = new Thread(() -> {
+      try (final BufferedReader reader = IOs.newBufferedReader(inputStream)) {
+        String line;
+        while ((line = reader.readLine()) != null) {
+          consumer.accept(line);
+        }
+      } catch (final IOException e) {
+        LOGGER.debug("Stopped reading from CDK worker {}", process.pid(), e);
+      } finally {
+        onEnd.run();
+      }
+    }, threadName);
+    thread.setDaemon(true);
+    thread.start();
+  }
+
+}
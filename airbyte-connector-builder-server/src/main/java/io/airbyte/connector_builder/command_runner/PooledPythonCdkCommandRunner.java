@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.connector_builder.command_runner;
+
+import datadog.trace.api.Trace;
+import io.airbyte.connector_builder.TracingHelper;
+import io.airbyte.connector_builder.exceptions.CdkProcessException;
+import io.airbyte.connector_builder.exceptions.CdkUnknownException;
+import io.airbyte.protocol.models.AirbyteMessage;
+import io.airbyte.protocol.models.AirbyteMessage.Type;
+import io.airbyte.protocol.models.AirbyteRecordMessage;
+import io.airbyte.workers.internal.AirbyteStreamFactory;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Communicates with the CDK's Connector Builder handler through a {@link CdkWorkerPool} of warm
+ * Python processes, which saves starting the interpreter and importing the CDK on every request.
+ * <p>
+ * Requests that no worker is available for, or that crashed their worker, are handled by the
+ * one-shot runner instead.
+ */
+public class PooledPythonCdkCommandRunner implements SynchronousCdkCommandRunner {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(PooledPythonCdkCommandRunner.class);
+
+  private final CdkWorkerPool pool;
+  private final AirbyteStreamFactory streamFactory;
+  private final Duration requestTimeout;
+  private final SynchronousCdkCommandRunner oneShotRunner;
+
+  public PooledPythonCdkCommandRunner(
+                                      final CdkWorkerPool pool,
+                                      final AirbyteStreamFactory streamFactory,
+                                      final Duration requestTimeout,
+                                      final SynchronousCdkCommandRunner oneShotRunner) {
+    this.pool = pool;
+    this.streamFactory = streamFactory;
+    this.requestTimeout = requestTimeout;
+    this.oneShotRunner = oneShotRunner;
+  }
+
+  @Override
+  @Trace(operationName = TracingHelper.CONNECTOR_BUILDER_OPERATION_NAME)
+  public AirbyteRecordMessage runCommand(
+                                         final String cdkCommand,
+                                         final String configContents,
+                                         final String catalogContents)
+      throws IOException {
+    final Optional<CdkWorkerProcess.Response> response = pool.handle(configContents, catalogContents, requestTimeout);
+    if (response.isEmpty()) {
+      return oneShotRunner.runCommand(cdkCommand, configContents, catalogContents);
+    }
+
+    if (response.get().timedOut()) {
+      throw new CdkProcessException(String.format("CDK worker for %s did not complete within %s.", cdkCommand, requestTimeout));
+    }
+    if (response.get().exitCode() != 0) {
+      LOGGER.warn("CDK worker for {} exited with code {}. Retrying with a dedicated process.", cdkCommand, response.get().exitCode());
+      return oneShotRunner.runCommand(cdkCommand, configContents, catalogContents);
+    }
+
+    final Map<Type, List<AirbyteMessage>> messagesByType;
+    try (final BufferedReader output = new BufferedReader(new StringReader(String.join(System.lineSeparator(), response.get().output())))) {
+      messagesByType = streamFactory.create(output).collect(Collectors.groupingBy(AirbyteMessage::getType));
+    }
+    return new ProcessOutputParser().parse(messagesByType).orElseThrow(() -> new CdkUnknownException(
+        String.format("The CDK command `%s` completed properly but no records nor trace were found.", cdkCommand)));
+  }
+
+}
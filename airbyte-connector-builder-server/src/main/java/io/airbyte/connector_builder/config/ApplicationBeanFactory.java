@@ -5,13 +5,21 @@
 package io.airbyte.connector_builder.config;
 
 import io.airbyte.config.EnvConfigs;
+import io.airbyte.connector_builder.command_runner.CdkWorkerPool;
+import io.airbyte.connector_builder.command_runner.PooledPythonCdkCommandRunner;
 import io.airbyte.connector_builder.command_runner.SynchronousCdkCommandRunner;
 import io.airbyte.connector_builder.command_runner.SynchronousPythonCdkCommandRunner;
 import io.airbyte.connector_builder.exceptions.ConnectorBuilderException;
 import io.airbyte.connector_builder.file_writer.AirbyteFileWriterImpl;
+import io.airbyte.workers.internal.AirbyteStreamFactory;
 import io.airbyte.workers.internal.VersionedAirbyteStreamFactory;
 import io.micronaut.context.annotation.Factory;
+import io.micronaut.context.annotation.Value;
+import io.micronaut.core.util.StringUtils;
+import jakarta.annotation.PreDestroy;
 import jakarta.inject.Singleton;
+import java.time.Duration;
+import java.util.List;
 
 /**
  * Defines the instantiation of handler classes.
@@ -19,6 +27,8 @@ import jakarta.inject.Singleton;
 @Factory
 public class ApplicationBeanFactory {
 
+  private CdkWorkerPool cdkWorkerPool;
+
   private String getPython() {
     final EnvConfigs configs = new EnvConfigs();
     if (configs.getCdkPython() == null) {
@@ -36,16 +46,40 @@ public class ApplicationBeanFactory {
   }
 
   /**
-   * Defines the instantiation of the SynchronousPythonCdkCommandRunner.
+   * Defines the instantiation of the CDK command runner. Requests are handled by a pool of warm CDK
+   * workers when it is enabled, falling back to the SynchronousPythonCdkCommandRunner.
    */
   @Singleton
-  public SynchronousCdkCommandRunner synchronousPythonCdkCommandRunner() {
-    return new SynchronousPythonCdkCommandRunner(
+  public SynchronousCdkCommandRunner synchronousPythonCdkCommandRunner(
+                                                                      @Value("${airbyte.connector-builder-server.cdk-worker-pool.enabled}") final boolean cdkWorkerPoolEnabled,
+                                                                      @Value("${airbyte.connector-builder-server.cdk-worker-pool.entrypoint}") final String cdkWorkerEntrypoint,
+                                                                      @Value("${airbyte.connector-builder-server.cdk-worker-pool.size}") final int cdkWorkerPoolSize,
+                                                                      @Value("${airbyte.connector-builder-server.cdk-worker-pool.max-requests-per-worker}") final int maxRequestsPerWorker,
+                                                                      @Value("${airbyte.connector-builder-server.cdk-worker-pool.startup-timeout}") final Duration startupTimeout,
+                                                                      @Value("${airbyte.connector-builder-server.cdk-worker-pool.request-timeout}") final Duration requestTimeout) {
+    // This should eventually be constructed via DI.
+    final AirbyteStreamFactory streamFactory = VersionedAirbyteStreamFactory.noMigrationVersionedAirbyteStreamFactory(false);
+    final SynchronousPythonCdkCommandRunner oneShotRunner = new SynchronousPythonCdkCommandRunner(
         new AirbyteFileWriterImpl(),
-        // This should eventually be constructed via DI.
-        VersionedAirbyteStreamFactory.noMigrationVersionedAirbyteStreamFactory(false),
+        streamFactory,
         this.getPython(),
         this.getCdkEntrypoint());
+    if (!cdkWorkerPoolEnabled || StringUtils.isEmpty(cdkWorkerEntrypoint)) {
+      return oneShotRunner;
+    }
+
+    cdkWorkerPool = new CdkWorkerPool(List.of(this.getPython(), cdkWorkerEntrypoint), cdkWorkerPoolSize, maxRequestsPerWorker, startupTimeout);
+    return new PooledPythonCdkCommandRunner(cdkWorkerPool, streamFactory, requestTimeout, oneShotRunner);
+  }
+
+  /**
+   * Stops the CDK workers when the application shuts down, so that no Python process outlives it.
+   */
+  @PreDestroy
+  public void closeCdkWorkerPool() {
+    if (cdkWorkerPool != null) {
+      cdkWorkerPool.close();
+    }
   }
 
 }
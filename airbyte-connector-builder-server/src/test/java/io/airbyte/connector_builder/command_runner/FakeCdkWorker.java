@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.connector_builder.command_runner;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Stands in for `cdk_worker.py` in tests, following the same protocol. Returns a record holding its
+ * pid, unless the request config asks it to crash or to time out.
+ * <p>
+ * Started with {@link #HANG_WITH_CHILD}, it starts a child process and doesn't exit once its stdin is
+ * closed, like a worker stuck on a request.
+ */
+public class FakeCdkWorker {
+
+  static final String HANG_WITH_CHILD = "--hang-with-child";
+  private static final String SLEEP = "--sleep";
+
+  public static void main(final String[] args) throws IOException, InterruptedException {
+    if (args.length > 0 && SLEEP.equals(args[0])) {
+      Thread.sleep(Long.MAX_VALUE);
+      return;
+    }
+    final boolean hangWithChild = args.length > 0 && HANG_WITH_CHILD.equals(args[0]);
+    if (hangWithChild) {
+      final String java = ProcessHandle.current().info().command().orElse("java");
+      new ProcessBuilder(java, "-cp", System.getProperty("java.class.path"), FakeCdkWorker.class.getName(), SLEEP).start();
+    }
+
+    final long pid = ProcessHandle.current().pid();
+    System.out.println("{\"__cdk_worker__\": \"ready\"}");
+    final BufferedReader stdin = new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8));
+    String line;
+    while ((line = stdin.readLine()) != null) {
+      if (line.contains("\"ping\"")) {
+        System.out.println("{\"__cdk_worker__\": \"pong\"}");
+      } else if (line.contains("SIMULATE_CRASH")) {
+        System.out.println("Traceback (most recent call last):");
+        System.out.println("{\"__cdk_worker__\": \"done\", \"exit_code\": 1, \"timed_out\": false}");
+      } else if (line.contains("SIMULATE_TIMEOUT")) {
+        System.out.println("{\"__cdk_worker__\": \"done\", \"exit_code\": -9, \"timed_out\": true}");
+      } else {
+        System.out.println("{\"type\": \"RECORD\", \"record\": {\"stream\": \"test\", \"emitted_at\": 0, \"data\": {\"pid\": " + pid + "}}}");
+        System.out.println("{\"__cdk_worker__\": \"done\", \"exit_code\": 0, \"timed_out\": false}");
+      }
+      System.out.flush();
+    }
+    if (hangWithChild) {
+      Thread.sleep(Long.MAX_VALUE);
+    }
+  }
+
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.connector_builder.command_runner;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import io.airbyte.connector_builder.exceptions.CdkProcessException;
+import io.airbyte.protocol.models.AirbyteRecordMessage;
+import io.airbyte.workers.internal.VersionedAirbyteStreamFactory;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class PooledPythonCdkCommandRunnerTest {
+
+  private static final String COMMAND = "resolve_manifest";
+  private static final String CONFIG = "{\"__command\": \"resolve_manifest\"}";
+  private static final Duration STARTUP_TIMEOUT = Duration.ofSeconds(30);
+  private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(10);
+
+  private final SynchronousCdkCommandRunner oneShotRunner = mock(SynchronousCdkCommandRunner.class);
+  private CdkWorkerPool pool;
+
+  @AfterEach
+  void tearDown() {
+    if (pool != null) {
+      pool.close();
+    }
+  }
+
+  @Test
+  void testRequestsAreHandledByTheSameWarmWorker() throws Exception {
+    final PooledPythonCdkCommandRunner runner = runner(1, 10);
+
+    final long firstPid = workerPid(runner.runCommand(COMMAND, CONFIG, ""));
+    final long secondPid = workerPid(runner.runCommand(COMMAND, CONFIG, ""));
+
+    assertEquals(firstPid, secondPid);
+    verifyNoInteractions(oneShotRunner);
+  }
+
+  @Test
+  void testWorkerIsRecycledAfterItsMaxRequests() throws Exception {
+    final PooledPythonCdkCommandRunner runner = runner(1, 1);
+
+    final long firstPid = workerPid(runner.runCommand(COMMAND, CONFIG, ""));
+    final long secondPid = workerPid(runner.runCommand(COMMAND, CONFIG, ""));
+
+    assertNotEquals(firstPid, secondPid);
+  }
+
+  @Test
+  void testTimedOutRequestFailsAndReplacesTheWorker() throws Exception {
+    final PooledPythonCdkCommandRunner runner = runner(1, 10);
+    final long firstPid = workerPid(runner.runCommand(COMMAND, CONFIG, ""));
+
+    assertThrows(CdkProcessException.class, () -> runner.runCommand(COMMAND, "{\"SIMULATE_TIMEOUT\": true}", ""));
+
+    assertNotEquals(firstPid, workerPid(runner.runCommand(COMMAND, CONFIG, "")));
+    verifyNoInteractions(oneShotRunner);
+  }
+
+  @Test
+  void testCrashedRequestFallsBackToTheOneShotRunner() throws Exception {
+    final PooledPythonCdkCommandRunner runner = runner(1, 10);
+    final String crashingConfig = "{\"SIMULATE_CRASH\": true}";
+    final AirbyteRecordMessage oneShotRecord = new AirbyteRecordMessage();
+    when(oneShotRunner.runCommand(COMMAND, crashingConfig, "")).thenReturn(oneShotRecord);
+
+    assertSame(oneShotRecord, runner.runCommand(COMMAND, crashingConfig, ""));
+    verify(oneShotRunner).runCommand(COMMAND, crashingConfig, "");
+  }
+
+  @Test
+  void testClosingAHungWorkerKillsItsChildren() throws Exception {
+    final List<String> command = new ArrayList<>(fakeWorkerCommand());
+    command.add(FakeCdkWorker.HANG_WITH_CHILD);
+    final CdkWorkerProcess worker = CdkWorkerProcess.start(command, STARTUP_TIMEOUT);
+    final ProcessHandle workerHandle = ProcessHandle.of(worker.pid()).orElseThrow();
+    final List<ProcessHandle> children = workerHandle.children().toList();
+    assertEquals(1, children.size());
+
+    worker.close();
+
+    assertFalse(workerHandle.onExit().get(10, TimeUnit.SECONDS).isAlive());
+    assertFalse(children.get(0).onExit().get(10, TimeUnit.SECONDS).isAlive());
+  }
+
+  private PooledPythonCdkCommandRunner runner(final int size, final int maxRequestsPerWorker) throws Exception {
+    pool = new CdkWorkerPool(fakeWorkerCommand(), size, maxRequestsPerWorker, STARTUP_TIMEOUT);
+    return new PooledPythonCdkCommandRunner(pool, VersionedAirbyteStreamFactory.noMigrationVersionedAirbyteStreamFactory(false), REQUEST_TIMEOUT,
+        oneShotRunner);
+  }
+
+  private static List<String> fakeWorkerCommand() throws Exception {
+    final String java = ProcessHandle.current().info().command().orElse("java");
+    final String classpath = Path.of(FakeCdkWorker.class.getProtectionDomain().getCodeSource().getLocation().toURI()).toString();
+    return List.of(java, "-cp", classpath, FakeCdkWorker.class.getName());
+  }
+
+  private static long workerPid(final AirbyteRecordMessage record) {
+    return record.getData().get("pid").asLong();
+  }
+
+}
@@ -5,7 +5,9 @@
 package io.airbyte.container_orchestrator;
 
 import com.google.common.annotations.VisibleForTesting;
+import io.airbyte.commons.json.Jsons;
 import io.airbyte.workers.process.AsyncKubePodStatus;
+import io.airbyte.workers.process.AsyncKubePodStatusDocument;
 import io.airbyte.workers.process.KubePodInfo;
 import io.airbyte.workers.storage.DocumentStoreClient;
 import jakarta.inject.Named;
@@ -19,8 +21,10 @@ import org.slf4j.LoggerFactory;
  * The state manager writes the "truth" for states of the async pod process. If the store isn't
  * updated by the underlying pod, it will appear as failed.
  * <p>
- * It doesn't have a single value for a state. Instead, in a location on cloud storage or disk, it
- * writes every state it's encountered.
+ * Every state is written to a single status document, so that the launching application can read
+ * the current state with a single request. For compatibility with launching applications running
+ * an older version, each state it's encountered is also written to a location of its own on cloud
+ * storage or disk.
  */
 @Singleton
 public class AsyncStateManager {
@@ -44,29 +48,39 @@ public class AsyncStateManager {
   }
 
   /**
-   * Writes an empty file to a location designated by the input status.
+   * Writes a file containing a string value to a location designated by the input status, then
+   * points the status document at it.
    */
   public void write(final AsyncKubePodStatus status, final String value) {
     final var key = getDocumentStoreKey(status);
     log.info("Writing async status {} for {}...", status, kubePodInfo);
+    // the output has to be in place before the status document reports the success
     documentStoreClient.write(key, value);
+    final var statusDocument = new AsyncKubePodStatusDocument(status, status == AsyncKubePodStatus.SUCCEEDED ? key : null);
+    documentStoreClient.write(getStatusDocumentStoreKey(), Jsons.serialize(statusDocument));
   }
 
   /**
-   * Writes a file containing a string value to a location designated by the input status.
+   * Writes an empty file to a location designated by the input status.
    */
   public void write(final AsyncKubePodStatus status) {
     write(status, "");
   }
 
   /**
-   * Interprets the state given all written state messages for the pod.
+   * Reads the state from the status document. Falls back to interpreting the state given all
+   * written state messages for the pod when there is no status document.
    * <p>
    * Checks terminal states first, then running, then initialized. Defaults to not started.
    * <p>
    * The order matters here!
    */
   public AsyncKubePodStatus getStatus() {
+    final var statusDocument = documentStoreClient.read(getStatusDocumentStoreKey()).flatMap(AsyncKubePodStatusDocument::parse);
+    if (statusDocument.isPresent()) {
+      return statusDocument.get().status();
+    }
+
     return STATUS_CHECK_ORDER.stream()
         .filter(this::statusFileExists)
         .findFirst()
@@ -93,7 +107,12 @@ public class AsyncStateManager {
    */
   @VisibleForTesting
   String getDocumentStoreKey(final AsyncKubePodStatus status) {
-    return kubePodInfo.namespace() + "/" + kubePodInfo.name() + "/" + status.name();
+    return AsyncKubePodStatusDocument.getDocumentStoreKey(kubePodInfo, status);
+  }
+
+  @VisibleForTesting
+  String getStatusDocumentStoreKey() {
+    return AsyncKubePodStatusDocument.getDocumentStoreKey(kubePodInfo);
   }
 
   private boolean statusFileExists(final AsyncKubePodStatus status) {
@@ -6,15 +6,27 @@ package io.airbyte.container_orchestrator;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.clearInvocations;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.metrics.lib.MetricClient;
 import io.airbyte.workers.process.AsyncKubePodStatus;
+import io.airbyte.workers.process.AsyncKubePodStatusDocument;
+import io.airbyte.workers.process.AsyncOrchestratorPodProcess;
 import io.airbyte.workers.process.KubeContainerInfo;
 import io.airbyte.workers.process.KubePodInfo;
+import io.airbyte.workers.storage.DockerComposeDocumentStoreClient;
 import io.airbyte.workers.storage.DocumentStoreClient;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
 import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -52,6 +64,48 @@ class AsyncStateManagerTest {
 
     final var key = stateManager.getDocumentStoreKey(AsyncKubePodStatus.SUCCEEDED);
     verify(documentStore, times(1)).write(key, OUTPUT);
+    verify(documentStore, times(1)).write(stateManager.getStatusDocumentStoreKey(),
+        Jsons.serialize(new AsyncKubePodStatusDocument(AsyncKubePodStatus.SUCCEEDED, key)));
+  }
+
+  @Test
+  void testStatusIsReadFromTheStatusDocument() {
+    when(documentStore.read(stateManager.getStatusDocumentStoreKey()))
+        .thenReturn(Optional.of(Jsons.serialize(new AsyncKubePodStatusDocument(AsyncKubePodStatus.RUNNING, null))));
+
+    assertEquals(AsyncKubePodStatus.RUNNING, stateManager.getStatus());
+    verify(documentStore, times(1)).read(anyString());
+  }
+
+  @Test
+  void testInvalidStatusDocumentFallsBackToStatusFiles() {
+    when(documentStore.read(stateManager.getStatusDocumentStoreKey())).thenReturn(Optional.of("not a status"));
+    when(documentStore.read(stateManager.getDocumentStoreKey(AsyncKubePodStatus.INITIALIZING))).thenReturn(Optional.of(""));
+
+    assertEquals(AsyncKubePodStatus.INITIALIZING, stateManager.getStatus());
+  }
+
+  @Test
+  void testLaunchingApplicationReadsStatusAndOutputWithOneReadEach() throws IOException {
+    final DocumentStoreClient localDocumentStore =
+        spy(new DockerComposeDocumentStoreClient(Files.createTempDirectory(Path.of("/tmp"), "document_store")));
+    final AsyncStateManager localStateManager = new AsyncStateManager(localDocumentStore, KUBE_POD_INFO);
+    final AsyncOrchestratorPodProcess process = new AsyncOrchestratorPodProcess(KUBE_POD_INFO, localDocumentStore, null, null, null, null, null,
+        null, Map.of(), Map.of(), null, null, null, mock(MetricClient.class), "test", null, "workload_id");
+
+    assertEquals(AsyncKubePodStatus.NOT_STARTED, process.getDocStoreStatus());
+
+    localStateManager.write(AsyncKubePodStatus.INITIALIZING);
+    localStateManager.write(AsyncKubePodStatus.RUNNING);
+    clearInvocations(localDocumentStore);
+    assertEquals(AsyncKubePodStatus.RUNNING, process.getDocStoreStatus());
+    verify(localDocumentStore, times(1)).read(anyString());
+
+    localStateManager.write(AsyncKubePodStatus.SUCCEEDED, OUTPUT);
+    clearInvocations(localDocumentStore);
+    assertEquals(AsyncKubePodStatus.SUCCEEDED, process.getDocStoreStatus());
+    assertEquals(Optional.of(OUTPUT), process.getOutput());
+    verify(localDocumentStore, times(2)).read(anyString());
   }
 
   @Test
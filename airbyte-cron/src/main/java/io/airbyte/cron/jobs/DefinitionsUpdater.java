@@ -25,7 +25,8 @@ import lombok.extern.slf4j.Slf4j;
  * DefinitionsUpdater
  *
  * Automatically updates connector definitions from a remote catalog at an interval (30s). This can
- * be enabled by setting UPDATE_DEFINITIONS_CRON_ENABLED=true.
+ * be enabled by setting UPDATE_DEFINITIONS_CRON_ENABLED=true. Only the definitions that changed in
+ * the catalog since the previous run are applied.
  */
 @Singleton
 @Slf4j
@@ -53,8 +54,11 @@ public class DefinitionsUpdater {
   void updateDefinitions() throws JsonValidationException, ConfigNotFoundException, IOException {
     log.info("Updating definitions...");
     metricClient.count(OssMetricsRegistry.CRON_JOB_RUN_BY_CRON_TYPE, 1, new MetricAttribute(MetricTags.CRON_TYPE, "definitions_updater"));
-    applyDefinitionsHelper.apply(deploymentMode == DeploymentMode.CLOUD);
-    log.info("Done applying remote connector definitions");
+    if (applyDefinitionsHelper.applyChanges(deploymentMode == DeploymentMode.CLOUD)) {
+      log.info("Done applying remote connector definitions");
+    } else {
+      log.info("Remote connector definitions are unchanged");
+    }
   }
 
 }
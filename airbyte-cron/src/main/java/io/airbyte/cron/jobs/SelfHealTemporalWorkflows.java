@@ -6,6 +6,7 @@ package io.airbyte.cron.jobs;
 
 import static io.airbyte.cron.MicronautCronRunner.SCHEDULED_TRACE_OPERATION_NAME;
 
+import com.google.common.annotations.VisibleForTesting;
 import datadog.trace.api.Trace;
 import io.airbyte.commons.temporal.TemporalClient;
 import io.airbyte.metrics.lib.MetricAttribute;
@@ -14,31 +15,55 @@ import io.airbyte.metrics.lib.MetricTags;
 import io.airbyte.metrics.lib.OssMetricsRegistry;
 import io.micronaut.scheduling.annotation.Scheduled;
 import io.temporal.api.enums.v1.WorkflowExecutionStatus;
+import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.function.Supplier;
 import lombok.extern.slf4j.Slf4j;
 
 /**
  * Temporal cleaner. Resets failed workflow executions.
+ * <p>
+ * The first run looks at every failed workflow, later runs only at the workflows that closed since
+ * the previous successful run, so nothing has to be listed when no workflow failed.
  */
 @Singleton
 @Slf4j
 public class SelfHealTemporalWorkflows {
 
+  // Workflows are looked up from a bit before the previous run, as they only become visible once
+  // Temporal's visibility store caught up, and to absorb clock differences with the Temporal server.
+  private static final Duration CLOSED_WORKFLOW_LOOKBACK = Duration.ofMinutes(5);
+
   private final TemporalClient temporalClient;
   private final MetricClient metricClient;
+  private final Supplier<Instant> timeProvider;
+  private Instant lastRunStartedAt;
 
+  @Inject
   public SelfHealTemporalWorkflows(final TemporalClient temporalClient, final MetricClient metricClient) {
+    this(temporalClient, metricClient, Instant::now);
+  }
+
+  @VisibleForTesting
+  SelfHealTemporalWorkflows(final TemporalClient temporalClient, final MetricClient metricClient, final Supplier<Instant> timeProvider) {
     log.debug("Creating temporal self-healing");
     this.temporalClient = temporalClient;
     this.metricClient = metricClient;
+    this.timeProvider = timeProvider;
   }
 
   @Trace(operationName = SCHEDULED_TRACE_OPERATION_NAME)
   @Scheduled(fixedRate = "10s")
   void cleanTemporal() {
     metricClient.count(OssMetricsRegistry.CRON_JOB_RUN_BY_CRON_TYPE, 1, new MetricAttribute(MetricTags.CRON_TYPE, "self_heal_temporal"));
-    final var numRestarted = temporalClient.restartClosedWorkflowByStatus(WorkflowExecutionStatus.WORKFLOW_EXECUTION_STATUS_FAILED);
+    final Instant runStartedAt = timeProvider.get();
+    final Instant closedAfter = lastRunStartedAt == null ? null : lastRunStartedAt.minus(CLOSED_WORKFLOW_LOOKBACK);
+    final var numRestarted = temporalClient.restartClosedWorkflowByStatus(WorkflowExecutionStatus.WORKFLOW_EXECUTION_STATUS_FAILED, closedAfter);
     metricClient.count(OssMetricsRegistry.WORKFLOWS_HEALED, numRestarted);
+    // only move the window forward once every workflow in it was restarted
+    lastRunStartedAt = runStartedAt;
   }
 
 }
@@ -10,7 +10,7 @@ import io.airbyte.metrics.lib.OssMetricsRegistry
 import io.airbyte.workload.api.client.generated.WorkloadApi
 import io.airbyte.workload.api.client.model.generated.LongRunningWorkloadRequest
 import io.airbyte.workload.api.client.model.generated.Workload
-import io.airbyte.workload.api.client.model.generated.WorkloadCancelRequest
+import io.airbyte.workload.api.client.model.generated.WorkloadBulkCancelRequest
 import io.airbyte.workload.api.client.model.generated.WorkloadListRequest
 import io.airbyte.workload.api.client.model.generated.WorkloadStatus
 import io.github.oshai.kotlinlogging.KotlinLogging
@@ -51,6 +51,7 @@ open class WorkloadMonitor(
     const val CHECK_NON_SYNC_TIMEOUT = "workload-monitor-non-sync-timeout"
     const val CHECK_START = "workload-monitor-start"
     const val CHECK_SYNC_TIMEOUT = "workload-monitor-sync-timeout"
+    const val CANCEL_BATCH_SIZE = 500
   }
 
   @Trace
@@ -164,22 +165,42 @@ open class WorkloadMonitor(
     reason: String,
     source: String,
   ) {
-    workloads.map {
-      var status = "fail"
+    // Cancel in batches, so that a backlog of expired workloads is drained in a few statements
+    // without making any single request too large.
+    workloads.map { it.id }.chunked(CANCEL_BATCH_SIZE).forEach { workloadIds ->
+      var cancelledCount = 0
+      var failedCount = workloadIds.size
       try {
-        logger.info { "Cancelling workload ${it.id}, reason: $reason" }
-        workloadApi.workloadCancel(WorkloadCancelRequest(workloadId = it.id, reason = reason, source = source))
-        status = "ok"
+        logger.info { "Cancelling workloads $workloadIds, reason: $reason" }
+        val response =
+          workloadApi.workloadBulkCancel(WorkloadBulkCancelRequest(workloadIds = workloadIds, reason = reason, source = source))
+        if (response.notCancelledWorkloadIds.isNotEmpty()) {
+          logger.warn { "Failed to cancel workloads ${response.notCancelledWorkloadIds}" }
+        }
+        cancelledCount = response.cancelledWorkloadIds.size
+        failedCount = response.notCancelledWorkloadIds.size
       } catch (e: Exception) {
-        logger.warn(e) { "Failed to cancel workload ${it.id}" }
+        logger.warn(e) { "Failed to cancel workloads $workloadIds" }
       } finally {
-        metricClient.count(
-          OssMetricsRegistry.WORKLOADS_CANCEL,
-          1,
-          MetricAttribute(MetricTags.CANCELLATION_SOURCE, source),
-          MetricAttribute(MetricTags.STATUS, status),
-        )
+        countCancellations(cancelledCount, source, "ok")
+        countCancellations(failedCount, source, "fail")
       }
     }
   }
+
+  private fun countCancellations(
+    count: Int,
+    source: String,
+    status: String,
+  ) {
+    if (count == 0) {
+      return
+    }
+    metricClient.count(
+      OssMetricsRegistry.WORKLOADS_CANCEL,
+      count.toLong(),
+      MetricAttribute(MetricTags.CANCELLATION_SOURCE, source),
+      MetricAttribute(MetricTags.STATUS, status),
+    )
+  }
 }
@@ -0,0 +1,69 @@
+package io.airbyte.cron.jobs
+
+import io.airbyte.commons.temporal.TemporalClient
+import io.airbyte.metrics.lib.MetricClient
+import io.airbyte.metrics.lib.OssMetricsRegistry
+import io.mockk.every
+import io.mockk.mockk
+import io.mockk.verify
+import io.mockk.verifySequence
+import io.temporal.api.enums.v1.WorkflowExecutionStatus
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.assertThrows
+import java.time.Duration
+import java.time.Instant
+
+class SelfHealTemporalWorkflowsTest {
+  val failed = WorkflowExecutionStatus.WORKFLOW_EXECUTION_STATUS_FAILED
+
+  lateinit var currentTime: Instant
+  lateinit var metricClient: MetricClient
+  lateinit var temporalClient: TemporalClient
+  lateinit var selfHealTemporalWorkflows: SelfHealTemporalWorkflows
+
+  @BeforeEach
+  fun beforeEach() {
+    currentTime = Instant.parse("2023-11-01T00:00:00Z")
+    metricClient =
+      mockk<MetricClient>().also {
+        every { it.count(any(), any(), *anyVararg()) } returns Unit
+      }
+    temporalClient = mockk()
+    selfHealTemporalWorkflows = SelfHealTemporalWorkflows(temporalClient, metricClient) { currentTime }
+  }
+
+  @Test
+  fun `test only workflows closed since the previous run are restarted`() {
+    val firstRun = currentTime
+    every { temporalClient.restartClosedWorkflowByStatus(failed, any()) } returns 2
+
+    selfHealTemporalWorkflows.cleanTemporal()
+    currentTime = firstRun.plusSeconds(10)
+    selfHealTemporalWorkflows.cleanTemporal()
+
+    verifySequence {
+      temporalClient.restartClosedWorkflowByStatus(failed, null)
+      temporalClient.restartClosedWorkflowByStatus(failed, firstRun.minus(Duration.ofMinutes(5)))
+    }
+    verify(exactly = 2) { metricClient.count(OssMetricsRegistry.WORKFLOWS_HEALED, 2) }
+  }
+
+  @Test
+  fun `test the window is not moved forward when restarting fails`() {
+    val firstRun = currentTime
+    every { temporalClient.restartClosedWorkflowByStatus(failed, any()) } returns 0
+
+    selfHealTemporalWorkflows.cleanTemporal()
+
+    every { temporalClient.restartClosedWorkflowByStatus(failed, any()) } throws RuntimeException("Failed to restart")
+    currentTime = firstRun.plusSeconds(10)
+    assertThrows<RuntimeException> { selfHealTemporalWorkflows.cleanTemporal() }
+
+    every { temporalClient.restartClosedWorkflowByStatus(failed, any()) } returns 1
+    currentTime = firstRun.plusSeconds(20)
+    selfHealTemporalWorkflows.cleanTemporal()
+
+    verify(exactly = 2) { temporalClient.restartClosedWorkflowByStatus(failed, firstRun.minus(Duration.ofMinutes(5))) }
+  }
+}
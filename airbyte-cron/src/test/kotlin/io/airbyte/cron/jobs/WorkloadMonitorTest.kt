@@ -6,6 +6,7 @@ import io.airbyte.metrics.lib.MetricTags
 import io.airbyte.metrics.lib.OssMetricsRegistry
 import io.airbyte.workload.api.client.generated.WorkloadApi
 import io.airbyte.workload.api.client.model.generated.Workload
+import io.airbyte.workload.api.client.model.generated.WorkloadBulkCancelResponse
 import io.airbyte.workload.api.client.model.generated.WorkloadListRequest
 import io.airbyte.workload.api.client.model.generated.WorkloadListResponse
 import io.airbyte.workload.api.client.model.generated.WorkloadStatus
@@ -59,7 +60,8 @@ class WorkloadMonitorTest {
     val expiredWorkloads = WorkloadListResponse(workloads = listOf(getWorkload("1"), getWorkload("2"), getWorkload("3")))
     currentTime = OffsetDateTime.now()
     every { workloadApi.workloadList(any()) } returns expiredWorkloads
-    every { workloadApi.workloadCancel(any()) } returns Unit andThenThrows ServerException() andThen Unit
+    every { workloadApi.workloadBulkCancel(any()) } returns
+      WorkloadBulkCancelResponse(cancelledWorkloadIds = listOf("1", "3"), notCancelledWorkloadIds = listOf("2"))
 
     workloadMonitor.cancelNotStartedWorkloads()
 
@@ -69,14 +71,12 @@ class WorkloadMonitorTest {
           it.status == listOf(WorkloadStatus.CLAIMED) && it.updatedBefore == currentTime.minus(nonStartedTimeout)
         },
       )
-      workloadApi.workloadCancel(match { it.workloadId == "1" })
-      workloadApi.workloadCancel(match { it.workloadId == "2" })
-      workloadApi.workloadCancel(match { it.workloadId == "3" })
+      workloadApi.workloadBulkCancel(match { it.workloadIds == listOf("1", "2", "3") })
     }
-    verify(exactly = 2) {
+    verify(exactly = 1) {
       metricClient.count(
         OssMetricsRegistry.WORKLOADS_CANCEL,
-        1,
+        2,
         MetricAttribute(MetricTags.CANCELLATION_SOURCE, "workload-monitor-start"),
         MetricAttribute(MetricTags.STATUS, "ok"),
       )
@@ -96,7 +96,8 @@ class WorkloadMonitorTest {
     val expiredWorkloads = WorkloadListResponse(workloads = listOf(getWorkload("a"), getWorkload("b"), getWorkload("c")))
     currentTime = OffsetDateTime.now()
     every { workloadApi.workloadList(any()) } returns expiredWorkloads
-    every { workloadApi.workloadCancel(any()) } throws ServerException() andThen Unit andThen Unit
+    every { workloadApi.workloadBulkCancel(any()) } returns
+      WorkloadBulkCancelResponse(cancelledWorkloadIds = listOf("b", "c"), notCancelledWorkloadIds = listOf("a"))
 
     workloadMonitor.cancelNotClaimedWorkloads()
 
@@ -106,14 +107,12 @@ class WorkloadMonitorTest {
           it.status == listOf(WorkloadStatus.PENDING) && it.updatedBefore == currentTime.minus(claimTimeout)
         },
       )
-      workloadApi.workloadCancel(match { it.workloadId == "a" })
-      workloadApi.workloadCancel(match { it.workloadId == "b" })
-      workloadApi.workloadCancel(match { it.workloadId == "c" })
+      workloadApi.workloadBulkCancel(match { it.workloadIds == listOf("a", "b", "c") })
     }
-    verify(exactly = 2) {
+    verify(exactly = 1) {
       metricClient.count(
         OssMetricsRegistry.WORKLOADS_CANCEL,
-        1,
+        2,
         MetricAttribute(MetricTags.CANCELLATION_SOURCE, "workload-monitor-claim"),
         MetricAttribute(MetricTags.STATUS, "ok"),
       )
@@ -140,7 +139,8 @@ class WorkloadMonitorTest {
         ),
       )
     } returns expiredWorkloads
-    every { workloadApi.workloadCancel(any()) } returns Unit andThenThrows ServerException() andThen Unit
+    every { workloadApi.workloadBulkCancel(any()) } returns
+      WorkloadBulkCancelResponse(cancelledWorkloadIds = listOf("3", "5"), notCancelledWorkloadIds = listOf("4"))
 
     workloadMonitor.cancelNotHeartbeatingWorkloads()
 
@@ -150,14 +150,12 @@ class WorkloadMonitorTest {
           it.status == listOf(WorkloadStatus.RUNNING, WorkloadStatus.LAUNCHED) && it.updatedBefore == currentTime.minus(heartbeatTimeout)
         },
       )
-      workloadApi.workloadCancel(match { it.workloadId == "3" })
-      workloadApi.workloadCancel(match { it.workloadId == "4" })
-      workloadApi.workloadCancel(match { it.workloadId == "5" })
+      workloadApi.workloadBulkCancel(match { it.workloadIds == listOf("3", "4", "5") })
     }
-    verify(exactly = 2) {
+    verify(exactly = 1) {
       metricClient.count(
         OssMetricsRegistry.WORKLOADS_CANCEL,
-        1,
+        2,
         MetricAttribute(MetricTags.CANCELLATION_SOURCE, "workload-monitor-heartbeat"),
         MetricAttribute(MetricTags.STATUS, "ok"),
       )
@@ -177,7 +175,8 @@ class WorkloadMonitorTest {
     val expiredWorkloads = WorkloadListResponse(workloads = listOf(getWorkload("3"), getWorkload("4"), getWorkload("5")))
     currentTime = OffsetDateTime.now()
     every { workloadApi.workloadListOldNonSync(any()) } returns expiredWorkloads
-    every { workloadApi.workloadCancel(any()) } returns Unit andThenThrows ServerException() andThen Unit
+    every { workloadApi.workloadBulkCancel(any()) } returns
+      WorkloadBulkCancelResponse(cancelledWorkloadIds = listOf("3", "5"), notCancelledWorkloadIds = listOf("4"))
 
     workloadMonitor.cancelRunningForTooLongNonSyncWorkloads()
 
@@ -187,14 +186,12 @@ class WorkloadMonitorTest {
           it.createdBefore == currentTime.minus(nonSyncTimeout)
         },
       )
-      workloadApi.workloadCancel(match { it.workloadId == "3" })
-      workloadApi.workloadCancel(match { it.workloadId == "4" })
-      workloadApi.workloadCancel(match { it.workloadId == "5" })
+      workloadApi.workloadBulkCancel(match { it.workloadIds == listOf("3", "4", "5") })
     }
-    verify(exactly = 2) {
+    verify(exactly = 1) {
       metricClient.count(
         OssMetricsRegistry.WORKLOADS_CANCEL,
-        1,
+        2,
         MetricAttribute(MetricTags.CANCELLATION_SOURCE, "workload-monitor-non-sync-timeout"),
         MetricAttribute(MetricTags.STATUS, "ok"),
       )
@@ -214,7 +211,8 @@ class WorkloadMonitorTest {
     val expiredWorkloads = WorkloadListResponse(workloads = listOf(getWorkload("3"), getWorkload("4"), getWorkload("5")))
     currentTime = OffsetDateTime.now()
     every { workloadApi.workloadListOldSync(any()) } returns expiredWorkloads
-    every { workloadApi.workloadCancel(any()) } returns Unit andThenThrows ServerException() andThen Unit
+    every { workloadApi.workloadBulkCancel(any()) } returns
+      WorkloadBulkCancelResponse(cancelledWorkloadIds = listOf("3", "5"), notCancelledWorkloadIds = listOf("4"))
 
     workloadMonitor.cancelRunningForTooLongSyncWorkloads()
 
@@ -224,14 +222,12 @@ class WorkloadMonitorTest {
           it.createdBefore == currentTime.minus(syncTimeout)
         },
       )
-      workloadApi.workloadCancel(match { it.workloadId == "3" })
-      workloadApi.workloadCancel(match { it.workloadId == "4" })
-      workloadApi.workloadCancel(match { it.workloadId == "5" })
+      workloadApi.workloadBulkCancel(match { it.workloadIds == listOf("3", "4", "5") })
     }
-    verify(exactly = 2) {
+    verify(exactly = 1) {
       metricClient.count(
         OssMetricsRegistry.WORKLOADS_CANCEL,
-        1,
+        2,
         MetricAttribute(MetricTags.CANCELLATION_SOURCE, "workload-monitor-sync-timeout"),
         MetricAttribute(MetricTags.STATUS, "ok"),
       )
@@ -246,6 +242,38 @@ class WorkloadMonitorTest {
     }
   }
 
+  @Test
+  fun `test cancel workloads in batches`() {
+    val workloadIds = (1..WorkloadMonitor.CANCEL_BATCH_SIZE + 2).map { it.toString() }
+    val expiredWorkloads = WorkloadListResponse(workloads = workloadIds.map { getWorkload(it) })
+    currentTime = OffsetDateTime.now()
+    every { workloadApi.workloadList(any()) } returns expiredWorkloads
+    every { workloadApi.workloadBulkCancel(any()) } throws ServerException() andThen
+      WorkloadBulkCancelResponse(cancelledWorkloadIds = workloadIds.takeLast(2), notCancelledWorkloadIds = listOf())
+
+    workloadMonitor.cancelNotHeartbeatingWorkloads()
+
+    verify(exactly = 1) {
+      workloadApi.workloadBulkCancel(match { it.workloadIds == workloadIds.take(WorkloadMonitor.CANCEL_BATCH_SIZE) })
+      workloadApi.workloadBulkCancel(match { it.workloadIds == workloadIds.takeLast(2) })
+    }
+    verify(exactly = 1) {
+      metricClient.count(
+        OssMetricsRegistry.WORKLOADS_CANCEL,
+        WorkloadMonitor.CANCEL_BATCH_SIZE.toLong(),
+        MetricAttribute(MetricTags.CANCELLATION_SOURCE, "workload-monitor-heartbeat"),
+        MetricAttribute(MetricTags.STATUS, "fail"),
+      )
+      metricClient.count(
+        OssMetricsRegistry.WORKLOADS_CANCEL,
+        2,
+        MetricAttribute(MetricTags.CANCELLATION_SOURCE, "workload-monitor-heartbeat"),
+        MetricAttribute(MetricTags.STATUS, "ok"),
+      )
+    }
+    verify(exactly = 2) { metricClient.count(any(), any(), *anyVararg()) }
+  }
+
   fun getWorkload(id: String): Workload {
     return mockkClass(Workload::class).also {
       every { it.id } returns id
@@ -37,6 +37,12 @@ public interface ConnectionService {
 
   List<StandardSync> listWorkspaceStandardSyncs(StandardSyncQuery standardSyncQuery) throws IOException;
 
+  List<StandardSync> listWorkspaceStandardSyncSummaries(StandardSyncQuery standardSyncQuery,
+                                                        String afterName,
+                                                        UUID afterConnectionId,
+                                                        Integer pageSize)
+      throws IOException;
+
   Map<UUID, List<StandardSync>> listWorkspaceStandardSyncsPaginated(List<UUID> workspaceIds, boolean includeDeleted, int pageSize, int rowOffset)
       throws IOException;
 
@@ -255,6 +255,25 @@ public class ActorDefinitionServiceJooqImpl implements ActorDefinitionService {
         .collect(Collectors.toList()));
   }
 
+  /**
+   * List all actor definition versions for the given actor definitions, in a single query.
+   *
+   * @param actorDefinitionIds - actor definition ids
+   * @return list of actor definition versions
+   * @throws IOException - you never know when you io
+   */
+  @Override
+  public List<ActorDefinitionVersion> listActorDefinitionVersionsForDefinitions(
+                                                                                final List<UUID> actorDefinitionIds)
+      throws IOException {
+    return database.query(ctx -> ctx.selectFrom(Tables.ACTOR_DEFINITION_VERSION)
+        .where(Tables.ACTOR_DEFINITION_VERSION.ACTOR_DEFINITION_ID.in(actorDefinitionIds))
+        .fetch()
+        .stream()
+        .map(DbConverter::buildActorDefinitionVersion)
+        .collect(Collectors.toList()));
+  }
+
   /**
    * Get actor definition versions by ID.
    *
@@ -20,6 +20,7 @@ import io.airbyte.data.exceptions.ConfigNotFoundException;
 import io.airbyte.data.services.CatalogService;
 import io.airbyte.db.Database;
 import io.airbyte.db.ExceptionWrappingDatabase;
+import io.airbyte.db.instance.configs.migrations.V0_50_33_015__AddCatalogDigestToActorCatalog;
 import io.airbyte.protocol.models.AirbyteCatalog;
 import jakarta.inject.Named;
 import jakarta.inject.Singleton;
@@ -229,6 +230,9 @@ public class CatalogServiceJooqImpl implements CatalogService {
    * Store an Airbyte catalog in DB if it is not present already. Checks in the config DB if the
    * catalog is present already, if so returns it identifier. If not present, it is inserted in DB
    * with a new identifier and that identifier is returned.
+   * <p>
+   * Catalogs are looked up by the digest of their content, so the stored catalogs don't need to be
+   * deserialized. Only catalogs stored without a digest are compared by content.
    *
    * @param airbyteCatalog the catalog to be cached
    * @param context - db context
@@ -239,8 +243,14 @@ public class CatalogServiceJooqImpl implements CatalogService {
                                        final DSLContext context,
                                        final OffsetDateTime timestamp) {
 
+    final JSONB catalogJson = JSONB.valueOf(Jsons.serialize(airbyteCatalog));
+    UUID catalogId = findCatalogIdByDigest(catalogJson, context);
+    if (catalogId != null) {
+      return catalogId;
+    }
+
     final String canonicalCatalogHash = generateCanonicalHash(airbyteCatalog);
-    UUID catalogId = lookupCatalogId(canonicalCatalogHash, airbyteCatalog, context);
+    catalogId = lookupCatalogId(canonicalCatalogHash, airbyteCatalog, context);
     if (catalogId != null) {
       return catalogId;
     }
@@ -251,7 +261,20 @@ public class CatalogServiceJooqImpl implements CatalogService {
       return catalogId;
     }
 
-    return insertCatalog(airbyteCatalog, canonicalCatalogHash, context, timestamp);
+    return insertCatalog(catalogJson, canonicalCatalogHash, context, timestamp);
+  }
+
+  /**
+   * Catalogs are matched by the digest of the JSON that would be stored for them. The digest is
+   * computed by the database from the jsonb text, the same way the migration that added the column
+   * backfilled the stored catalogs.
+   */
+  private UUID findCatalogIdByDigest(final JSONB catalogJson, final DSLContext context) {
+    return context.select(ACTOR_CATALOG.ID)
+        .from(ACTOR_CATALOG)
+        .where(ACTOR_CATALOG.CATALOG_DIGEST.eq(V0_50_33_015__AddCatalogDigestToActorCatalog.catalogDigest(DSL.val(catalogJson))))
+        .limit(1)
+        .fetchOne(ACTOR_CATALOG.ID);
   }
 
   private String generateCanonicalHash(final AirbyteCatalog airbyteCatalog) {
@@ -277,15 +300,16 @@ public class CatalogServiceJooqImpl implements CatalogService {
     return hashFunction.hashBytes(Jsons.serialize(airbyteCatalog).getBytes(Charsets.UTF_8)).toString();
   }
 
-  private UUID insertCatalog(final AirbyteCatalog airbyteCatalog,
+  private UUID insertCatalog(final JSONB catalogJson,
                              final String catalogHash,
                              final DSLContext context,
                              final OffsetDateTime timestamp) {
     final UUID catalogId = UUID.randomUUID();
     context.insertInto(ACTOR_CATALOG)
         .set(ACTOR_CATALOG.ID, catalogId)
-        .set(ACTOR_CATALOG.CATALOG, JSONB.valueOf(Jsons.serialize(airbyteCatalog)))
+        .set(ACTOR_CATALOG.CATALOG, catalogJson)
         .set(ACTOR_CATALOG.CATALOG_HASH, catalogHash)
+        .set(ACTOR_CATALOG.CATALOG_DIGEST, V0_50_33_015__AddCatalogDigestToActorCatalog.catalogDigest(DSL.val(catalogJson)))
         .set(ACTOR_CATALOG.CREATED_AT, timestamp)
         .set(ACTOR_CATALOG.MODIFIED_AT, timestamp).execute();
     return catalogId;
@@ -304,7 +328,10 @@ public class CatalogServiceJooqImpl implements CatalogService {
   private Map<UUID, AirbyteCatalog> findCatalogByHash(final String catalogHash, final DSLContext context) {
     final Result<Record2<UUID, JSONB>> records = context.select(ACTOR_CATALOG.ID, ACTOR_CATALOG.CATALOG)
         .from(ACTOR_CATALOG)
-        .where(ACTOR_CATALOG.CATALOG_HASH.eq(catalogHash)).fetch();
+        .where(ACTOR_CATALOG.CATALOG_HASH.eq(catalogHash))
+        // catalogs with a digest were already compared by digest
+        .and(ACTOR_CATALOG.CATALOG_DIGEST.isNull())
+        .fetch();
 
     final Map<UUID, AirbyteCatalog> result = new HashMap<>();
     for (final Record record : records) {
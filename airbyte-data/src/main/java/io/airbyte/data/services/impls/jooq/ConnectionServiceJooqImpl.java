@@ -15,6 +15,7 @@ import static io.airbyte.db.instance.configs.jooq.generated.Tables.STATE;
 import static org.jooq.impl.DSL.asterisk;
 import static org.jooq.impl.DSL.groupConcat;
 import static org.jooq.impl.DSL.noCondition;
+import static org.jooq.impl.DSL.row;
 import static org.jooq.impl.DSL.select;
 
 import com.google.common.annotations.VisibleForTesting;
@@ -42,6 +43,7 @@ import io.airbyte.protocol.models.CatalogHelpers;
 import io.airbyte.protocol.models.ConfiguredAirbyteCatalog;
 import io.airbyte.protocol.models.StreamDescriptor;
 import io.airbyte.validation.json.JsonValidationException;
+import jakarta.annotation.Nullable;
 import jakarta.inject.Named;
 import jakarta.inject.Singleton;
 import java.io.IOException;
@@ -235,6 +237,56 @@ public class ConnectionServiceJooqImpl implements ConnectionService {
     return getStandardSyncsFromResult(connectionAndOperationIdsResult, getNotificationConfigurationByConnectionIds(connectionIds));
   }
 
+  /**
+   * List a page of connections for workspace via a query, ordered by name. Only the columns shown in
+   * the connection list are read, so the catalog, operations and notification settings of the
+   * returned connections are not set.
+   *
+   * @param standardSyncQuery query
+   * @param afterName name of the last connection of the previous page, if any
+   * @param afterConnectionId if set, only the connections ordered after (afterName,
+   *        afterConnectionId) are returned
+   * @param pageSize if set, maximum number of connections to return
+   * @return list of connections
+   * @throws IOException if there is an issue while interacting with db.
+   */
+  @Override
+  public List<StandardSync> listWorkspaceStandardSyncSummaries(final StandardSyncQuery standardSyncQuery,
+                                                               @Nullable final String afterName,
+                                                               @Nullable final UUID afterConnectionId,
+                                                               @Nullable final Integer pageSize)
+      throws IOException {
+    return database.query(ctx -> {
+      final var query = ctx
+          .select(
+              CONNECTION.ID,
+              CONNECTION.NAME,
+              CONNECTION.SOURCE_ID,
+              CONNECTION.DESTINATION_ID,
+              CONNECTION.STATUS,
+              CONNECTION.SCHEDULE,
+              CONNECTION.MANUAL,
+              CONNECTION.SCHEDULE_TYPE,
+              CONNECTION.SCHEDULE_DATA,
+              CONNECTION.SOURCE_CATALOG_ID,
+              CONNECTION.BREAKING_CHANGE)
+          .from(CONNECTION)
+          // join with source actors so that we can filter by workspaceId
+          .join(ACTOR).on(CONNECTION.SOURCE_ID.eq(ACTOR.ID))
+          .where(ACTOR.WORKSPACE_ID.eq(standardSyncQuery.workspaceId())
+              .and(standardSyncQuery.destinationId() == null || standardSyncQuery.destinationId().isEmpty() ? noCondition()
+                  : CONNECTION.DESTINATION_ID.in(standardSyncQuery.destinationId()))
+              .and(standardSyncQuery.sourceId() == null || standardSyncQuery.sourceId().isEmpty() ? noCondition()
+                  : CONNECTION.SOURCE_ID.in(standardSyncQuery.sourceId()))
+              .and(standardSyncQuery.includeDeleted() ? noCondition() : CONNECTION.STATUS.notEqual(StatusType.deprecated))
+              // keyset pagination: (name, id) is unique, so the page starts right after the cursor position,
+              // even if that connection was renamed or deleted since
+              .and(afterConnectionId == null ? noCondition() : row(CONNECTION.NAME, CONNECTION.ID).gt(afterName, afterConnectionId)))
+          .orderBy(CONNECTION.NAME, CONNECTION.ID);
+      return (pageSize == null ? query.fetch() : query.limit(pageSize).fetch()).map(DbConverter::buildStandardSyncSummary);
+    });
+  }
+
   /**
    * List connections. Paginated.
    */
@@ -145,6 +145,33 @@ public class DbConverter {
         .withNotifySchemaChangesByEmail(isEmailNotificationEnabled);
   }
 
+  /**
+   * Build a connection (a.k.a. StandardSync) holding only the columns shown in the connection list
+   * from a db record. The catalog, operations and notification settings are not set.
+   *
+   * @param record db record.
+   * @return connection (a.k.a. StandardSync)
+   */
+  public static StandardSync buildStandardSyncSummary(final Record record) {
+    return new StandardSync()
+        .withConnectionId(record.get(CONNECTION.ID))
+        .withSourceId(record.get(CONNECTION.SOURCE_ID))
+        .withDestinationId(record.get(CONNECTION.DESTINATION_ID))
+        .withName(record.get(CONNECTION.NAME))
+        .withStatus(
+            record.get(CONNECTION.STATUS) == null ? null
+                : Enums.toEnum(record.get(CONNECTION.STATUS, String.class), Status.class).orElseThrow())
+        .withSchedule(Jsons.deserialize(record.get(CONNECTION.SCHEDULE).data(), Schedule.class))
+        .withManual(record.get(CONNECTION.MANUAL))
+        .withScheduleType(record.get(CONNECTION.SCHEDULE_TYPE) == null ? null
+            : Enums.toEnum(record.get(CONNECTION.SCHEDULE_TYPE, String.class), ScheduleType.class).orElseThrow())
+        .withScheduleData(
+            record.get(CONNECTION.SCHEDULE_DATA) == null ? null
+                : Jsons.deserialize(record.get(CONNECTION.SCHEDULE_DATA).data(), ScheduleData.class))
+        .withSourceCatalogId(record.get(CONNECTION.SOURCE_CATALOG_ID))
+        .withBreakingChange(record.get(CONNECTION.BREAKING_CHANGE));
+  }
+
   private static ConfiguredAirbyteCatalog parseConfiguredAirbyteCatalog(final String configuredAirbyteCatalogString) {
     final ConfiguredAirbyteCatalog configuredAirbyteCatalog = Jsons.deserialize(configuredAirbyteCatalogString, ConfiguredAirbyteCatalog.class);
     // On-the-fly migration of persisted data types related objects (protocol v0->v1)
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.db.instance.configs.migrations;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.JSONB;
+import org.jooq.impl.DSL;
+import org.jooq.impl.SQLDataType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Adds a SHA-256 digest of the catalog to the actor_catalog table and backfills it for the existing
+ * catalogs. The digest is computed by Postgres from the jsonb text of the catalog, which normalizes
+ * key order and whitespace, so catalogs with the same digest have the same content and
+ * de-duplicating a catalog no longer requires deserializing the stored catalogs that share its
+ * hash.
+ */
+public class V0_50_33_015__AddCatalogDigestToActorCatalog extends BaseJavaMigration {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(V0_50_33_015__AddCatalogDigestToActorCatalog.class);
+
+  private static final String ACTOR_CATALOG_TABLE = "actor_catalog";
+  private static final String CATALOG_DIGEST_INDEX = "actor_catalog_catalog_digest_idx";
+
+  private static final Field<JSONB> CATALOG = DSL.field("catalog", SQLDataType.JSONB);
+  static final Field<String> CATALOG_DIGEST = DSL.field("catalog_digest", SQLDataType.VARCHAR(64).nullable(true));
+
+  @Override
+  public void migrate(final Context context) throws Exception {
+    LOGGER.info("Running migration: {}", this.getClass().getSimpleName());
+
+    // Warning: please do not use any jOOQ generated code to write a migration.
+    // As database schema changes, the generated jOOQ code can be deprecated. So
+    // old migration may not compile if there is any generated code.
+    final DSLContext ctx = DSL.using(context.getConnection());
+    addCatalogDigestColumn(ctx);
+    backfillCatalogDigest(ctx);
+    // created after the backfill, so the index is built once instead of being updated for every row
+    addCatalogDigestIndex(ctx);
+  }
+
+  static void addCatalogDigestColumn(final DSLContext ctx) {
+    ctx.alterTable(ACTOR_CATALOG_TABLE)
+        .addColumnIfNotExists(CATALOG_DIGEST)
+        .execute();
+  }
+
+  static void addCatalogDigestIndex(final DSLContext ctx) {
+    ctx.createIndexIfNotExists(CATALOG_DIGEST_INDEX)
+        .on(ACTOR_CATALOG_TABLE, CATALOG_DIGEST.getName())
+        .execute();
+  }
+
+  /**
+   * Backfills every catalog with a single set-based update, so the catalogs are neither sent to the
+   * migration nor deserialized.
+   */
+  public static void backfillCatalogDigest(final DSLContext ctx) {
+    final int backfilled = ctx.update(DSL.table(ACTOR_CATALOG_TABLE))
+        .set(CATALOG_DIGEST, catalogDigest(CATALOG))
+        .where(CATALOG_DIGEST.isNull())
+        .execute();
+    LOGGER.info("Backfilled the digest of {} actor catalogs", backfilled);
+  }
+
+  /**
+   * SHA-256 of the jsonb text of the catalog. Also used when a catalog is written, so the digests of
+   * written and backfilled catalogs are computed from the same canonical form.
+   */
+  public static Field<String> catalogDigest(final Field<JSONB> catalog) {
+    return DSL.field("encode(sha256(convert_to(CAST({0} AS text), 'UTF8')), 'hex')", SQLDataType.VARCHAR(64), catalog);
+  }
+
+}
@@ -0,0 +1,35 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.db.instance.jobs.migrations;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+import org.jooq.DSLContext;
+import org.jooq.impl.DSL;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Add an index to list the jobs of a connection from the most recent one, so that every page of the
+ * job history is a seek into the index rather than a scan of the connection's jobs.
+ */
+public class V0_50_33_001__AddJobsScopeCreatedAtIdIndex extends BaseJavaMigration {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(V0_50_33_001__AddJobsScopeCreatedAtIdIndex.class);
+
+  @Override
+  public void migrate(final Context context) throws Exception {
+    LOGGER.info("Running migration: {}", this.getClass().getSimpleName());
+
+    // Warning: please do not use any jOOQ generated code to write a migration.
+    // As database schema changes, the generated jOOQ code can be deprecated. So
+    // old migration may not compile if there is any generated code.
+    final DSLContext ctx = DSL.using(context.getConnection());
+    ctx.createIndexIfNotExists("jobs_scope_created_at_id_idx")
+        .on(DSL.table("jobs"), DSL.field("scope").asc(), DSL.field("created_at").desc(), DSL.field("id").desc())
+        .execute();
+  }
+
+}
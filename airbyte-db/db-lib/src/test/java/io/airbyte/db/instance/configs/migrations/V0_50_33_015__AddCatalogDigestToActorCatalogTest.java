@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.db.instance.configs.migrations;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import io.airbyte.db.factory.FlywayFactory;
+import io.airbyte.db.instance.configs.AbstractConfigsDatabaseTest;
+import io.airbyte.db.instance.configs.ConfigsDatabaseMigrator;
+import io.airbyte.db.instance.development.DevDatabaseMigrator;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.jooq.DSLContext;
+import org.jooq.JSONB;
+import org.jooq.impl.DSL;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class V0_50_33_015__AddCatalogDigestToActorCatalogTest extends AbstractConfigsDatabaseTest {
+
+  private static final String ACTOR_CATALOG_TABLE = "actor_catalog";
+
+  @BeforeEach
+  void beforeEach() {
+    final Flyway flyway =
+        FlywayFactory.create(dataSource, "V0_50_33_015__AddCatalogDigestToActorCatalogTest", ConfigsDatabaseMigrator.DB_IDENTIFIER,
+            ConfigsDatabaseMigrator.MIGRATION_FILE_LOCATION);
+    final ConfigsDatabaseMigrator configsDbMigrator = new ConfigsDatabaseMigrator(database, flyway);
+
+    final BaseJavaMigration previousMigration = new V0_50_33_014__AddScopedConfigurationTable();
+    final DevDatabaseMigrator devConfigsDbMigrator = new DevDatabaseMigrator(configsDbMigrator, previousMigration.getVersion());
+    devConfigsDbMigrator.createBaseline();
+  }
+
+  @Test
+  void testBackfillCatalogDigest() {
+    final DSLContext ctx = getDslContext();
+    final UUID catalogId = insertCatalog(ctx, "{\"streams\":[{\"name\":\"users\",\"json_schema\":{\"type\":\"object\"}}]}");
+    final UUID reorderedCatalogId = insertCatalog(ctx, "{ \"streams\": [ { \"json_schema\": { \"type\": \"object\" }, \"name\": \"users\" } ] }");
+    final UUID otherCatalogId = insertCatalog(ctx, "{\"streams\":[{\"name\":\"orders\",\"json_schema\":{\"type\":\"object\"}}]}");
+    final UUID spacedNumberCatalogId = insertCatalog(ctx, "{\"streams\": [], \"count\": 1.50}");
+
+    V0_50_33_015__AddCatalogDigestToActorCatalog.addCatalogDigestColumn(ctx);
+    V0_50_33_015__AddCatalogDigestToActorCatalog.backfillCatalogDigest(ctx);
+    V0_50_33_015__AddCatalogDigestToActorCatalog.addCatalogDigestIndex(ctx);
+
+    final String digest = getCatalogDigest(ctx, catalogId);
+    assertNotNull(digest);
+    assertEquals(64, digest.length());
+    assertEquals(digest, getCatalogDigest(ctx, reorderedCatalogId));
+    assertNotEquals(digest, getCatalogDigest(ctx, otherCatalogId));
+    // the digest is computed from the jsonb text, not from the text that was inserted
+    assertEquals(getCatalogDigest(ctx, spacedNumberCatalogId), digestOf(ctx, "{\"count\":1.50,\"streams\":[]}"));
+    assertEquals(0, ctx.fetchCount(DSL.table(ACTOR_CATALOG_TABLE), V0_50_33_015__AddCatalogDigestToActorCatalog.CATALOG_DIGEST.isNull()));
+  }
+
+  private static UUID insertCatalog(final DSLContext ctx, final String catalog) {
+    final UUID catalogId = UUID.randomUUID();
+    ctx.insertInto(DSL.table(ACTOR_CATALOG_TABLE))
+        .set(DSL.field("id"), catalogId)
+        .set(DSL.field("catalog"), JSONB.valueOf(catalog))
+        .set(DSL.field("catalog_hash"), "hash")
+        .set(DSL.field("created_at"), OffsetDateTime.now())
+        .execute();
+    return catalogId;
+  }
+
+  private static String digestOf(final DSLContext ctx, final String catalog) {
+    return ctx.select(V0_50_33_015__AddCatalogDigestToActorCatalog.catalogDigest(DSL.val(JSONB.valueOf(catalog))))
+        .fetchOne(0, String.class);
+  }
+
+  private static String getCatalogDigest(final DSLContext ctx, final UUID catalogId) {
+    return ctx.select(V0_50_33_015__AddCatalogDigestToActorCatalog.CATALOG_DIGEST)
+        .from(ACTOR_CATALOG_TABLE)
+        .where(DSL.field("id").eq(catalogId))
+        .fetchOne(V0_50_33_015__AddCatalogDigestToActorCatalog.CATALOG_DIGEST);
+  }
+
+}
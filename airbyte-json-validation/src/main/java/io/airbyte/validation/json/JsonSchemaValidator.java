@@ -7,6 +7,8 @@ package io.airbyte.validation.json;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.networknt.schema.JsonMetaSchema;
 import com.networknt.schema.JsonSchema;
 import com.networknt.schema.JsonSchemaFactory;
@@ -18,9 +20,9 @@ import java.io.File;
 import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import me.andrz.jackson.JsonContext;
 import me.andrz.jackson.JsonReferenceException;
@@ -46,9 +48,14 @@ public class JsonSchemaValidator {
     }
   }
 
+  // Upper bound on the number of distinct schemas compiled by the non-initialized methods that are
+  // kept around. Callers typically validate against a small, fixed set of specs.
+  private static final int MAX_CACHED_SCHEMAS = 256;
+
   private final JsonSchemaFactory jsonSchemaFactory;
   private final URI baseUri;
-  private final Map<String, JsonSchema> schemaToValidators = new HashMap<>();
+  private final Map<String, JsonSchema> schemaToValidators = new ConcurrentHashMap<>();
+  private final Cache<JsonNode, JsonSchema> compiledSchemas = CacheBuilder.newBuilder().maximumSize(MAX_CACHED_SCHEMAS).build();
 
   public JsonSchemaValidator() {
     this(DEFAULT_BASE_URI);
@@ -103,17 +110,16 @@ public class JsonSchemaValidator {
   /**
    * Test if a JSON object conforms to a given JSONSchema.
    * <p>
-   * WARNING
-   * <p>
-   * The following methods perform JSON validation **by re-creating a validator each time**. This is
-   * both CPU and GC expensive, and should be used carefully.
+   * The following methods compile a validator the first time they see a schema and cache it, keyed
+   * by the content of the schema. Looking a schema up still hashes the whole schema, so callers
+   * validating many objects against the same schema should prefer
+   * {@link #initializeSchemaValidator(String, JsonNode)}.
    * <p>
    *
    * @param schemaJson JSONSchema to test against
    * @param objectJson object to test
    * @return true if objectJson conforms to the JSONSchema. Otherwise, false.
    */
-  // todo(davin): Rewrite this section to cache schemas.
   public boolean test(final JsonNode schemaJson, final JsonNode objectJson) {
     final Set<ValidationMessage> validationMessages = validateInternal(schemaJson, objectJson);
 
@@ -180,8 +186,18 @@ public class JsonSchemaValidator {
     Preconditions.checkNotNull(schemaJson);
     Preconditions.checkNotNull(objectJson);
 
+    return getCachedSchemaValidator(schemaJson).validate(objectJson);
+  }
+
+  private JsonSchema getCachedSchemaValidator(final JsonNode schemaJson) {
+    final JsonSchema cached = compiledSchemas.getIfPresent(schemaJson);
+    if (cached != null) {
+      return cached;
+    }
     final JsonSchema schema = getSchemaValidator(schemaJson);
-    return schema.validate(objectJson);
+    // Key on a copy so that later changes to the caller's node cannot corrupt the cache.
+    compiledSchemas.put(schemaJson.deepCopy(), schema);
+    return schema;
   }
 
   /**
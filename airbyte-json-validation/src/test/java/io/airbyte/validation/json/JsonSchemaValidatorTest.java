@@ -12,6 +12,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.airbyte.commons.io.IOs;
 import io.airbyte.commons.json.Jsons;
 import java.io.IOException;
@@ -70,6 +71,21 @@ class JsonSchemaValidatorTest {
     assertThrows(JsonValidationException.class, () -> validator.ensure(VALID_SCHEMA, object2));
   }
 
+  @Test
+  void testCachedSchemaIsNotAffectedByLaterChangesToTheSchemaNode() {
+    final JsonSchemaValidator validator = new JsonSchemaValidator();
+    final JsonNode schema = VALID_SCHEMA.deepCopy();
+    final JsonNode object = Jsons.deserialize("{\"host\":\"abc\", \"port\":1}");
+
+    assertTrue(validator.test(schema, object));
+    assertTrue(validator.test(schema, object));
+
+    // Once the port becomes a string, the same object must no longer validate.
+    ((ObjectNode) schema.get(PROPERTIES).get("port")).put("type", "string");
+    assertFalse(validator.test(schema, object));
+    assertTrue(validator.test(VALID_SCHEMA, object));
+  }
+
   @Test
   void test() throws IOException {
     final String schema = "{\n"
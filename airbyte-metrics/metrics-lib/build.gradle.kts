@@ -30,6 +30,8 @@ dependencies {
     implementation(libs.java.dogstatsd.client)
     implementation(libs.bundles.datadog)
 
+    testAnnotationProcessor(libs.jmh.annotations)
+
     testImplementation(project(":airbyte-config:config-persistence"))
     testImplementation(project(":airbyte-test-utils"))
     testImplementation(libs.platform.testcontainers.postgresql)
@@ -40,5 +42,7 @@ dependencies {
     testImplementation((variantOf(libs.opentracing.util) { classifier("tests") }))
 
     testImplementation(libs.junit.pioneer)
+    testImplementation(libs.jmh.core)
+    testImplementation(libs.jmh.annotations)
 
 }
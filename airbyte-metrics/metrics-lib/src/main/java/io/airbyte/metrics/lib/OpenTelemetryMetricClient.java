@@ -9,6 +9,8 @@ import static io.opentelemetry.api.common.AttributeKey.stringKey;
 import static io.opentelemetry.semconv.resource.attributes.ResourceAttributes.SERVICE_NAME;
 
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import io.opentelemetry.api.OpenTelemetry;
 import io.opentelemetry.api.common.Attributes;
 import io.opentelemetry.api.common.AttributesBuilder;
@@ -27,9 +29,9 @@ import io.opentelemetry.sdk.metrics.export.PeriodicMetricReader;
 import io.opentelemetry.sdk.resources.Resource;
 import io.opentelemetry.sdk.trace.SdkTracerProvider;
 import io.opentelemetry.sdk.trace.export.BatchSpanProcessor;
-import java.util.Collections;
-import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Implementation of the {@link MetricClient} that sends the provided metric data to an
@@ -37,24 +39,35 @@ import java.util.Map;
  * <p>
  * Any {@link MetricAttribute}s provided along with the metric data are passed as key/value pairs
  * annotating the metric.
+ * <p>
+ * Instruments are created the first time a metric is emitted and reused afterwards, and the
+ * {@link Attributes} built for a given set of {@link MetricAttribute}s are cached, since some
+ * metrics are emitted for every message of a sync.
  */
 public class OpenTelemetryMetricClient implements MetricClient {
 
+  // Upper bound on the number of distinct attribute sets kept around, attributes such as
+  // connection ids would otherwise grow the cache for as long as the process lives.
+  private static final long MAX_CACHED_ATTRIBUTES = 1000;
+
   private Meter meter;
   private SdkMeterProvider meterProvider;
 
-  private final Map<String, ObservableDoubleGauge> gauges = new HashMap<>();
-  private final Map<String, Map<Attributes, Double>> gaugeValues = Collections.synchronizedMap(new HashMap<>());
+  private final Map<String, LongCounter> counters = new ConcurrentHashMap<>();
+  private final Map<String, DoubleHistogram> histograms = new ConcurrentHashMap<>();
+  private final Map<String, ObservableDoubleGauge> gauges = new ConcurrentHashMap<>();
+  private final Map<String, Map<Attributes, Double>> gaugeValues = new ConcurrentHashMap<>();
+  private final Cache<List<MetricAttribute>, Attributes> attributesCache = CacheBuilder.newBuilder()
+      .maximumSize(MAX_CACHED_ATTRIBUTES)
+      .build();
 
   @Override
   public void count(final MetricsRegistry metric, final long val, final MetricAttribute... attributes) {
-    final LongCounter counter = meter
-        .counterBuilder(metric.getMetricName())
+    final LongCounter counter = counters.computeIfAbsent(metric.getMetricName(), name -> meter
+        .counterBuilder(name)
         .setDescription(metric.getMetricDescription())
-        .build();
-
-    final AttributesBuilder attributesBuilder = buildAttributes(attributes);
-    counter.add(val, attributesBuilder.build());
+        .build());
+    counter.add(val, toAttributes(attributes));
   }
 
   @Override
@@ -63,46 +76,42 @@ public class OpenTelemetryMetricClient implements MetricClient {
      * The Gauge builder in the OpenTelemetry Java SDK can only collect gauge values asynchronously via
      * a callback.
      *
-     * This implementation uses the sync map to ensure gauges are defined only once. It creates a
-     * synchronized map which can be updated by subsequent calls without redefining the gauge.
+     * This implementation uses a concurrent map to ensure gauges are defined only once. It creates a
+     * concurrent map which can be updated by subsequent calls without redefining the gauge.
      *
      * This sort-of a hack: OpenTelemetry expects you to define your gauge up-front and provide a
      * callback that the SDK will call periodically. However, this API does not conform to the
      * MetricClient interface. Without some refactoring of the client interface, this adapter is
      * necessary.
      */
-    final Attributes attr = buildAttributes(attributes).build();
+    final Attributes attr = toAttributes(attributes);
     final String name = metric.getMetricName();
-    synchronized (gauges) { // sync so we don't create the same gauge concurrently
-      if (!gauges.containsKey(name)) {
-        // create an in-memory sync map for reading the latest value given the attribute set
-        var valueMap = Collections.synchronizedMap(new HashMap<Attributes, Double>());
-        gaugeValues.put(name, valueMap); // Register this in-memory map with this gauge
-        valueMap.put(attr, val); // Must insert the initial value so the callback will see it on its first poll
-
-        // Build the gauge with a callback that reads from the sync map to get the current values for each
-        // attribute set
-        // The OpenTelemetry SDK will call this periodically to read the current values.
-        var gauge = meter.gaugeBuilder(name).setDescription(metric.getMetricDescription()).buildWithCallback(measurement -> {
-          for (Map.Entry<Attributes, Double> entry : valueMap.entrySet()) {
-            measurement.record(entry.getValue(), entry.getKey());
-          }
-        });
-        gauges.put(name, gauge);
-        return;
-      }
-    }
-    // This is outside the sync block since we don't need to create a new gauge/gaugeValues map
-    // and at this point they are both guaranteed to exist.
-    var valueMap = gaugeValues.get(name);
+    // The value map is registered before the gauge so the callback always has values to read.
+    // computeIfAbsent guarantees the gauge is only built once per metric.
+    final Map<Attributes, Double> valueMap = gaugeValues.computeIfAbsent(name, k -> new ConcurrentHashMap<>());
     valueMap.put(attr, val);
+    gauges.computeIfAbsent(name, k -> buildGauge(metric, valueMap));
+  }
+
+  /**
+   * Build the gauge with a callback that reads from the value map to get the current values for each
+   * attribute set. The OpenTelemetry SDK will call this periodically to read the current values.
+   */
+  private ObservableDoubleGauge buildGauge(final MetricsRegistry metric, final Map<Attributes, Double> valueMap) {
+    return meter.gaugeBuilder(metric.getMetricName()).setDescription(metric.getMetricDescription()).buildWithCallback(measurement -> {
+      for (final Map.Entry<Attributes, Double> entry : valueMap.entrySet()) {
+        measurement.record(entry.getValue(), entry.getKey());
+      }
+    });
   }
 
   @Override
   public void distribution(final MetricsRegistry metric, final double val, final MetricAttribute... attributes) {
-    final DoubleHistogram histogramMeter = meter.histogramBuilder(metric.getMetricName()).setDescription(metric.getMetricDescription()).build();
-    final AttributesBuilder attributesBuilder = buildAttributes(attributes);
-    histogramMeter.record(val, attributesBuilder.build());
+    final DoubleHistogram histogramMeter = histograms.computeIfAbsent(metric.getMetricName(), name -> meter
+        .histogramBuilder(name)
+        .setDescription(metric.getMetricDescription())
+        .build());
+    histogramMeter.record(val, toAttributes(attributes));
   }
 
   /**
@@ -145,6 +154,9 @@ public class OpenTelemetryMetricClient implements MetricClient {
 
     meter = openTelemetry.meterBuilder(metricEmittingApp.getApplicationName())
         .build();
+    // Instruments created from a previous meter must not be reused.
+    counters.clear();
+    histograms.clear();
   }
 
   @VisibleForTesting
@@ -156,24 +168,38 @@ public class OpenTelemetryMetricClient implements MetricClient {
   public void shutdown() {
     resetForTest();
     closeGauges();
+    counters.clear();
+    histograms.clear();
+    attributesCache.invalidateAll();
   }
 
   private void closeGauges() {
-    synchronized (gauges) {
-      for (Map.Entry<String, ObservableDoubleGauge> entry : gauges.entrySet()) {
-        entry.getValue().close();
-      }
-      gauges.clear();
-      gaugeValues.clear();
+    for (final ObservableDoubleGauge gauge : gauges.values()) {
+      gauge.close();
+    }
+    gauges.clear();
+    gaugeValues.clear();
+  }
+
+  private Attributes toAttributes(final MetricAttribute... attributes) {
+    if (attributes.length == 0) {
+      return Attributes.empty();
+    }
+    final List<MetricAttribute> key = List.of(attributes);
+    Attributes cached = attributesCache.getIfPresent(key);
+    if (cached == null) {
+      cached = buildAttributes(attributes);
+      attributesCache.put(key, cached);
     }
+    return cached;
   }
 
-  private AttributesBuilder buildAttributes(final MetricAttribute... attributes) {
+  private static Attributes buildAttributes(final MetricAttribute... attributes) {
     final AttributesBuilder attributesBuilder = Attributes.builder();
     for (final MetricAttribute attribute : attributes) {
       attributesBuilder.put(stringKey(attribute.key()), attribute.value());
     }
-    return attributesBuilder;
+    return attributesBuilder.build();
   }
 
 }
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.metrics.lib;
+
+import static io.opentelemetry.api.common.AttributeKey.stringKey;
+import static io.opentelemetry.semconv.resource.attributes.ResourceAttributes.SERVICE_NAME;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.Meter;
+import io.opentelemetry.sdk.resources.Resource;
+import io.opentelemetry.sdk.testing.exporter.InMemoryMetricExporter;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the cost of emitting a metric by building the instrument and the attributes on every
+ * call (the previous behavior of {@link OpenTelemetryMetricClient}) against the client, which
+ * reuses them.
+ * <p>
+ * Run the main method. It enables the GC profiler so that the allocation rate per operation
+ * (gc.alloc.rate.norm) is reported alongside the average time.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class OpenTelemetryMetricClientBenchmark {
+
+  private static final MetricEmittingApp METRIC_EMITTING_APP = MetricEmittingApps.WORKER;
+  private static final OssMetricsRegistry DISTRIBUTION_METRIC = OssMetricsRegistry.JSON_STRING_LENGTH;
+  private static final OssMetricsRegistry COUNT_METRIC = OssMetricsRegistry.STATE_BUFFERING;
+  private static final MetricAttribute ATTRIBUTE = new MetricAttribute(MetricTags.CONNECTION_ID, "c9a0f8c4-0d5e-4a4b-9cfa-0a4b3c8c9b0e");
+
+  private OpenTelemetryMetricClient client;
+  private Meter meter;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    final Resource resource = Resource.getDefault().toBuilder().put(SERVICE_NAME, METRIC_EMITTING_APP.getApplicationName()).build();
+    client = new OpenTelemetryMetricClient();
+    client.initialize(METRIC_EMITTING_APP, InMemoryMetricExporter.create(), SdkTracerProvider.builder().setResource(resource).build(), resource);
+    meter = client.getSdkMeterProvider().get(METRIC_EMITTING_APP.getApplicationName());
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    client.shutdown();
+  }
+
+  @Benchmark
+  public void distributionBuildingTheInstrumentOnEveryCall() {
+    meter.histogramBuilder(DISTRIBUTION_METRIC.getMetricName())
+        .setDescription(DISTRIBUTION_METRIC.getMetricDescription())
+        .build()
+        .record(42, Attributes.builder().put(stringKey(ATTRIBUTE.key()), ATTRIBUTE.value()).build());
+  }
+
+  @Benchmark
+  public void distribution() {
+    client.distribution(DISTRIBUTION_METRIC, 42, ATTRIBUTE);
+  }
+
+  @Benchmark
+  public void countBuildingTheInstrumentOnEveryCall() {
+    meter.counterBuilder(COUNT_METRIC.getMetricName())
+        .setDescription(COUNT_METRIC.getMetricDescription())
+        .build()
+        .add(1, Attributes.builder().put(stringKey(ATTRIBUTE.key()), ATTRIBUTE.value()).build());
+  }
+
+  @Benchmark
+  public void count() {
+    client.count(COUNT_METRIC, 1, ATTRIBUTE);
+  }
+
+  @Benchmark
+  public void countWithoutAttributes() {
+    client.count(COUNT_METRIC, 1);
+  }
+
+  public static void main(final String[] args) throws Exception {
+    org.openjdk.jmh.Main.main(new String[] {OpenTelemetryMetricClientBenchmark.class.getSimpleName(), "-prof", "gc"});
+  }
+
+}
@@ -78,6 +78,27 @@ class OpenTelemetryMetricClientTest {
             longPointData -> longPointData.getValue() == 1L && TAG.equals(longPointData.getAttributes().get(AttributeKey.stringKey(TAG)))));
   }
 
+  @Test
+  @DisplayName("Repeated counts should add up on the same instrument and attribute set")
+  void testRepeatedCountsAreAggregated() {
+    openTelemetryMetricClient.count(OssMetricsRegistry.KUBE_POD_PROCESS_CREATE_TIME_MILLISECS, 1, new MetricAttribute(TAG, TAG));
+    openTelemetryMetricClient.count(OssMetricsRegistry.KUBE_POD_PROCESS_CREATE_TIME_MILLISECS, 2, new MetricAttribute(TAG, TAG));
+    openTelemetryMetricClient.count(OssMetricsRegistry.KUBE_POD_PROCESS_CREATE_TIME_MILLISECS, 4);
+
+    metricProvider.forceFlush();
+    final List<MetricData> metricDataList = metricExporter.getFinishedMetricItems();
+    final MetricData data = Iterables.getOnlyElement(metricDataList);
+
+    assertThat(data.getLongSumData().getPoints().size()).isEqualTo(2);
+    assertThat(data.getLongSumData().getPoints().stream()
+        .anyMatch(
+            longPointData -> longPointData.getValue() == 3L && TAG.equals(longPointData.getAttributes().get(AttributeKey.stringKey(TAG)))))
+                .isTrue();
+    assertThat(data.getLongSumData().getPoints().stream()
+        .anyMatch(longPointData -> longPointData.getValue() == 4L && longPointData.getAttributes().isEmpty()))
+            .isTrue();
+  }
+
   @Test
   @DisplayName("Should send out gauge metric with correct metric name, description and value")
   void testGaugeSuccess() throws Exception {
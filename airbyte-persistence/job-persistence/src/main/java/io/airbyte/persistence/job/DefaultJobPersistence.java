@@ -70,7 +70,7 @@ import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 import org.apache.commons.collections4.CollectionUtils;
-import org.apache.commons.lang3.StringUtils;
+import org.jooq.Condition;
 import org.jooq.DSLContext;
 import org.jooq.JSONB;
 import org.jooq.Query;
@@ -263,7 +263,7 @@ public class DefaultJobPersistence implements JobPersistence {
     ctx.batch(queries).execute();
   }
 
-  private static Map<JobAttemptPair, AttemptStats> hydrateSyncStats(final String jobIdsStr, final DSLContext ctx) {
+  private static Map<JobAttemptPair, AttemptStats> hydrateSyncStats(final Long[] jobIds, final DSLContext ctx) {
     final var attemptStats = new HashMap<JobAttemptPair, AttemptStats>();
     final var syncResults = ctx.fetch(
         "SELECT atmpt.attempt_number, atmpt.job_id,"
@@ -271,7 +271,7 @@ public class DefaultJobPersistence implements JobPersistence {
             + "stats.bytes_committed, stats.records_committed "
             + "FROM sync_stats stats "
             + "INNER JOIN attempts atmpt ON stats.attempt_id = atmpt.id "
-            + "WHERE job_id IN ( " + jobIdsStr + ");");
+            + "WHERE job_id = ANY(?);", (Object) jobIds);
     syncResults.forEach(r -> {
       final var key = new JobAttemptPair(r.get(ATTEMPTS.JOB_ID), r.get(ATTEMPTS.ATTEMPT_NUMBER));
       final var syncStats = new SyncStats()
@@ -288,10 +288,10 @@ public class DefaultJobPersistence implements JobPersistence {
 
   /**
    * This method needed to be called after
-   * {@link DefaultJobPersistence#hydrateSyncStats(String, DSLContext)} as it assumes hydrateSyncStats
+   * {@link DefaultJobPersistence#hydrateSyncStats(Long[], DSLContext)} as it assumes hydrateSyncStats
    * has prepopulated the map.
    */
-  private static void hydrateStreamStats(final String jobIdsStr, final DSLContext ctx, final Map<JobAttemptPair, AttemptStats> attemptStats) {
+  private static void hydrateStreamStats(final Long[] jobIds, final DSLContext ctx, final Map<JobAttemptPair, AttemptStats> attemptStats) {
     final var streamResults = ctx.fetch(
         "SELECT atmpt.attempt_number, atmpt.job_id, "
             + "stats.stream_name, stats.stream_namespace, stats.estimated_bytes, stats.estimated_records, stats.bytes_emitted, stats.records_emitted,"
@@ -299,7 +299,7 @@ public class DefaultJobPersistence implements JobPersistence {
             + "FROM stream_stats stats "
             + "INNER JOIN attempts atmpt ON atmpt.id = stats.attempt_id "
             + "WHERE attempt_id IN "
-            + "( SELECT id FROM attempts WHERE job_id IN ( " + jobIdsStr + "));");
+            + "( SELECT id FROM attempts WHERE job_id = ANY(?));", (Object) jobIds);
 
     streamResults.forEach(r -> {
       final var streamSyncStats = new StreamSyncStats()
@@ -803,13 +803,13 @@ public class DefaultJobPersistence implements JobPersistence {
       return Map.of();
     }
 
-    final var jobIdsStr = StringUtils.join(jobIds, ',');
+    final Long[] jobIdsArray = jobIds.toArray(new Long[0]);
     return jobDatabase.query(ctx -> {
       // Instead of one massive join query, separate this query into two queries for better readability
       // for now.
       // We can combine the queries at a later date if this still proves to be not efficient enough.
-      final Map<JobAttemptPair, AttemptStats> attemptStats = hydrateSyncStats(jobIdsStr, ctx);
-      hydrateStreamStats(jobIdsStr, ctx, attemptStats);
+      final Map<JobAttemptPair, AttemptStats> attemptStats = hydrateSyncStats(jobIdsArray, ctx);
+      hydrateStreamStats(jobIdsArray, ctx, attemptStats);
       return attemptStats;
     });
   }
@@ -860,15 +860,25 @@ public class DefaultJobPersistence implements JobPersistence {
                           final OffsetDateTime updatedAtEnd)
       throws IOException {
     return jobDatabase.query(ctx -> ctx.selectCount().from(JOBS)
-        .where(JOBS.CONFIG_TYPE.in(configTypeSqlNames(configTypes)))
+        .where(connectionJobsCondition(configTypes, connectionId, status, createdAtStart, createdAtEnd, updatedAtStart, updatedAtEnd))
+        .fetchOne().into(Long.class));
+  }
+
+  private static Condition connectionJobsCondition(final Set<ConfigType> configTypes,
+                                                   final String connectionId,
+                                                   final JobStatus status,
+                                                   final OffsetDateTime createdAtStart,
+                                                   final OffsetDateTime createdAtEnd,
+                                                   final OffsetDateTime updatedAtStart,
+                                                   final OffsetDateTime updatedAtEnd) {
+    return JOBS.CONFIG_TYPE.in(configTypeSqlNames(configTypes))
         .and(JOBS.SCOPE.eq(connectionId))
         .and(status == null ? DSL.noCondition()
             : JOBS.STATUS.eq(io.airbyte.db.instance.jobs.jooq.generated.enums.JobStatus.lookupLiteral(status.toString().toLowerCase())))
         .and(createdAtStart == null ? DSL.noCondition() : JOBS.CREATED_AT.ge(createdAtStart))
         .and(createdAtEnd == null ? DSL.noCondition() : JOBS.CREATED_AT.le(createdAtEnd))
         .and(updatedAtStart == null ? DSL.noCondition() : JOBS.UPDATED_AT.ge(updatedAtStart))
-        .and(updatedAtEnd == null ? DSL.noCondition() : JOBS.UPDATED_AT.le(updatedAtEnd))
-        .fetchOne().into(Long.class));
+        .and(updatedAtEnd == null ? DSL.noCondition() : JOBS.UPDATED_AT.le(updatedAtEnd));
   }
 
   @Override
@@ -900,14 +910,7 @@ public class DefaultJobPersistence implements JobPersistence {
       throws IOException {
     return jobDatabase.query(ctx -> {
       final String jobsSubquery = "(" + ctx.select(DSL.asterisk()).from(JOBS)
-          .where(JOBS.CONFIG_TYPE.in(configTypeSqlNames(configTypes)))
-          .and(JOBS.SCOPE.eq(configId))
-          .and(status == null ? DSL.noCondition()
-              : JOBS.STATUS.eq(io.airbyte.db.instance.jobs.jooq.generated.enums.JobStatus.lookupLiteral(status.toString().toLowerCase())))
-          .and(createdAtStart == null ? DSL.noCondition() : JOBS.CREATED_AT.ge(createdAtStart))
-          .and(createdAtEnd == null ? DSL.noCondition() : JOBS.CREATED_AT.le(createdAtEnd))
-          .and(updatedAtStart == null ? DSL.noCondition() : JOBS.UPDATED_AT.ge(updatedAtStart))
-          .and(updatedAtEnd == null ? DSL.noCondition() : JOBS.UPDATED_AT.le(updatedAtEnd))
+          .where(connectionJobsCondition(configTypes, configId, status, createdAtStart, createdAtEnd, updatedAtStart, updatedAtEnd))
           .orderBy(JOBS.CREATED_AT.desc(), JOBS.ID.desc())
           .limit(limit)
           .offset(offset)
@@ -918,6 +921,48 @@ public class DefaultJobPersistence implements JobPersistence {
     });
   }
 
+  @Override
+  public Optional<Long> getLastJobIdOfPage(final List<Long> jobIds) throws IOException {
+    if (jobIds.isEmpty()) {
+      return Optional.empty();
+    }
+    return jobDatabase.query(ctx -> ctx.select(JOBS.ID)
+        .from(JOBS)
+        .where(JOBS.ID.in(jobIds))
+        .orderBy(JOBS.CREATED_AT.asc(), JOBS.ID.asc())
+        .limit(1)
+        .fetchOptional(JOBS.ID));
+  }
+
+  @Override
+  public List<Job> listJobsAfter(final Set<ConfigType> configTypes,
+                                 final String configId,
+                                 final int limit,
+                                 final Long cursorJobId,
+                                 final JobStatus status,
+                                 final OffsetDateTime createdAtStart,
+                                 final OffsetDateTime createdAtEnd,
+                                 final OffsetDateTime updatedAtStart,
+                                 final OffsetDateTime updatedAtEnd,
+                                 final String orderByField,
+                                 final String orderByMethod)
+      throws IOException {
+    return jobDatabase.query(ctx -> {
+      // Seeks to the cursor job through the (scope, created_at, id) index instead of skipping rows. If the
+      // cursor job doesn't exist anymore, no job is returned.
+      final String jobsSubquery = "(" + ctx.select(DSL.asterisk()).from(JOBS)
+          .where(connectionJobsCondition(configTypes, configId, status, createdAtStart, createdAtEnd, updatedAtStart, updatedAtEnd))
+          .and(cursorJobId == null ? DSL.noCondition()
+              : DSL.row(JOBS.CREATED_AT, JOBS.ID).lt(DSL.select(JOBS.CREATED_AT, JOBS.ID).from(JOBS).where(JOBS.ID.eq(cursorJobId))))
+          .orderBy(JOBS.CREATED_AT.desc(), JOBS.ID.desc())
+          .limit(limit)
+          .getSQL(ParamType.INLINED) + ") AS jobs";
+
+      LOGGER.debug("jobs subquery: {}", jobsSubquery);
+      return getJobsFromResult(ctx.fetch(jobSelectAndJoin(jobsSubquery) + buildJobOrderByString(orderByField, orderByMethod)));
+    });
+  }
+
   @Override
   public List<Job> listJobs(final Set<ConfigType> configTypes,
                             final List<UUID> workspaceIds,
@@ -1136,6 +1181,27 @@ public class DefaultJobPersistence implements JobPersistence {
         .collect(Collectors.toList()));
   }
 
+  /**
+   * Return the IDs of the connections in the input that have a non-terminal sync job. Unlike
+   * {@link #getRunningSyncJobForConnections(List)}, the jobs themselves are not loaded.
+   */
+  @Override
+  public List<UUID> getConnectionIdsWithRunningSyncJob(final List<UUID> connectionIds) throws IOException {
+    if (connectionIds.isEmpty()) {
+      return Collections.emptyList();
+    }
+
+    return jobDatabase.query(ctx -> ctx
+        .fetch("SELECT DISTINCT scope FROM jobs "
+            + WHERE + "CAST(jobs.config_type AS VARCHAR) = ? "
+            + AND + scopeInList(connectionIds)
+            + AND + JOB_STATUS_IS_NON_TERMINAL,
+            toSqlName(ConfigType.SYNC))
+        .stream()
+        .map(r -> UUID.fromString(r.get("scope", String.class)))
+        .collect(Collectors.toList()));
+  }
+
   private String scopeInList(final Collection<UUID> connectionIds) {
     return String.format("scope IN (%s) ",
         connectionIds.stream()
@@ -260,6 +260,42 @@ public interface JobPersistence {
                      String orderByMethod)
       throws IOException;
 
+  /**
+   * List jobs of a connection with filters, one page after another. Unlike paging with an offset, the
+   * cost of fetching a page doesn't depend on how many pages come before it.
+   *
+   * @param configTypes - type of config, e.g. sync
+   * @param configId - id of that config
+   * @param cursorJobId - id of the last job of the previous page, or null for the first page. Jobs
+   *        created before this job are returned.
+   * @return lists job in descending order by created_at
+   * @throws IOException - what you do when you IO
+   */
+  List<Job> listJobsAfter(
+                          Set<JobConfig.ConfigType> configTypes,
+                          String configId,
+                          int limit,
+                          Long cursorJobId,
+                          JobStatus status,
+                          OffsetDateTime createdAtStart,
+                          OffsetDateTime createdAtEnd,
+                          OffsetDateTime updatedAtStart,
+                          OffsetDateTime updatedAtEnd,
+                          String orderByField,
+                          String orderByMethod)
+      throws IOException;
+
+  /**
+   * Get the job of a page that the next page of {@link #listJobsAfter} starts after: the last job of
+   * the page in the (created_at, id) order pages are selected by. The page may be returned in another
+   * order, and jobs only have a second precision created_at, so it can't be found from the page alone.
+   *
+   * @param jobIds - ids of the jobs of a page
+   * @return id of the last job of the page, empty if none of the jobs exist
+   * @throws IOException - what you do when you IO
+   */
+  Optional<Long> getLastJobIdOfPage(List<Long> jobIds) throws IOException;
+
   /**
    * List jobs of a connection. Pageable.
    *
@@ -342,6 +378,8 @@ public interface JobPersistence {
 
   List<Job> getRunningSyncJobForConnections(final List<UUID> connectionIds) throws IOException;
 
+  List<UUID> getConnectionIdsWithRunningSyncJob(final List<UUID> connectionIds) throws IOException;
+
   Optional<Job> getFirstReplicationJob(UUID connectionId) throws IOException;
 
   Optional<Job> getNextJob() throws IOException;
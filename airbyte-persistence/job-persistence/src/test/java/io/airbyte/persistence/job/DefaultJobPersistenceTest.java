@@ -65,8 +65,10 @@ import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -1520,6 +1522,21 @@ class DefaultJobPersistenceTest {
       assertTrue(actual.isEmpty());
     }
 
+    @Test
+    @DisplayName("Should return the connections that have a running sync job")
+    void testGetConnectionIdsWithRunningSyncJob() throws IOException {
+      final long scope1Job1 = jobPersistence.enqueueJob(SCOPE_1, SYNC_JOB_CONFIG).orElseThrow();
+      jobPersistence.succeedAttempt(scope1Job1, jobPersistence.createAttempt(scope1Job1, LOG_PATH));
+
+      final long scope2Job1 = jobPersistence.enqueueJob(SCOPE_2, SYNC_JOB_CONFIG).orElseThrow();
+      jobPersistence.createAttempt(scope2Job1, LOG_PATH);
+
+      jobPersistence.enqueueJob(SCOPE_3, RESET_JOB_CONFIG).orElseThrow();
+
+      assertEquals(List.of(CONNECTION_ID_2), jobPersistence.getConnectionIdsWithRunningSyncJob(CONNECTION_IDS));
+      assertTrue(jobPersistence.getConnectionIdsWithRunningSyncJob(List.of()).isEmpty());
+    }
+
   }
 
   @Nested
@@ -1873,6 +1890,86 @@ class DefaultJobPersistenceTest {
       }
     }
 
+    @Test
+    @DisplayName("Should page through all jobs with a cursor")
+    void testListJobsAfterPagesThroughAllJobs() throws IOException {
+      final List<Long> ids = new ArrayList<>();
+      for (int i = 0; i < 25; i++) {
+        // These have strictly the same created_at due to the setup() above, so pages are split by id.
+        final long jobId = jobPersistence.enqueueJob(CONNECTION_ID.toString(), SPEC_JOB_CONFIG).orElseThrow();
+        ids.add(jobId);
+
+        // create two attempts per job to verify pagination is applied at the job record level
+        final int attemptNum1 = jobPersistence.createAttempt(jobId, LOG_PATH);
+        jobPersistence.failAttempt(jobId, attemptNum1);
+        jobPersistence.createAttempt(jobId, LOG_PATH);
+
+        jobPersistence.enqueueJob(CONNECTION_ID2.toString(), SPEC_JOB_CONFIG).orElseThrow();
+      }
+
+      final int pagesize = 10;
+      final List<Long> actualIds = new ArrayList<>();
+      Long cursor = null;
+      List<Job> page;
+      do {
+        page = jobPersistence.listJobsAfter(Set.of(SPEC_JOB_CONFIG.getConfigType()), CONNECTION_ID.toString(), pagesize, cursor,
+            null, null, null, null, null, null, null);
+        assertTrue(page.size() <= pagesize);
+        page.forEach(job -> assertEquals(2, job.getAttempts().size()));
+        page.stream().map(Job::getId).forEach(actualIds::add);
+        cursor = page.isEmpty() ? null : page.get(page.size() - 1).getId();
+      } while (page.size() == pagesize);
+
+      assertEquals(Lists.reverse(ids), actualIds);
+    }
+
+    @Test
+    @DisplayName("Should page by created_at before id with a cursor")
+    void testListJobsAfterOrdersByCreatedAt() throws IOException {
+      jobPersistence = new DefaultJobPersistence(jobDatabase, incrementingSecondSupplier(NOW), DEFAULT_MINIMUM_AGE_IN_DAYS,
+          DEFAULT_EXCESSIVE_NUMBER_OF_JOBS, DEFAULT_MINIMUM_RECENCY_COUNT);
+      final long firstJobId = jobPersistence.enqueueJob(SCOPE, SPEC_JOB_CONFIG).orElseThrow();
+      final long secondJobId = jobPersistence.enqueueJob(SCOPE, SPEC_JOB_CONFIG).orElseThrow();
+      final long thirdJobId = jobPersistence.enqueueJob(SCOPE, SPEC_JOB_CONFIG).orElseThrow();
+      jobPersistence.enqueueJob(SCOPE, CHECK_JOB_CONFIG).orElseThrow();
+
+      final List<Job> firstPage = jobPersistence.listJobsAfter(Set.of(SPEC_JOB_CONFIG.getConfigType()), SCOPE, 2, null,
+          null, null, null, null, null, null, null);
+      assertEquals(List.of(thirdJobId, secondJobId), firstPage.stream().map(Job::getId).toList());
+
+      final List<Job> secondPage = jobPersistence.listJobsAfter(Set.of(SPEC_JOB_CONFIG.getConfigType()), SCOPE, 2, secondJobId,
+          null, null, null, null, null, null, null);
+      assertEquals(List.of(firstJobId), secondPage.stream().map(Job::getId).toList());
+
+      final List<Job> pendingAfterThird = jobPersistence.listJobsAfter(Set.of(SPEC_JOB_CONFIG.getConfigType()), SCOPE, 2, thirdJobId,
+          JobStatus.PENDING, null, null, null, null, null, null);
+      assertEquals(List.of(secondJobId, firstJobId), pendingAfterThird.stream().map(Job::getId).toList());
+    }
+
+    @Test
+    @DisplayName("Should continue after the last job in created_at order when jobs were created in the same second")
+    void testGetLastJobIdOfPageWithinTheSameSecond() throws IOException {
+      // ids increase while created_at decreases, all within the same second
+      final Instant second = NOW.truncatedTo(ChronoUnit.SECONDS);
+      final Iterator<Instant> createdAts = List.of(second.plusMillis(300), second.plusMillis(200), second.plusMillis(100)).iterator();
+      jobPersistence = new DefaultJobPersistence(jobDatabase, createdAts::next, DEFAULT_MINIMUM_AGE_IN_DAYS,
+          DEFAULT_EXCESSIVE_NUMBER_OF_JOBS, DEFAULT_MINIMUM_RECENCY_COUNT);
+      final long firstJobId = jobPersistence.enqueueJob(SCOPE, SPEC_JOB_CONFIG).orElseThrow();
+      final long secondJobId = jobPersistence.enqueueJob(SCOPE, SPEC_JOB_CONFIG).orElseThrow();
+      final long thirdJobId = jobPersistence.enqueueJob(SCOPE, SPEC_JOB_CONFIG).orElseThrow();
+
+      final List<Job> firstPage = jobPersistence.listJobsAfter(Set.of(SPEC_JOB_CONFIG.getConfigType()), SCOPE, 2, null,
+          null, null, null, null, null, null, null);
+      final List<Long> firstPageIds = firstPage.stream().map(Job::getId).toList();
+      assertEquals(Set.of(firstJobId, secondJobId), Set.copyOf(firstPageIds));
+      assertEquals(Optional.of(secondJobId), jobPersistence.getLastJobIdOfPage(firstPageIds));
+
+      final List<Job> secondPage = jobPersistence.listJobsAfter(Set.of(SPEC_JOB_CONFIG.getConfigType()), SCOPE, 2, secondJobId,
+          null, null, null, null, null, null, null);
+      assertEquals(List.of(thirdJobId), secondPage.stream().map(Job::getId).toList());
+      assertEquals(Optional.empty(), jobPersistence.getLastJobIdOfPage(List.of()));
+    }
+
     @Test
     @DisplayName("Should list all jobs")
     void testListJobs() throws IOException {
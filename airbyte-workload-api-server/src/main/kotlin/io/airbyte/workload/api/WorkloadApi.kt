@@ -10,7 +10,12 @@ import io.airbyte.workload.api.domain.ClaimResponse
 import io.airbyte.workload.api.domain.KnownExceptionInfo
 import io.airbyte.workload.api.domain.LongRunningWorkloadRequest
 import io.airbyte.workload.api.domain.Workload
+import io.airbyte.workload.api.domain.WorkloadBulkCancelRequest
+import io.airbyte.workload.api.domain.WorkloadBulkCancelResponse
+import io.airbyte.workload.api.domain.WorkloadBulkHeartbeatRequest
+import io.airbyte.workload.api.domain.WorkloadBulkHeartbeatResponse
 import io.airbyte.workload.api.domain.WorkloadCancelRequest
+import io.airbyte.workload.api.domain.WorkloadClaimPendingRequest
 import io.airbyte.workload.api.domain.WorkloadClaimRequest
 import io.airbyte.workload.api.domain.WorkloadCreateRequest
 import io.airbyte.workload.api.domain.WorkloadFailureRequest
@@ -18,9 +23,11 @@ import io.airbyte.workload.api.domain.WorkloadHeartbeatRequest
 import io.airbyte.workload.api.domain.WorkloadLaunchedRequest
 import io.airbyte.workload.api.domain.WorkloadListRequest
 import io.airbyte.workload.api.domain.WorkloadListResponse
+import io.airbyte.workload.api.domain.WorkloadPollRequest
 import io.airbyte.workload.api.domain.WorkloadRunningRequest
 import io.airbyte.workload.api.domain.WorkloadSuccessRequest
 import io.airbyte.workload.handler.WorkloadHandler
+import io.airbyte.workload.handler.WorkloadStatusWatcher
 import io.airbyte.workload.metrics.StatsDRegistryConfigurer.Companion.DATA_PLANE_ID_TAG
 import io.airbyte.workload.metrics.StatsDRegistryConfigurer.Companion.GEOGRAPHY_TAG
 import io.airbyte.workload.metrics.StatsDRegistryConfigurer.Companion.MUTEX_KEY_TAG
@@ -42,6 +49,8 @@ import io.swagger.v3.oas.annotations.media.Schema
 import io.swagger.v3.oas.annotations.parameters.RequestBody
 import io.swagger.v3.oas.annotations.responses.ApiResponse
 import io.swagger.v3.oas.annotations.responses.ApiResponses
+import java.time.Duration
+import java.util.concurrent.CompletableFuture
 import javax.ws.rs.Consumes
 import javax.ws.rs.GET
 import javax.ws.rs.POST
@@ -56,6 +65,7 @@ import javax.ws.rs.Produces
 open class WorkloadApi(
   private val workloadHandler: WorkloadHandler,
   private val workloadService: WorkloadService,
+  private val workloadStatusWatcher: WorkloadStatusWatcher,
 ) {
   @POST
   @Path("/create")
@@ -253,6 +263,45 @@ open class WorkloadApi(
     workloadHandler.cancelWorkload(workloadCancelRequest.workloadId, workloadCancelRequest.source, workloadCancelRequest.reason)
   }
 
+  @PUT
+  @Path("/bulk_cancel")
+  @Consumes("application/json")
+  @Produces("application/json")
+  @Operation(summary = "Cancel the execution of several workloads", tags = ["workload"])
+  @ApiResponses(
+    value = [
+      ApiResponse(
+        responseCode = "200",
+        description =
+          "Returns the ids of the workloads that are cancelled, including the ones that already were, and the ids of the workloads " +
+            "that were not cancelled because they are not found or are in a terminal state.",
+        content = [Content(schema = Schema(implementation = WorkloadBulkCancelResponse::class))],
+      ),
+    ],
+  )
+  open fun workloadBulkCancel(
+    @RequestBody(
+      content = [Content(schema = Schema(implementation = WorkloadBulkCancelRequest::class))],
+    ) workloadBulkCancelRequest: WorkloadBulkCancelRequest,
+  ): WorkloadBulkCancelResponse {
+    ApmTraceUtils.addTagsToTrace(
+      mutableMapOf(
+        WORKLOAD_CANCEL_REASON_TAG to workloadBulkCancelRequest.reason,
+        WORKLOAD_CANCEL_SOURCE_TAG to workloadBulkCancelRequest.source,
+      ) as Map<String, Any>?,
+    )
+    val notCancelledWorkloadIds =
+      workloadHandler.cancelWorkloads(
+        workloadBulkCancelRequest.workloadIds,
+        workloadBulkCancelRequest.source,
+        workloadBulkCancelRequest.reason,
+      )
+    return WorkloadBulkCancelResponse(
+      cancelledWorkloadIds = workloadBulkCancelRequest.workloadIds.filterNot { notCancelledWorkloadIds.contains(it) },
+      notCancelledWorkloadIds = notCancelledWorkloadIds,
+    )
+  }
+
   @PUT
   @Path("/claim")
   @Consumes("application/json")
@@ -294,6 +343,37 @@ open class WorkloadApi(
     return ClaimResponse(claimed)
   }
 
+  @PUT
+  @Path("/claim_pending")
+  @Consumes("application/json")
+  @Produces("application/json")
+  @Operation(summary = "Claim the execution of up to the given quantity of pending workloads", tags = ["workload"])
+  @ApiResponses(
+    value = [
+      ApiResponse(
+        responseCode = "200",
+        description =
+          "Returns the workloads claimed by the dataplane. Pending workloads that are being claimed by another dataplane are skipped, " +
+            "so fewer workloads than requested may be returned.",
+        content = [Content(schema = Schema(implementation = WorkloadListResponse::class))],
+      ),
+    ],
+  )
+  open fun workloadClaimPending(
+    @RequestBody(
+      content = [Content(schema = Schema(implementation = WorkloadClaimPendingRequest::class))],
+    ) workloadClaimPendingRequest: WorkloadClaimPendingRequest,
+  ): WorkloadListResponse {
+    ApmTraceUtils.addTagsToTrace(mutableMapOf(DATA_PLANE_ID_TAG to workloadClaimPendingRequest.dataplaneId) as Map<String, Any>?)
+    return WorkloadListResponse(
+      workloadHandler.claimPendingWorkloads(
+        workloadClaimPendingRequest.dataplaneId,
+        workloadClaimPendingRequest.geography,
+        workloadClaimPendingRequest.quantity,
+      ),
+    )
+  }
+
   @PUT
   @Path("/launched")
   @Status(HttpStatus.NO_CONTENT)
@@ -352,6 +432,40 @@ open class WorkloadApi(
     return workloadHandler.getWorkload(workloadId)
   }
 
+  @POST
+  @Path("/poll")
+  @Consumes("application/json")
+  @Produces("application/json")
+  @Operation(summary = "Wait for the status of a workload to change", tags = ["workload"])
+  @ApiResponses(
+    value = [
+      ApiResponse(
+        responseCode = "200",
+        description =
+          "Returns the workload as soon as its status differs from the given status, " +
+            "or its current state once the timeout has elapsed.",
+        content = [Content(schema = Schema(implementation = Workload::class))],
+      ),
+      ApiResponse(
+        responseCode = "404",
+        description = "Workload with given id was not found.",
+        content = [Content(schema = Schema(implementation = KnownExceptionInfo::class))],
+      ),
+    ],
+  )
+  open fun workloadPoll(
+    @RequestBody(
+      content = [Content(schema = Schema(implementation = WorkloadPollRequest::class))],
+    ) workloadPollRequest: WorkloadPollRequest,
+  ): CompletableFuture<Workload> {
+    ApmTraceUtils.addTagsToTrace(mutableMapOf(WORKLOAD_ID_TAG to workloadPollRequest.workloadId) as Map<String, Any>?)
+    return workloadStatusWatcher.watch(
+      workloadPollRequest.workloadId,
+      workloadPollRequest.status,
+      Duration.ofSeconds(workloadPollRequest.timeoutSeconds.toLong()),
+    )
+  }
+
   @PUT
   @Path("/heartbeat")
   @Status(HttpStatus.NO_CONTENT)
@@ -385,6 +499,30 @@ open class WorkloadApi(
     workloadHandler.heartbeat(workloadHeartbeatRequest.workloadId)
   }
 
+  @PUT
+  @Path("/bulk_heartbeat")
+  @Consumes("application/json")
+  @Produces("application/json")
+  @Operation(summary = "Heartbeat from several workloads", tags = ["workload"])
+  @ApiResponses(
+    value = [
+      ApiResponse(
+        responseCode = "200",
+        description =
+          "Returns the ids of the workloads that were not heartbeated because they are not found or are no longer expected to be running. " +
+            "Those workloads should stop.",
+        content = [Content(schema = Schema(implementation = WorkloadBulkHeartbeatResponse::class))],
+      ),
+    ],
+  )
+  open fun workloadBulkHeartbeat(
+    @RequestBody(
+      content = [Content(schema = Schema(implementation = WorkloadBulkHeartbeatRequest::class))],
+    ) workloadBulkHeartbeatRequest: WorkloadBulkHeartbeatRequest,
+  ): WorkloadBulkHeartbeatResponse {
+    return WorkloadBulkHeartbeatResponse(workloadHandler.heartbeatWorkloads(workloadBulkHeartbeatRequest.workloadIds))
+  }
+
   @POST
   @Path("/list")
   @Consumes("application/json")
@@ -0,0 +1,12 @@
+package io.airbyte.workload.api.domain
+
+import io.swagger.v3.oas.annotations.media.Schema
+
+data class WorkloadBulkCancelRequest(
+  @Schema(required = true)
+  var workloadIds: List<String> = ArrayList(),
+  @Schema(required = true)
+  var reason: String = "",
+  @Schema(required = true)
+  var source: String = "",
+)
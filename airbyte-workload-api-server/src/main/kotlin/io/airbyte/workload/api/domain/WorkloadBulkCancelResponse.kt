@@ -0,0 +1,6 @@
+package io.airbyte.workload.api.domain
+
+data class WorkloadBulkCancelResponse(
+  var cancelledWorkloadIds: List<String> = ArrayList(),
+  var notCancelledWorkloadIds: List<String> = ArrayList(),
+)
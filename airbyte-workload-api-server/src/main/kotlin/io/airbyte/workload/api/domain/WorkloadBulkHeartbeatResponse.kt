@@ -0,0 +1,5 @@
+package io.airbyte.workload.api.domain
+
+data class WorkloadBulkHeartbeatResponse(
+  var inactiveWorkloadIds: List<String> = ArrayList(),
+)
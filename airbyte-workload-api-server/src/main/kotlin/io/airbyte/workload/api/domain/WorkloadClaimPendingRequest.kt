@@ -0,0 +1,11 @@
+package io.airbyte.workload.api.domain
+
+import io.swagger.v3.oas.annotations.media.Schema
+
+data class WorkloadClaimPendingRequest(
+  @Schema(required = true)
+  var dataplaneId: String = "",
+  var geography: String? = null,
+  @Schema(required = true)
+  var quantity: Int = 1,
+)
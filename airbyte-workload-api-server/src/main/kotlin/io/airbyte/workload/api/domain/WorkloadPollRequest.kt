@@ -0,0 +1,11 @@
+package io.airbyte.workload.api.domain
+
+import io.swagger.v3.oas.annotations.media.Schema
+
+data class WorkloadPollRequest(
+  @Schema(required = true)
+  var workloadId: String = "",
+  @Schema(required = true)
+  var timeoutSeconds: Int = 0,
+  var status: WorkloadStatus? = null,
+)
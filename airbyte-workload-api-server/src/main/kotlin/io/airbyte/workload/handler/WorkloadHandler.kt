@@ -20,6 +20,8 @@ interface WorkloadHandler {
     updatedBefore: OffsetDateTime?,
   ): List<Workload>
 
+  fun getWorkloads(workloadIds: List<String>): List<Workload>
+
   fun workloadAlreadyExists(workloadId: String): Boolean
 
   fun createWorkload(
@@ -37,12 +39,24 @@ interface WorkloadHandler {
     dataplaneId: String,
   ): Boolean
 
+  fun claimPendingWorkloads(
+    dataplaneId: String,
+    geography: String?,
+    quantity: Int,
+  ): List<Workload>
+
   fun cancelWorkload(
     workloadId: String,
     source: String?,
     reason: String?,
   )
 
+  fun cancelWorkloads(
+    workloadIds: List<String>,
+    source: String?,
+    reason: String?,
+  ): List<String>
+
   fun failWorkload(
     workloadId: String,
     source: String?,
@@ -57,6 +71,8 @@ interface WorkloadHandler {
 
   fun heartbeat(workloadId: String)
 
+  fun heartbeatWorkloads(workloadIds: List<String>): List<String>
+
   fun getWorkloadsRunningCreatedBefore(
     dataplaneId: List<String>?,
     workloadType: List<ApiWorkloadType>?,
@@ -45,6 +45,10 @@ class WorkloadHandlerImpl(
     return domainWorkloads.map { it.toApi() }
   }
 
+  override fun getWorkloads(workloadIds: List<String>): List<Workload> {
+    return workloadRepository.findByIdInList(workloadIds).map { it.toApi() }
+  }
+
   override fun workloadAlreadyExists(workloadId: String): Boolean {
     return workloadRepository.existsById(workloadId)
   }
@@ -99,6 +103,27 @@ class WorkloadHandlerImpl(
     return true
   }
 
+  override fun claimPendingWorkloads(
+    dataplaneId: String,
+    geography: String?,
+    quantity: Int,
+  ): List<Workload> {
+    if (quantity <= 0) {
+      return listOf()
+    }
+
+    // Only the workloads actually claimed by this statement are returned, concurrent claimers skip them.
+    val claimedWorkloadIds = workloadRepository.claimPending(dataplaneId, geography, quantity)
+    if (claimedWorkloadIds.isEmpty()) {
+      return listOf()
+    }
+
+    // Re-read the claimed workloads so that they are returned with their labels, like getWorkload.
+    return workloadRepository.findByIdInList(claimedWorkloadIds)
+      .sortedBy { it.createdAt }
+      .map { it.toApi() }
+  }
+
   override fun cancelWorkload(
     workloadId: String,
     source: String?,
@@ -121,6 +146,30 @@ class WorkloadHandlerImpl(
     }
   }
 
+  override fun cancelWorkloads(
+    workloadIds: List<String>,
+    source: String?,
+    reason: String?,
+  ): List<String> {
+    if (workloadIds.isEmpty()) {
+      return listOf()
+    }
+
+    val cancelled = workloadRepository.cancel(workloadIds, source, reason)
+    if (cancelled == workloadIds.size) {
+      return listOf()
+    }
+
+    // Only look the workloads up when some of them could not be cancelled. As when cancelling a single
+    // workload, workloads that were already cancelled count as cancelled.
+    val cancelledWorkloadIds =
+      workloadRepository.findByIdInList(workloadIds)
+        .filter { it.status == WorkloadStatus.CANCELLED }
+        .map { it.id }
+        .toSet()
+    return workloadIds.filterNot { cancelledWorkloadIds.contains(it) }
+  }
+
   override fun failWorkload(
     workloadId: String,
     source: String?,
@@ -216,6 +265,25 @@ class WorkloadHandlerImpl(
     }
   }
 
+  override fun heartbeatWorkloads(workloadIds: List<String>): List<String> {
+    if (workloadIds.isEmpty()) {
+      return listOf()
+    }
+
+    val heartbeated = workloadRepository.heartbeat(workloadIds, OffsetDateTime.now())
+    if (heartbeated == workloadIds.size) {
+      return listOf()
+    }
+
+    // Only look the workloads up when some of them could not be heartbeated.
+    val activeWorkloadIds =
+      workloadRepository.findByIdInList(workloadIds)
+        .filter { it.status == WorkloadStatus.RUNNING }
+        .map { it.id }
+        .toSet()
+    return workloadIds.filterNot { activeWorkloadIds.contains(it) }
+  }
+
   override fun getWorkloadsRunningCreatedBefore(
     dataplaneId: List<String>?,
     workloadType: List<ApiWorkloadType>?,
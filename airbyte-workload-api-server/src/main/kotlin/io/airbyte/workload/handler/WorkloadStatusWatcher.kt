@@ -0,0 +1,89 @@
+package io.airbyte.workload.handler
+
+import io.airbyte.workload.api.domain.Workload
+import io.airbyte.workload.api.domain.WorkloadStatus
+import io.airbyte.workload.errors.NotFoundException
+import io.github.oshai.kotlinlogging.KotlinLogging
+import io.micronaut.context.annotation.Value
+import io.micronaut.scheduling.annotation.Scheduled
+import jakarta.inject.Singleton
+import java.time.Duration
+import java.time.Instant
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.ConcurrentLinkedQueue
+
+private val logger = KotlinLogging.logger {}
+
+/**
+ * Holds long-poll requests until the status of their workload changes or their timeout elapses.
+ *
+ * Pending requests don't hold a thread or a database connection. The statuses of all the watched
+ * workloads are instead checked together at a fixed interval, so the number of database queries
+ * doesn't grow with the number of workloads being watched.
+ */
+@Singleton
+class WorkloadStatusWatcher(
+  private val workloadHandler: WorkloadHandler,
+  @Value("\${airbyte.workload.long-poll.max-timeout}") private val maxTimeout: Duration,
+) {
+  private val watches = ConcurrentLinkedQueue<Watch>()
+
+  private data class Watch(
+    val workloadId: String,
+    val status: WorkloadStatus?,
+    val deadline: Instant,
+    val result: CompletableFuture<Workload>,
+  )
+
+  /**
+   * Returns a future that completes with the workload as soon as its status differs from [status],
+   * or with its current state once [timeout] has elapsed. A null [status] completes immediately.
+   */
+  fun watch(
+    workloadId: String,
+    status: WorkloadStatus?,
+    timeout: Duration,
+  ): CompletableFuture<Workload> {
+    val workload = workloadHandler.getWorkload(workloadId)
+    if (status == null || workload.status != status || timeout <= Duration.ZERO) {
+      return CompletableFuture.completedFuture(workload)
+    }
+
+    val result = CompletableFuture<Workload>()
+    watches.add(Watch(workloadId, status, Instant.now().plus(minOf(timeout, maxTimeout)), result))
+    return result
+  }
+
+  @Scheduled(fixedDelay = "\${airbyte.workload.long-poll.check-interval}")
+  fun checkWatchedWorkloads() {
+    if (watches.isEmpty()) {
+      return
+    }
+
+    val now = Instant.now()
+    val currentWatches = watches.toList()
+    try {
+      val workloads =
+        currentWatches.map { it.workloadId }.distinct().chunked(MAX_WORKLOADS_PER_QUERY)
+          .flatMap { workloadHandler.getWorkloads(it) }
+          .associateBy { it.id }
+
+      currentWatches.forEach { watch ->
+        val workload = workloads[watch.workloadId]
+        when {
+          workload == null -> watch.result.completeExceptionally(NotFoundException("Could not find workload with id: ${watch.workloadId}"))
+          workload.status != watch.status || !now.isBefore(watch.deadline) -> watch.result.complete(workload)
+        }
+      }
+    } catch (e: Exception) {
+      logger.warn(e) { "Failed to check the status of ${currentWatches.size} watched workloads" }
+      // Watches past their deadline are failed rather than left hanging until their client gives up.
+      currentWatches.filter { !now.isBefore(it.deadline) }.forEach { it.result.completeExceptionally(e) }
+    }
+    watches.removeIf { it.result.isDone }
+  }
+
+  companion object {
+    private const val MAX_WORKLOADS_PER_QUERY = 1000
+  }
+}
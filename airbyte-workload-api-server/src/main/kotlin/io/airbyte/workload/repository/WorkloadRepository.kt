@@ -50,6 +50,75 @@ interface WorkloadRepository : PageableRepository<Workload, String> {
     createdBefore: OffsetDateTime?,
   ): List<Workload>
 
+  /**
+   * Claims up to [quantity] of the oldest pending workloads for [dataplaneId] and returns their ids.
+   * Selecting and claiming is a single statement, so it is atomic whether or not it runs in a
+   * transaction. Workloads locked by a concurrent claimer are skipped rather than waited on, so
+   * several dataplanes can claim from the same queue without blocking each other or claiming the same
+   * workload twice.
+   */
+  @Query(
+    """
+      WITH claimable AS (
+        SELECT id FROM workload
+        WHERE status = 'pending'
+        AND (CAST(:geography AS varchar) IS NULL OR geography = :geography)
+        ORDER BY created_at
+        LIMIT :quantity
+        FOR UPDATE SKIP LOCKED
+      )
+      UPDATE workload
+      SET dataplane_id = :dataplaneId, status = 'claimed', updated_at = now()
+      FROM claimable
+      WHERE workload.id = claimable.id
+      AND workload.status = 'pending'
+      RETURNING workload.id
+      """,
+  )
+  fun claimPending(
+    dataplaneId: String,
+    geography: String?,
+    quantity: Int,
+  ): List<String>
+
+  /**
+   * Heartbeats every active workload in [workloadIds] in a single statement, workloads that are no
+   * longer active are left untouched. Returns the number of heartbeated workloads.
+   */
+  @Query(
+    """
+      UPDATE workload
+      SET status = 'running', last_heartbeat_at = :lastHeartbeatAt, updated_at = now()
+      WHERE id IN (:workloadIds)
+      AND status IN ('claimed', 'launched', 'running')
+      """,
+  )
+  fun heartbeat(
+    @Expandable workloadIds: List<String>,
+    lastHeartbeatAt: OffsetDateTime,
+  ): Int
+
+  /**
+   * Cancels every active workload in [workloadIds] in a single statement, workloads that already
+   * reached a terminal status are left untouched. Returns the number of cancelled workloads.
+   */
+  @Query(
+    """
+      UPDATE workload
+      SET status = 'cancelled', termination_source = :terminationSource, termination_reason = :terminationReason, updated_at = now()
+      WHERE id IN (:workloadIds)
+      AND status IN ('pending', 'claimed', 'launched', 'running')
+      """,
+  )
+  fun cancel(
+    @Expandable workloadIds: List<String>,
+    terminationSource: String?,
+    terminationReason: String?,
+  ): Int
+
+  @Join(value = "workloadLabels", type = Join.Type.LEFT_FETCH)
+  fun findByIdInList(workloadIds: List<String>): List<Workload>
+
   fun update(
     @Id id: String,
     status: WorkloadStatus,
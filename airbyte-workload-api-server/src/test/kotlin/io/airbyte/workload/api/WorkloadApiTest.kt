@@ -3,12 +3,18 @@ package io.airbyte.workload.api
 import io.airbyte.commons.json.Jsons
 import io.airbyte.commons.temporal.WorkflowClientWrapped
 import io.airbyte.workload.api.domain.KnownExceptionInfo
+import io.airbyte.workload.api.domain.WorkloadBulkCancelRequest
+import io.airbyte.workload.api.domain.WorkloadBulkCancelResponse
+import io.airbyte.workload.api.domain.WorkloadBulkHeartbeatRequest
+import io.airbyte.workload.api.domain.WorkloadBulkHeartbeatResponse
 import io.airbyte.workload.api.domain.WorkloadCancelRequest
+import io.airbyte.workload.api.domain.WorkloadClaimPendingRequest
 import io.airbyte.workload.api.domain.WorkloadClaimRequest
 import io.airbyte.workload.api.domain.WorkloadCreateRequest
 import io.airbyte.workload.api.domain.WorkloadFailureRequest
 import io.airbyte.workload.api.domain.WorkloadHeartbeatRequest
 import io.airbyte.workload.api.domain.WorkloadListRequest
+import io.airbyte.workload.api.domain.WorkloadPollRequest
 import io.airbyte.workload.api.domain.WorkloadRunningRequest
 import io.airbyte.workload.api.domain.WorkloadSuccessRequest
 import io.airbyte.workload.errors.InvalidStatusTransitionException
@@ -116,6 +122,16 @@ class WorkloadApiTest(
     )
   }
 
+  @Test
+  fun `test claim pending success`() {
+    every { workloadHandler.claimPendingWorkloads(any(), any(), any()) }.returns(listOf(ApiWorkload()))
+    testEndpointStatus(
+      HttpRequest.PUT("/api/v1/workload/claim_pending", Jsons.serialize(WorkloadClaimPendingRequest("dataplane", "US", 5))),
+      HttpStatus.OK,
+    )
+    verify(exactly = 1) { workloadHandler.claimPendingWorkloads("dataplane", "US", 5) }
+  }
+
   @Test
   fun `test get success`() {
     every { workloadHandler.getWorkload(any()) }.returns(ApiWorkload())
@@ -133,6 +149,23 @@ class WorkloadApiTest(
     )
   }
 
+  @Test
+  fun `test poll success`() {
+    every { workloadHandler.getWorkload(any()) }.returns(ApiWorkload())
+    testEndpointStatus(HttpRequest.POST("/api/v1/workload/poll", Jsons.serialize(WorkloadPollRequest("1", 10))), HttpStatus.OK)
+  }
+
+  @Test
+  fun `test poll workload id not found`() {
+    val exceptionMessage = "workload id not found"
+    every { workloadHandler.getWorkload(any()) } throws NotFoundException(exceptionMessage)
+    testErrorEndpointResponse(
+      HttpRequest.POST("/api/v1/workload/poll", Jsons.serialize(WorkloadPollRequest("1", 10))),
+      HttpStatus.NOT_FOUND,
+      exceptionMessage,
+    )
+  }
+
   @Test
   fun `test heartbeat success`() {
     every { workloadHandler.heartbeat(any()) }.returns(Unit)
@@ -161,6 +194,33 @@ class WorkloadApiTest(
     )
   }
 
+  @Test
+  fun `test bulk cancel success`() {
+    every { workloadHandler.cancelWorkloads(listOf("workload1", "workload2"), "source", "reason") }.returns(listOf("workload2"))
+    val response =
+      client.toBlocking().retrieve(
+        HttpRequest.PUT(
+          "/api/v1/workload/bulk_cancel",
+          Jsons.serialize(WorkloadBulkCancelRequest(listOf("workload1", "workload2"), "reason", "source")),
+        ),
+        String::class.java,
+      )
+    val bulkCancelResponse = Jsons.deserialize(response, WorkloadBulkCancelResponse::class.java)
+    assertEquals(listOf("workload1"), bulkCancelResponse.cancelledWorkloadIds)
+    assertEquals(listOf("workload2"), bulkCancelResponse.notCancelledWorkloadIds)
+  }
+
+  @Test
+  fun `test bulk heartbeat success`() {
+    every { workloadHandler.heartbeatWorkloads(listOf("workload1", "workload2")) }.returns(listOf("workload2"))
+    val response =
+      client.toBlocking().retrieve(
+        HttpRequest.PUT("/api/v1/workload/bulk_heartbeat", Jsons.serialize(WorkloadBulkHeartbeatRequest(listOf("workload1", "workload2")))),
+        String::class.java,
+      )
+    assertEquals(listOf("workload2"), Jsons.deserialize(response, WorkloadBulkHeartbeatResponse::class.java).inactiveWorkloadIds)
+  }
+
   @Test
   fun `test list success`() {
     every { workloadHandler.getWorkloads(any(), any(), any()) }.returns(emptyList())
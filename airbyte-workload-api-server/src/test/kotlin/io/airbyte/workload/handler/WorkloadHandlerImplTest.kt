@@ -164,6 +164,53 @@ class WorkloadHandlerImplTest {
     assertThrows<InvalidStatusTransitionException> { workloadHandler.heartbeat(WORKLOAD_ID) }
   }
 
+  @Test
+  fun `test bulk cancel`() {
+    val workloadIds = listOf("workload1", "workload2")
+    every { workloadRepository.cancel(workloadIds, "source", "reason") }.returns(2)
+
+    assertTrue(workloadHandler.cancelWorkloads(workloadIds, "source", "reason").isEmpty())
+    verify(exactly = 0) { workloadRepository.findByIdInList(any()) }
+  }
+
+  @Test
+  fun `test bulk cancel returns workloads that were not cancelled`() {
+    val workloadIds = listOf("workload1", "workload2", "workload3", "workload4")
+    every { workloadRepository.cancel(workloadIds, "source", "reason") }.returns(1)
+    every { workloadRepository.findByIdInList(workloadIds) }.returns(
+      listOf(
+        Fixtures.workload(id = "workload1", status = WorkloadStatus.CANCELLED),
+        Fixtures.workload(id = "workload2", status = WorkloadStatus.CANCELLED),
+        Fixtures.workload(id = "workload3", status = WorkloadStatus.SUCCESS),
+      ),
+    )
+
+    assertEquals(listOf("workload3", "workload4"), workloadHandler.cancelWorkloads(workloadIds, "source", "reason"))
+  }
+
+  @Test
+  fun `test bulk heartbeat`() {
+    val workloadIds = listOf("workload1", "workload2")
+    every { workloadRepository.heartbeat(workloadIds, any()) }.returns(2)
+
+    assertTrue(workloadHandler.heartbeatWorkloads(workloadIds).isEmpty())
+    verify(exactly = 0) { workloadRepository.findByIdInList(any()) }
+  }
+
+  @Test
+  fun `test bulk heartbeat returns inactive workloads`() {
+    val workloadIds = listOf("workload1", "workload2", "workload3")
+    every { workloadRepository.heartbeat(workloadIds, any()) }.returns(1)
+    every { workloadRepository.findByIdInList(workloadIds) }.returns(
+      listOf(
+        Fixtures.workload(id = "workload1", status = WorkloadStatus.RUNNING),
+        Fixtures.workload(id = "workload2", status = WorkloadStatus.CANCELLED),
+      ),
+    )
+
+    assertEquals(listOf("workload2", "workload3"), workloadHandler.heartbeatWorkloads(workloadIds))
+  }
+
   @Test
   fun `test workload not found when claiming workload`() {
     every { workloadRepository.findById(WORKLOAD_ID) }.returns(Optional.empty())
@@ -259,6 +306,36 @@ class WorkloadHandlerImplTest {
     verify { workloadRepository.update(WORKLOAD_ID, DATAPLANE_ID, WorkloadStatus.CLAIMED) }
   }
 
+  @Test
+  fun `test claim pending workloads`() {
+    every { workloadRepository.claimPending(DATAPLANE_ID, "US", 3) }.returns(listOf("workload1", "workload2"))
+    every { workloadRepository.findByIdInList(listOf("workload1", "workload2")) }.returns(
+      listOf(
+        Fixtures.workload(
+          id = "workload1",
+          dataplaneId = DATAPLANE_ID,
+          status = WorkloadStatus.CLAIMED,
+          workloadLabels = listOf(DomainWorkloadLabel(key = "key", value = "value")),
+        ),
+        Fixtures.workload(id = "workload2", dataplaneId = DATAPLANE_ID, status = WorkloadStatus.CLAIMED),
+      ),
+    )
+
+    val workloads = workloadHandler.claimPendingWorkloads(DATAPLANE_ID, "US", 3)
+
+    assertEquals(listOf("workload1", "workload2"), workloads.map { it.id })
+    assertTrue(workloads.all { it.dataplaneId == DATAPLANE_ID && it.status == ApiWorkloadStatus.CLAIMED })
+    assertEquals(listOf("key" to "value"), workloads[0].labels.map { it.key to it.value })
+  }
+
+  @Test
+  fun `test claim pending workloads when none are pending`() {
+    every { workloadRepository.claimPending(DATAPLANE_ID, null, 2) }.returns(listOf())
+
+    assertTrue(workloadHandler.claimPendingWorkloads(DATAPLANE_ID, null, 2).isEmpty())
+    verify(exactly = 0) { workloadRepository.findByIdInList(any()) }
+  }
+
   @Test
   fun `test workload not found when cancelling workload`() {
     every { workloadRepository.findById(WORKLOAD_ID) }.returns(Optional.empty())
@@ -0,0 +1,110 @@
+package io.airbyte.workload.handler
+
+import io.airbyte.workload.errors.NotFoundException
+import io.mockk.every
+import io.mockk.mockk
+import io.mockk.verify
+import org.junit.jupiter.api.Assertions.assertEquals
+import org.junit.jupiter.api.Assertions.assertFalse
+import org.junit.jupiter.api.Assertions.assertTrue
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.assertThrows
+import java.time.Duration
+import java.util.concurrent.ExecutionException
+
+class WorkloadStatusWatcherTest {
+  private val workloadHandler = mockk<WorkloadHandler>()
+  private val workloadStatusWatcher = WorkloadStatusWatcher(workloadHandler, Duration.ofMinutes(2))
+
+  @Test
+  fun `test watch returns immediately when the status already changed`() {
+    every { workloadHandler.getWorkload(WORKLOAD_ID) } returns workload(ApiWorkloadStatus.RUNNING)
+
+    val result = workloadStatusWatcher.watch(WORKLOAD_ID, ApiWorkloadStatus.CLAIMED, Duration.ofMinutes(1))
+
+    assertTrue(result.isDone)
+    assertEquals(ApiWorkloadStatus.RUNNING, result.get().status)
+  }
+
+  @Test
+  fun `test watch returns immediately without a known status`() {
+    every { workloadHandler.getWorkload(WORKLOAD_ID) } returns workload(ApiWorkloadStatus.RUNNING)
+
+    assertTrue(workloadStatusWatcher.watch(WORKLOAD_ID, null, Duration.ofMinutes(1)).isDone)
+  }
+
+  @Test
+  fun `test watch completes once the status changes`() {
+    every { workloadHandler.getWorkload(WORKLOAD_ID) } returns workload(ApiWorkloadStatus.RUNNING)
+    every { workloadHandler.getWorkloads(listOf(WORKLOAD_ID)) } returnsMany
+      listOf(
+        listOf(workload(ApiWorkloadStatus.RUNNING)),
+        listOf(workload(ApiWorkloadStatus.SUCCESS)),
+      )
+
+    val result = workloadStatusWatcher.watch(WORKLOAD_ID, ApiWorkloadStatus.RUNNING, Duration.ofMinutes(1))
+    assertFalse(result.isDone)
+
+    workloadStatusWatcher.checkWatchedWorkloads()
+    assertFalse(result.isDone)
+
+    workloadStatusWatcher.checkWatchedWorkloads()
+    assertTrue(result.isDone)
+    assertEquals(ApiWorkloadStatus.SUCCESS, result.get().status)
+
+    // completed watches are no longer checked
+    workloadStatusWatcher.checkWatchedWorkloads()
+    verify(exactly = 2) { workloadHandler.getWorkloads(listOf(WORKLOAD_ID)) }
+  }
+
+  @Test
+  fun `test watches are checked in a single query`() {
+    every { workloadHandler.getWorkload(any()) } answers { workload(ApiWorkloadStatus.RUNNING, firstArg()) }
+    every { workloadHandler.getWorkloads(any<List<String>>()) } returns
+      listOf(workload(ApiWorkloadStatus.SUCCESS, "workload1"), workload(ApiWorkloadStatus.RUNNING, "workload2"))
+
+    val result1 = workloadStatusWatcher.watch("workload1", ApiWorkloadStatus.RUNNING, Duration.ofMinutes(1))
+    val result2 = workloadStatusWatcher.watch("workload2", ApiWorkloadStatus.RUNNING, Duration.ofMinutes(1))
+    val result3 = workloadStatusWatcher.watch("workload1", ApiWorkloadStatus.RUNNING, Duration.ofMinutes(1))
+    workloadStatusWatcher.checkWatchedWorkloads()
+
+    assertTrue(result1.isDone)
+    assertFalse(result2.isDone)
+    assertTrue(result3.isDone)
+    verify(exactly = 1) { workloadHandler.getWorkloads(listOf("workload1", "workload2")) }
+  }
+
+  @Test
+  fun `test watch completes with the current state once the timeout elapsed`() {
+    every { workloadHandler.getWorkload(WORKLOAD_ID) } returns workload(ApiWorkloadStatus.RUNNING)
+    every { workloadHandler.getWorkloads(listOf(WORKLOAD_ID)) } returns listOf(workload(ApiWorkloadStatus.RUNNING))
+
+    val result = workloadStatusWatcher.watch(WORKLOAD_ID, ApiWorkloadStatus.RUNNING, Duration.ofMillis(1))
+    Thread.sleep(10)
+    workloadStatusWatcher.checkWatchedWorkloads()
+
+    assertTrue(result.isDone)
+    assertEquals(ApiWorkloadStatus.RUNNING, result.get().status)
+  }
+
+  @Test
+  fun `test watch fails when the workload is deleted`() {
+    every { workloadHandler.getWorkload(WORKLOAD_ID) } returns workload(ApiWorkloadStatus.RUNNING)
+    every { workloadHandler.getWorkloads(listOf(WORKLOAD_ID)) } returns listOf()
+
+    val result = workloadStatusWatcher.watch(WORKLOAD_ID, ApiWorkloadStatus.RUNNING, Duration.ofMinutes(1))
+    workloadStatusWatcher.checkWatchedWorkloads()
+
+    val exception = assertThrows<ExecutionException> { result.get() }
+    assertTrue(exception.cause is NotFoundException)
+  }
+
+  private fun workload(
+    status: ApiWorkloadStatus,
+    id: String = WORKLOAD_ID,
+  ): ApiWorkload = ApiWorkload(id = id, status = status)
+
+  companion object {
+    private const val WORKLOAD_ID = "test"
+  }
+}
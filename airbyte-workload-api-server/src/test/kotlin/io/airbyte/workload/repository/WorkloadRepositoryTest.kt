@@ -2,6 +2,7 @@ package io.airbyte.workload.repository
 
 import io.airbyte.db.factory.DSLContextFactory
 import io.airbyte.db.instance.test.TestDatabaseProviders
+import io.airbyte.workload.handler.WorkloadHandler
 import io.airbyte.workload.repository.WorkloadRepositoryTest.Fixtures.WORKLOAD_ID
 import io.airbyte.workload.repository.domain.Workload
 import io.airbyte.workload.repository.domain.WorkloadLabel
@@ -24,6 +25,8 @@ import org.junit.jupiter.api.Test
 import org.testcontainers.containers.PostgreSQLContainer
 import java.time.OffsetDateTime
 import java.time.temporal.ChronoUnit
+import java.util.concurrent.Callable
+import java.util.concurrent.Executors
 import javax.sql.DataSource
 
 @MicronautTest
@@ -32,6 +35,7 @@ internal class WorkloadRepositoryTest {
     private lateinit var context: ApplicationContext
     lateinit var workloadRepo: WorkloadRepository
     lateinit var workloadLabelRepo: WorkloadLabelRepository
+    private lateinit var workloadHandler: WorkloadHandler
     private lateinit var jooqDslContext: DSLContext
 
     // we run against an actual database to ensure micronaut data and jooq properly integrate
@@ -70,6 +74,7 @@ internal class WorkloadRepositoryTest {
       databaseProviders.createNewConfigsDatabase()
       workloadRepo = context.getBean(WorkloadRepository::class.java)
       workloadLabelRepo = context.getBean(WorkloadLabelRepository::class.java)
+      workloadHandler = context.getBean(WorkloadHandler::class.java)
     }
 
     @AfterAll
@@ -341,6 +346,116 @@ internal class WorkloadRepositoryTest {
     assertEquals(0, resultSearch.size)
   }
 
+  @Test
+  fun `test claim pending workloads`() {
+    workloadRepo.save(Fixtures.workload(id = "workload1", geography = "US"))
+    workloadRepo.save(Fixtures.workload(id = "workload2", geography = "EU"))
+    workloadRepo.save(Fixtures.workload(id = "workload3", geography = "US"))
+    workloadRepo.save(Fixtures.workload(id = "workload4", dataplaneId = "dataplane2", status = WorkloadStatus.RUNNING, geography = "US"))
+
+    assertEquals(listOf("workload1"), workloadRepo.claimPending("dataplane1", "US", 1))
+    assertEquals(listOf("workload3"), workloadRepo.claimPending("dataplane1", "US", 5))
+    assertEquals(listOf<String>(), workloadRepo.claimPending("dataplane1", "US", 5))
+    assertEquals(listOf("workload2"), workloadRepo.claimPending("dataplane1", null, 5))
+
+    val claimed = sortedSearch(listOf("dataplane1"), listOf(WorkloadStatus.CLAIMED), null)
+    assertEquals(listOf("workload1", "workload2", "workload3"), claimed.map { it.id })
+    assertEquals(WorkloadStatus.RUNNING, workloadRepo.findById("workload4").get().status)
+  }
+
+  @Test
+  fun `test claim pending workloads through the handler returns their labels`() {
+    workloadRepo.save(
+      Fixtures.workload(
+        id = "workload1",
+        workloadLabels = listOf(WorkloadLabel(key = "key1", value = "value1"), WorkloadLabel(key = "key2", value = "value2")),
+      ),
+    )
+
+    val claimed = workloadHandler.claimPendingWorkloads("dataplane1", null, 5)
+
+    assertEquals(listOf("workload1"), claimed.map { it.id })
+    assertEquals("dataplane1", claimed[0].dataplaneId)
+    assertEquals(setOf("key1" to "value1", "key2" to "value2"), claimed[0].labels.map { it.key to it.value }.toSet())
+  }
+
+  @Test
+  fun `test concurrent claimers never claim the same workload`() {
+    val workloadCount = 50
+    (1..workloadCount).forEach { workloadRepo.save(Fixtures.workload(id = "workload$it")) }
+
+    val claimers = 8
+    val executor = Executors.newFixedThreadPool(claimers)
+    try {
+      val claims =
+        executor.invokeAll(
+          (1..claimers).map { claimer ->
+            Callable {
+              val claimed = mutableListOf<Pair<String, String?>>()
+              do {
+                // Goes through the handler, so the claim does not rely on a transaction opened by the test.
+                val batch = workloadHandler.claimPendingWorkloads("dataplane$claimer", null, 3)
+                batch.forEach { assertEquals("dataplane$claimer", it.dataplaneId) }
+                claimed.addAll(batch.map { it.id to it.dataplaneId })
+              } while (batch.isNotEmpty())
+              claimed
+            }
+          },
+        ).flatMap { it.get() }
+
+      assertEquals(workloadCount, claims.size)
+      assertEquals(workloadCount, claims.map { it.first }.toSet().size)
+      // Every workload is claimed by the dataplane it was returned to.
+      val claimedWorkloads = sortedSearch(null, listOf(WorkloadStatus.CLAIMED), null).associate { it.id to it.dataplaneId }
+      assertEquals(claims.toMap(), claimedWorkloads)
+    } finally {
+      executor.shutdown()
+    }
+  }
+
+  @Test
+  fun `test bulk heartbeat`() {
+    workloadRepo.save(Fixtures.workload(id = "workload1", status = WorkloadStatus.CLAIMED))
+    workloadRepo.save(Fixtures.workload(id = "workload2", status = WorkloadStatus.RUNNING))
+    workloadRepo.save(Fixtures.workload(id = "workload3", status = WorkloadStatus.CANCELLED))
+    workloadRepo.save(Fixtures.workload(id = "workload4", status = WorkloadStatus.PENDING))
+    val now = OffsetDateTime.now()
+
+    val heartbeated = workloadRepo.heartbeat(listOf("workload1", "workload2", "workload3", "workload4", "unknown"), now)
+
+    assertEquals(2, heartbeated)
+    val workloads = workloadRepo.findByIdInList(listOf("workload1", "workload2", "workload3", "workload4")).associateBy { it.id }
+    assertEquals(WorkloadStatus.RUNNING, workloads["workload1"]!!.status)
+    assertEquals(now.toEpochSecond(), workloads["workload1"]!!.lastHeartbeatAt?.toEpochSecond())
+    assertEquals(WorkloadStatus.RUNNING, workloads["workload2"]!!.status)
+    assertEquals(now.toEpochSecond(), workloads["workload2"]!!.lastHeartbeatAt?.toEpochSecond())
+    assertEquals(WorkloadStatus.CANCELLED, workloads["workload3"]!!.status)
+    assertNull(workloads["workload3"]!!.lastHeartbeatAt)
+    assertEquals(WorkloadStatus.PENDING, workloads["workload4"]!!.status)
+    assertNull(workloads["workload4"]!!.lastHeartbeatAt)
+  }
+
+  @Test
+  fun `test bulk cancel`() {
+    workloadRepo.save(Fixtures.workload(id = "workload1", status = WorkloadStatus.PENDING))
+    workloadRepo.save(Fixtures.workload(id = "workload2", status = WorkloadStatus.RUNNING))
+    workloadRepo.save(Fixtures.workload(id = "workload3", status = WorkloadStatus.SUCCESS))
+    workloadRepo.save(Fixtures.workload(id = "workload4", status = WorkloadStatus.CANCELLED))
+
+    val cancelled = workloadRepo.cancel(listOf("workload1", "workload2", "workload3", "workload4", "unknown"), "monitor", "timeout")
+
+    assertEquals(2, cancelled)
+    val workloads = workloadRepo.findByIdInList(listOf("workload1", "workload2", "workload3", "workload4")).associateBy { it.id }
+    assertEquals(WorkloadStatus.CANCELLED, workloads["workload1"]!!.status)
+    assertEquals("monitor", workloads["workload1"]!!.terminationSource)
+    assertEquals("timeout", workloads["workload1"]!!.terminationReason)
+    assertEquals(WorkloadStatus.CANCELLED, workloads["workload2"]!!.status)
+    assertEquals(WorkloadStatus.SUCCESS, workloads["workload3"]!!.status)
+    assertNull(workloads["workload3"]!!.terminationSource)
+    assertEquals(WorkloadStatus.CANCELLED, workloads["workload4"]!!.status)
+    assertNull(workloads["workload4"]!!.terminationSource)
+  }
+
   object Fixtures {
     const val WORKLOAD_ID = "test"
 
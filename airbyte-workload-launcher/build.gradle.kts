@@ -12,6 +12,7 @@ dependencies {
     kapt(platform(libs.micronaut.bom))
     kapt(libs.bundles.micronaut.annotation.processor)
 
+    implementation(libs.apache.commons)
     implementation(libs.bundles.datadog)
     implementation(libs.bundles.kubernetes.client)
     implementation(libs.bundles.log4j)
@@ -66,6 +67,7 @@ dependencies {
     testImplementation(libs.airbyte.protocol)
     testImplementation(libs.apache.commons.lang)
     testImplementation(libs.testcontainers.vault)
+    testImplementation(libs.kubernetes.server.mock)
 }
 
 val env = Properties().apply {
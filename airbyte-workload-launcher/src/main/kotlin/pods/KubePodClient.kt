@@ -1,5 +1,6 @@
 package io.airbyte.workload.launcher.pods
 
+import com.google.common.annotations.VisibleForTesting
 import io.airbyte.commons.constants.WorkerConstants.KubeConstants.FULL_POD_TIMEOUT
 import io.airbyte.metrics.lib.ApmTraceUtils
 import io.airbyte.persistence.job.models.ReplicationInput
@@ -9,9 +10,14 @@ import io.airbyte.workload.launcher.model.setDestinationLabels
 import io.airbyte.workload.launcher.model.setSourceLabels
 import io.airbyte.workload.launcher.pipeline.consumer.LauncherInput
 import io.fabric8.kubernetes.api.model.Pod
+import io.micronaut.scheduling.TaskExecutors
+import jakarta.inject.Named
 import jakarta.inject.Singleton
 import java.lang.RuntimeException
 import java.time.Duration
+import java.util.concurrent.ExecutionException
+import java.util.concurrent.ExecutorCompletionService
+import java.util.concurrent.ExecutorService
 
 /**
  * Interface layer between domain and Kube layers.
@@ -22,6 +28,7 @@ class KubePodClient(
   private val orchestratorLauncher: OrchestratorPodLauncher,
   private val labeler: PodLabeler,
   private val mapper: PayloadKubeInputMapper,
+  @Named(TaskExecutors.IO) private val waitExecutor: ExecutorService,
 ) {
   fun podsExistForWorkload(workloadId: String): Boolean {
     return orchestratorLauncher.podsExist(labeler.getWorkloadLabels(workloadId))
@@ -78,25 +85,7 @@ class KubePodClient(
       )
     }
 
-    try {
-      orchestratorLauncher.waitForPodReadyOrTerminal(kubeInput.sourceLabels, CONNECTOR_STARTUP_TIMEOUT_VALUE)
-    } catch (e: RuntimeException) {
-      ApmTraceUtils.addExceptionToTrace(e)
-      throw KubePodInitException(
-        "Source pod failed to start within allotted timeout.",
-        e,
-      )
-    }
-
-    try {
-      orchestratorLauncher.waitForPodReadyOrTerminal(kubeInput.destinationLabels, CONNECTOR_STARTUP_TIMEOUT_VALUE)
-    } catch (e: RuntimeException) {
-      ApmTraceUtils.addExceptionToTrace(e)
-      throw KubePodInitException(
-        "Destination pod failed to start within allotted timeout.",
-        e,
-      )
-    }
+    waitForSourceAndDestination(kubeInput.sourceLabels, kubeInput.destinationLabels)
   }
 
   fun launchCheck(
@@ -158,6 +147,48 @@ class KubePodClient(
     }
   }
 
+  /**
+   * The source and destination pods start independently, so we wait for both of them at the same time.
+   * The first wait to fail interrupts the other one, and its error is the one reported.
+   */
+  @VisibleForTesting
+  fun waitForSourceAndDestination(
+    sourceLabels: Map<String, String>,
+    destinationLabels: Map<String, String>,
+  ) {
+    val completionService = ExecutorCompletionService<Unit>(waitExecutor)
+    val waits =
+      listOf(
+        completionService.submit { waitForConnectorPod(sourceLabels, "Source pod failed to start within allotted timeout.") },
+        completionService.submit { waitForConnectorPod(destinationLabels, "Destination pod failed to start within allotted timeout.") },
+      )
+
+    try {
+      repeat(waits.size) {
+        completionService.take().get()
+      }
+    } catch (e: ExecutionException) {
+      throw e.cause as? KubePodInitException ?: KubePodInitException("Failed to wait for the source and destination pods.", e.cause ?: e)
+    } catch (e: InterruptedException) {
+      Thread.currentThread().interrupt()
+      throw KubePodInitException("Interrupted while waiting for the source and destination pods.", e)
+    } finally {
+      waits.forEach { it.cancel(true) }
+    }
+  }
+
+  private fun waitForConnectorPod(
+    labels: Map<String, String>,
+    errorMessage: String,
+  ) {
+    try {
+      orchestratorLauncher.waitForPodReadyOrTerminal(labels, CONNECTOR_STARTUP_TIMEOUT_VALUE)
+    } catch (e: RuntimeException) {
+      ApmTraceUtils.addExceptionToTrace(e)
+      throw KubePodInitException(errorMessage, e)
+    }
+  }
+
   fun deleteMutexPods(mutexKey: String): Boolean {
     val labels = labeler.getMutexLabels(mutexKey)
     val deleted = orchestratorLauncher.deleteActivePods(labels)
@@ -1,6 +1,6 @@
 package io.airbyte.workload.launcher.pods
 
-import io.airbyte.commons.io.IOs
+import com.google.common.annotations.VisibleForTesting
 import io.airbyte.config.ResourceRequirements
 import io.airbyte.featureflag.ANONYMOUS
 import io.airbyte.featureflag.Connection
@@ -14,6 +14,7 @@ import io.airbyte.workers.process.KubePodProcess
 import io.airbyte.workers.process.KubePodResourceHelper
 import io.airbyte.workload.launcher.pods.OrchestratorPodLauncher.Constants.KUBECTL_COMPLETED_VALUE
 import io.airbyte.workload.launcher.pods.OrchestratorPodLauncher.Constants.KUBECTL_PHASE_FIELD_NAME
+import io.airbyte.workload.launcher.pods.OrchestratorPodLauncher.Constants.MAX_COPY_FILES_TIMEOUT
 import io.airbyte.workload.launcher.pods.OrchestratorPodLauncher.Constants.MAX_DELETION_TIMEOUT
 import io.fabric8.kubernetes.api.model.ContainerBuilder
 import io.fabric8.kubernetes.api.model.ContainerPort
@@ -37,8 +38,11 @@ import io.micronaut.context.annotation.Value
 import io.micronaut.core.util.StringUtils
 import jakarta.inject.Named
 import jakarta.inject.Singleton
-import java.io.IOException
-import java.nio.file.Path
+import org.apache.commons.compress.archivers.tar.TarArchiveEntry
+import org.apache.commons.compress.archivers.tar.TarArchiveOutputStream
+import java.io.ByteArrayInputStream
+import java.io.ByteArrayOutputStream
+import java.nio.charset.StandardCharsets
 import java.time.Duration
 import java.util.Objects
 import java.util.concurrent.TimeUnit
@@ -290,49 +294,56 @@ class OrchestratorPodLauncher(
     podDefinition: Pod,
     files: Map<String, String>,
   ) {
-    val fileEntries: MutableList<Map.Entry<String, String>> = ArrayList(files.entries)
-
-    // copy this file last to indicate that the copy has completed
-    fileEntries.add(java.util.AbstractMap.SimpleEntry(KubePodProcess.SUCCESS_FILE_NAME, ""))
-    var tmpFile: Path? = null
-    var proc: Process? = null
-    for ((key, value) in fileEntries) {
-      try {
-        tmpFile = Path.of(IOs.writeFileToRandomTmpDir(key, value))
-        val containerPath = Path.of(KubePodProcess.CONFIG_DIR + "/" + key)
-
-        // using kubectl cp directly here, because both fabric and the official kube client APIs have
-        // several issues with copying files. See https://github.com/airbytehq/airbyte/issues/8643 for
-        // details.
-        val command =
-          String.format(
-            "kubectl cp %s %s/%s:%s -c %s",
-            tmpFile,
-            podDefinition.metadata.namespace,
-            podDefinition.metadata.name,
-            containerPath,
-            KubePodProcess.INIT_CONTAINER_NAME,
-          )
-        proc =
-          runKubeCommand(
-            {
-              Runtime.getRuntime().exec(command)
-            },
-            "kubectl_cp",
-          )
-        val exitCode = proc.waitFor()
-        if (exitCode != 0) {
-          throw IOException("kubectl cp failed with exit code $exitCode")
-        }
-      } catch (e: IOException) {
-        throw RuntimeException(e)
-      } catch (e: InterruptedException) {
-        throw RuntimeException(e)
-      } finally {
-        tmpFile?.toFile()?.delete()
-        proc?.destroy()
+    val archive = createConfigArchive(files)
+    val errors = ByteArrayOutputStream()
+    val start = System.currentTimeMillis()
+
+    // All the files are streamed to the init container as a single archive, extracted in place by
+    // tar, instead of forking a kubectl cp process per file.
+    val exitCode =
+      runKubeCommand(
+        {
+          kubernetesClient.pods()
+            .inNamespace(podDefinition.metadata.namespace)
+            .withName(podDefinition.metadata.name)
+            .inContainer(KubePodProcess.INIT_CONTAINER_NAME)
+            .readingInput(ByteArrayInputStream(archive))
+            .writingError(errors)
+            .exec("tar", "-xf", "-", "-C", KubePodProcess.CONFIG_DIR)
+            .use { it.exitCode().get(MAX_COPY_FILES_TIMEOUT, TimeUnit.SECONDS) }
+        },
+        "copy_files",
+      )
+
+    if (exitCode != 0) {
+      throw RuntimeException(
+        "Failed to copy config files to pod ${podDefinition.metadata.name}. tar exited with code $exitCode: ${errors.toString(StandardCharsets.UTF_8)}",
+      )
+    }
+
+    logger.info { "Copied ${files.size} config files to pod ${podDefinition.metadata.name} in ${System.currentTimeMillis() - start} ms" }
+  }
+
+  /**
+   * Packs the files in a tar archive. The success file is added last, so the init container only sees it
+   * once every other file has been extracted.
+   */
+  @VisibleForTesting
+  fun createConfigArchive(files: Map<String, String>): ByteArray {
+    val archive = ByteArrayOutputStream()
+    TarArchiveOutputStream(archive).use { tar ->
+      tar.setLongFileMode(TarArchiveOutputStream.LONGFILE_POSIX)
+      (files.entries.map { it.key to it.value } + (KubePodProcess.SUCCESS_FILE_NAME to "")).forEach { (name, content) ->
+        val bytes = content.toByteArray(StandardCharsets.UTF_8)
+        val entry = TarArchiveEntry(name)
+        entry.size = bytes.size.toLong()
+        tar.putArchiveEntry(entry)
+        tar.write(bytes)
+        tar.closeArchiveEntry()
       }
+      tar.finish()
     }
+    return archive.toByteArray()
   }
 
   fun podsExist(labels: Map<String, String>): Boolean {
@@ -419,5 +430,6 @@ class OrchestratorPodLauncher(
     const val KUBECTL_COMPLETED_VALUE = "Succeeded"
     const val KUBECTL_PHASE_FIELD_NAME = "status.phase"
     const val MAX_DELETION_TIMEOUT = 45L
+    const val MAX_COPY_FILES_TIMEOUT = 60L
   }
 }
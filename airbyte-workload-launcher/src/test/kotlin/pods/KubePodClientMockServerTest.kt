@@ -0,0 +1,126 @@
+package io.airbyte.workload.launcher.pods
+
+import io.airbyte.metrics.lib.MetricClient
+import io.fabric8.kubernetes.api.model.Pod
+import io.fabric8.kubernetes.api.model.PodBuilder
+import io.fabric8.kubernetes.client.KubernetesClient
+import io.fabric8.kubernetes.client.server.mock.EnableKubernetesMockClient
+import io.mockk.every
+import io.mockk.mockk
+import io.mockk.spyk
+import io.mockk.verify
+import org.junit.jupiter.api.AfterEach
+import org.junit.jupiter.api.Assertions.assertEquals
+import org.junit.jupiter.api.Assertions.assertTrue
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.assertThrows
+import java.time.Duration
+import java.util.concurrent.Executors
+import java.util.concurrent.ScheduledExecutorService
+import java.util.concurrent.ThreadPoolExecutor
+import java.util.concurrent.TimeUnit
+
+/**
+ * Waits for connector pods against the fabric8 mock server in CRUD mode, so no Kubernetes cluster is needed.
+ */
+@EnableKubernetesMockClient(crud = true)
+class KubePodClientMockServerTest {
+  private lateinit var client: KubernetesClient
+  private lateinit var orchestratorPodLauncher: OrchestratorPodLauncher
+  private lateinit var waitExecutor: ThreadPoolExecutor
+  private lateinit var kubePodClient: KubePodClient
+  private lateinit var scheduler: ScheduledExecutorService
+
+  @BeforeEach
+  fun setup() {
+    val metricClient: MetricClient = mockk(relaxed = true)
+    orchestratorPodLauncher =
+      spyk(
+        OrchestratorPodLauncher(
+          client,
+          mockk(),
+          NAMESPACE,
+          "",
+          "",
+          "",
+          "",
+          "",
+          "",
+          listOf(),
+          listOf(),
+          metricClient,
+        ),
+      )
+    waitExecutor = Executors.newCachedThreadPool() as ThreadPoolExecutor
+    kubePodClient = KubePodClient(orchestratorPodLauncher, mockk(), mockk(), waitExecutor)
+    scheduler = Executors.newSingleThreadScheduledExecutor()
+  }
+
+  @AfterEach
+  fun teardown() {
+    scheduler.shutdownNow()
+    waitExecutor.shutdownNow()
+  }
+
+  @Test
+  fun `test waits until both the source and destination pods are ready`() {
+    scheduler.schedule({ createReadyPod("destination", DESTINATION_LABELS) }, 500, TimeUnit.MILLISECONDS)
+    scheduler.schedule({ createReadyPod("source", SOURCE_LABELS) }, 1500, TimeUnit.MILLISECONDS)
+
+    val start = System.nanoTime()
+    kubePodClient.waitForSourceAndDestination(SOURCE_LABELS, DESTINATION_LABELS)
+    val elapsed = Duration.ofNanos(System.nanoTime() - start)
+
+    assertTrue(elapsed >= Duration.ofMillis(1500), "Returned after $elapsed, before the source pod was ready")
+    assertTrue(client.pods().inNamespace(NAMESPACE).withLabels(SOURCE_LABELS).list().items.isNotEmpty())
+  }
+
+  @Test
+  fun `test a failed destination wait promptly releases the source wait`() {
+    every { orchestratorPodLauncher.waitForPodReadyOrTerminal(DESTINATION_LABELS, any()) } throws RuntimeException("bang")
+
+    // the source pod never starts, so only the cancellation can end its wait
+    val start = System.nanoTime()
+    val exception = assertThrows<KubePodInitException> { kubePodClient.waitForSourceAndDestination(SOURCE_LABELS, DESTINATION_LABELS) }
+    assertEquals("Destination pod failed to start within allotted timeout.", exception.message)
+
+    while (waitExecutor.activeCount > 0 && Duration.ofNanos(System.nanoTime() - start) < Duration.ofSeconds(10)) {
+      Thread.sleep(50)
+    }
+    assertEquals(0, waitExecutor.activeCount)
+    verify { orchestratorPodLauncher.waitForPodReadyOrTerminal(SOURCE_LABELS, any()) }
+  }
+
+  private fun createReadyPod(
+    name: String,
+    labels: Map<String, String>,
+  ) {
+    val pod: Pod =
+      PodBuilder()
+        .withNewMetadata()
+        .withName(name)
+        .withNamespace(NAMESPACE)
+        .addToLabels(labels)
+        .endMetadata()
+        .build()
+    client.pods().inNamespace(NAMESPACE).resource(pod).create()
+    client.pods().inNamespace(NAMESPACE).withName(name).editStatus { current ->
+      PodBuilder(current)
+        .withNewStatus()
+        .withPhase("Running")
+        .addNewCondition()
+        .withType("Ready")
+        .withStatus("True")
+        .endCondition()
+        .endStatus()
+        .build()
+    }
+  }
+
+  companion object {
+    private const val NAMESPACE = "jobs"
+    private val SOURCE_LABELS = mapOf("airbyte" to "job-pod", "component" to "source")
+    private val DESTINATION_LABELS = mapOf("airbyte" to "job-pod", "component" to "destination")
+  }
+}
@@ -20,11 +20,17 @@ import io.mockk.every
 import io.mockk.impl.annotations.MockK
 import io.mockk.junit5.MockKExtension
 import io.mockk.verify
+import org.junit.jupiter.api.Assertions.assertEquals
+import org.junit.jupiter.api.Assertions.assertTrue
 import org.junit.jupiter.api.BeforeEach
 import org.junit.jupiter.api.Test
 import org.junit.jupiter.api.assertThrows
 import org.junit.jupiter.api.extension.ExtendWith
 import java.lang.RuntimeException
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.CyclicBarrier
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit
 
 @ExtendWith(MockKExtension::class)
 class KubePodClientTest {
@@ -53,6 +59,7 @@ class KubePodClientTest {
         launcher,
         labeler,
         mapper,
+        Executors.newCachedThreadPool(),
       )
 
     replInput =
@@ -155,6 +162,43 @@ class KubePodClientTest {
     }
   }
 
+  @Test
+  fun `launchReplication waits for source and destination concurrently`() {
+    // each wait only returns once the other one has started
+    val barrier = CyclicBarrier(2)
+    every { launcher.waitForPodReadyOrTerminal(any(), any()) } answers {
+      barrier.await(10, TimeUnit.SECONDS)
+      Unit
+    }
+
+    client.launchReplication(replInput, launcherInput)
+
+    verify { launcher.waitForPodReadyOrTerminal(replKubeInput.sourceLabels, CONNECTOR_STARTUP_TIMEOUT_VALUE) }
+    verify { launcher.waitForPodReadyOrTerminal(replKubeInput.destinationLabels, CONNECTOR_STARTUP_TIMEOUT_VALUE) }
+  }
+
+  @Test
+  fun `launchReplication interrupts the source wait when the destination fails`() {
+    val sourceInterrupted = CountDownLatch(1)
+    every { launcher.waitForPodReadyOrTerminal(replKubeInput.sourceLabels, CONNECTOR_STARTUP_TIMEOUT_VALUE) } answers {
+      try {
+        Thread.sleep(CONNECTOR_STARTUP_TIMEOUT_VALUE.toMillis())
+      } catch (e: InterruptedException) {
+        sourceInterrupted.countDown()
+        throw RuntimeException(e)
+      }
+    }
+    every { launcher.waitForPodReadyOrTerminal(replKubeInput.destinationLabels, CONNECTOR_STARTUP_TIMEOUT_VALUE) } throws RuntimeException("bang")
+
+    val exception =
+      assertThrows<KubePodInitException> {
+        client.launchReplication(replInput, launcherInput)
+      }
+
+    assertEquals("Destination pod failed to start within allotted timeout.", exception.message)
+    assertTrue(sourceInterrupted.await(10, TimeUnit.SECONDS))
+  }
+
   @Test
   fun `launchCheck starts an orchestrator and waits on both pods`() {
     client.launchCheck(checkInput, launcherInput)
@@ -0,0 +1,124 @@
+package pods
+
+import io.airbyte.metrics.lib.MetricClient
+import io.airbyte.workers.process.KubePodProcess
+import io.airbyte.workload.launcher.pods.OrchestratorPodLauncher
+import io.fabric8.kubernetes.api.model.Pod
+import io.fabric8.kubernetes.api.model.PodBuilder
+import io.fabric8.kubernetes.client.KubernetesClient
+import io.fabric8.kubernetes.client.server.mock.KubernetesMockServer
+import io.fabric8.kubernetes.client.server.mock.StatusMessage
+import io.mockk.every
+import io.mockk.mockk
+import org.apache.commons.compress.archivers.tar.TarArchiveInputStream
+import org.junit.jupiter.api.AfterEach
+import org.junit.jupiter.api.Assertions.assertEquals
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.assertThrows
+import java.io.ByteArrayInputStream
+import java.nio.charset.StandardCharsets
+
+/**
+ * Copies the config files against the fabric8 mock server, so no Kubernetes cluster is needed.
+ */
+class OrchestratorPodLauncherCopyFilesTest {
+  private lateinit var server: KubernetesMockServer
+  private lateinit var kubernetesClient: KubernetesClient
+  private lateinit var orchestratorPodLauncher: OrchestratorPodLauncher
+
+  @BeforeEach
+  fun setup() {
+    server = KubernetesMockServer(false)
+    server.init()
+    kubernetesClient = server.createClient()
+
+    val metricClient: MetricClient = mockk()
+    every { metricClient.count(any(), any(), any()) } returns Unit
+
+    orchestratorPodLauncher =
+      OrchestratorPodLauncher(
+        kubernetesClient,
+        mockk(),
+        NAMESPACE,
+        "",
+        "",
+        "",
+        "",
+        "",
+        "",
+        listOf(),
+        listOf(),
+        metricClient,
+      )
+  }
+
+  @AfterEach
+  fun teardown() {
+    kubernetesClient.close()
+    server.destroy()
+  }
+
+  @Test
+  fun `test config files are packed in order with the success file last`() {
+    val archive = orchestratorPodLauncher.createConfigArchive(FILES)
+
+    val entries = mutableListOf<Pair<String, String>>()
+    TarArchiveInputStream(ByteArrayInputStream(archive)).use { tar ->
+      generateSequence { tar.nextTarEntry }.forEach { entry ->
+        entries.add(entry.name to String(tar.readAllBytes(), StandardCharsets.UTF_8))
+      }
+    }
+
+    assertEquals(FILES.toList() + (KubePodProcess.SUCCESS_FILE_NAME to ""), entries)
+  }
+
+  @Test
+  fun `test config files are copied with a single exec`() {
+    expectTarExec(0)
+
+    orchestratorPodLauncher.copyFilesToKubeConfigVolumeMain(pod(), FILES)
+
+    assertEquals(1, server.requestCount)
+  }
+
+  @Test
+  fun `test failed copy is reported`() {
+    expectTarExec(1)
+
+    assertThrows<RuntimeException> { orchestratorPodLauncher.copyFilesToKubeConfigVolumeMain(pod(), FILES) }
+  }
+
+  private fun expectTarExec(exitCode: Int) {
+    server.expect()
+      .withPath(
+        "/api/v1/namespaces/$NAMESPACE/pods/$POD_NAME/exec?command=tar&command=-xf&command=-&command=-C&command=%2Fconfig" +
+          "&container=${KubePodProcess.INIT_CONTAINER_NAME}&stdin=true&stderr=true",
+      )
+      .andUpgradeToWebSocket()
+      .open()
+      .waitFor(10)
+      .andEmit(StatusMessage(exitCode))
+      .done()
+      .once()
+  }
+
+  private fun pod(): Pod =
+    PodBuilder()
+      .withNewMetadata()
+      .withName(POD_NAME)
+      .withNamespace(NAMESPACE)
+      .endMetadata()
+      .build()
+
+  companion object {
+    private const val NAMESPACE = "jobs"
+    private const val POD_NAME = "orchestrator-repl-job-1-attempt-0"
+    private val FILES =
+      linkedMapOf(
+        "input.json" to "{\"connectionId\":\"1\"}",
+        "application.txt" to "replication-orchestrator",
+        "envMap.json" to "{}",
+      )
+  }
+}